@@ -20,7 +20,9 @@
 package org.onap.aai.modelloader.babel;
 
 import java.util.ArrayList;
+import java.util.Base64;
 import java.util.List;
+import java.util.Optional;
 
 import org.onap.aai.babel.service.data.BabelArtifact;
 import org.onap.aai.babel.service.data.BabelArtifact.ArtifactType;
@@ -32,43 +34,68 @@ import org.onap.aai.modelloader.entity.model.BabelArtifactParsingException;
 import org.onap.aai.modelloader.notification.BabelArtifactConverter;
 import org.onap.aai.modelloader.notification.ProcessToscaArtifactsException;
 import org.onap.aai.modelloader.restclient.BabelServiceClient;
+import org.onap.aai.modelloader.restclient.BabelServiceClientException;
+import org.onap.aai.modelloader.restclient.StreamingBabelRequest;
+import org.onap.aai.modelloader.restclient.StreamingBabelServiceClient;
+import org.onap.aai.modelloader.restclient.StreamingBabelServiceClient.ArtifactConsumer;
+import org.onap.aai.modelloader.service.DistributionMetrics;
+import org.onap.aai.modelloader.service.DistributionMetrics.Stage;
 import org.onap.aai.modelloader.service.ModelLoaderMsgs;
+import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Service;
 
+import io.micrometer.core.instrument.Timer;
+
 @Service
 public class BabelArtifactService {
 
     private static Logger logger = LoggerFactory.getInstance().getLogger(BabelArtifactService.class);
+    private static final String TOSCA_CSAR = "TOSCA_CSAR";
 
     private final BabelServiceClient babelServiceClient;
     private final BabelArtifactConverter babelArtifactConverter;
+    private final BabelTranslationCache translationCache;
+    private final DistributionMetrics metrics;
 
-    public BabelArtifactService(BabelServiceClient babelServiceClient, BabelArtifactConverter babelArtifactConverter) {
+    /**
+     * @param translationCache cache of Babel translations, may be <code>null</code> to always call Babel
+     * @param metrics times the Babel calls and the parsing of the translated artifacts, may be <code>null</code>
+     */
+    @Autowired
+    public BabelArtifactService(BabelServiceClient babelServiceClient, BabelArtifactConverter babelArtifactConverter,
+            BabelTranslationCache translationCache, DistributionMetrics metrics) {
         this.babelServiceClient = babelServiceClient;
         this.babelArtifactConverter = babelArtifactConverter;
+        this.translationCache = translationCache;
+        this.metrics = metrics == null ? DistributionMetrics.noop() : metrics;
     }
 
     public List<Artifact> invokeBabelService(BabelRequest babelRequest, String distributionId)
             throws ProcessToscaArtifactsException {
         try {
-            logger.info(ModelLoaderMsgs.DISTRIBUTION_EVENT,
-                    "Posting artifact: " + babelRequest.getArtifactName() + ", service version: "
-                            + babelRequest.getArtifactVersion()
-                            + ", artifact version: " + babelRequest.getArtifactVersion());
-
-            List<BabelArtifact> babelArtifacts = babelServiceClient.postArtifact(babelRequest, distributionId);
+            // Babel always translates the same CSAR into the same artifacts, so a cached translation can be reused
+            String cacheKey = cacheKey(babelRequest);
+            Optional<List<BabelArtifact>> cachedArtifacts = lookUpTranslation(cacheKey, babelRequest);
 
             List<Artifact> convertedArtifacts = new ArrayList<>();
-            for(BabelArtifact babelArtifact : babelArtifacts) {
-                if(!isUnknownType(babelArtifact)) {
-                    if(babelArtifact.getType() == ArtifactType.MODEL) {
-                        convertedArtifacts.addAll(babelArtifactConverter.convertToModel(babelArtifact));
-                    } else {
-                        convertedArtifacts.add(babelArtifactConverter.convertToCatalog(babelArtifact));
+            if (cachedArtifacts.isPresent()) {
+                for (BabelArtifact babelArtifact : cachedArtifacts.get()) {
+                    convert(babelArtifact, convertedArtifacts);
+                }
+            } else {
+                List<BabelArtifact> babelArtifacts = new ArrayList<>();
+                postArtifact(babelRequest, distributionId, babelArtifact -> {
+                    if (cacheKey != null) {
+                        babelArtifacts.add(babelArtifact);
                     }
+                    convert(babelArtifact, convertedArtifacts);
+                });
+
+                // Only cache translations that could be converted
+                if (cacheKey != null) {
+                    translationCache.put(cacheKey, babelArtifacts);
                 }
             }
-
             return convertedArtifacts;
 
         } catch (BabelArtifactParsingException e) {
@@ -87,6 +114,81 @@ public class BabelArtifactService {
         }
     }
 
+    private String cacheKey(BabelRequest babelRequest) {
+        if (translationCache == null || !translationCache.isEnabled()) {
+            return null;
+        }
+        if (babelRequest instanceof StreamingBabelRequest streamingRequest) {
+            return BabelTranslationCache.key(streamingRequest.csarPayload(), babelRequest.getArtifactVersion());
+        }
+        return BabelTranslationCache.key(Base64.getDecoder().decode(babelRequest.getCsar()),
+                babelRequest.getArtifactVersion());
+    }
+
+    private Optional<List<BabelArtifact>> lookUpTranslation(String cacheKey, BabelRequest babelRequest) {
+        if (cacheKey == null) {
+            return Optional.empty();
+        }
+        Optional<List<BabelArtifact>> cachedArtifacts = translationCache.get(cacheKey);
+        if (cachedArtifacts.isPresent()) {
+            logger.info(ModelLoaderMsgs.DISTRIBUTION_EVENT,
+                    "Using cached Babel translation of artifact: " + babelRequest.getArtifactName()
+                            + ", artifact version: " + babelRequest.getArtifactVersion());
+        }
+        return cachedArtifacts;
+    }
+
+    /**
+     * Passes the translated artifacts to the consumer. A {@link StreamingBabelServiceClient} does so while the response
+     * is being read, in which case the Babel timer includes the conversion of the artifacts.
+     */
+    private void postArtifact(BabelRequest babelRequest, String distributionId,
+            ArtifactConsumer<BabelArtifactParsingException> consumer)
+            throws BabelServiceClientException, BabelArtifactParsingException {
+        logger.info(ModelLoaderMsgs.DISTRIBUTION_EVENT,
+                "Posting artifact: " + babelRequest.getArtifactName() + ", service version: "
+                        + babelRequest.getArtifactVersion()
+                        + ", artifact version: " + babelRequest.getArtifactVersion());
+
+        Timer.Sample sample = metrics.start();
+        boolean success = false;
+        List<BabelArtifact> babelArtifacts = List.of();
+        try {
+            if (babelServiceClient instanceof StreamingBabelServiceClient streamingClient) {
+                streamingClient.postArtifact(babelRequest, distributionId, consumer);
+            } else {
+                babelArtifacts = babelServiceClient.postArtifact(babelRequest, distributionId);
+            }
+            success = true;
+        } finally {
+            metrics.stop(sample, Stage.BABEL, TOSCA_CSAR, success);
+        }
+        for (BabelArtifact babelArtifact : babelArtifacts) {
+            consumer.accept(babelArtifact);
+        }
+    }
+
+    private void convert(BabelArtifact babelArtifact, List<Artifact> convertedArtifacts)
+            throws BabelArtifactParsingException {
+        if (!isUnknownType(babelArtifact)) {
+            convertedArtifacts.addAll(convert(babelArtifact));
+        }
+    }
+
+    private List<Artifact> convert(BabelArtifact babelArtifact) throws BabelArtifactParsingException {
+        Timer.Sample sample = metrics.start();
+        boolean success = false;
+        try {
+            List<Artifact> artifacts = babelArtifact.getType() == ArtifactType.MODEL
+                    ? babelArtifactConverter.convertToModel(babelArtifact)
+                    : List.of(babelArtifactConverter.convertToCatalog(babelArtifact));
+            success = true;
+            return artifacts;
+        } finally {
+            metrics.stop(sample, Stage.PARSE, babelArtifact.getType().name(), success);
+        }
+    }
+
     private boolean isUnknownType(BabelArtifact babelArtifact) {
         if (babelArtifact.getType() == ArtifactType.MODEL || babelArtifact.getType() == ArtifactType.VNFCATALOG) {
             return false;
@@ -0,0 +1,330 @@
+/**
+ * ============LICENSE_START=======================================================
+ * org.onap.aai
+ * ================================================================================
+ * Copyright © 2025 Deutsche Telekom AG Intellectual Property. All rights reserved.
+ * ================================================================================
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * ============LICENSE_END=========================================================
+ */
+package org.onap.aai.modelloader.babel;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.attribute.FileTime;
+import java.security.DigestOutputStream;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HexFormat;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import org.onap.aai.babel.service.data.BabelArtifact;
+import org.onap.aai.cl.api.Logger;
+import org.onap.aai.cl.eelf.LoggerFactory;
+import org.onap.aai.modelloader.config.BabelCacheProperties;
+import org.onap.aai.modelloader.config.BabelProperties;
+import org.onap.aai.modelloader.service.ModelLoaderMsgs;
+import org.onap.aai.modelloader.util.CsarPayload;
+import org.springframework.stereotype.Component;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+
+/**
+ * Content addressed cache of Babel translations. SDC frequently sends the same CSAR again (redistributions, retries,
+ * the ingest simulator), and Babel always produces the same artifacts for the same CSAR and version.
+ *
+ * Translations are held in a memory tier (least recently used entries are evicted once the configured size is
+ * exceeded) and, when a directory is configured, in an on-disk tier that survives restarts. Both tiers are bounded by
+ * size. Hits and misses are counted in {@code modelloader.babel.cache.requests}.
+ */
+@Component
+public class BabelTranslationCache {
+
+    private static final Logger logger = LoggerFactory.getInstance().getLogger(BabelTranslationCache.class);
+
+    private static final String FILE_SUFFIX = ".json";
+    private static final String METRIC_NAME = "modelloader.babel.cache.requests";
+    private static final TypeReference<List<BabelArtifact>> ARTIFACT_LIST = new TypeReference<>() {};
+
+    private final boolean enabled;
+    private final long maxMemoryBytes;
+    private final long maxDiskBytes;
+    private final Path diskDirectory;
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    private final Map<String, CacheEntry> memory = new LinkedHashMap<>(16, 0.75f, true);
+    private long memoryBytes;
+    private final Object diskLock = new Object();
+
+    private final Counter memoryHits;
+    private final Counter diskHits;
+    private final Counter misses;
+
+    public BabelTranslationCache(BabelProperties babelProperties, MeterRegistry meterRegistry) {
+        BabelCacheProperties properties = babelProperties.getCache();
+        this.enabled = properties.isEnabled();
+        this.maxMemoryBytes = properties.getMaxMemorySize().toBytes();
+        this.maxDiskBytes = properties.getMaxDiskSize().toBytes();
+        this.diskDirectory = enabled ? createDiskDirectory(properties.getDiskDirectory()) : null;
+
+        memoryHits = Counter.builder(METRIC_NAME).tag("result", "hit").tag("tier", "memory")
+                .description("Babel translations served from the cache").register(meterRegistry);
+        diskHits = Counter.builder(METRIC_NAME).tag("result", "hit").tag("tier", "disk")
+                .description("Babel translations served from the cache").register(meterRegistry);
+        misses = Counter.builder(METRIC_NAME).tag("result", "miss").tag("tier", "none")
+                .description("Babel translations not found in the cache").register(meterRegistry);
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * Computes the cache key of a CSAR. The key is the SHA-256 digest of the CSAR and the artifact version, so it can be
+     * used as a file name.
+     *
+     * @param csar the CSAR
+     * @param artifactVersion the version of the artifact
+     * @return the hex encoded key
+     */
+    public static String key(byte[] csar, String artifactVersion) {
+        MessageDigest digest = sha256();
+        digest.update(csar);
+        return key(digest, artifactVersion);
+    }
+
+    /**
+     * Computes the same key as {@link #key(byte[], String)} from a CSAR that may have been spilled to disk.
+     *
+     * @param csar the CSAR
+     * @param artifactVersion the version of the artifact
+     * @return the hex encoded key
+     */
+    public static String key(CsarPayload csar, String artifactVersion) {
+        MessageDigest digest = sha256();
+        try (OutputStream digestStream = new DigestOutputStream(OutputStream.nullOutputStream(), digest)) {
+            csar.openStream().transferTo(digestStream);
+        } catch (IOException e) {
+            // Neither stream does any I/O
+            throw new UncheckedIOException(e);
+        }
+        return key(digest, artifactVersion);
+    }
+
+    private static String key(MessageDigest digest, String artifactVersion) {
+        digest.update((byte) 0);
+        if (artifactVersion != null) {
+            digest.update(artifactVersion.getBytes(StandardCharsets.UTF_8));
+        }
+        return HexFormat.of().formatHex(digest.digest());
+    }
+
+    private static MessageDigest sha256() {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            // Every Java platform is required to support SHA-256
+            throw new IllegalStateException(e);
+        }
+    }
+
+    /**
+     * Looks up a translation, first in memory and then on disk. Translations found on disk are moved into the memory
+     * tier.
+     *
+     * @param key the key computed by {@link #key(byte[], String)}
+     * @return the cached Babel artifacts, or empty when the CSAR has not been translated before
+     */
+    public Optional<List<BabelArtifact>> get(String key) {
+        if (!enabled) {
+            return Optional.empty();
+        }
+
+        synchronized (memory) {
+            CacheEntry entry = memory.get(key);
+            if (entry != null) {
+                memoryHits.increment();
+                return Optional.of(entry.artifacts);
+            }
+        }
+
+        List<BabelArtifact> artifacts = readFromDisk(key);
+        if (artifacts != null) {
+            diskHits.increment();
+            putInMemory(key, artifacts);
+            return Optional.of(artifacts);
+        }
+
+        misses.increment();
+        return Optional.empty();
+    }
+
+    /**
+     * Stores a successful translation in all tiers.
+     *
+     * @param key the key computed by {@link #key(byte[], String)}
+     * @param artifacts the artifacts returned by Babel
+     */
+    public void put(String key, List<BabelArtifact> artifacts) {
+        if (!enabled || artifacts == null) {
+            return;
+        }
+        List<BabelArtifact> cachedArtifacts = List.copyOf(artifacts);
+        putInMemory(key, cachedArtifacts);
+        writeToDisk(key, cachedArtifacts);
+    }
+
+    private void putInMemory(String key, List<BabelArtifact> artifacts) {
+        long size = estimateSize(artifacts);
+        if (size > maxMemoryBytes) {
+            return;
+        }
+        synchronized (memory) {
+            CacheEntry previous = memory.put(key, new CacheEntry(artifacts, size));
+            memoryBytes += size - (previous == null ? 0 : previous.size);
+
+            Iterator<CacheEntry> leastRecentlyUsed = memory.values().iterator();
+            while (memoryBytes > maxMemoryBytes && leastRecentlyUsed.hasNext()) {
+                memoryBytes -= leastRecentlyUsed.next().size;
+                leastRecentlyUsed.remove();
+            }
+        }
+    }
+
+    private List<BabelArtifact> readFromDisk(String key) {
+        if (diskDirectory == null) {
+            return null;
+        }
+        Path file = diskDirectory.resolve(key + FILE_SUFFIX);
+        synchronized (diskLock) {
+            if (!Files.isRegularFile(file)) {
+                return null;
+            }
+            try {
+                List<BabelArtifact> artifacts = objectMapper.readValue(file.toFile(), ARTIFACT_LIST);
+                // The modification time orders the files for eviction
+                Files.setLastModifiedTime(file, FileTime.fromMillis(System.currentTimeMillis()));
+                return List.copyOf(artifacts);
+            } catch (IOException e) {
+                logger.warn(ModelLoaderMsgs.DISTRIBUTION_EVENT,
+                        "Discarding unreadable Babel cache file " + file + ": " + e.getMessage());
+                deleteQuietly(file);
+                return null;
+            }
+        }
+    }
+
+    private void writeToDisk(String key, List<BabelArtifact> artifacts) {
+        if (diskDirectory == null) {
+            return;
+        }
+        synchronized (diskLock) {
+            Path file = diskDirectory.resolve(key + FILE_SUFFIX);
+            Path tempFile = null;
+            try {
+                tempFile = Files.createTempFile(diskDirectory, key, ".tmp");
+                objectMapper.writeValue(tempFile.toFile(), artifacts);
+                Files.move(tempFile, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+                evictFromDisk();
+            } catch (IOException e) {
+                logger.warn(ModelLoaderMsgs.DISTRIBUTION_EVENT,
+                        "Unable to write Babel cache file " + file + ": " + e.getMessage());
+                if (tempFile != null) {
+                    deleteQuietly(tempFile);
+                }
+            }
+        }
+    }
+
+    private void evictFromDisk() throws IOException {
+        List<Path> files = new ArrayList<>();
+        try (DirectoryStream<Path> stream = Files.newDirectoryStream(diskDirectory, "*" + FILE_SUFFIX)) {
+            stream.forEach(files::add);
+        }
+
+        long diskBytes = 0;
+        Map<Path, FileTime> lastModified = new LinkedHashMap<>();
+        for (Path file : files) {
+            diskBytes += Files.size(file);
+            lastModified.put(file, Files.getLastModifiedTime(file));
+        }
+        files.sort(Comparator.comparing(lastModified::get));
+
+        for (Iterator<Path> oldest = files.iterator(); diskBytes > maxDiskBytes && oldest.hasNext();) {
+            Path file = oldest.next();
+            diskBytes -= Files.size(file);
+            Files.deleteIfExists(file);
+        }
+    }
+
+    private Path createDiskDirectory(String directory) {
+        if (directory == null || directory.isBlank()) {
+            return null;
+        }
+        try {
+            return Files.createDirectories(Path.of(directory));
+        } catch (IOException e) {
+            logger.error(ModelLoaderMsgs.DISTRIBUTION_EVENT_ERROR,
+                    "Unable to create Babel cache directory " + directory + ", using the memory cache only: "
+                            + e.getMessage());
+            return null;
+        }
+    }
+
+    private static long estimateSize(List<BabelArtifact> artifacts) {
+        long size = 0;
+        for (BabelArtifact artifact : artifacts) {
+            // Java strings use up to two bytes per character; add a fixed overhead for the objects themselves
+            size += 64 + 2L * (length(artifact.getName()) + length(artifact.getPayload()));
+        }
+        return size;
+    }
+
+    private static int length(String value) {
+        return value == null ? 0 : value.length();
+    }
+
+    private static void deleteQuietly(Path file) {
+        try {
+            Files.deleteIfExists(file);
+        } catch (IOException e) {
+            logger.debug(ModelLoaderMsgs.DISTRIBUTION_EVENT, "Unable to delete " + file + ": " + e.getMessage());
+        }
+    }
+
+    private static class CacheEntry {
+        private final List<BabelArtifact> artifacts;
+        private final long size;
+
+        CacheEntry(List<BabelArtifact> artifacts, long size) {
+            this.artifacts = artifacts;
+            this.size = size;
+        }
+    }
+}
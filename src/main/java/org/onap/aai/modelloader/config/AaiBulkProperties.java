@@ -0,0 +1,35 @@
+/**
+ * ============LICENSE_START=======================================================
+ * org.onap.aai
+ * ================================================================================
+ * Copyright © 2025 Deutsche Telekom AG Intellectual Property. All rights reserved.
+ * ================================================================================
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * ============LICENSE_END=========================================================
+ */
+package org.onap.aai.modelloader.config;
+
+import lombok.Getter;
+import lombok.Setter;
+
+/**
+ * Settings of the bulk deployment mode ({@code ml.aai.bulk.*}).
+ */
+@Getter
+@Setter
+public class AaiBulkProperties {
+  /** Path of the A&AI single-transaction endpoint, relative to the base URL. */
+  private String url = "/aai/v*/bulk/single-transaction";
+  /** Maximum number of operations sent in one transaction (A&AI rejects transactions above its own limit). */
+  private int maxOperations = 30;
+}
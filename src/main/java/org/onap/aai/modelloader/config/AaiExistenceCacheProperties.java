@@ -0,0 +1,45 @@
+/**
+ * ============LICENSE_START=======================================================
+ * org.onap.aai
+ * ================================================================================
+ * Copyright © 2025 Deutsche Telekom AG Intellectual Property. All rights reserved.
+ * ================================================================================
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * ============LICENSE_END=========================================================
+ */
+package org.onap.aai.modelloader.config;
+
+import java.time.Duration;
+
+import lombok.Getter;
+import lombok.Setter;
+
+/**
+ * Settings of the cache of A&AI resources known to be present ({@code ml.aai.existence-cache.*}).
+ */
+@Getter
+@Setter
+public class AaiExistenceCacheProperties {
+  /** Whether existence checks may be answered from the cache. */
+  private boolean enabled = false;
+  /** How long a resource is considered present after it has been seen. */
+  private Duration ttl = Duration.ofMinutes(10);
+  /** Maximum number of resource URLs kept; the least recently used are evicted first. */
+  private int maxEntries = 10000;
+  /** Whether the models found in a CSAR are looked up in A&AI while Babel translates it. */
+  private boolean prefetch = false;
+  /** Maximum number of prefetch requests of a CSAR that are in flight at the same time. */
+  private int prefetchConcurrency = 8;
+  /** How long the deployment waits for the prefetch of its distribution to complete. */
+  private Duration prefetchWait = Duration.ofSeconds(5);
+}
@@ -37,4 +37,9 @@ public class AaiProperties {
   private String authUser;
   private String authPassword;
   private boolean useGizmo;
+  private AaiDeploymentMode deploymentMode = AaiDeploymentMode.RESOURCES;
+  private boolean skipDeployedServices = false;
+  private AaiBulkProperties bulk = new AaiBulkProperties();
+  private HttpClientPoolProperties httpClient = new HttpClientPoolProperties();
+  private AaiExistenceCacheProperties existenceCache = new AaiExistenceCacheProperties();
 }
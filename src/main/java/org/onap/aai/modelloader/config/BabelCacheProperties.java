@@ -0,0 +1,41 @@
+/**
+ * ============LICENSE_START=======================================================
+ * org.onap.aai
+ * ================================================================================
+ * Copyright © 2025 Deutsche Telekom AG Intellectual Property. All rights reserved.
+ * ================================================================================
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * ============LICENSE_END=========================================================
+ */
+package org.onap.aai.modelloader.config;
+
+import org.springframework.util.unit.DataSize;
+
+import lombok.Getter;
+import lombok.Setter;
+
+/**
+ * Settings of the Babel translation cache ({@code ml.babel.cache.*}).
+ */
+@Getter
+@Setter
+public class BabelCacheProperties {
+  /** Whether Babel translations are cached at all. */
+  private boolean enabled = false;
+  /** Upper bound of the (estimated) size of the translations held in memory. */
+  private DataSize maxMemorySize = DataSize.ofMegabytes(64);
+  /** Directory of the on-disk tier. The on-disk tier is disabled when no directory is configured. */
+  private String diskDirectory;
+  /** Upper bound of the size of the on-disk tier. */
+  private DataSize maxDiskSize = DataSize.ofMegabytes(512);
+}
@@ -32,4 +32,6 @@ import lombok.Setter;
 public class BabelProperties {
   private String baseUrl;
   private String generateArtifactsUrl;
+  private HttpClientPoolProperties httpClient = new HttpClientPoolProperties();
+  private BabelCacheProperties cache = new BabelCacheProperties();
 }
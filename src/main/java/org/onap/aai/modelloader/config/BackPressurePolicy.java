@@ -0,0 +1,63 @@
+/**
+ * ============LICENSE_START=======================================================
+ * org.onap.aai
+ * ================================================================================
+ * Copyright © 2025 Deutsche Telekom AG Intellectual Property. All rights reserved.
+ * ================================================================================
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * ============LICENSE_END=========================================================
+ */
+package org.onap.aai.modelloader.config;
+
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.RejectedExecutionHandler;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.onap.aai.cl.api.Logger;
+import org.onap.aai.cl.eelf.LoggerFactory;
+import org.onap.aai.modelloader.service.ModelLoaderMsgs;
+
+/**
+ * Applied when all workers are busy and the queue of a pool is full. The task is run on the submitting thread, which
+ * blocks the caller (for distributions this is the SDC client thread) until capacity is available again. Every
+ * occurrence is logged and counted so that saturation can be observed.
+ */
+public class BackPressurePolicy implements RejectedExecutionHandler {
+
+    private static final Logger logger = LoggerFactory.getInstance().getLogger(BackPressurePolicy.class);
+
+    private final String poolName;
+    private final AtomicLong saturationCount = new AtomicLong();
+
+    public BackPressurePolicy(String poolName) {
+        this.poolName = poolName;
+    }
+
+    @Override
+    public void rejectedExecution(Runnable task, ThreadPoolExecutor executor) {
+        if (executor.isShutdown()) {
+            throw new RejectedExecutionException("The " + poolName + " pool has been shut down");
+        }
+        long count = saturationCount.incrementAndGet();
+        logger.warn(ModelLoaderMsgs.DISTRIBUTION_EVENT,
+                "The " + poolName + " pool is saturated (" + executor.getActiveCount() + " active, "
+                        + executor.getQueue().size() + " queued). Running task on the calling thread. Occurrences: "
+                        + count);
+        task.run();
+    }
+
+    public long getSaturationCount() {
+        return saturationCount.get();
+    }
+}
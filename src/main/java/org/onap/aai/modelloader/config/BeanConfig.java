@@ -28,12 +28,13 @@ import java.util.Properties;
 import org.onap.aai.cl.api.Logger;
 import org.onap.aai.cl.eelf.LoggerFactory;
 import org.onap.aai.modelloader.service.ModelLoaderMsgs;
+import org.onap.aai.modelloader.util.PayloadLog;
 import org.onap.sdc.api.IDistributionClient;
 import org.onap.sdc.impl.DistributionClientFactory;
+import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
-import org.springframework.web.client.RestTemplate;
 
 @Configuration
 public class BeanConfig {
@@ -59,14 +60,14 @@ public class BeanConfig {
         ModelLoaderConfig.setConfigHome(configDir);
         return new ModelLoaderConfig(configProperties);
     }
+
+    @Autowired
+    public void configurePayloadLog(PayloadLogProperties payloadLogProperties) {
+        PayloadLog.configure(payloadLogProperties);
+    }
     
     @Bean
     public IDistributionClient iDistributionClient() {
         return DistributionClientFactory.createDistributionClient();
     }
-
-    @Bean
-    public RestTemplate restTemplate() {
-        return new RestTemplate();
-    }
 }
@@ -0,0 +1,98 @@
+/**
+ * ============LICENSE_START=======================================================
+ * org.onap.aai
+ * ================================================================================
+ * Copyright © 2025 Deutsche Telekom AG Intellectual Property. All rights reserved.
+ * ================================================================================
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * ============LICENSE_END=========================================================
+ */
+package org.onap.aai.modelloader.config;
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.binder.jvm.ExecutorServiceMetrics;
+
+/**
+ * Worker pools used by the distribution pipeline.
+ */
+@Configuration
+public class ConcurrencyConfig {
+
+    public static final String DISTRIBUTION_EXECUTOR = "distributionExecutor";
+    public static final String ARTIFACT_EXECUTOR = "artifactExecutor";
+    public static final String MODEL_PUSH_EXECUTOR = "modelPushExecutor";
+
+    private final ConcurrencyProperties concurrencyProperties;
+    private final ObjectProvider<MeterRegistry> meterRegistry;
+
+    public ConcurrencyConfig(ConcurrencyProperties concurrencyProperties, ObjectProvider<MeterRegistry> meterRegistry) {
+        this.concurrencyProperties = concurrencyProperties;
+        this.meterRegistry = meterRegistry;
+    }
+
+    /**
+     * Pool that processes complete distributions (download, translation, deployment and status publishing).
+     */
+    @Bean(name = DISTRIBUTION_EXECUTOR, destroyMethod = "shutdown")
+    public ExecutorService distributionExecutor() {
+        return boundedPool("distribution", concurrencyProperties.getDistributionThreads(),
+                concurrencyProperties.getDistributionQueueCapacity());
+    }
+
+    /**
+     * Pool that downloads and translates the individual artifacts of a distribution.
+     */
+    @Bean(name = ARTIFACT_EXECUTOR, destroyMethod = "shutdown")
+    public ExecutorService artifactExecutor() {
+        return boundedPool("artifact", concurrencyProperties.getArtifactThreads(),
+                concurrencyProperties.getArtifactQueueCapacity());
+    }
+
+    /**
+     * Pool that pushes the models of a dependency wave to A&AI.
+     */
+    @Bean(name = MODEL_PUSH_EXECUTOR, destroyMethod = "shutdown")
+    public ExecutorService modelPushExecutor() {
+        return boundedPool("model-push", concurrencyProperties.getModelPushThreads(),
+                concurrencyProperties.getModelPushQueueCapacity());
+    }
+
+    private ExecutorService boundedPool(String name, int threads, int queueCapacity) {
+        BackPressurePolicy backPressurePolicy = new BackPressurePolicy(name);
+        ThreadPoolExecutor executor = new ThreadPoolExecutor(threads, threads, 60L, TimeUnit.SECONDS,
+                new ArrayBlockingQueue<>(Math.max(1, queueCapacity)), new CustomizableThreadFactory(name + "-"),
+                backPressurePolicy);
+        executor.allowCoreThreadTimeOut(true);
+
+        meterRegistry.ifAvailable(registry -> {
+            new ExecutorServiceMetrics(executor, name, Tags.empty()).bindTo(registry);
+            FunctionCounter.builder("modelloader.executor.saturated", backPressurePolicy,
+                    BackPressurePolicy::getSaturationCount)
+                    .description("Number of tasks that were run on the submitting thread because the pool was full")
+                    .tag("name", name).register(registry);
+        });
+        return executor;
+    }
+}
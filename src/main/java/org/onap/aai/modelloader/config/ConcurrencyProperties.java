@@ -0,0 +1,48 @@
+/**
+ * ============LICENSE_START=======================================================
+ * org.onap.aai
+ * ================================================================================
+ * Copyright © 2025 Deutsche Telekom AG Intellectual Property. All rights reserved.
+ * ================================================================================
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * ============LICENSE_END=========================================================
+ */
+package org.onap.aai.modelloader.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import lombok.Getter;
+import lombok.Setter;
+
+/**
+ * Sizing of the worker pools used to process distributions.
+ */
+@Getter
+@Setter
+@Component
+@ConfigurationProperties(prefix = "ml.concurrency")
+public class ConcurrencyProperties {
+  /** Number of distributions that are processed at the same time. */
+  private int distributionThreads = 4;
+  /** Number of distributions that may wait for a free worker before the SDC callback thread processes them itself. */
+  private int distributionQueueCapacity = 50;
+  /** Number of artifacts of all distributions that are downloaded and translated at the same time. */
+  private int artifactThreads = 4;
+  /** Number of artifacts that may wait for a free worker before the distribution thread does the work itself. */
+  private int artifactQueueCapacity = 20;
+  /** Number of models of a dependency wave that are pushed to A&AI at the same time (shared by all distributions). */
+  private int modelPushThreads = 8;
+  /** Number of models that may wait for a free worker before the distribution thread pushes the model itself. */
+  private int modelPushQueueCapacity = 100;
+}
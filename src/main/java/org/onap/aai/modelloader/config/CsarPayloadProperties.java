@@ -0,0 +1,41 @@
+/**
+ * ============LICENSE_START=======================================================
+ * org.onap.aai
+ * ================================================================================
+ * Copyright © 2025 Deutsche Telekom AG Intellectual Property. All rights reserved.
+ * ================================================================================
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * ============LICENSE_END=========================================================
+ */
+package org.onap.aai.modelloader.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+import org.springframework.util.unit.DataSize;
+
+import lombok.Getter;
+import lombok.Setter;
+
+/**
+ * Where downloaded CSARs are held while they are translated and extracted ({@code ml.csar-payload.*}).
+ */
+@Getter
+@Setter
+@Component
+@ConfigurationProperties(prefix = "ml.csar-payload")
+public class CsarPayloadProperties {
+  /** CSARs larger than this are written to a temporary file and read through a memory mapping. */
+  private DataSize spillThreshold = DataSize.ofMegabytes(16);
+  /** Directory of the temporary files, the default temporary directory when not configured. */
+  private String spillDirectory;
+}
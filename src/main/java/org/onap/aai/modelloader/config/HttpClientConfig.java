@@ -0,0 +1,185 @@
+/**
+ * ============LICENSE_START=======================================================
+ * org.onap.aai
+ * ================================================================================
+ * Copyright © 2025 Deutsche Telekom AG Intellectual Property. All rights reserved.
+ * ================================================================================
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * ============LICENSE_END=========================================================
+ */
+package org.onap.aai.modelloader.config;
+
+import org.apache.hc.client5.http.config.ConnectionConfig;
+import org.apache.hc.client5.http.config.RequestConfig;
+import org.apache.hc.client5.http.impl.classic.CloseableHttpClient;
+import org.apache.hc.client5.http.impl.classic.HttpClients;
+import org.apache.hc.client5.http.impl.io.PoolingHttpClientConnectionManager;
+import org.apache.hc.client5.http.impl.io.PoolingHttpClientConnectionManagerBuilder;
+import org.apache.hc.core5.util.TimeValue;
+import org.apache.hc.core5.util.Timeout;
+import org.onap.aai.modelloader.restclient.AaiRequestMetrics;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.web.client.RestTemplateBuilder;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.http.client.HttpComponentsClientHttpRequestFactory;
+import org.springframework.http.client.reactive.ReactorClientHttpConnector;
+import org.springframework.web.client.RestTemplate;
+import org.springframework.web.reactive.function.client.WebClient;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.httpcomponents.hc5.PoolingHttpClientConnectionManagerMetricsBinder;
+import io.netty.channel.ChannelOption;
+import reactor.netty.http.client.HttpClient;
+import reactor.netty.resources.ConnectionProvider;
+
+/**
+ * HTTP clients used to talk to A&AI and Babel. Each backend gets its own connection pool so that a slow Babel
+ * translation cannot use up the connections needed by A&AI (and vice versa). Connections are kept alive and reused,
+ * idle connections are evicted in the background and the pool statistics are published through Micrometer
+ * ({@code httpcomponents.httpclient.pool.*}, tagged with the pool name). The A&AI requests are counted by method and
+ * status code, see {@link AaiRequestMetrics}.
+ *
+ * <p>
+ * A&AI can also be called without blocking a thread per request through a WebClient, which is backed by a Reactor
+ * Netty connection pool with the same sizing and timeouts.
+ */
+@Configuration
+public class HttpClientConfig {
+
+    public static final String AAI_HTTP_CLIENT = "aaiHttpClient";
+    public static final String BABEL_HTTP_CLIENT = "babelHttpClient";
+    public static final String AAI_REST_TEMPLATE = "aaiRestTemplate";
+    public static final String BABEL_REST_TEMPLATE = "babelRestTemplate";
+    public static final String AAI_CONNECTION_PROVIDER = "aaiConnectionProvider";
+    public static final String AAI_WEB_CLIENT = "aaiWebClient";
+
+    private final ObjectProvider<MeterRegistry> meterRegistry;
+
+    public HttpClientConfig(ObjectProvider<MeterRegistry> meterRegistry) {
+        this.meterRegistry = meterRegistry;
+    }
+
+    @Bean(name = AAI_HTTP_CLIENT)
+    public CloseableHttpClient aaiHttpClient(AaiProperties aaiProperties) {
+        return pooledHttpClient("aai", aaiProperties.getHttpClient());
+    }
+
+    @Bean(name = BABEL_HTTP_CLIENT)
+    public CloseableHttpClient babelHttpClient(BabelProperties babelProperties) {
+        return pooledHttpClient("babel", babelProperties.getHttpClient());
+    }
+
+    @Primary
+    @Bean(name = AAI_REST_TEMPLATE)
+    public RestTemplate aaiRestTemplate(RestTemplateBuilder restTemplateBuilder,
+            @Qualifier(AAI_HTTP_CLIENT) CloseableHttpClient aaiHttpClient) {
+        RestTemplateBuilder builder =
+                restTemplateBuilder.requestFactory(() -> new HttpComponentsClientHttpRequestFactory(aaiHttpClient));
+        MeterRegistry registry = meterRegistry.getIfAvailable();
+        if (registry != null) {
+            builder = builder.additionalInterceptors(new AaiRequestMetrics(registry));
+        }
+        return builder.build();
+    }
+
+    @Bean(name = BABEL_REST_TEMPLATE)
+    public RestTemplate babelRestTemplate(RestTemplateBuilder restTemplateBuilder,
+            @Qualifier(BABEL_HTTP_CLIENT) CloseableHttpClient babelHttpClient) {
+        return restTemplateBuilder.requestFactory(() -> streamingRequestFactory(babelHttpClient)).build();
+    }
+
+    /**
+     * CSARs are sent to Babel as they are encoded (see
+     * {@link org.onap.aai.modelloader.restclient.BabelServiceClientImpl}), instead of being buffered.
+     */
+    @SuppressWarnings("deprecation")
+    private static HttpComponentsClientHttpRequestFactory streamingRequestFactory(CloseableHttpClient httpClient) {
+        HttpComponentsClientHttpRequestFactory requestFactory = new HttpComponentsClientHttpRequestFactory(httpClient);
+        // Only needed up to Spring 6.0, later versions stream request bodies by default
+        requestFactory.setBufferRequestBody(false);
+        return requestFactory;
+    }
+
+    @Bean(name = AAI_CONNECTION_PROVIDER, destroyMethod = "dispose")
+    public ConnectionProvider aaiConnectionProvider(AaiProperties aaiProperties) {
+        return connectionProvider("aai", aaiProperties.getHttpClient());
+    }
+
+    @Bean(name = AAI_WEB_CLIENT)
+    public WebClient aaiWebClient(WebClient.Builder webClientBuilder, AaiProperties aaiProperties,
+            @Qualifier(AAI_CONNECTION_PROVIDER) ConnectionProvider aaiConnectionProvider) {
+        WebClient.Builder builder =
+                pooledWebClient(webClientBuilder, aaiConnectionProvider, aaiProperties.getHttpClient());
+        MeterRegistry registry = meterRegistry.getIfAvailable();
+        if (registry != null) {
+            builder = builder.filter(new AaiRequestMetrics(registry));
+        }
+        return builder.build();
+    }
+
+    /**
+     * Connection pool of the WebClient. Reactor Netty keeps a pool per host, so it is sized by the connections per route.
+     */
+    private ConnectionProvider connectionProvider(String poolName, HttpClientPoolProperties properties) {
+        return ConnectionProvider.builder(poolName)
+                .maxConnections(properties.getMaxPerRoute())
+                .pendingAcquireTimeout(properties.getConnectionRequestTimeout())
+                .maxIdleTime(properties.getKeepAlive())
+                .evictInBackground(properties.getIdleEvictionTime())
+                .metrics(meterRegistry.getIfAvailable() != null)
+                .build();
+    }
+
+    private WebClient.Builder pooledWebClient(WebClient.Builder webClientBuilder,
+            ConnectionProvider connectionProvider, HttpClientPoolProperties properties) {
+        HttpClient httpClient = HttpClient.create(connectionProvider)
+                .option(ChannelOption.CONNECT_TIMEOUT_MILLIS, (int) properties.getConnectTimeout().toMillis())
+                .responseTimeout(properties.getReadTimeout());
+        // Like the RestTemplates, the WebClient does not limit the size of the responses they decode
+        return webClientBuilder.clientConnector(new ReactorClientHttpConnector(httpClient))
+                .codecs(codecs -> codecs.defaultCodecs().maxInMemorySize(-1));
+    }
+
+    private CloseableHttpClient pooledHttpClient(String poolName, HttpClientPoolProperties properties) {
+        ConnectionConfig connectionConfig = ConnectionConfig.custom()
+                .setConnectTimeout(Timeout.of(properties.getConnectTimeout()))
+                .setSocketTimeout(Timeout.of(properties.getReadTimeout()))
+                .setValidateAfterInactivity(TimeValue.of(properties.getValidateAfterInactivity()))
+                .build();
+        PoolingHttpClientConnectionManager connectionManager = PoolingHttpClientConnectionManagerBuilder.create()
+                .setMaxConnTotal(properties.getMaxTotal())
+                .setMaxConnPerRoute(properties.getMaxPerRoute())
+                .setDefaultConnectionConfig(connectionConfig)
+                .build();
+
+        // The keep-alive is used by the default keep-alive strategy when the server does not send a Keep-Alive header
+        RequestConfig requestConfig = RequestConfig.custom()
+                .setConnectionRequestTimeout(Timeout.of(properties.getConnectionRequestTimeout()))
+                .setResponseTimeout(Timeout.of(properties.getReadTimeout()))
+                .setConnectionKeepAlive(TimeValue.of(properties.getKeepAlive()))
+                .build();
+
+        meterRegistry.ifAvailable(registry -> new PoolingHttpClientConnectionManagerMetricsBinder(connectionManager,
+                poolName).bindTo(registry));
+
+        return HttpClients.custom()
+                .setConnectionManager(connectionManager)
+                .setDefaultRequestConfig(requestConfig)
+                .evictExpiredConnections()
+                .evictIdleConnections(TimeValue.of(properties.getIdleEvictionTime()))
+                .build();
+    }
+}
@@ -0,0 +1,50 @@
+/**
+ * ============LICENSE_START=======================================================
+ * org.onap.aai
+ * ================================================================================
+ * Copyright © 2025 Deutsche Telekom AG Intellectual Property. All rights reserved.
+ * ================================================================================
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * ============LICENSE_END=========================================================
+ */
+package org.onap.aai.modelloader.config;
+
+import java.time.Duration;
+
+import lombok.Getter;
+import lombok.Setter;
+
+/**
+ * Sizing and timeouts of a pooled HTTP client. Used for the A&AI ({@code ml.aai.http-client.*}) and the Babel
+ * ({@code ml.babel.http-client.*}) connection pools.
+ */
+@Getter
+@Setter
+public class HttpClientPoolProperties {
+  /** Maximum number of connections in the pool. */
+  private int maxTotal = 50;
+  /** Maximum number of connections to a single host. */
+  private int maxPerRoute = 20;
+  /** Timeout for establishing a connection. */
+  private Duration connectTimeout = Duration.ofSeconds(5);
+  /** Timeout for waiting for data from the server (socket and response timeout). */
+  private Duration readTimeout = Duration.ofSeconds(60);
+  /** Timeout for leasing a connection from the pool. */
+  private Duration connectionRequestTimeout = Duration.ofSeconds(10);
+  /** How long a connection is kept alive when the server does not send a Keep-Alive header. */
+  private Duration keepAlive = Duration.ofSeconds(60);
+  /** Connections that have been idle for longer than this are closed by a background thread. */
+  private Duration idleEvictionTime = Duration.ofSeconds(30);
+  /** Idle connections are validated before being reused once they have been inactive for this period. */
+  private Duration validateAfterInactivity = Duration.ofSeconds(2);
+}
@@ -0,0 +1,47 @@
+/**
+ * ============LICENSE_START=======================================================
+ * org.onap.aai
+ * ================================================================================
+ * Copyright © 2025 Deutsche Telekom AG Intellectual Property. All rights reserved.
+ * ================================================================================
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * ============LICENSE_END=========================================================
+ */
+package org.onap.aai.modelloader.config;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import lombok.Getter;
+import lombok.Setter;
+
+/**
+ * How much of an artifact or request payload is written to the log when the logger is not at DEBUG level.
+ */
+@Getter
+@Setter
+@Component
+@ConfigurationProperties(prefix = "ml.payload-log")
+public class PayloadLogProperties {
+  /** Number of leading bytes (or characters of a text payload) logged next to the size and digest; 0 logs none. */
+  private int maxBytes = 256;
+  /** Overrides of {@code maxBytes} keyed by the fully qualified name of the logging class. */
+  private Map<String, Integer> loggers = new HashMap<>();
+
+  public int getMaxBytes(String loggerName) {
+    return Math.max(0, loggers.getOrDefault(loggerName, maxBytes));
+  }
+}
@@ -0,0 +1,213 @@
+/**
+ * ============LICENSE_START=======================================================
+ * org.onap.aai
+ * ================================================================================
+ * Copyright © 2025 Deutsche Telekom AG Intellectual Property. All rights reserved.
+ * ================================================================================
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * ============LICENSE_END=========================================================
+ */
+package org.onap.aai.modelloader.entity;
+
+import com.google.gson.Gson;
+import com.google.gson.GsonBuilder;
+import com.google.gson.JsonArray;
+import com.google.gson.JsonElement;
+import com.google.gson.JsonObject;
+import com.google.gson.JsonParseException;
+import com.google.gson.JsonParser;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Set;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import org.onap.aai.modelloader.restclient.AaiResourceCache;
+
+/**
+ * The operations that write the artifacts of a distribution to A&AI, in the order in which they have to be applied.
+ * The operations are sent in chunks to the A&AI bulk single-transaction API: A&AI applies all operations of a chunk
+ * or none of them.
+ */
+public class AaiBulkTransaction {
+
+    public static final String PUT_ACTION = "put";
+
+    private static final Pattern AAI_RESOURCE_PATH = Pattern.compile("^(?:[a-zA-Z][a-zA-Z0-9+.-]*://[^/]+)?/aai/[^/]+(/.+)$");
+    private static final Gson gson = new GsonBuilder().disableHtmlEscaping().create();
+
+    private final List<Operation> operations = new ArrayList<>();
+    private final Set<String> knownAbsentUrls;
+    private boolean reliesOnKnownAbsence;
+
+    /**
+     * @param knownAbsentUrls the resources that were found missing before the deployment, normalized with
+     *        {@link AaiResourceCache#normalize(String)}
+     */
+    public AaiBulkTransaction(Set<String> knownAbsentUrls) {
+        this.knownAbsentUrls = knownAbsentUrls;
+    }
+
+    /**
+     * Answers an existence check without a request to A&AI, if the resource was found missing before the deployment.
+     *
+     * @param url the URL of the resource
+     * @return <code>true</code> if the resource is known to be missing
+     */
+    public boolean isKnownAbsent(String url) {
+        boolean absent = knownAbsentUrls.contains(AaiResourceCache.normalize(url));
+        reliesOnKnownAbsence |= absent;
+        return absent;
+    }
+
+    /**
+     * @return <code>true</code> if an operation was added because a resource was known to be missing, which another
+     *         distribution may have created since
+     */
+    public boolean reliesOnKnownAbsence() {
+        return reliesOnKnownAbsence;
+    }
+
+    /**
+     * Adds the PUT of a resource.
+     *
+     * @param url the URL of the resource, as used by the per-resource requests
+     * @param jsonBody the JSON representation of the resource
+     * @param artifact the artifact that has to be rolled back once the operation has been committed
+     */
+    public void addPut(String url, String jsonBody, Artifact artifact) {
+        operations.add(new Operation(PUT_ACTION, url, jsonBody, artifact));
+    }
+
+    public List<Operation> getOperations() {
+        return Collections.unmodifiableList(operations);
+    }
+
+    public boolean isEmpty() {
+        return operations.isEmpty();
+    }
+
+    /**
+     * Splits the operations into consecutive chunks that each fit into one transaction.
+     *
+     * @param maxOperations maximum number of operations in one chunk
+     * @return the chunks, in order
+     */
+    public List<List<Operation>> chunks(int maxOperations) {
+        int size = Math.max(1, maxOperations);
+        List<List<Operation>> chunks = new ArrayList<>();
+        for (int from = 0; from < operations.size(); from += size) {
+            chunks.add(getOperations().subList(from, Math.min(from + size, operations.size())));
+        }
+        return chunks;
+    }
+
+    /**
+     * Builds the request body of a single-transaction request.
+     *
+     * @param chunk the operations of the transaction
+     * @return the JSON request body
+     */
+    public static String toPayload(List<Operation> chunk) {
+        JsonArray jsonOperations = new JsonArray();
+        for (Operation operation : chunk) {
+            JsonObject jsonOperation = new JsonObject();
+            jsonOperation.addProperty("action", operation.getAction());
+            jsonOperation.addProperty("uri", operation.getUri());
+            jsonOperation.add("body", JsonParser.parseString(operation.getBody()));
+            jsonOperations.add(jsonOperation);
+        }
+        JsonObject payload = new JsonObject();
+        payload.add("operations", jsonOperations);
+        return gson.toJson(payload);
+    }
+
+    /**
+     * Checks the response of a single-transaction request.
+     *
+     * @param responseBody the JSON response body
+     * @return <code>true</code> if A&AI reports a successful status for every operation
+     */
+    public static boolean isSuccessful(String responseBody) {
+        if (responseBody == null || responseBody.isBlank()) {
+            return false;
+        }
+        try {
+            JsonElement responses = JsonParser.parseString(responseBody).getAsJsonObject().get("operation-responses");
+            if (responses == null || !responses.isJsonArray()) {
+                return false;
+            }
+            for (JsonElement response : responses.getAsJsonArray()) {
+                JsonElement status = response.getAsJsonObject().get("response-status-code");
+                if (status == null || status.getAsInt() < 200 || status.getAsInt() >= 300) {
+                    return false;
+                }
+            }
+            return true;
+        } catch (JsonParseException | IllegalStateException | NumberFormatException e) {
+            return false;
+        }
+    }
+
+    /**
+     * Strips the host and the {@code /aai/<version>} prefix from a resource URL, which yields the URI of the resource
+     * within a transaction.
+     */
+    static String toTransactionUri(String url) {
+        Matcher matcher = AAI_RESOURCE_PATH.matcher(url);
+        if (!matcher.matches()) {
+            throw new IllegalArgumentException("Not an A&AI resource URL: " + url);
+        }
+        return matcher.group(1);
+    }
+
+    /**
+     * A single operation of a transaction.
+     */
+    public static class Operation {
+
+        private final String action;
+        private final String url;
+        private final String uri;
+        private final String body;
+        private final Artifact artifact;
+
+        Operation(String action, String url, String body, Artifact artifact) {
+            this.action = action;
+            this.url = url;
+            this.uri = toTransactionUri(url);
+            this.body = body;
+            this.artifact = artifact;
+        }
+
+        public String getAction() {
+            return action;
+        }
+
+        public String getUrl() {
+            return url;
+        }
+
+        public String getUri() {
+            return uri;
+        }
+
+        public String getBody() {
+            return body;
+        }
+
+        public Artifact getArtifact() {
+            return artifact;
+        }
+    }
+}
@@ -37,21 +37,30 @@ import org.apache.hc.core5.net.URIBuilder;
 import org.onap.aai.cl.api.Logger;
 import org.onap.aai.cl.eelf.LoggerFactory;
 import org.onap.aai.modelloader.config.AaiProperties;
+import org.onap.aai.modelloader.entity.AaiBulkTransaction;
 import org.onap.aai.modelloader.entity.Artifact;
 import org.onap.aai.modelloader.entity.ArtifactHandler;
+import org.onap.aai.modelloader.entity.ArtifactType;
 import org.onap.aai.modelloader.entity.vnf.VnfImages;
 import org.onap.aai.modelloader.restclient.AaiRestClient;
+import org.onap.aai.modelloader.service.DistributionMetrics;
+import org.onap.aai.modelloader.service.DistributionMetrics.Stage;
 import org.onap.aai.modelloader.service.ModelLoaderMsgs;
+import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.stereotype.Component;
+import org.springframework.web.client.HttpStatusCodeException;
+import org.springframework.web.client.RestClientException;
 import org.w3c.dom.Document;
 import org.w3c.dom.Element;
 import org.w3c.dom.Node;
 import org.w3c.dom.NodeList;
 import org.xml.sax.InputSource;
 
+import io.micrometer.core.instrument.Timer;
+
 /**
  * VNF Catalog specific handling
  */
@@ -62,8 +71,12 @@ public class VnfCatalogArtifactHandler extends ArtifactHandler {
 
     public static final String ATTR_UUID = "uuid";
 
-    public VnfCatalogArtifactHandler(AaiProperties aaiProperties) {
+    private final DistributionMetrics metrics;
+
+    @Autowired
+    public VnfCatalogArtifactHandler(AaiProperties aaiProperties, DistributionMetrics metrics) {
         super(aaiProperties);
+        this.metrics = metrics == null ? DistributionMetrics.noop() : metrics;
     }
 
     /*
@@ -74,18 +87,40 @@ public class VnfCatalogArtifactHandler extends ArtifactHandler {
     @Override
     public boolean pushArtifacts(List<Artifact> artifacts, String distributionId, List<Artifact> completedArtifacts,
             AaiRestClient aaiClient) {
+        Timer.Sample sample = metrics.start();
+        boolean success = false;
+        try {
+            for (Artifact artifact : artifacts) {
+                distributeVnfcData(aaiClient, distributionId, artifact, completedArtifacts);
+            }
+            success = true;
+        } catch (VnfImageException e) {
+            logIngestionFailure(e);
+        } finally {
+            metrics.stop(sample, Stage.CATALOG_PUSH, ArtifactType.VNF_CATALOG.name(), success);
+        }
+
+        return success;
+    }
+
+    /**
+     * Adds the PUT of every vnf-image of the catalog artifacts that is not yet present in A&AI to a bulk transaction.
+     *
+     * @param artifacts the catalog artifacts
+     * @param distributionId the distribution ID
+     * @param aaiClient the client used to check which images are present
+     * @param transaction the transaction to add the operations to
+     * @return <code>false</code> if the images could not be read or looked up
+     */
+    public boolean addBulkOperations(List<Artifact> artifacts, String distributionId, AaiRestClient aaiClient,
+            AaiBulkTransaction transaction) {
         for (Artifact artifact : artifacts) {
             try {
-                distributeVnfcData(aaiClient, distributionId, artifact, completedArtifacts);
-            } catch (VnfImageException e) {
-                if (e.getResultCode().isPresent()) {
-                    logger.error(ModelLoaderMsgs.DISTRIBUTION_EVENT_ERROR,
-                            "Ingestion failed on vnf-image " + e.getImageId() + " with status "
-                                    + e.getResultCode().orElse(0) + ". Rolling back distribution.");
-                } else {
-                    logger.error(ModelLoaderMsgs.DISTRIBUTION_EVENT_ERROR,
-                            "Ingestion failed on " + e.getImageId() + ". Rolling back distribution.");
+                for (Map<String, String> dataItem : readVnfcData(artifact)) {
+                    addBulkOperation(aaiClient, distributionId, dataItem, transaction);
                 }
+            } catch (VnfImageException e) {
+                logIngestionFailure(e);
                 return false;
             }
         }
@@ -93,34 +128,53 @@ public class VnfCatalogArtifactHandler extends ArtifactHandler {
         return true;
     }
 
+    private void logIngestionFailure(VnfImageException e) {
+        if (e.getResultCode().isPresent()) {
+            logger.error(ModelLoaderMsgs.DISTRIBUTION_EVENT_ERROR,
+                    "Ingestion failed on vnf-image " + e.getImageId() + " with status "
+                            + e.getResultCode().orElse(0) + ". Rolling back distribution.");
+        } else {
+            logger.error(ModelLoaderMsgs.DISTRIBUTION_EVENT_ERROR,
+                    "Ingestion failed on " + e.getImageId() + ". Rolling back distribution.");
+        }
+    }
+
     /*
      * If something fails in the middle of ingesting the catalog we want to roll back any changes to the DB
      */
     @Override
     public void rollback(List<Artifact> completedArtifacts, String distributionId, AaiRestClient aaiClient) {
-        for (Artifact completedArtifact : completedArtifacts) {
-            Map<String, String> data = new Gson().fromJson(completedArtifact.getPayload(),
-                    new TypeToken<Map<String, String>>() {}.getType());
-            String url = aaiProperties.getBaseUrl() + aaiProperties.getVnfImageUrl() + "/vnf-image/" + data.get(ATTR_UUID);
-            // Try to delete the image. If something goes wrong we can't really do anything here
-            aaiClient.getAndDeleteResource(url, distributionId);
+        Timer.Sample sample = metrics.start();
+        boolean success = false;
+        try {
+            for (Artifact completedArtifact : completedArtifacts) {
+                Map<String, String> data = new Gson().fromJson(completedArtifact.getPayload(),
+                        new TypeToken<Map<String, String>>() {}.getType());
+                String url = aaiProperties.getBaseUrl() + aaiProperties.getVnfImageUrl() + "/vnf-image/"
+                        + data.get(ATTR_UUID);
+                // Try to delete the image. If something goes wrong we can't really do anything here
+                aaiClient.getAndDeleteResource(url, distributionId);
+            }
+            success = true;
+        } finally {
+            metrics.stop(sample, Stage.ROLLBACK, ArtifactType.VNF_CATALOG.name(), success);
         }
     }
 
     private void distributeVnfcData(AaiRestClient restClient, String distributionId, Artifact vnfcArtifact,
             List<Artifact> completedArtifacts) throws VnfImageException {
-        List<Map<String, String>> vnfcData;
+        distributeVnfcData(restClient, distributionId, completedArtifacts, readVnfcData(vnfcArtifact));
+    }
+
+    private List<Map<String, String>> readVnfcData(Artifact vnfcArtifact) throws VnfImageException {
         switch (vnfcArtifact.getType()) {
             case VNF_CATALOG:
-                vnfcData = unmarshallVnfcData(vnfcArtifact);
-                break;
+                return unmarshallVnfcData(vnfcArtifact);
             case VNF_CATALOG_XML:
-                vnfcData = parseXmlVnfcData(vnfcArtifact);
-                break;
+                return parseXmlVnfcData(vnfcArtifact);
             default:
                 throw new VnfImageException("Unsupported type " + vnfcArtifact.getType());
         }
-        distributeVnfcData(restClient, distributionId, completedArtifacts, vnfcData);
     }
 
     /**
@@ -141,17 +195,15 @@ public class VnfCatalogArtifactHandler extends ArtifactHandler {
                 continue;
             }
 
-            StringBuilder imageIdBuilder = new StringBuilder("vnf image");
-            for (Entry<String, String> entry : dataItem.entrySet()) {
-                imageIdBuilder.append(" ").append(entry.getValue());
-            }
-            String imageId = imageIdBuilder.toString();
-            int resultCode = getVnfImage(restClient, distributionId, imageId, dataItem);
+            String imageId = buildImageId(dataItem);
+            String queryUrl = buildVnfImageQueryUrl(dataItem);
+            int resultCode = getVnfImage(restClient, distributionId, imageId, queryUrl);
 
             if (resultCode == HttpStatus.NOT_FOUND.value()) {
                 // This vnf-image is missing, so add it
                 boolean success = putVnfImage(restClient, dataItem, distributionId);
                 if (success) {
+                    restClient.recordPresent(queryUrl);
                     completedArtifacts.add(new VnfCatalogArtifact(new Gson().toJson(dataItem)));
                     logger.info(ModelLoaderMsgs.DISTRIBUTION_EVENT, imageId + " successfully ingested.");
                 } else {
@@ -166,24 +218,75 @@ public class VnfCatalogArtifactHandler extends ArtifactHandler {
         }
     }
 
-    private int getVnfImage(AaiRestClient restClient, String distributionId, String imageId,
-            Map<String, String> dataItem) throws VnfImageException {
+    /**
+     * Add the PUT of the VNF image built from the supplied data item to a bulk transaction, unless the image is present
+     */
+    private void addBulkOperation(AaiRestClient restClient, String distributionId, Map<String, String> dataItem,
+            AaiBulkTransaction transaction) throws VnfImageException {
+        if (dataItem.isEmpty()) {
+            logger.warn(ModelLoaderMsgs.DISTRIBUTION_EVENT, "Empty image data supplied, skipping ingestion.");
+            return;
+        }
+
+        String imageId = buildImageId(dataItem);
+        int resultCode;
+        try {
+            resultCode = getVnfImage(restClient, distributionId, imageId, buildVnfImageQueryUrl(dataItem));
+        } catch (HttpStatusCodeException e) {
+            resultCode = e.getStatusCode().value();
+        } catch (RestClientException e) {
+            // A&AI could not be reached, the lookup has no status
+            logger.error(ModelLoaderMsgs.DISTRIBUTION_EVENT_ERROR,
+                    "Unable to look up vnf-image " + imageId + ": " + e.getMessage());
+            throw new VnfImageException(imageId);
+        }
+
+        if (resultCode == HttpStatus.NOT_FOUND.value()) {
+            String uuid = UUID.randomUUID().toString();
+            dataItem.put(ATTR_UUID, uuid);
+            String payload = new Gson().toJson(dataItem);
+            String putUrl = aaiProperties.getBaseUrl() + aaiProperties.getVnfImageUrl() + "/vnf-image/" + uuid;
+            transaction.addPut(putUrl, payload, new VnfCatalogArtifact(payload));
+        } else if (resultCode == HttpStatus.OK.value()) {
+            logger.info(ModelLoaderMsgs.DISTRIBUTION_EVENT, imageId + " already exists. Skipping ingestion.");
+        } else {
+            throw new VnfImageException(imageId, resultCode);
+        }
+    }
+
+    private String buildImageId(Map<String, String> dataItem) {
+        StringBuilder imageIdBuilder = new StringBuilder("vnf image");
+        for (Entry<String, String> entry : dataItem.entrySet()) {
+            imageIdBuilder.append(" ").append(entry.getValue());
+        }
+        return imageIdBuilder.toString();
+    }
+
+    private String buildVnfImageQueryUrl(Map<String, String> dataItem) throws VnfImageException {
         try {
             URIBuilder b = new URIBuilder(aaiProperties.getBaseUrl() + aaiProperties.getVnfImageUrl());
             for (Entry<String, String> entry : dataItem.entrySet()) {
                 b.addParameter(entry.getKey(), entry.getValue());
             }
-            ResponseEntity<VnfImages> tryGet =
-                    restClient.getResource(b.build().toString(), distributionId, MediaType.APPLICATION_JSON, VnfImages.class);
-            if (tryGet == null) {
-                throw new VnfImageException(imageId);
-            }
-            return tryGet.getStatusCodeValue();
+            return b.build().toString();
         } catch (URISyntaxException ex) {
             throw new VnfImageException(ex);
         }
     }
 
+    private int getVnfImage(AaiRestClient restClient, String distributionId, String imageId, String queryUrl)
+            throws VnfImageException {
+        if (restClient.isKnownPresent(queryUrl, distributionId)) {
+            return HttpStatus.OK.value();
+        }
+        ResponseEntity<VnfImages> tryGet =
+                restClient.getResource(queryUrl, distributionId, MediaType.APPLICATION_JSON, VnfImages.class);
+        if (tryGet == null) {
+            throw new VnfImageException(imageId);
+        }
+        return tryGet.getStatusCodeValue();
+    }
+
     private boolean putVnfImage(AaiRestClient restClient, Map<String, String> dataItem, String distributionId) {
         // Generate a new UUID for the image data item
         String uuid = UUID.randomUUID().toString();
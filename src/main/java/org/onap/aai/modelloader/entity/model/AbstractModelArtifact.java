@@ -28,6 +28,7 @@ import java.util.Set;
 import org.onap.aai.cl.api.Logger;
 import org.onap.aai.cl.eelf.LoggerFactory;
 import org.onap.aai.modelloader.config.AaiProperties;
+import org.onap.aai.modelloader.entity.AaiBulkTransaction;
 import org.onap.aai.modelloader.entity.Artifact;
 import org.onap.aai.modelloader.entity.ArtifactType;
 import org.onap.aai.modelloader.restclient.AaiRestClient;
@@ -80,6 +81,18 @@ public abstract class AbstractModelArtifact extends Artifact implements IModelAr
     public abstract boolean push(AaiRestClient aaiClient, AaiProperties aaiProperties, String distId,
             List<Artifact> completedArtifacts);
 
+    /**
+     * Adds the operations that write this artifact to A&AI to a bulk transaction. Resources that are already present
+     * in A&AI are not written again.
+     *
+     * @param aaiClient the client used to check which resources are present
+     * @param aaiProperties the A&AI settings
+     * @param distId the distribution ID
+     * @param transaction the transaction to add the operations to
+     */
+    public abstract void addBulkOperations(AaiRestClient aaiClient, AaiProperties aaiProperties, String distId,
+            AaiBulkTransaction transaction);
+
     public abstract void rollbackModel(AaiRestClient aaiClient, AaiProperties aaiProperties, String distId);
 
     protected boolean pushToGizmo(AaiRestClient aaiClient, AaiProperties aaiProperties, String distId) {
@@ -23,21 +23,16 @@ package org.onap.aai.modelloader.entity.model;
 import java.io.StringReader;
 import java.util.ArrayList;
 import java.util.List;
-import java.util.Objects;
-import java.util.function.BiConsumer;
-import java.util.stream.Collector;
-import java.util.stream.IntStream;
-import javax.xml.parsers.DocumentBuilder;
-import javax.xml.parsers.DocumentBuilderFactory;
+import javax.xml.XMLConstants;
+import javax.xml.stream.XMLInputFactory;
+import javax.xml.stream.XMLStreamConstants;
+import javax.xml.stream.XMLStreamException;
+import javax.xml.stream.XMLStreamReader;
 import org.onap.aai.cl.api.Logger;
 import org.onap.aai.cl.eelf.LoggerFactory;
 import org.onap.aai.modelloader.entity.Artifact;
 import org.onap.aai.modelloader.service.ModelLoaderMsgs;
-import org.w3c.dom.Document;
-import org.w3c.dom.Element;
-import org.w3c.dom.Node;
-import org.w3c.dom.NodeList;
-import org.xml.sax.InputSource;
+import org.onap.aai.modelloader.util.XmlFragments;
 
 /**
  * This class provides common behaviour for implementations of IModelParser.
@@ -45,6 +40,15 @@ import org.xml.sax.InputSource;
  * Some of the common behaviour takes the form of abstract methods that will be implemented in concrete classes.
  *
  * Some other behaviour will be overridden in concrete classes.
+ *
+ * The payload is read in a single pass with a StAX stream reader. Three kinds of elements are of interest:
+ * <ol>
+ * <li>elements holding the version id of the model, whose text is handed to {@link #setVersionId}</li>
+ * <li>relationship elements, whose relationship-data key/value pairs identify the dependent models</li>
+ * <li>the fragment element (if any), which is copied to the model as XML once the pass is complete (see
+ * {@link XmlFragments})</li>
+ * </ol>
+ * The content of version id and relationship elements is not inspected any further.
  */
 public abstract class AbstractModelArtifactParser implements IModelParser {
     private static Logger logger = LoggerFactory.getInstance().getLogger(AbstractModelArtifactParser.class);
@@ -53,14 +57,7 @@ public abstract class AbstractModelArtifactParser implements IModelParser {
     private static final String RELATIONSHIP_KEY = "relationship-key";
     private static final String RELATIONSHIP_VALUE = "relationship-value";
 
-    BiConsumer<Pair<String, String>, Node> applyRelationshipValue = (p, n) -> {
-        if (n.getNodeName().equalsIgnoreCase(RELATIONSHIP_KEY)) {
-            p.setKey(n.getTextContent().trim());
-        } else {
-            p.setValue(n.getTextContent().trim());
-        }
-    };
-
+    private static final XMLInputFactory xmlInputFactory = XmlFragments.createInputFactory();
 
     /**
      * This method is responsible for parsing the payload to produce a list of artifacts.
@@ -73,14 +70,11 @@ public abstract class AbstractModelArtifactParser implements IModelParser {
     public List<Artifact> parse(String artifactPayload, String artifactName) {
         List<Artifact> modelList = new ArrayList<>();
 
+        XMLStreamReader reader = null;
         try {
-            DocumentBuilderFactory factory = DocumentBuilderFactory.newInstance();
-            factory.setFeature("http://apache.org/xml/features/disallow-doctype-decl", true);
-            DocumentBuilder builder = factory.newDocumentBuilder();
-            InputSource is = new InputSource(new StringReader(artifactPayload));
-            Document doc = builder.parse(is);
+            reader = xmlInputFactory.createXMLStreamReader(new StringReader(artifactPayload));
 
-            IModelArtifact model = parseModel(doc.getDocumentElement(), artifactPayload);
+            IModelArtifact model = parseModel(reader, artifactPayload);
 
             boolean success = processParsedModel(modelList, artifactName, model);
             if (!success) {
@@ -89,23 +83,36 @@ public abstract class AbstractModelArtifactParser implements IModelParser {
         } catch (Exception ex) {
             logger.error(ModelLoaderMsgs.ARTIFACT_PARSE_ERROR,
                     buildArtifactParseExceptionMessage(artifactName, ex.getLocalizedMessage()));
+        } finally {
+            closeQuietly(reader);
         }
 
         return modelList;
     }
 
-    private IModelArtifact parseModel(Node modelNode, String payload) {
+    private IModelArtifact parseModel(XMLStreamReader reader, String payload) throws XMLStreamException {
         IModelArtifact model = createModelArtifactInstance();
         model.setPayload(payload);
 
-        Element e = (Element) modelNode;
-        model.setModelNamespace(e.getAttribute("xmlns"));
-
-        parseNode(modelNode, model);
+        ModelStreamParser parser = new ModelStreamParser(model);
+        parser.parse(reader);
+        if (parser.fragmentOrdinal > 0) {
+            setFragment(model, XmlFragments.extract(payload, parser.fragmentOrdinal));
+        }
 
         return modelIsValid(model) ? model : null;
     }
 
+    private static void closeQuietly(XMLStreamReader reader) {
+        if (reader != null) {
+            try {
+                reader.close();
+            } catch (XMLStreamException e) {
+                // Nothing left to release
+            }
+        }
+    }
+
     /**
      * This method is responsible for creating a new instance of IModel that represents the model id for a concrete
      * implementation of IArtifactParser.
@@ -116,90 +123,75 @@ public abstract class AbstractModelArtifactParser implements IModelParser {
     abstract IModelArtifact createModelArtifactInstance();
 
     /**
-     * This method is responsible for the actual parsing of a node.
+     * This method tests if an element holds (part of) the version Id of the model.
      *
-     * It will do one of three things:
-     * <ol>
-     * <li>set the version id if the name of the node is the same as the name of the node that is the version Id</li>
-     * <li>if the node is contains data about the relationship it will parse the node accordingly</li>
-     * <li>if it does neither of option 1 or 2 it will parse the children of this node</li>
-     * </ol>
-     * 
-     * @param node node to be parsed
-     * @param model the model artifact to be updated with either the versionId or details of dependent node
+     * @param elementName the name of the element
+     * @return <code>true</code> if the text of the element should be passed to {@link #setVersionId}
      */
-    void parseNode(Node node, IModelArtifact model) {
-        if (node.getNodeName().equalsIgnoreCase(getVersionIdNodeName())) {
-            setVersionId(model, node);
-        } else if (node.getNodeName().equalsIgnoreCase(RELATIONSHIP_DATA)) {
-            parseRelationshipNode(node, model);
-        } else {
-            parseChildNodes(node, model);
-        }
-    }
-
-    /**
-     * This method gets the name of the node that acts as the version Id for the node.
-     *
-     * @return String name of the node that acts as the version Id for the node
-     */
-    abstract String getVersionIdNodeName();
+    abstract boolean isVersionIdElement(String elementName);
 
     /**
      * This method is responsible for setting the values on the model artifact that represent the version Id. Each
      * implementation of a IModelArtifact has its own properties that define the version Id.
      *
      * @param model the model artifact upon which the version Id will be set
-     * @param node the source of the data that holds the actual value of the version id to be set on the model artifact
+     * @param elementName the name of the element holding the value
+     * @param value the trimmed text of the element
      */
-    abstract void setVersionId(IModelArtifact model, Node node);
+    abstract void setVersionId(IModelArtifact model, String elementName, String value);
 
     /**
-     * @param relationshipNode a node containing child nodes storing relationship data
-     * @param model artifact whose dependent node id will be update with any relationship data if it exists
+     * This method tests if an element describes a relationship to a dependent model. The relationship is either the
+     * relationship-data element itself or the parent of one or more relationship-data elements.
+     *
+     * @param elementName the name of the element
+     * @return <code>true</code> if the element describes a relationship
      */
-    void parseRelationshipNode(Node relationshipNode, IModelArtifact model) {
-        NodeList nodeList = getChildNodes(relationshipNode);
+    abstract boolean isRelationshipElement(String elementName);
 
-        IModelId modelId = buildModelId(nodeList);
-
-        updateModelsDependentNodeId(model, modelId);
+    /**
+     * This method tests if an element has to be copied to the model as an XML fragment. By default no fragment is
+     * copied.
+     *
+     * @param elementName the name of the element
+     * @return <code>true</code> if the element should be passed to {@link #setFragment}
+     */
+    boolean isFragmentElement(String elementName) {
+        return false;
     }
 
-    private NodeList getChildNodes(Node relationshipNode) {
-        Objects.requireNonNull(relationshipNode);
-        NodeList nodeList = relationshipNode.getChildNodes();
-        Objects.requireNonNull(nodeList);
-
-        return nodeList;
+    /**
+     * This method is responsible for storing an XML fragment on the model artifact.
+     *
+     * @param model the model artifact upon which the fragment will be set
+     * @param fragment the serialized element
+     */
+    void setFragment(IModelArtifact model, String fragment) {
+        // No fragment is kept by default
     }
 
     /**
      * This method is responsible for building an instance of IModelId representing the id of the model.
      *
-     * @param nodeList list of modes used to build the model id.
+     * @param relationshipData the key/value pairs of the relationship-data elements of a relationship
      * @return IModelId instance of IModelId representing the id of the model
      */
-    IModelId buildModelId(NodeList nodeList) {
-        Pair<String, String> relationship = IntStream.range(0, nodeList.getLength()).mapToObj(nodeList::item) //
-                .filter(this::filterRelationshipNode)
-                .collect(Collector.of(Pair::new, applyRelationshipValue, (p, n) -> p));
-
+    IModelId buildModelId(List<Pair<String, String>> relationshipData) {
         IModelId modelId = createModelIdInstance();
-        modelId.setRelationship(relationship);
-
+        for (Pair<String, String> relationship : relationshipData) {
+            modelId.setRelationship(relationship);
+        }
         return modelId;
     }
 
     /**
-     * This method tests if a node is either one that either represents a relationship key or a relationship value.
+     * This method tests if an element is either one that either represents a relationship key or a relationship value.
      *
-     * @param n the node to to be tested
-     * @return <code>true</code> if the node is either represents a relationship key or a relationship value
+     * @param elementName the name of the element to to be tested
+     * @return <code>true</code> if the element either represents a relationship key or a relationship value
      */
-    boolean filterRelationshipNode(Node n) {
-        return n.getNodeName().equalsIgnoreCase(RELATIONSHIP_KEY)
-                || n.getNodeName().equalsIgnoreCase(RELATIONSHIP_VALUE);
+    boolean isRelationshipKeyOrValue(String elementName) {
+        return elementName.equalsIgnoreCase(RELATIONSHIP_KEY) || elementName.equalsIgnoreCase(RELATIONSHIP_VALUE);
     }
 
     /**
@@ -217,20 +209,6 @@ public abstract class AbstractModelArtifactParser implements IModelParser {
         }
     }
 
-    /**
-     * This method is responsible for parsing the children of a given node.
-     *
-     * @param node node whose children, if any, should be parsed.
-     * @param model model to be updated as a result of parsing the node
-     */
-    void parseChildNodes(Node node, IModelArtifact model) {
-        NodeList nodeList = node.getChildNodes();
-        for (int i = 0; i < nodeList.getLength(); i++) {
-            Node childNode = nodeList.item(i);
-            parseNode(childNode, model);
-        }
-    }
-
     /**
      * Validates if the mode is valid or not by examining specific properties of the model.
      *
@@ -288,4 +266,145 @@ public abstract class AbstractModelArtifactParser implements IModelParser {
      * @return String name of the key of the element relationship for the model
      */
     abstract String getModelElementRelationshipKey();
+
+    /**
+     * The state of a single pass over one payload. The depths are those of the start elements, the root being 1.
+     */
+    private class ModelStreamParser {
+        private final IModelArtifact model;
+
+        private int depth;
+
+        /** Version id element being read, text is collected until it ends. */
+        private int versionIdDepth;
+        private String versionIdElement;
+
+        /** Relationship being read: its relationship-data pairs and the relationship-data element being read. */
+        private int relationshipDepth;
+        private List<Pair<String, String>> relationshipData;
+        private int relationshipDataDepth;
+        private Pair<String, String> currentPair;
+        private int pairElementDepth;
+        private String pairElement;
+
+        private final StringBuilder text = new StringBuilder();
+
+        /** Number of elements started so far. */
+        private int elementCount;
+
+        /**
+         * Position of the fragment element among all elements, 0 if there is none. If there are several, the one that
+         * started last in the document is kept.
+         */
+        private int fragmentOrdinal;
+
+        ModelStreamParser(IModelArtifact model) {
+            this.model = model;
+        }
+
+        void parse(XMLStreamReader reader) throws XMLStreamException {
+            while (reader.hasNext()) {
+                int event = reader.next();
+                switch (event) {
+                    case XMLStreamConstants.START_ELEMENT:
+                        depth++;
+                        elementCount++;
+                        startElement(reader);
+                        break;
+                    case XMLStreamConstants.END_ELEMENT:
+                        endElement();
+                        depth--;
+                        break;
+                    case XMLStreamConstants.CHARACTERS:
+                    case XMLStreamConstants.CDATA:
+                    case XMLStreamConstants.SPACE:
+                        if (versionIdElement != null || pairElement != null) {
+                            text.append(reader.getTextCharacters(), reader.getTextStart(), reader.getTextLength());
+                        }
+                        break;
+                    case XMLStreamConstants.DTD:
+                        throw new XMLStreamException("DOCTYPE is disallowed", reader.getLocation());
+                    default:
+                        break;
+                }
+            }
+        }
+
+        private void startElement(XMLStreamReader reader) {
+            String name = XmlFragments.qualifiedName(reader.getPrefix(), reader.getLocalName());
+            if (depth == 1) {
+                String namespace = reader.getNamespaceURI(XMLConstants.DEFAULT_NS_PREFIX);
+                model.setModelNamespace(namespace == null ? "" : namespace);
+            }
+
+            if (versionIdElement != null) {
+                return;
+            }
+            if (relationshipData != null) {
+                startRelationshipContent(name);
+                return;
+            }
+
+            if (isVersionIdElement(name)) {
+                versionIdElement = name;
+                versionIdDepth = depth;
+                text.setLength(0);
+            } else if (isRelationshipElement(name)) {
+                relationshipData = new ArrayList<>();
+                relationshipDepth = depth;
+                if (name.equalsIgnoreCase(RELATIONSHIP_DATA)) {
+                    startRelationshipData();
+                }
+            } else if (isFragmentElement(name)) {
+                fragmentOrdinal = elementCount;
+            }
+        }
+
+        private void startRelationshipContent(String name) {
+            if (currentPair == null) {
+                if (depth == relationshipDepth + 1 && name.equalsIgnoreCase(RELATIONSHIP_DATA)) {
+                    startRelationshipData();
+                }
+            } else if (pairElement == null && depth == relationshipDataDepth + 1 && isRelationshipKeyOrValue(name)) {
+                pairElement = name;
+                pairElementDepth = depth;
+                text.setLength(0);
+            }
+        }
+
+        private void startRelationshipData() {
+            currentPair = new Pair<>();
+            relationshipDataDepth = depth;
+        }
+
+        private void endElement() {
+            if (versionIdElement != null) {
+                if (depth == versionIdDepth) {
+                    setVersionId(model, versionIdElement, text.toString().trim());
+                    versionIdElement = null;
+                }
+            } else if (relationshipData != null) {
+                endRelationshipContent();
+            }
+        }
+
+        private void endRelationshipContent() {
+            if (pairElement != null && depth == pairElementDepth) {
+                if (pairElement.equalsIgnoreCase(RELATIONSHIP_KEY)) {
+                    currentPair.setKey(text.toString().trim());
+                } else {
+                    currentPair.setValue(text.toString().trim());
+                }
+                pairElement = null;
+            }
+            if (currentPair != null && depth == relationshipDataDepth) {
+                relationshipData.add(currentPair);
+                currentPair = null;
+            }
+            if (depth == relationshipDepth) {
+                updateModelsDependentNodeId(model, buildModelId(relationshipData));
+                relationshipData = null;
+            }
+        }
+    }
 }
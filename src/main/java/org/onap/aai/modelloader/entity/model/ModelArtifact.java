@@ -25,10 +25,12 @@ import java.util.List;
 import org.onap.aai.cl.api.Logger;
 import org.onap.aai.cl.eelf.LoggerFactory;
 import org.onap.aai.modelloader.config.AaiProperties;
+import org.onap.aai.modelloader.entity.AaiBulkTransaction;
 import org.onap.aai.modelloader.entity.Artifact;
 import org.onap.aai.modelloader.entity.ArtifactType;
 import org.onap.aai.modelloader.restclient.AaiRestClient;
 import org.onap.aai.modelloader.service.ModelLoaderMsgs;
+import org.onap.aai.modelloader.util.JsonXmlConverter;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
@@ -94,6 +96,9 @@ public class ModelArtifact extends AbstractModelArtifact {
      * @return true if a request to GET this resource as XML media is successful (status OK)
      */
     private boolean xmlResourceCanBeFetched(AaiRestClient aaiClient, String distId, String xmlResourceUrl) {
+        if (aaiClient.isKnownPresent(xmlResourceUrl, distId)) {
+            return true;
+        }
         try {
             ResponseEntity<Model> getResponse = getResourceModel(aaiClient, distId, xmlResourceUrl);
             return getResponse.getStatusCode().equals(HttpStatus.OK);
@@ -167,6 +172,9 @@ public class ModelArtifact extends AbstractModelArtifact {
     }
 
     private boolean checkIfModelExists(AaiRestClient aaiClient, String distId, String resourceUrl) throws HttpClientErrorException {
+        if (aaiClient.isKnownPresent(resourceUrl, distId)) {
+            return true;
+        }
         try {
             ResponseEntity<Model> response = getResourceModel(aaiClient, distId, resourceUrl);
             return response.getStatusCode().equals(HttpStatus.OK);
@@ -236,6 +244,25 @@ public class ModelArtifact extends AbstractModelArtifact {
         return success;
     }
 
+    @Override
+    public void addBulkOperations(AaiRestClient aaiClient, AaiProperties aaiProperties, String distId,
+            AaiBulkTransaction transaction) {
+        String modelUrl = getModelUrl(aaiProperties);
+        // Record state to remember whether this is the first version of the model (to be added). The operations are
+        // built again when a failed bulk deployment is repeated, so the state of the previous attempt is replaced.
+        firstVersionOfModel = transaction.isKnownAbsent(modelUrl) || !checkIfModelExists(aaiClient, distId, modelUrl);
+        if (firstVersionOfModel) {
+            transaction.addPut(modelUrl, JsonXmlConverter.convertXmlResourceToJson(getPayload()), this);
+            return;
+        }
+
+        String modelVerUrl = getModelVerUrl(aaiProperties);
+        if (!transaction.isKnownAbsent(modelVerUrl) && xmlResourceCanBeFetched(aaiClient, distId, modelVerUrl)) {
+            logInfoMsg(getType() + " " + getUniqueIdentifier() + " already exists.  Skipping ingestion.");
+        } else {
+            transaction.addPut(modelVerUrl, JsonXmlConverter.convertXmlResourceToJson(getModelVer()), this);
+        }
+    }
 
     @Override
     public void rollbackModel(AaiRestClient aaiClient, AaiProperties aaiProperties, String distId) {
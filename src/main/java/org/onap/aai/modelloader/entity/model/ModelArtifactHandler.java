@@ -20,53 +20,202 @@
  */
 package org.onap.aai.modelloader.entity.model;
 
+import java.util.ArrayList;
 import java.util.List;
+import java.util.concurrent.CompletionService;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorCompletionService;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicBoolean;
 import org.onap.aai.cl.api.Logger;
 import org.onap.aai.cl.eelf.LoggerFactory;
 import org.onap.aai.modelloader.config.AaiProperties;
+import org.onap.aai.modelloader.config.ConcurrencyConfig;
 import org.onap.aai.modelloader.entity.Artifact;
 import org.onap.aai.modelloader.entity.ArtifactHandler;
+import org.onap.aai.modelloader.entity.ArtifactType;
 import org.onap.aai.modelloader.restclient.AaiRestClient;
+import org.onap.aai.modelloader.service.DistributionMetrics;
+import org.onap.aai.modelloader.service.DistributionMetrics.Stage;
 import org.onap.aai.modelloader.service.ModelLoaderMsgs;
+import org.onap.aai.modelloader.util.MdcPropagation;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.stereotype.Service;
 
+import io.micrometer.core.instrument.Timer;
+
+/**
+ * Pushes model and named query artifacts to A&AI. The artifacts are pushed in waves of dependency order (see
+ * {@link ModelSorter#sortInWaves(List)}); the models of one wave are pushed concurrently on the model push executor.
+ * Pushes of the same model by concurrent distributions are coalesced, see {@link ModelPushCoordinator}.
+ */
 @Service
 public class ModelArtifactHandler extends ArtifactHandler {
 
     private static Logger logger = LoggerFactory.getInstance().getLogger(ModelArtifactHandler.class.getName());
 
-    public ModelArtifactHandler(AaiProperties aaiProperties) {
+    private final Executor modelPushExecutor;
+    private final DistributionMetrics metrics;
+    private final ModelPushCoordinator pushCoordinator;
+
+    /**
+     * @param modelPushExecutor pushes the models in parallel, <code>null</code> to push them one after the other on
+     *        the calling thread
+     * @param metrics times the model pushes, may be <code>null</code>
+     * @param pushCoordinator coalesces the pushes of the same model by concurrent distributions, may be
+     *        <code>null</code>
+     */
+    @Autowired
+    public ModelArtifactHandler(AaiProperties aaiProperties,
+            @Qualifier(ConcurrencyConfig.MODEL_PUSH_EXECUTOR) Executor modelPushExecutor, DistributionMetrics metrics,
+            ModelPushCoordinator pushCoordinator) {
         super(aaiProperties);
+        this.modelPushExecutor = modelPushExecutor == null ? Runnable::run : modelPushExecutor;
+        this.metrics = metrics == null ? DistributionMetrics.noop() : metrics;
+        this.pushCoordinator = pushCoordinator;
     }
 
     @Override
     public boolean pushArtifacts(List<Artifact> artifacts, String distributionID, List<Artifact> completedArtifacts,
             AaiRestClient aaiClient) {
         ModelSorter modelSorter = new ModelSorter();
-        List<Artifact> sortedModelArtifacts;
+        List<List<Artifact>> waves = null;
+        Timer.Sample sortSample = metrics.start();
         try {
-            sortedModelArtifacts = modelSorter.sort(artifacts);
+            waves = modelSorter.sortInWaves(artifacts);
         } catch (BabelArtifactParsingException ex) {
             logger.error(ModelLoaderMsgs.DISTRIBUTION_EVENT_ERROR, "Unable to resolve models: " + ex.getMessage());
             return false;
+        } finally {
+            metrics.stop(sortSample, Stage.SORT, ArtifactType.MODEL.name(), waves != null);
+        }
+
+        // Push the waves of model artifacts to A&AI in order. If one fails, we need to roll back the changes.
+        Timer.Sample pushSample = metrics.start();
+        boolean success = false;
+        try {
+            for (List<Artifact> wave : waves) {
+                if (!pushWave(wave, distributionID, completedArtifacts, aaiClient)) {
+                    return false;
+                }
+            }
+            success = true;
+            return true;
+        } finally {
+            metrics.stop(pushSample, Stage.MODEL_PUSH, ArtifactType.MODEL.name(), success);
         }
+    }
+
+    /**
+     * Pushes the models of one wave concurrently. Once a model has failed, the models that have not been started yet
+     * are skipped. The models that are already being pushed are awaited, so that every model that has been written to
+     * A&AI is added to the completed artifacts and can be rolled back.
+     */
+    private boolean pushWave(List<Artifact> wave, String distributionID, List<Artifact> completedArtifacts,
+            AaiRestClient aaiClient) {
+        AtomicBoolean failed = new AtomicBoolean();
+        List<List<Artifact>> completedPerModel = new ArrayList<>(wave.size());
+        List<Future<Boolean>> futures = new ArrayList<>(wave.size());
+        CompletionService<Boolean> completionService = new ExecutorCompletionService<>(modelPushExecutor);
 
-        // Push the ordered list of model artifacts to A&AI. If one fails, we need to roll back the changes.
-        for (Artifact art : sortedModelArtifacts) {
+        for (Artifact art : wave) {
             AbstractModelArtifact model = (AbstractModelArtifact) art;
-            if (!model.push(aaiClient, aaiProperties, distributionID, completedArtifacts)) {
-                return false;
+            List<Artifact> completed = new ArrayList<>();
+            completedPerModel.add(completed);
+            futures.add(completionService.submit(MdcPropagation.wrap(() -> {
+                if (failed.get()) {
+                    return false;
+                }
+                boolean pushed = push(model, distributionID, completed, aaiClient);
+                if (!pushed) {
+                    failed.set(true);
+                }
+                return pushed;
+            })));
+        }
+
+        RuntimeException firstException = null;
+        boolean interrupted = false;
+        for (int i = 0; i < futures.size(); i++) {
+            try {
+                completionService.take().get();
+            } catch (ExecutionException e) {
+                failed.set(true);
+                if (firstException == null) {
+                    firstException = e.getCause() instanceof RuntimeException ? (RuntimeException) e.getCause()
+                            : new IllegalStateException(e.getCause());
+                }
+            } catch (InterruptedException e) {
+                // Keep waiting for the models being pushed, they need to be known for the rollback
+                failed.set(true);
+                interrupted = true;
+                i--;
             }
         }
+        if (interrupted) {
+            Thread.currentThread().interrupt();
+        }
 
-        return true;
+        completedPerModel.forEach(completedArtifacts::addAll);
+        if (firstException != null) {
+            throw firstException;
+        }
+        return !failed.get();
+    }
+
+    private boolean push(AbstractModelArtifact model, String distributionID, List<Artifact> completed,
+            AaiRestClient aaiClient) {
+        if (!isCoalesced(model)) {
+            return model.push(aaiClient, aaiProperties, distributionID, completed);
+        }
+        return pushCoordinator.push((ModelArtifact) model, distributionID, completed,
+                () -> model.push(aaiClient, aaiProperties, distributionID, completed));
+    }
+
+    /**
+     * Only the models written with the resources API are coalesced.
+     */
+    private boolean isCoalesced(Artifact model) {
+        return pushCoordinator != null && model instanceof ModelArtifact && !aaiProperties.isUseGizmo();
+    }
+
+    /**
+     * Records that the distribution has been deployed, the models it has pushed are no longer rolled back by the
+     * concurrent distributions that shared them.
+     *
+     * @param completedArtifacts the models pushed by the distribution
+     * @param distributionId the distribution
+     */
+    public void commit(List<Artifact> completedArtifacts, String distributionId) {
+        for (Artifact artifact : completedArtifacts) {
+            if (isCoalesced(artifact)) {
+                pushCoordinator.commit((ModelArtifact) artifact, distributionId);
+            }
+        }
     }
 
     @Override
     public void rollback(List<Artifact> completedArtifacts, String distributionId, AaiRestClient aaiClient) {
-        for (Artifact artifactToDelete : completedArtifacts) {
-            AbstractModelArtifact model = (AbstractModelArtifact) artifactToDelete;
-            model.rollbackModel(aaiClient, aaiProperties, distributionId);
+        Timer.Sample sample = metrics.start();
+        boolean success = false;
+        try {
+            // The models are deleted in the reverse order of their push, the service model-ver goes first so that a
+            // rollback that stops part-way never leaves it in A&AI without its dependents
+            for (int i = completedArtifacts.size() - 1; i >= 0; i--) {
+                AbstractModelArtifact model = (AbstractModelArtifact) completedArtifacts.get(i);
+                if (isCoalesced(model)) {
+                    // A model shared with other distributions is only deleted by the last one rolling back
+                    pushCoordinator.rollback((ModelArtifact) model, distributionId,
+                            () -> model.rollbackModel(aaiClient, aaiProperties, distributionId));
+                } else {
+                    model.rollbackModel(aaiClient, aaiProperties, distributionId);
+                }
+            }
+            success = true;
+        } finally {
+            metrics.stop(sample, Stage.ROLLBACK, ArtifactType.MODEL.name(), success);
         }
     }
 }
@@ -20,27 +20,13 @@
  */
 package org.onap.aai.modelloader.entity.model;
 
-import java.io.StringWriter;
 import java.util.List;
-import java.util.Objects;
-import java.util.stream.Collector;
-import java.util.stream.IntStream;
-import javax.xml.XMLConstants;
-import javax.xml.transform.OutputKeys;
-import javax.xml.transform.Transformer;
-import javax.xml.transform.TransformerException;
-import javax.xml.transform.TransformerFactory;
-import javax.xml.transform.dom.DOMSource;
-import javax.xml.transform.stream.StreamResult;
 
 import org.onap.aai.cl.api.Logger;
 import org.onap.aai.cl.eelf.LoggerFactory;
 import org.onap.aai.modelloader.entity.Artifact;
 import org.onap.aai.modelloader.service.ModelLoaderMsgs;
 import org.springframework.stereotype.Component;
-import org.w3c.dom.Element;
-import org.w3c.dom.Node;
-import org.w3c.dom.NodeList;
 
 @Component
 public class ModelArtifactParser extends AbstractModelArtifactParser {
@@ -54,55 +40,23 @@ public class ModelArtifactParser extends AbstractModelArtifactParser {
 
     private static Logger logger = LoggerFactory.getInstance().getLogger(ModelArtifactParser.class.getName());
 
+    /**
+     * {@inheritDoc}
+     */
     @Override
-    void parseNode(Node node, IModelArtifact model) {
-        if (node.getNodeName().equalsIgnoreCase(MODEL_INVARIANT_ID)
-                || node.getNodeName().equalsIgnoreCase(MODEL_VERSION_ID)) {
-            setVersionId(model, node);
-        } else if (node.getNodeName().equalsIgnoreCase(RELATIONSHIP)) {
-            parseRelationshipNode(node, model);
-        } else {
-            if (node.getNodeName().equalsIgnoreCase(MODEL_VER)) {
-                String modelVersion;
-                try {
-                    modelVersion = nodeToString(node);
-                    ((ModelArtifact) model).setModelVer(modelVersion);
-                } catch (TransformerException e) {
-                    logger.error(ModelLoaderMsgs.ARTIFACT_PARSE_ERROR, "Failed to parse resource version for input: " + node.toString());
-                }
-                if (((ModelArtifact) model).getModelNamespace() != null
-                        && !((ModelArtifact) model).getModelNamespace().isEmpty()) {
-                    Element e = (Element) node;
-                    e.setAttributeNS(XMLConstants.XMLNS_ATTRIBUTE_NS_URI, "xmlns",
-                            ((ModelArtifact) model).getModelNamespace());
-                }
-            }
-
-            parseChildNodes(node, model);
-        }
-    }
-
-    private String nodeToString(Node node) throws TransformerException {
-        StringWriter sw = new StringWriter();
-        TransformerFactory transFact = TransformerFactory.newInstance();
-        transFact.setAttribute(XMLConstants.ACCESS_EXTERNAL_STYLESHEET, "");
-        transFact.setAttribute(XMLConstants.ACCESS_EXTERNAL_DTD, "");
-        transFact.setAttribute(XMLConstants.ACCESS_EXTERNAL_STYLESHEET, "");
-        Transformer t = transFact.newTransformer();
-        t.setOutputProperty(OutputKeys.OMIT_XML_DECLARATION, "yes");
-        t.transform(new DOMSource(node), new StreamResult(sw));
-        return sw.toString();
+    boolean isVersionIdElement(String elementName) {
+        return elementName.equalsIgnoreCase(MODEL_INVARIANT_ID) || elementName.equalsIgnoreCase(MODEL_VERSION_ID);
     }
 
     /**
      * {@inheritDoc}
      */
     @Override
-    void setVersionId(IModelArtifact model, Node node) {
-        if (MODEL_INVARIANT_ID.equals(node.getNodeName())) {
-            ((ModelArtifact) model).setModelInvariantId(node.getTextContent().trim());
-        } else if (MODEL_VERSION_ID.equals(node.getNodeName())) {
-            ((ModelArtifact) model).setModelVerId(node.getTextContent().trim());
+    void setVersionId(IModelArtifact model, String elementName, String value) {
+        if (MODEL_INVARIANT_ID.equals(elementName)) {
+            ((ModelArtifact) model).setModelInvariantId(value);
+        } else if (MODEL_VERSION_ID.equals(elementName)) {
+            ((ModelArtifact) model).setModelVerId(value);
         }
     }
 
@@ -110,28 +64,24 @@ public class ModelArtifactParser extends AbstractModelArtifactParser {
      * {@inheritDoc}
      */
     @Override
-    ModelId buildModelId(NodeList nodeList) {
-        return IntStream.range(0, nodeList.getLength()).mapToObj(nodeList::item)
-                .filter(childNode -> childNode.getNodeName().equalsIgnoreCase(RELATIONSHIP_DATA))
-                .map(this::getRelationship) //
-                .collect(Collector.of(ModelId::new, ModelId::setRelationship, (m, p) -> m));
+    boolean isRelationshipElement(String elementName) {
+        return elementName.equalsIgnoreCase(RELATIONSHIP);
     }
 
     /**
-     * Find a relationship key and value pair from the children of the supplied node.
-     *
-     * @param node containing children storing relationship keys and values
-     * @return a pair containing a relationship key and its value. Note: if multiple relationships are found, existing
-     *         values stored in the pair will be overwritten.
+     * The model-ver element is kept, it is pushed on its own when the model is already present in A&AI.
+     */
+    @Override
+    boolean isFragmentElement(String elementName) {
+        return elementName.equalsIgnoreCase(MODEL_VER);
+    }
+
+    /**
+     * {@inheritDoc}
      */
-    private Pair<String, String> getRelationship(Node node) {
-        Objects.requireNonNull(node);
-        NodeList relDataChildList = node.getChildNodes();
-        Objects.requireNonNull(relDataChildList);
-
-        return IntStream.range(0, relDataChildList.getLength()).mapToObj(relDataChildList::item)
-                .filter(this::filterRelationshipNode)
-                .collect(Collector.of(Pair::new, applyRelationshipValue, (p, n) -> p));
+    @Override
+    void setFragment(IModelArtifact model, String fragment) {
+        ((ModelArtifact) model).setModelVer(fragment);
     }
 
     /**
@@ -217,12 +167,4 @@ public class ModelArtifactParser extends AbstractModelArtifactParser {
     String getModelElementRelationshipKey() {
         return null;
     }
-
-    /**
-     * {@inheritDoc}
-     */
-    @Override
-    String getVersionIdNodeName() {
-        return null;
-    }
 }
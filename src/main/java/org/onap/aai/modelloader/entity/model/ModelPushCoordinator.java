@@ -0,0 +1,270 @@
+/**
+ * ============LICENSE_START=======================================================
+ * org.onap.aai
+ * ================================================================================
+ * Copyright © 2025 Deutsche Telekom AG Intellectual Property. All rights reserved.
+ * ================================================================================
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * ============LICENSE_END=========================================================
+ */
+package org.onap.aai.modelloader.entity.model;
+
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.function.BooleanSupplier;
+
+import org.onap.aai.cl.api.Logger;
+import org.onap.aai.cl.eelf.LoggerFactory;
+import org.onap.aai.modelloader.entity.Artifact;
+import org.onap.aai.modelloader.service.ModelLoaderMsgs;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+
+/**
+ * Coalesces concurrent pushes of the same model-ver by different distributions. The first distribution pushes the
+ * model (the leader), the others wait for its result instead of sending the same GETs and PUTs, which would fail with
+ * 409/412 conflicts once the leader has written the model.
+ *
+ * <p>
+ * What the leader has written is held until every distribution relying on it is done. The distributions sharing a
+ * successful push join the hold and record the model as completed, and a distribution that rolls back only gives up
+ * its share: the model is deleted once the last distribution holding it rolls back, and kept as soon as one of them
+ * commits. A failed push is not shared: the waiting distributions push the model again, one of them becoming the new
+ * leader, unless the leader has partially written it, in which case they fail as well rather than race with its
+ * rollback. Pushes that did not write anything are not held, later pushes check A&AI again. Every coalesced push is
+ * counted in {@code modelloader.aai.model-push.coalesced}.
+ */
+@Component
+public class ModelPushCoordinator {
+
+    private static final Logger logger = LoggerFactory.getInstance().getLogger(ModelPushCoordinator.class);
+
+    static final String METRIC_NAME = "modelloader.aai.model-push.coalesced";
+
+    private final Map<String, Flight> flights = new ConcurrentHashMap<>();
+    private final Counter shared;
+    private final Counter retried;
+
+    /**
+     * A push in progress, or a written model held by the distributions relying on it.
+     */
+    private static class Flight {
+        private final String distributionId;
+        private final CompletableFuture<Boolean> result = new CompletableFuture<>();
+        private final CompletableFuture<Boolean> released = new CompletableFuture<>();
+        // Guarded by the flight
+        private final Set<String> holders = new HashSet<>();
+        private boolean held;
+        private boolean committed;
+        private boolean closed;
+        private Runnable rollback;
+
+        private Flight(String distributionId) {
+            this.distributionId = distributionId;
+        }
+    }
+
+    @Autowired
+    public ModelPushCoordinator(MeterRegistry meterRegistry) {
+        shared = Counter.builder(METRIC_NAME).tag("result", "shared")
+                .description("Model pushes that reused the successful push of another distribution")
+                .register(meterRegistry);
+        retried = Counter.builder(METRIC_NAME).tag("result", "retried")
+                .description("Model pushes that were repeated because the push of another distribution failed")
+                .register(meterRegistry);
+    }
+
+    /**
+     * Pushes a model unless another distribution is pushing, or holding, the same model-ver, in which case its result
+     * is shared. A distribution that has recorded the model as completed must pass it to {@link #commit} or
+     * {@link #rollback} once it is done.
+     *
+     * @param model the model to push
+     * @param distributionId the distribution that pushes the model
+     * @param completedArtifacts the completed artifacts of the distribution
+     * @param push pushes the model and adds what it has written to the completed artifacts of the distribution
+     * @return <code>true</code> if the model has been pushed, by this or by another distribution
+     */
+    public boolean push(ModelArtifact model, String distributionId, List<Artifact> completedArtifacts,
+            BooleanSupplier push) {
+        String key = key(model);
+        while (true) {
+            Flight flight = new Flight(distributionId);
+            Flight leader = flights.putIfAbsent(key, flight);
+            if (leader == null) {
+                return lead(key, flight, completedArtifacts, push);
+            }
+
+            logger.debug(ModelLoaderMsgs.DISTRIBUTION_EVENT, "Model " + key + " is being pushed by distribution "
+                    + leader.distributionId + ", waiting for its result");
+            Boolean leaderResult = await(leader.result);
+            if (leaderResult == null) {
+                return false;
+            }
+            if (!leaderResult) {
+                if (isHeld(leader)) {
+                    // Pushing again now would race with the rollback of what the leader has partially written
+                    logger.error(ModelLoaderMsgs.DISTRIBUTION_EVENT_ERROR, "Model " + key
+                            + " could not be pushed by distribution " + leader.distributionId);
+                    return false;
+                }
+                // The failure of the leader may be specific to its distribution, try again
+                retried.increment();
+            } else if (join(leader, model, distributionId, completedArtifacts)) {
+                shared.increment();
+                logger.info(ModelLoaderMsgs.DISTRIBUTION_EVENT, "Model " + key + " has been pushed by distribution "
+                        + leader.distributionId + ".  Skipping ingestion.");
+                return true;
+            } else if (await(leader.released) == null) {
+                // The model is being rolled back, it is pushed again once it has been deleted
+                return false;
+            }
+        }
+    }
+
+    /**
+     * Records that the distribution keeps the model. The model is never deleted by the rollback of another
+     * distribution holding it.
+     */
+    public void commit(ModelArtifact model, String distributionId) {
+        release(model, distributionId, true, null);
+    }
+
+    /**
+     * Gives up the share of the distribution in the model. The rollback is run when no other distribution holds the
+     * model, with the rollback of the leader when the model has been shared.
+     *
+     * @param rollback deletes what the distribution has written
+     */
+    public void rollback(ModelArtifact model, String distributionId, Runnable rollback) {
+        release(model, distributionId, false, rollback);
+    }
+
+    private boolean lead(String key, Flight flight, List<Artifact> completedArtifacts, BooleanSupplier push) {
+        int completedBefore = completedArtifacts.size();
+        boolean pushed = false;
+        try {
+            pushed = push.getAsBoolean();
+            return pushed;
+        } finally {
+            // Whatever has been written is held until the leader commits or rolls it back
+            boolean written = completedArtifacts.size() > completedBefore;
+            synchronized (flight) {
+                flight.held = written;
+                if (written) {
+                    flight.holders.add(flight.distributionId);
+                }
+            }
+            if (!written) {
+                close(key, flight);
+            }
+            flight.result.complete(pushed);
+        }
+    }
+
+    private static boolean isHeld(Flight flight) {
+        synchronized (flight) {
+            return flight.held;
+        }
+    }
+
+    /**
+     * @return <code>false</code> if the model has been released in the meantime and must be pushed again
+     */
+    private static boolean join(Flight flight, ModelArtifact model, String distributionId,
+            List<Artifact> completedArtifacts) {
+        synchronized (flight) {
+            if (!flight.held) {
+                // The model was already present, there is nothing to hold
+                return true;
+            }
+            if (flight.closed) {
+                return false;
+            }
+            flight.holders.add(distributionId);
+        }
+        completedArtifacts.add(model);
+        return true;
+    }
+
+    private void release(ModelArtifact model, String distributionId, boolean commit, Runnable rollback) {
+        String key = key(model);
+        Flight flight = flights.get(key);
+        Flight closing = null;
+        Runnable deletion = rollback;
+        if (flight != null) {
+            synchronized (flight) {
+                if (!flight.closed && flight.holders.remove(distributionId)) {
+                    flight.committed |= commit;
+                    if (!commit && distributionId.equals(flight.distributionId)) {
+                        // Only the leader knows what has been written
+                        flight.rollback = rollback;
+                    }
+                    if (!flight.holders.isEmpty()) {
+                        if (!commit) {
+                            logger.info(ModelLoaderMsgs.DISTRIBUTION_EVENT, "Model " + key
+                                    + " is still held by other distributions.  Skipping rollback.");
+                        }
+                        return;
+                    }
+                    flight.closed = true;
+                    closing = flight;
+                    deletion = flight.committed ? null : flight.rollback;
+                }
+            }
+        }
+
+        // Models that have not been coalesced are rolled back as usual
+        try {
+            if (deletion != null) {
+                deletion.run();
+            }
+        } finally {
+            if (closing != null) {
+                close(key, closing);
+            }
+        }
+    }
+
+    private void close(String key, Flight flight) {
+        flights.remove(key, flight);
+        flight.released.complete(true);
+    }
+
+    private static String key(ModelArtifact model) {
+        return model.getModelInvariantId() + "|" + model.getModelVerId();
+    }
+
+    /**
+     * @return the value of the future, or <code>null</code> if the thread has been interrupted
+     */
+    private static Boolean await(CompletableFuture<Boolean> future) {
+        try {
+            return future.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return null;
+        } catch (ExecutionException e) {
+            // The futures are always completed normally
+            return false;
+        }
+    }
+}
@@ -21,14 +21,11 @@
 package org.onap.aai.modelloader.entity.model;
 
 import java.util.ArrayList;
-import java.util.Collection;
+import java.util.Arrays;
 import java.util.HashMap;
-import java.util.HashSet;
-import java.util.Iterator;
+import java.util.IdentityHashMap;
 import java.util.List;
 import java.util.Map;
-import java.util.Objects;
-import java.util.Set;
 
 import org.onap.aai.cl.api.Logger;
 import org.onap.aai.cl.eelf.LoggerFactory;
@@ -37,79 +34,41 @@ import org.onap.aai.modelloader.entity.Artifact;
 /**
  * Utility class to sort the given Models according to their dependencies.<br>
  * Example: Given a list of Models [A, B, C] <br>
- * where B depends on A, and A depends on C, the sorted result will be [C, A, B]
+ * where B depends on A, and A depends on C, the sorted result will be [C, A, B]<br>
+ * The Models can also be grouped into waves, where every Model only depends on Models of earlier waves. Given a list
+ * of Models [A, B, C, D] where B and C depend on A, the waves will be [[A, D], [B, C]]
+ *
+ * <p>
+ * The Models are numbered in the order they are first met in the list (a Model, then the Models it depends on) and
+ * the dependency graph is held in arrays indexed by these numbers.
  */
 public class ModelSorter {
 
     private static Logger logger = LoggerFactory.getInstance().getLogger(ModelSorter.class);
 
     /**
-     * Wraps a Model object to form dependencies other Models using Edges.
+     * The dependency graph of a list of Models. The outgoing edges of node n lead to the Models that depend on it and
+     * are held in <code>edgeTargets[edgeStart[n]]</code> to <code>edgeTargets[edgeStart[n + 1] - 1]</code>.
      */
-    static class Node {
-
-        private final AbstractModelArtifact model;
-        private final HashSet<Edge> inEdges;
-        private final HashSet<Edge> outEdges;
-
-        public Node(AbstractModelArtifact model) {
-            this.model = model;
-            inEdges = new HashSet<>();
-            outEdges = new HashSet<>();
-        }
-
-        public Node addEdge(Node node) {
-            Edge edge = new Edge(this, node);
-            outEdges.add(edge);
-            node.inEdges.add(edge);
-            return this;
-        }
-
-        @Override
-        public String toString() {
-            return model.getUniqueIdentifier();
-        }
-
-        @Override
-        public boolean equals(Object other) {
-            if (other == null || this.getClass() != other.getClass()) {
-                return false;
+    static class Graph {
+
+        final List<AbstractModelArtifact> models;
+        final int[] edgeStart;
+        final int[] edgeTargets;
+        final int[] inDegree;
+
+        Graph(List<AbstractModelArtifact> models, int[] edgeStart, int[] edgeTargets) {
+            this.models = models;
+            this.edgeStart = edgeStart;
+            this.edgeTargets = edgeTargets;
+            this.inDegree = new int[models.size()];
+            for (int edge = 0; edge < edgeStart[models.size()]; edge++) {
+                inDegree[edgeTargets[edge]]++;
             }
-            AbstractModelArtifact otherModel = ((Node) other).model;
-            return this.model.getUniqueIdentifier().equals(otherModel.getUniqueIdentifier());
         }
 
-        @Override
-        public int hashCode() {
-            return this.model.getUniqueIdentifier().hashCode();
-        }
-    }
-
-    /**
-     * Represents a dependency between two Nodes.
-     */
-    static class Edge {
-
-        public final Node from;
-        public final Node to;
-
-        public Edge(Node from, Node to) {
-            this.from = from;
-            this.to = to;
-        }
-
-        @Override
-        public boolean equals(Object obj) {
-            if (obj == null || this.getClass() != obj.getClass()) {
-                return false;
-            }
-            Edge edge = (Edge) obj;
-            return edge.from == from && edge.to == to;
-        }
-
-        @Override
-        public int hashCode() {
-            return Objects.hash(this.from, this.to);
+        int size() {
+            return models.size();
         }
     }
 
@@ -125,122 +84,197 @@ public class ModelSorter {
             return originalList;
         }
 
-        Collection<Node> sortedNodes = sortNodes(createNodes(originalList));
+        Graph graph = createGraph(originalList);
+        int[] sortedNodes = sortNodes(graph, new ArrayList<>());
 
-        List<Artifact> sortedModelsList = new ArrayList<>(sortedNodes.size());
-        for (Node node : sortedNodes) {
-            sortedModelsList.add(node.model);
+        List<Artifact> sortedModelsList = new ArrayList<>(sortedNodes.length);
+        for (int node : sortedNodes) {
+            sortedModelsList.add(graph.models.get(node));
         }
 
         return sortedModelsList;
     }
 
     /**
-     * Create nodes from the list of models and their dependencies.
+     * Groups the models into waves. The models of a wave depend only on models of earlier waves, so all models of a
+     * wave can be pushed at the same time once the previous waves have been pushed. Within a wave the models keep the
+     * order of the original list.
+     *
+     * @param originalList the list that needs to be sorted
+     * @return the waves of models, in order of dependency
+     * @throws BabelArtifactParsingException if there is a circular dependency between the models
+     */
+    public List<List<Artifact>> sortInWaves(List<Artifact> originalList) throws BabelArtifactParsingException {
+        List<List<Artifact>> waves = new ArrayList<>();
+        if (originalList == null || originalList.isEmpty()) {
+            return waves;
+        }
+
+        Map<Artifact, Integer> originalPositions = new IdentityHashMap<>();
+        for (int i = 0; i < originalList.size(); i++) {
+            originalPositions.putIfAbsent(originalList.get(i), i);
+        }
+
+        Graph graph = createGraph(originalList);
+        List<Integer> waveEnds = new ArrayList<>();
+        int[] sortedNodes = sortNodes(graph, waveEnds);
+
+        // Order the nodes of each wave by original position, both packed into one long so that they sort as primitives
+        long[] positionAndNode = new long[sortedNodes.length];
+        int waveStart = 0;
+        for (int waveEnd : waveEnds) {
+            for (int i = waveStart; i < waveEnd; i++) {
+                int node = sortedNodes[i];
+                long position = originalPositions.getOrDefault(graph.models.get(node), Integer.MAX_VALUE);
+                positionAndNode[i] = position << 32 | node;
+            }
+            Arrays.sort(positionAndNode, waveStart, waveEnd);
+
+            List<Artifact> models = new ArrayList<>(waveEnd - waveStart);
+            for (int i = waveStart; i < waveEnd; i++) {
+                models.add(graph.models.get((int) positionAndNode[i]));
+            }
+            waves.add(models);
+            waveStart = waveEnd;
+        }
+        return waves;
+    }
+
+    /**
+     * Create the dependency graph from the list of models.
      *
-     * @param models what the nodes creation is based upon
-     * @return Collection of Node objects
+     * @param models what the graph creation is based upon
+     * @return the graph of the models that were supplied
      */
-    private Collection<Node> createNodes(Collection<Artifact> models) {
+    static Graph createGraph(List<Artifact> models) {
+        String[] identifiers = new String[models.size()];
 
         // load list of models into a map, so we can later replace referenceIds with real Models
-        Map<String, AbstractModelArtifact> versionIdToModelMap = new HashMap<>();
-        for (Artifact art : models) {
-            AbstractModelArtifact ma = (AbstractModelArtifact) art;
-            versionIdToModelMap.put(ma.getUniqueIdentifier(), ma);
+        Map<String, AbstractModelArtifact> versionIdToModelMap = new HashMap<>(models.size() * 2);
+        for (int i = 0; i < models.size(); i++) {
+            AbstractModelArtifact ma = (AbstractModelArtifact) models.get(i);
+            identifiers[i] = ma.getUniqueIdentifier();
+            versionIdToModelMap.put(identifiers[i], ma);
         }
 
-        Map<String, Node> nodes = new HashMap<>();
-        // create a node for each model and its referenced models
-        for (Artifact art : models) {
+        Map<String, Integer> nodes = new HashMap<>(models.size() * 2);
+        List<AbstractModelArtifact> nodeModels = new ArrayList<>(models.size());
+        int[] edgeSources = new int[models.size()];
+        int[] edgeTargets = new int[models.size()];
+        int edgeCount = 0;
 
-            AbstractModelArtifact model = (AbstractModelArtifact) art;
+        // create a node for each model and its referenced models
+        for (int i = 0; i < models.size(); i++) {
+            AbstractModelArtifact model = (AbstractModelArtifact) models.get(i);
 
             // node might have been created by another model referencing it
-            Node node = nodes.get(model.getUniqueIdentifier());
-
-            if (null == node) {
-                node = new Node(model);
-                nodes.put(model.getUniqueIdentifier(), node);
+            Integer node = nodes.get(identifiers[i]);
+            if (node == null) {
+                node = nodeModels.size();
+                nodes.put(identifiers[i], node);
+                nodeModels.add(model);
             }
 
             for (String referencedModelId : model.getDependentModelIds()) {
                 // node might have been created by another model referencing it
-                Node referencedNode = nodes.get(referencedModelId);
+                Integer referencedNode = nodes.get(referencedModelId);
 
-                if (null == referencedNode) {
-                    // create node
+                if (referencedNode == null) {
                     AbstractModelArtifact referencedModel = versionIdToModelMap.get(referencedModelId);
                     if (referencedModel == null) {
                         logger.debug("ignoring " + referencedModelId);
                         continue; // referenced model not supplied, no need to sort it
                     }
-                    referencedNode = new Node(referencedModel);
+                    referencedNode = nodeModels.size();
                     nodes.put(referencedModelId, referencedNode);
+                    nodeModels.add(referencedModel);
                 }
-                referencedNode.addEdge(node);
+
+                if (edgeCount == edgeSources.length) {
+                    edgeSources = Arrays.copyOf(edgeSources, edgeCount * 2);
+                    edgeTargets = Arrays.copyOf(edgeTargets, edgeCount * 2);
+                }
+                edgeSources[edgeCount] = referencedNode;
+                edgeTargets[edgeCount] = node;
+                edgeCount++;
             }
         }
 
-        return nodes.values();
+        return groupEdgesBySource(nodeModels, edgeSources, edgeTargets, edgeCount);
     }
 
     /**
-     * Sorts the given Nodes by order of dependency.
+     * Groups the edges by source node, keeping the order in which they were added. Models that share an identifier
+     * share a node, so an edge may be present twice; it is then also counted twice in the in-degree of its target.
+     */
+    private static Graph groupEdgesBySource(List<AbstractModelArtifact> nodeModels, int[] edgeSources,
+            int[] edgeTargets, int edgeCount) {
+        int nodeCount = nodeModels.size();
+        int[] edgeStart = new int[nodeCount + 1];
+        for (int edge = 0; edge < edgeCount; edge++) {
+            edgeStart[edgeSources[edge] + 1]++;
+        }
+        for (int node = 0; node < nodeCount; node++) {
+            edgeStart[node + 1] += edgeStart[node];
+        }
+
+        int[] next = Arrays.copyOf(edgeStart, nodeCount);
+        int[] groupedTargets = new int[edgeCount];
+        for (int edge = 0; edge < edgeCount; edge++) {
+            groupedTargets[next[edgeSources[edge]]++] = edgeTargets[edge];
+        }
+
+        return new Graph(nodeModels, edgeStart, groupedTargets);
+    }
+
+    /**
+     * Sorts the nodes of the graph by order of dependency (Kahn's algorithm). Nodes without dependencies are taken in
+     * order of their index and the nodes are processed first in, first out, so that the nodes that become free while
+     * one wave is processed form the next wave.
      *
-     * @param unsortedNodes the collection of nodes to be sorted
-     * @return a sorted collection of the given nodes
-     * @throws BabelArtifactParsingException
+     * @param graph the graph of the nodes to be sorted, its in-degrees are used up
+     * @param waveEnds receives the end (exclusive) of each wave in the returned array
+     * @return the sorted node indexes
+     * @throws BabelArtifactParsingException if there is a circular dependency between the nodes
      */
-    private Collection<Node> sortNodes(Collection<Node> unsortedNodes) throws BabelArtifactParsingException {
-        // L <- Empty list that will contain the sorted elements
-        List<Node> nodeList = new ArrayList<>();
+    private static int[] sortNodes(Graph graph, List<Integer> waveEnds) throws BabelArtifactParsingException {
+        int[] inDegree = graph.inDegree;
+        int[] queue = new int[graph.size()];
+        int head = 0;
+        int tail = 0;
 
         // S <- Set of all nodes with no incoming edges
-        Set<Node> nodeSet = new HashSet<>();
-        for (Node unsortedNode : unsortedNodes) {
-            if (unsortedNode.inEdges.isEmpty()) {
-                nodeSet.add(unsortedNode);
+        for (int node = 0; node < graph.size(); node++) {
+            if (inDegree[node] == 0) {
+                queue[tail++] = node;
             }
         }
 
-        // while S is non-empty do
-        while (!nodeSet.isEmpty()) {
-            // remove a node n from S
-            Node node = nodeSet.iterator().next();
-            nodeSet.remove(node);
-
-            // insert n into L
-            nodeList.add(node);
-
-            // for each node m with an edge e from n to m do
-            for (Iterator<Edge> it = node.outEdges.iterator(); it.hasNext();) {
-                // remove edge e from the graph
-                Edge edge = it.next();
-                Node to = edge.to;
-                it.remove();// Remove edge from n
-                to.inEdges.remove(edge);// Remove edge from m
-
-                // if m has no other incoming edges then insert m into S
-                if (to.inEdges.isEmpty()) {
-                    nodeSet.add(to);
+        int waveEnd = tail;
+        while (head < tail) {
+            int node = queue[head++];
+
+            // for each node m with an edge e from n to m, remove e and insert m into S if it has no other incoming edges
+            for (int edge = graph.edgeStart[node]; edge < graph.edgeStart[node + 1]; edge++) {
+                int to = graph.edgeTargets[edge];
+                if (--inDegree[to] == 0) {
+                    queue[tail++] = to;
                 }
             }
-        }
-        // Check to see if all edges are removed
-        boolean cycle = false;
-        for (Node node : unsortedNodes) {
-            if (!node.inEdges.isEmpty()) {
-                cycle = true;
-                break;
+
+            if (head == waveEnd) {
+                waveEnds.add(waveEnd);
+                waveEnd = tail;
             }
         }
-        if (cycle) {
+
+        // Nodes that are left still have incoming edges
+        if (tail != graph.size()) {
             throw new BabelArtifactParsingException(
                     "Circular dependency present between models, topological sort not possible");
         }
 
-        return nodeList;
+        return queue;
     }
 
 }
@@ -25,10 +25,13 @@ import java.util.List;
 import org.onap.aai.modelloader.entity.ArtifactType;
 import org.onap.aai.modelloader.restclient.AaiRestClient;
 import org.onap.aai.modelloader.config.AaiProperties;
+import org.onap.aai.modelloader.entity.AaiBulkTransaction;
 import org.onap.aai.modelloader.entity.Artifact;
+import org.onap.aai.modelloader.util.JsonXmlConverter;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
+import org.springframework.web.client.HttpClientErrorException;
 
 
 public class NamedQueryArtifact extends AbstractModelArtifact {
@@ -63,6 +66,10 @@ public class NamedQueryArtifact extends AbstractModelArtifact {
 
     private boolean pushToResources(AaiRestClient aaiClient, AaiProperties aaiProperties, String distId,
             List<Artifact> completedArtifacts) {
+        if (aaiClient.isKnownPresent(getNamedQueryUrl(aaiProperties), distId)) {
+            logInfoMsg(getType().toString() + " " + getUniqueIdentifier() + " already exists.  Skipping ingestion.");
+            return true;
+        }
         ResponseEntity<String> getResponse =
                 aaiClient.getResource(getNamedQueryUrl(aaiProperties), distId, MediaType.APPLICATION_XML, String.class);
         if (getResponse == null || getResponse.getStatusCode() != HttpStatus.OK) {
@@ -84,6 +91,33 @@ public class NamedQueryArtifact extends AbstractModelArtifact {
         return true;
     }
 
+    @Override
+    public void addBulkOperations(AaiRestClient aaiClient, AaiProperties aaiProperties, String distId,
+            AaiBulkTransaction transaction) {
+        String namedQueryUrl = getNamedQueryUrl(aaiProperties);
+        if (namedQueryExists(aaiClient, distId, namedQueryUrl)) {
+            logInfoMsg(getType().toString() + " " + getUniqueIdentifier() + " already exists.  Skipping ingestion.");
+        } else {
+            transaction.addPut(namedQueryUrl, JsonXmlConverter.convertXmlResourceToJson(getPayload()), this);
+        }
+    }
+
+    private boolean namedQueryExists(AaiRestClient aaiClient, String distId, String namedQueryUrl) {
+        if (aaiClient.isKnownPresent(namedQueryUrl, distId)) {
+            return true;
+        }
+        try {
+            ResponseEntity<String> getResponse =
+                    aaiClient.getResource(namedQueryUrl, distId, MediaType.APPLICATION_XML, String.class);
+            return getResponse != null && getResponse.getStatusCode() == HttpStatus.OK;
+        } catch (HttpClientErrorException e) {
+            if (e.getStatusCode().equals(HttpStatus.NOT_FOUND)) {
+                return false;
+            }
+            throw e;
+        }
+    }
+
     @Override
     public void rollbackModel(AaiRestClient aaiClient, AaiProperties aaiProperties, String distId) {
         // Gizmo is resilient and doesn't require a rollback.  A redistribution will work fine even if
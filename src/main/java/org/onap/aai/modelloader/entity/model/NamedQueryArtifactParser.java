@@ -25,7 +25,6 @@ import org.onap.aai.cl.api.Logger;
 import org.onap.aai.cl.eelf.LoggerFactory;
 import org.onap.aai.modelloader.entity.Artifact;
 import org.onap.aai.modelloader.service.ModelLoaderMsgs;
-import org.w3c.dom.Node;
 
 public class NamedQueryArtifactParser extends AbstractModelArtifactParser {
 
@@ -71,16 +70,24 @@ public class NamedQueryArtifactParser extends AbstractModelArtifactParser {
      * {@inheritDoc}
      */
     @Override
-    String getVersionIdNodeName() {
-        return NAMED_QUERY_VERSION_ID;
+    boolean isVersionIdElement(String elementName) {
+        return elementName.equalsIgnoreCase(NAMED_QUERY_VERSION_ID);
     }
 
     /**
      * {@inheritDoc}
      */
     @Override
-    void setVersionId(IModelArtifact model, Node node) {
-        ((NamedQueryArtifact) model).setNamedQueryUuid(node.getTextContent().trim());
+    void setVersionId(IModelArtifact model, String elementName, String value) {
+        ((NamedQueryArtifact) model).setNamedQueryUuid(value);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    boolean isRelationshipElement(String elementName) {
+        return elementName.equalsIgnoreCase(RELATIONSHIP_DATA);
     }
 
     /**
@@ -0,0 +1,77 @@
+/**
+ * ============LICENSE_START=======================================================
+ * org.onap.aai
+ * ================================================================================
+ * Copyright © 2025 Deutsche Telekom AG Intellectual Property. All rights reserved.
+ * ================================================================================
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * ============LICENSE_END=========================================================
+ */
+package org.onap.aai.modelloader.extraction;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import org.onap.aai.modelloader.entity.Artifact;
+
+import lombok.Data;
+
+/**
+ * The CSAR level data that the {@link VnfCatalogExtractor} collects in a single pass over the archive.
+ */
+public class CsarScan {
+
+    private final List<Artifact> vnfCatalogArtifacts;
+    private final Map<String, String> serviceMetadata;
+    private final Set<ModelId> modelIds;
+
+    /**
+     * The identity of a model-ver, i.e. the invariantUUID and UUID of a TOSCA template or node template.
+     */
+    @Data
+    public static class ModelId {
+        private final String invariantId;
+        private final String versionId;
+    }
+
+    CsarScan(List<Artifact> vnfCatalogArtifacts, Map<String, String> serviceMetadata, Set<ModelId> modelIds) {
+        this.vnfCatalogArtifacts = Collections.unmodifiableList(vnfCatalogArtifacts);
+        this.serviceMetadata = Collections.unmodifiableMap(serviceMetadata);
+        this.modelIds = Collections.unmodifiableSet(modelIds);
+    }
+
+    /**
+     * @return the VNF Catalog XML files, in the order of the archive
+     */
+    public List<Artifact> getVnfCatalogArtifacts() {
+        return vnfCatalogArtifacts;
+    }
+
+    /**
+     * @return the metadata of the service template named by Entry-Definitions (e.g. invariantUUID and UUID), empty if
+     *         the CSAR has no such template
+     */
+    public Map<String, String> getServiceMetadata() {
+        return serviceMetadata;
+    }
+
+    /**
+     * @return the IDs of the service and of the resources it is composed of, as found in the templates of the
+     *         Definitions directory. Widget models are not included.
+     */
+    public Set<ModelId> getModelIds() {
+        return modelIds;
+    }
+}
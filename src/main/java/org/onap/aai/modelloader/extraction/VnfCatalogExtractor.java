@@ -20,24 +20,32 @@
  */
 package org.onap.aai.modelloader.extraction;
 
+import java.io.BufferedReader;
 import java.io.IOException;
-import java.nio.charset.Charset;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.StringReader;
+import java.nio.channels.SeekableByteChannel;
+import java.nio.charset.StandardCharsets;
 import java.util.ArrayList;
 import java.util.Enumeration;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
-import java.util.regex.Pattern;
+import java.util.Map;
+import java.util.Set;
 
 import org.apache.commons.compress.archivers.zip.ZipArchiveEntry;
 import org.apache.commons.compress.archivers.zip.ZipFile;
-import org.apache.commons.compress.utils.SeekableInMemoryByteChannel;
-import org.apache.commons.io.IOUtils;
 import org.apache.commons.lang3.StringUtils;
 import org.onap.aai.cl.api.Logger;
 import org.onap.aai.cl.eelf.LoggerFactory;
 import org.onap.aai.modelloader.entity.Artifact;
 import org.onap.aai.modelloader.entity.ArtifactType;
 import org.onap.aai.modelloader.entity.catalog.VnfCatalogArtifact;
+import org.onap.aai.modelloader.extraction.CsarScan.ModelId;
 import org.onap.aai.modelloader.service.ModelLoaderMsgs;
+import org.onap.aai.modelloader.util.CsarPayload;
 import org.springframework.stereotype.Component;
 
 
@@ -46,14 +54,22 @@ import org.springframework.stereotype.Component;
  * from it.
  *
  * A .csar file is a compressed archive like a zip file and this class will treat the byte array as it if were a zip
- * file.
+ * file. The central directory is read once; only the entries that are needed are decompressed.
  */
 @Component
 public class VnfCatalogExtractor {
     private static final Logger logger = LoggerFactory.getInstance().getLogger(VnfCatalogExtractor.class.getName());
 
-    private static final Pattern VNFCFILE_EXTENSION_REGEX =
-            Pattern.compile("(?i)artifacts([\\\\/])deployment([\\\\/])vnf_catalog([\\\\/]).*\\.xml$");
+    /** Directories of the VNF Catalog XML files, matched case-insensitively with either path separator. */
+    private static final String[] VNF_CATALOG_DIRECTORIES = {"artifacts", "deployment", "vnf_catalog"};
+    private static final String XML_EXTENSION = ".xml";
+    private static final String TOSCA_METADATA_FILE = "TOSCA-Metadata/TOSCA.meta";
+    private static final String ENTRY_DEFINITIONS = "Entry-Definitions";
+    private static final String METADATA_SECTION = "metadata:";
+    private static final String DEFINITIONS_DIRECTORY = "Definitions/";
+    private static final String[] TEMPLATE_EXTENSIONS = {".yml", ".yaml"};
+    private static final String INVARIANT_UUID_KEY = "invariantUUID:";
+    private static final String UUID_KEY = "UUID:";
 
     /**
      * This method is responsible for filtering the contents of the supplied archive and returning a collection of
@@ -68,18 +84,73 @@ public class VnfCatalogExtractor {
      *         archive is not a zip file
      */
     public List<Artifact> extract(byte[] archive, String name) throws InvalidArchiveException {
+        return extract(CsarPayload.of(archive), name);
+    }
+
+    /**
+     * Extracts the VNF Catalog files from a CSAR that may have been spilled to disk. The entries are read from the
+     * payload in place.
+     *
+     * @param archive the CSAR containing zero or more VNF Catalog files
+     * @param name the name of the archive file
+     * @return List<Artifact> collection of VNF Catalog XML files found in the archive
+     * @throws InvalidArchiveException if the archive is empty or not a zip file
+     */
+    public List<Artifact> extract(CsarPayload archive, String name) throws InvalidArchiveException {
+        return scan(archive, name, false).getVnfCatalogArtifacts();
+    }
+
+    /**
+     * Collects the VNF Catalog files and the data of the TOSCA templates in a single pass over the central directory of
+     * the CSAR. TOSCA-Metadata/TOSCA.meta is read first to find the service template. The templates are only decompressed when they are parsed: the metadata of the
+     * service template named by Entry-Definitions is read, and the model IDs are collected from all templates in the
+     * Definitions directory, the service template being read only once for both.
+     *
+     * @param archive the CSAR
+     * @param name the name of the archive file
+     * @param parseTemplates <code>true</code> to read the service metadata and the model IDs of the templates
+     * @return the data found in the CSAR
+     * @throws InvalidArchiveException if the archive is empty or not a zip file
+     */
+    public CsarScan scan(CsarPayload archive, String name, boolean parseTemplates) throws InvalidArchiveException {
         validateRequest(archive, name);
 
         logger.info(ModelLoaderMsgs.DISTRIBUTION_EVENT, "Extracting CSAR archive: " + name);
 
         List<Artifact> vnfcFiles = new ArrayList<>();
-        try (SeekableInMemoryByteChannel inMemoryByteChannel = new SeekableInMemoryByteChannel(archive);
-                ZipFile zipFile = ZipFile.builder().setSeekableByteChannel(inMemoryByteChannel).get()) {
+        Map<String, String> toscaMetadata = new LinkedHashMap<>();
+        Map<String, String> serviceMetadata = new LinkedHashMap<>();
+        Set<ModelId> modelIds = new LinkedHashSet<>();
+        try (SeekableByteChannel channel = archive.openChannel();
+                ZipFile zipFile = ZipFile.builder().setSeekableByteChannel(channel).get()) {
+            // TOSCA.meta names the service template, it is read first so that the template is only read once
+            ZipArchiveEntry toscaMetaEntry = zipFile.getEntry(TOSCA_METADATA_FILE);
+            if (toscaMetaEntry != null) {
+                parseToscaMetadata(readUtf8(zipFile, toscaMetaEntry), toscaMetadata);
+            }
+            String entryDefinitions = toscaMetadata.get(ENTRY_DEFINITIONS);
             for (Enumeration<ZipArchiveEntry> enumeration = zipFile.getEntries(); enumeration.hasMoreElements();) {
                 ZipArchiveEntry entry = enumeration.nextElement();
-                if (fileShouldBeExtracted(entry)) {
-                    vnfcFiles.add(new VnfCatalogArtifact(ArtifactType.VNF_CATALOG_XML,
-                            IOUtils.toString(zipFile.getInputStream(entry), Charset.defaultCharset())));
+                if (entry.isDirectory()) {
+                    continue;
+                }
+                String entryName = entry.getName();
+                if (isVnfCatalogFile(entryName)) {
+                    if (logger.isDebugEnabled()) {
+                        logger.debug(ModelLoaderMsgs.DISTRIBUTION_EVENT, "Extracting VNF Catalog file: " + entryName);
+                    }
+                    vnfcFiles.add(new VnfCatalogArtifact(ArtifactType.VNF_CATALOG_XML, readUtf8(zipFile, entry)));
+                } else if (parseTemplates && entryName.equals(entryDefinitions)) {
+                    String serviceTemplate = readUtf8(zipFile, entry);
+                    parseTemplateMetadata(new BufferedReader(new StringReader(serviceTemplate)), serviceMetadata);
+                    if (isDefinitionsTemplate(entryName)) {
+                        collectModelIds(new BufferedReader(new StringReader(serviceTemplate)), modelIds);
+                    }
+                } else if (parseTemplates && isDefinitionsTemplate(entryName)) {
+                    try (BufferedReader reader = new BufferedReader(
+                            new InputStreamReader(zipFile.getInputStream(entry), StandardCharsets.UTF_8))) {
+                        collectModelIds(reader, modelIds);
+                    }
                 }
             }
         } catch (IOException e) {
@@ -90,21 +161,160 @@ public class VnfCatalogExtractor {
 
         logger.debug(ModelLoaderMsgs.DISTRIBUTION_EVENT, vnfcFiles.size() + " VNF Catalog files extracted.");
 
-        return vnfcFiles;
+        return new CsarScan(vnfcFiles, serviceMetadata, modelIds);
     }
 
-    private static void validateRequest(byte[] archive, String name) throws InvalidArchiveException {
-        if (archive == null || archive.length == 0) {
+    private static void validateRequest(CsarPayload archive, String name) throws InvalidArchiveException {
+        if (archive == null || archive.size() == 0) {
             throw new InvalidArchiveException("An archive must be supplied for processing.");
         } else if (StringUtils.isBlank(name)) {
             throw new InvalidArchiveException("The name of the archive must be supplied for processing.");
         }
     }
 
-    private static boolean fileShouldBeExtracted(ZipArchiveEntry entry) {
-        logger.debug(ModelLoaderMsgs.DISTRIBUTION_EVENT, "Checking if " + entry.getName() + " should be extracted...");
-        boolean extractFile = VNFCFILE_EXTENSION_REGEX.matcher(entry.getName()).matches();
-        logger.debug(ModelLoaderMsgs.DISTRIBUTION_EVENT, "Keeping file: " + entry.getName() + "? : " + extractFile);
-        return extractFile;
+    /**
+     * Equivalent to matching {@code (?i)artifacts[\\/]deployment[\\/]vnf_catalog[\\/].*\.xml} against the whole
+     * entry name, without a regular expression.
+     */
+    static boolean isVnfCatalogFile(String entryName) {
+        int offset = 0;
+        for (String directory : VNF_CATALOG_DIRECTORIES) {
+            if (!entryName.regionMatches(true, offset, directory, 0, directory.length())) {
+                return false;
+            }
+            offset += directory.length();
+            if (offset >= entryName.length() || !isSeparator(entryName.charAt(offset))) {
+                return false;
+            }
+            offset++;
+        }
+        int extensionOffset = entryName.length() - XML_EXTENSION.length();
+        return extensionOffset >= offset
+                && entryName.regionMatches(true, extensionOffset, XML_EXTENSION, 0, XML_EXTENSION.length());
+    }
+
+    private static boolean isSeparator(char c) {
+        return c == '/' || c == '\\';
+    }
+
+    private static boolean isDefinitionsTemplate(String entryName) {
+        if (!entryName.startsWith(DEFINITIONS_DIRECTORY)) {
+            return false;
+        }
+        for (String extension : TEMPLATE_EXTENSIONS) {
+            if (entryName.regionMatches(true, entryName.length() - extension.length(), extension, 0,
+                    extension.length())) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Decodes an entry as UTF-8 from an array of its exact size.
+     */
+    private static String readUtf8(ZipFile zipFile, ZipArchiveEntry entry) throws IOException {
+        try (InputStream inputStream = zipFile.getInputStream(entry)) {
+            long size = entry.getSize();
+            if (size < 0 || size > Integer.MAX_VALUE - 8) {
+                return new String(inputStream.readAllBytes(), StandardCharsets.UTF_8);
+            }
+            byte[] content = inputStream.readNBytes((int) size);
+            if (inputStream.read() != -1) {
+                throw new IOException(entry.getName() + " is larger than its recorded size of " + size + " bytes");
+            }
+            return new String(content, StandardCharsets.UTF_8);
+        }
+    }
+
+    /**
+     * Reads the first block of TOSCA.meta, which holds the keys of the CSAR itself.
+     */
+    private static void parseToscaMetadata(String toscaMeta, Map<String, String> toscaMetadata) {
+        for (String line : toscaMeta.split("\\R")) {
+            if (line.isBlank()) {
+                break;
+            }
+            int colon = line.indexOf(':');
+            if (colon > 0) {
+                toscaMetadata.put(line.substring(0, colon).trim(), line.substring(colon + 1).trim());
+            }
+        }
+    }
+
+    /**
+     * Reads the scalar values of the top level metadata section of a service template (invariantUUID, UUID, name,
+     * type, ...) without parsing the YAML document. Reading stops at the end of the section.
+     */
+    private static void parseTemplateMetadata(BufferedReader template, Map<String, String> metadata)
+            throws IOException {
+        boolean inMetadata = false;
+        int keyIndent = -1;
+        for (String line = template.readLine(); line != null; line = template.readLine()) {
+            if (line.isBlank() || line.stripLeading().startsWith("#")) {
+                continue;
+            }
+            int indent = line.length() - line.stripLeading().length();
+            if (indent == 0) {
+                if (inMetadata) {
+                    return;
+                }
+                inMetadata = METADATA_SECTION.equals(line.stripTrailing());
+            } else if (inMetadata) {
+                if (keyIndent < 0) {
+                    keyIndent = indent;
+                }
+                int colon = line.indexOf(':');
+                // Nested values are not needed
+                if (indent == keyIndent && colon > 0) {
+                    metadata.put(line.substring(0, colon).trim(), unquote(line.substring(colon + 1).trim()));
+                }
+            }
+        }
+    }
+
+    /**
+     * Collects the invariantUUID and UUID pairs of the metadata blocks of a template (the template itself and its node
+     * templates). Babel uses them as the model-invariant-id and model-version-id of the models it generates.
+     */
+    private static void collectModelIds(BufferedReader template, Set<ModelId> modelIds) throws IOException {
+        // Metadata blocks are not nested, so only the block that is currently read has to be remembered
+        int blockIndent = -1;
+        String invariantId = null;
+        String versionId = null;
+        for (String line = template.readLine(); line != null; line = template.readLine()) {
+            String content = line.stripLeading();
+            if (content.isEmpty() || content.startsWith("#")) {
+                continue;
+            }
+            int indent = line.length() - content.length();
+            boolean invariantKey = content.startsWith(INVARIANT_UUID_KEY);
+            if (indent < blockIndent || (indent != blockIndent && (invariantKey || content.startsWith(UUID_KEY)))) {
+                blockIndent = indent;
+                invariantId = null;
+                versionId = null;
+            }
+            if (invariantKey) {
+                invariantId = unquote(content.substring(INVARIANT_UUID_KEY.length()).trim());
+            } else if (content.startsWith(UUID_KEY)) {
+                versionId = unquote(content.substring(UUID_KEY.length()).trim());
+            } else {
+                continue;
+            }
+            if (StringUtils.isNotBlank(invariantId) && StringUtils.isNotBlank(versionId)) {
+                modelIds.add(new ModelId(invariantId, versionId));
+                blockIndent = -1;
+                invariantId = null;
+                versionId = null;
+            }
+        }
+    }
+
+    private static String unquote(String value) {
+        if (value.length() >= 2 && (value.startsWith("'") && value.endsWith("'")
+                || value.startsWith("\"") && value.endsWith("\""))) {
+            return value.substring(1, value.length() - 1);
+        }
+        return value;
     }
 }
@@ -23,8 +23,15 @@ package org.onap.aai.modelloader.notification;
 import java.time.ZonedDateTime;
 import java.time.format.DateTimeFormatter;
 import java.util.ArrayList;
-import java.util.Base64;
+import java.util.Collections;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletionService;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorCompletionService;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicReference;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
@@ -34,22 +41,38 @@ import org.onap.aai.cl.eelf.LoggerFactory;
 import org.onap.aai.cl.mdc.MdcContext;
 import org.onap.aai.cl.mdc.MdcOverride;
 import org.onap.aai.modelloader.babel.BabelArtifactService;
+import org.onap.aai.modelloader.config.ConcurrencyConfig;
+import org.onap.aai.modelloader.config.CsarPayloadProperties;
 import org.onap.aai.modelloader.entity.Artifact;
 import org.onap.aai.modelloader.entity.catalog.VnfCatalogArtifact;
 import org.onap.aai.modelloader.entity.model.BabelArtifactParsingException;
 import org.onap.aai.modelloader.entity.model.IModelParser;
 import org.onap.aai.modelloader.entity.model.NamedQueryArtifactParser;
+import org.onap.aai.modelloader.extraction.CsarScan;
 import org.onap.aai.modelloader.extraction.InvalidArchiveException;
 import org.onap.aai.modelloader.extraction.VnfCatalogExtractor;
+import org.onap.aai.modelloader.restclient.StreamingBabelRequest;
+import org.onap.aai.modelloader.service.DeployedServiceCheck;
+import org.onap.aai.modelloader.service.DeployedServiceCheck.Result;
+import org.onap.aai.modelloader.service.DistributionMetrics;
+import org.onap.aai.modelloader.service.DistributionMetrics.Stage;
+import org.onap.aai.modelloader.service.ExistencePrefetch;
 import org.onap.aai.modelloader.service.ModelLoaderMsgs;
+import org.onap.aai.modelloader.util.CsarPayload;
+import org.onap.aai.modelloader.util.MdcPropagation;
+import org.onap.aai.modelloader.util.PayloadLog;
 import org.onap.sdc.api.IDistributionClient;
 import org.onap.sdc.api.notification.IArtifactInfo;
 import org.onap.sdc.api.notification.INotificationData;
 import org.onap.sdc.api.results.IDistributionClientDownloadResult;
 import org.onap.sdc.utils.ArtifactTypeEnum;
 import org.onap.sdc.utils.DistributionActionResultEnum;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.stereotype.Component;
 
+import io.micrometer.core.instrument.Timer;
+
 /**
  * This class is responsible for downloading the artifacts from the ASDC.
  *
@@ -59,66 +82,155 @@ import org.springframework.stereotype.Component;
  * published as a deployment event.
  *
  * TOSCA_CSAR file artifacts will be converted into XML and returned as model artifacts.
+ *
+ * The artifacts of a distribution are downloaded and converted concurrently on the artifact executor. The results are
+ * returned in the order of the supplied artifacts.
  */
 @Component
 public class ArtifactDownloadManager {
 
     private static Logger logger = LoggerFactory.getInstance().getLogger(ArtifactDownloadManager.class);
+    private static final PayloadLog payloadLog = PayloadLog.forClass(ArtifactDownloadManager.class, logger);
 
     private final IDistributionClient client;
     private final NotificationPublisher notificationPublisher;
     private final VnfCatalogExtractor vnfCatalogExtractor;
     private final BabelArtifactService babelArtifactService;
+    private final Executor artifactExecutor;
+    private final DistributionMetrics metrics;
+    private final CsarPayloadProperties csarPayloadProperties;
+    private final DeployedServiceCheck deployedServiceCheck;
+    private final ExistencePrefetch existencePrefetch;
 
-    public ArtifactDownloadManager(IDistributionClient client,
-            NotificationPublisher notificationPublisher, VnfCatalogExtractor vnfCatalogExtractor, BabelArtifactService babelArtifactService) {
+    /**
+     * @param artifactExecutor runs the download and conversion of the artifacts, <code>null</code> to process them
+     *        one after the other on the calling thread
+     * @param metrics times the stages of the artifacts, may be <code>null</code>
+     * @param csarPayloadProperties when CSARs are spilled to disk while they are processed, <code>null</code> for the
+     *        defaults
+     * @param deployedServiceCheck detects services that have already been deployed, may be <code>null</code> to
+     *        always translate the CSARs
+     * @param existencePrefetch looks up the models of a CSAR in A&AI while it is translated, may be <code>null</code>
+     */
+    @Autowired
+    public ArtifactDownloadManager(IDistributionClient client, NotificationPublisher notificationPublisher,
+            VnfCatalogExtractor vnfCatalogExtractor, BabelArtifactService babelArtifactService,
+            @Qualifier(ConcurrencyConfig.ARTIFACT_EXECUTOR) Executor artifactExecutor, DistributionMetrics metrics,
+            CsarPayloadProperties csarPayloadProperties, DeployedServiceCheck deployedServiceCheck,
+            ExistencePrefetch existencePrefetch) {
         this.client = client;
         this.notificationPublisher = notificationPublisher;
         this.vnfCatalogExtractor = vnfCatalogExtractor;
         this.babelArtifactService = babelArtifactService;
+        this.artifactExecutor = artifactExecutor == null ? Runnable::run : artifactExecutor;
+        this.metrics = metrics == null ? DistributionMetrics.noop() : metrics;
+        this.csarPayloadProperties = csarPayloadProperties == null ? new CsarPayloadProperties() : csarPayloadProperties;
+        this.deployedServiceCheck = deployedServiceCheck;
+        this.existencePrefetch = existencePrefetch;
     }
 
     /**
      * This method downloads the artifacts from the ASDC.
      *
+     * Each artifact is downloaded and converted as a separate task. As soon as one of them fails, the tasks that have
+     * not completed yet are cancelled, the failure of that artifact is published and its exception is rethrown.
+     *
      * @param data data about the notification that is being processed
      * @param artifacts the specific artifacts found in the data.
-     * @param modelArtifacts collection of artifacts for model query specs
-     * @param catalogArtifacts collection of artifacts that represent vnf catalog files
-     * @return boolean <code>true</code> if the download process was successful otherwise <code>false</code>
-     * @throws Exception 
+     * @return the downloaded and converted artifacts, in the order of the supplied artifacts
+     * @throws Exception the exception of the first artifact that failed
      */
     List<Artifact> downloadArtifacts(INotificationData data, List<IArtifactInfo> artifacts) throws Exception {
+        AtomicReference<ArtifactFailure> firstFailure = new AtomicReference<>();
 
-        List<Artifact> allArtifacts = new ArrayList<>();
+        CompletionService<List<Artifact>> completionService = new ExecutorCompletionService<>(artifactExecutor);
+        List<Future<List<Artifact>>> futures = new ArrayList<>(artifacts.size());
         for (IArtifactInfo artifact : artifacts) {
-            try {
-                IDistributionClientDownloadResult downloadResult = downloadIndividualArtifacts(data, artifact);
-                List<Artifact> processedArtifacts = processDownloadedArtifacts(artifact, downloadResult, data);
-                allArtifacts.addAll(processedArtifacts);
-            } catch (DownloadFailureException e) {
-                notificationPublisher.publishDownloadFailure(client, data, artifact, e.getMessage());
-                throw e;
-            } catch (ProcessToscaArtifactsException | InvalidArchiveException | BabelArtifactParsingException e) {
-                notificationPublisher.publishDeployFailure(client, data, artifact);
+            futures.add(completionService
+                    .submit(MdcPropagation.wrap(() -> downloadAndProcess(data, artifact, firstFailure))));
+        }
+
+        try {
+            for (int completed = 0; completed < futures.size() && firstFailure.get() == null; completed++) {
+                completionService.take().get();
+            }
+        } catch (ExecutionException e) {
+            // Only errors escape downloadAndProcess(), exceptions are recorded in firstFailure
+            cancelAll(futures);
+            if (firstFailure.get() == null && e.getCause() instanceof Error) {
+                throw (Error) e.getCause();
+            } else if (firstFailure.get() == null) {
                 throw e;
             }
+        } catch (InterruptedException e) {
+            cancelAll(futures);
+            Thread.currentThread().interrupt();
+            throw e;
+        }
+
+        ArtifactFailure failure = firstFailure.get();
+        if (failure != null) {
+            cancelAll(futures);
+            publishFailure(data, failure);
+            throw failure.exception;
+        }
+
+        List<Artifact> allArtifacts = new ArrayList<>();
+        for (Future<List<Artifact>> future : futures) {
+            allArtifacts.addAll(future.get());
         }
         return allArtifacts;
     }
 
-    private IDistributionClientDownloadResult downloadIndividualArtifacts(INotificationData data,
-            IArtifactInfo artifact) throws DownloadFailureException {
+    private List<Artifact> downloadAndProcess(INotificationData data, IArtifactInfo artifact,
+            AtomicReference<ArtifactFailure> firstFailure) {
+        if (firstFailure.get() != null) {
+            // Another artifact of this distribution has already failed
+            return Collections.emptyList();
+        }
+        try {
+            return processDownloadedArtifacts(artifact, downloadIndividualArtifacts(data, artifact), data);
+        } catch (Exception e) {
+            firstFailure.compareAndSet(null, new ArtifactFailure(artifact, e));
+            return Collections.emptyList();
+        }
+    }
+
+    private void publishFailure(INotificationData data, ArtifactFailure failure) {
+        Exception e = failure.exception;
+        if (e instanceof DownloadFailureException) {
+            notificationPublisher.publishDownloadFailure(client, data, failure.artifact, e.getMessage());
+        } else if (e instanceof ProcessToscaArtifactsException || e instanceof InvalidArchiveException
+                || e instanceof BabelArtifactParsingException) {
+            notificationPublisher.publishDeployFailure(client, data, failure.artifact);
+        }
+    }
+
+    private static void cancelAll(List<? extends Future<?>> futures) {
+        futures.forEach(future -> future.cancel(true));
+    }
+
+    private DownloadedPayload downloadIndividualArtifacts(INotificationData data, IArtifactInfo artifact)
+            throws DownloadFailureException {
         // Grab the current time so we can measure the download time for the metrics log
         DateTimeFormatter formatter = DateTimeFormatter.ofPattern("yyyy-MM-dd'T'HH:mm:ss.SSSXXX");
         MdcOverride override = new MdcOverride();
         override.addAttribute(MdcContext.MDC_START_TIME, ZonedDateTime.now().format(formatter));
 
-        IDistributionClientDownloadResult downloadResult = client.download(artifact);
+        Timer.Sample sample = metrics.start();
+        IDistributionClientDownloadResult downloadResult = null;
+        try {
+            downloadResult = client.download(artifact);
+        } finally {
+            metrics.stop(sample, Stage.DOWNLOAD, artifact.getArtifactType(), downloadResult != null
+                    && DistributionActionResultEnum.SUCCESS.equals(downloadResult.getDistributionActionResult()));
+        }
 
-        logger.info(ModelLoaderMsgs.DOWNLOAD_COMPLETE, downloadResult.getDistributionActionResult().toString(),
-                downloadResult.getArtifactPayload() == null ? "null"
-                        : Base64.getEncoder().encodeToString(downloadResult.getArtifactPayload()));
+        // Describing the payload hashes the whole CSAR
+        if (logger.isInfoEnabled()) {
+            logger.info(ModelLoaderMsgs.DOWNLOAD_COMPLETE, downloadResult.getDistributionActionResult().toString(),
+                    payloadLog.describe(downloadResult.getArtifactPayload()));
+        }
 
         if (DistributionActionResultEnum.SUCCESS.equals(downloadResult.getDistributionActionResult())) {
             logger.info(ModelLoaderMsgs.DISTRIBUTION_EVENT, "Downloaded artifact: " + artifact.getArtifactName());
@@ -127,20 +239,38 @@ public class ArtifactDownloadManager {
             throw new DownloadFailureException(downloadResult.getDistributionMessageResult());
         }
 
-        return downloadResult;
+        // The download result of the SDC client is dropped, only the payload is kept until it is taken
+        return new DownloadedPayload(downloadResult.getArtifactPayload(), downloadResult.getArtifactFilename());
     }
 
     private List<Artifact> processDownloadedArtifacts(
-            IArtifactInfo artifactInfo, IDistributionClientDownloadResult downloadResult, INotificationData data)
+            IArtifactInfo artifactInfo, DownloadedPayload download, INotificationData data)
             throws ProcessToscaArtifactsException, InvalidArchiveException, BabelArtifactParsingException {
         List<Artifact> artifacts = new ArrayList<>();
         List<Artifact> querySpecArtifacts = new ArrayList<>();
         if ("TOSCA_CSAR".equalsIgnoreCase(artifactInfo.getArtifactType())) {
-            artifacts = processToscaArtifacts(downloadResult.getArtifactPayload(), artifactInfo,
-                    data.getDistributionID(), data.getServiceVersion());
-            
+            // A large CSAR is only read from its temporary file from here on, which is deleted once it is processed
+            try (CsarPayload payload = CsarPayload.of(download.take(), csarPayloadProperties)) {
+                boolean checkDeployed = deployedServiceCheck != null && deployedServiceCheck.isEnabled();
+                boolean prefetch = existencePrefetch != null && existencePrefetch.isEnabled();
+                CsarScan scan = null;
+                if (checkDeployed || prefetch) {
+                    scan = vnfCatalogExtractor.scan(payload, artifactInfo.getArtifactName(), true);
+                }
+                if (checkDeployed && isDeployed(scan, artifactInfo, data.getDistributionID())) {
+                    // Nothing to deploy, the distribution is reported as deployed
+                    return Collections.emptyList();
+                }
+                if (prefetch) {
+                    // The lookups run while Babel translates the CSAR
+                    existencePrefetch.start(data.getDistributionID(), scan.getModelIds());
+                }
+                artifacts = processToscaArtifacts(payload, scan, artifactInfo, data.getDistributionID(),
+                        data.getServiceVersion());
+            }
+
         } else if (ArtifactTypeEnum.MODEL_QUERY_SPEC.toString().equalsIgnoreCase(artifactInfo.getArtifactType())) {
-            querySpecArtifacts = processModelQuerySpecArtifact(downloadResult);
+            querySpecArtifacts = processModelQuerySpecArtifact(download);
         } else {
             logger.info(ModelLoaderMsgs.UNSUPPORTED_ARTIFACT_TYPE, artifactInfo.getArtifactName(),
                     artifactInfo.getArtifactType());
@@ -153,15 +283,46 @@ public class ArtifactDownloadManager {
 
     public List<Artifact> processToscaArtifacts(byte[] payload, IArtifactInfo artifactInfo, String distributionId, String serviceVersion)
             throws ProcessToscaArtifactsException, InvalidArchiveException {
+        try (CsarPayload csarPayload = CsarPayload.of(payload, csarPayloadProperties)) {
+            return processToscaArtifacts(csarPayload, artifactInfo, distributionId, serviceVersion);
+        }
+    }
+
+    /**
+     * Translates the CSAR with Babel and extracts its VNF Catalog files. The payload is read in place and stays owned
+     * by the caller.
+     */
+    public List<Artifact> processToscaArtifacts(CsarPayload payload, IArtifactInfo artifactInfo, String distributionId,
+            String serviceVersion) throws ProcessToscaArtifactsException, InvalidArchiveException {
+        return processToscaArtifacts(payload, null, artifactInfo, distributionId, serviceVersion);
+    }
+
+    /**
+     * Checks whether the service of a (redelivered) CSAR has already been deployed to A&AI.
+     */
+    private boolean isDeployed(CsarScan scan, IArtifactInfo artifactInfo, String distributionId) {
+        Map<String, String> serviceMetadata = scan.getServiceMetadata();
+        if (deployedServiceCheck.check(serviceMetadata, distributionId) != Result.DEPLOYED) {
+            return false;
+        }
+        logger.info(ModelLoaderMsgs.DISTRIBUTION_EVENT,
+                "Service model " + serviceMetadata.get(DeployedServiceCheck.INVARIANT_UUID) + " version "
+                        + serviceMetadata.get(DeployedServiceCheck.UUID) + " of " + artifactInfo.getArtifactName()
+                        + " has already been deployed, skipping the translation");
+        return true;
+    }
+
+    private List<Artifact> processToscaArtifacts(CsarPayload payload, CsarScan scan, IArtifactInfo artifactInfo,
+            String distributionId, String serviceVersion) throws ProcessToscaArtifactsException, InvalidArchiveException {
         // Get translated artifacts from Babel Service
-        BabelRequest babelRequest = new BabelRequest();
-        babelRequest.setArtifactName(artifactInfo.getArtifactName());
-        babelRequest.setCsar(Base64.getEncoder().encodeToString(payload));
-        babelRequest.setArtifactVersion(serviceVersion);
+        // The CSAR is only Base64 encoded while the request is sent
+        BabelRequest babelRequest = new StreamingBabelRequest(artifactInfo.getArtifactName(), serviceVersion, payload);
         List<Artifact> artifacts = babelArtifactService.invokeBabelService(babelRequest, distributionId);
 
         // Get VNF Catalog artifacts directly from CSAR
-        List<Artifact> csarCatalogArtifacts = vnfCatalogExtractor.extract(payload, artifactInfo.getArtifactName());
+        // The CSAR may have been scanned already
+        List<Artifact> csarCatalogArtifacts = scan != null ? scan.getVnfCatalogArtifacts()
+                : vnfCatalogExtractor.extract(payload, artifactInfo.getArtifactName());
 
         // Throw an error if VNF Catalog data is present in the Babel payload and directly in the CSAR
         if (isDuplicateVnfCatalogData(artifacts, csarCatalogArtifacts)) {
@@ -182,19 +343,56 @@ public class ArtifactDownloadManager {
         return !csarCatalogArtifacts.isEmpty() && !babelIsEmpty;
     }
 
-    private List<Artifact> processModelQuerySpecArtifact(IDistributionClientDownloadResult downloadResult) throws BabelArtifactParsingException {
+    private List<Artifact> processModelQuerySpecArtifact(DownloadedPayload download) throws BabelArtifactParsingException {
         logger.debug(ModelLoaderMsgs.DISTRIBUTION_EVENT, "Processing named query artifact.");
 
         IModelParser parser = new NamedQueryArtifactParser();
 
-        List<Artifact> parsedArtifacts =
-                parser.parse(new String(downloadResult.getArtifactPayload()), downloadResult.getArtifactFilename());
+        Timer.Sample sample = metrics.start();
+        String querySpec = new String(download.take());
+        List<Artifact> parsedArtifacts = null;
+        try {
+            parsedArtifacts = parser.parse(querySpec, download.filename);
+        } finally {
+            metrics.stop(sample, Stage.PARSE, ArtifactTypeEnum.MODEL_QUERY_SPEC.toString(),
+                    parsedArtifacts != null && !parsedArtifacts.isEmpty());
+        }
 
         if (parsedArtifacts != null && !parsedArtifacts.isEmpty()) {
             return parsedArtifacts;
         } else {
             throw new BabelArtifactParsingException(
-                    "Could not parse generated XML: " + new String(downloadResult.getArtifactPayload()));
+                    "Could not parse generated XML: " + querySpec);
+        }
+    }
+
+    private static class ArtifactFailure {
+        private final IArtifactInfo artifact;
+        private final Exception exception;
+
+        ArtifactFailure(IArtifactInfo artifact, Exception exception) {
+            this.artifact = artifact;
+            this.exception = exception;
+        }
+    }
+
+    /**
+     * Payload of a downloaded artifact. It is handed over once through {@link #take()} so that a CSAR that is spilled
+     * to disk is no longer reachable on the heap while it is processed.
+     */
+    private static class DownloadedPayload {
+        private final String filename;
+        private byte[] payload;
+
+        DownloadedPayload(byte[] payload, String filename) {
+            this.payload = payload;
+            this.filename = filename;
+        }
+
+        byte[] take() {
+            byte[] taken = payload;
+            payload = null;
+            return taken;
         }
     }
 }
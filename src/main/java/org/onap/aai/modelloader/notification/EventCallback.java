@@ -22,22 +22,30 @@ package org.onap.aai.modelloader.notification;
 
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Executor;
 
 import org.onap.aai.cl.api.Logger;
 import org.onap.aai.cl.eelf.LoggerFactory;
 import org.onap.aai.cl.mdc.MdcContext;
+import org.onap.aai.modelloader.config.ConcurrencyConfig;
 import org.onap.aai.modelloader.entity.Artifact;
 import org.onap.aai.modelloader.entity.ArtifactType;
 import org.onap.aai.modelloader.extraction.ArtifactInfoExtractor;
 import org.onap.aai.modelloader.service.ArtifactDeploymentManager;
+import org.onap.aai.modelloader.service.DistributionMetrics;
 import org.onap.aai.modelloader.service.ModelLoaderMsgs;
 import org.onap.sdc.api.IDistributionClient;
 import org.onap.sdc.api.consumer.INotificationCallback;
 import org.onap.sdc.api.notification.IArtifactInfo;
 import org.onap.sdc.api.notification.INotificationData;
 import org.slf4j.MDC;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.stereotype.Component;
 
+import io.micrometer.core.instrument.Timer;
+
 @Component
 public class EventCallback implements INotificationCallback {
     private static Logger logger = LoggerFactory.getInstance().getLogger(EventCallback.class.getName());
@@ -47,52 +55,91 @@ public class EventCallback implements INotificationCallback {
     private final ArtifactDownloadManager artifactDownloadManager;
     private final NotificationPublisher notificationPublisher;
     private final IDistributionClient client;
+    private final Executor distributionExecutor;
+    private final DistributionMetrics metrics;
 
-    public EventCallback(IDistributionClient client, ArtifactDeploymentManager artifactDeploymentManager, ArtifactDownloadManager artifactDownloadManager, NotificationPublisher notificationPublisher) {
+    /**
+     * Creates a callback that hands each distribution over to the supplied executor and times every distribution.
+     *
+     * @param distributionExecutor runs the distributions, <code>null</code> to process each one on the calling thread
+     * @param metrics times the distributions, may be <code>null</code>
+     */
+    @Autowired
+    public EventCallback(IDistributionClient client, ArtifactDeploymentManager artifactDeploymentManager,
+            ArtifactDownloadManager artifactDownloadManager, NotificationPublisher notificationPublisher,
+            @Qualifier(ConcurrencyConfig.DISTRIBUTION_EXECUTOR) Executor distributionExecutor,
+            DistributionMetrics metrics) {
         this.artifactDeploymentManager = artifactDeploymentManager;
         this.artifactDownloadManager = artifactDownloadManager;
         this.notificationPublisher = notificationPublisher;
         this.client = client;
+        this.distributionExecutor = distributionExecutor == null ? Runnable::run : distributionExecutor;
+        this.metrics = metrics == null ? DistributionMetrics.noop() : metrics;
     }
 
+    /**
+     * Queues the distribution for processing. When the distribution pool and its queue are full the distribution is
+     * processed on the calling (SDC client) thread, which stops further notifications from being consumed until
+     * capacity is available again.
+     */
     @Override
     public void activateCallback(INotificationData data) {
-        MdcContext.initialize(data.getDistributionID(), "ModelLoader", "", "Event-Bus", "");
-        logger.info(ModelLoaderMsgs.DISTRIBUTION_EVENT, "Received distribution " + data.getDistributionID());
+        logger.debug(ModelLoaderMsgs.DISTRIBUTION_EVENT, "Queueing distribution " + data.getDistributionID());
+        // The time spent waiting for a worker is part of the distribution time
+        Timer.Sample sample = metrics.start();
+        distributionExecutor.execute(() -> processDistribution(data, sample));
+    }
 
-        List<IArtifactInfo> artifacts = new ArtifactInfoExtractor().extract(data);
-        boolean success = true;
-        List<Artifact> downloadedArtifacts = new ArrayList<>();
+    void processDistribution(INotificationData data, Timer.Sample sample) {
+        // The distribution runs on the SDC client thread when the pool is saturated, its context is restored afterwards
+        Map<String, String> callerContext = MDC.getCopyOfContextMap();
+        MdcContext.initialize(data.getDistributionID(), "ModelLoader", "", "Event-Bus", "");
+        boolean distributionSucceeded = false;
         try {
-            downloadedArtifacts =
-                    artifactDownloadManager.downloadArtifacts(data, artifacts);
-        } catch (Exception e) {
-            success = false;
-        }
+            logger.info(ModelLoaderMsgs.DISTRIBUTION_EVENT, "Received distribution " + data.getDistributionID());
 
-        List<Artifact> catalogArtifacts = new ArrayList<>();
-        List<Artifact> modelArtifacts = new ArrayList<>();
-        if(downloadedArtifacts != null) {
-            for(Artifact artifact : downloadedArtifacts) {
-                if(artifact.getType() == ArtifactType.VNF_CATALOG || artifact.getType() == ArtifactType.VNF_CATALOG_XML) {
-                    catalogArtifacts.add(artifact);
-                } else {
-                    modelArtifacts.add(artifact);
-                }
+            List<IArtifactInfo> artifacts = new ArtifactInfoExtractor().extract(data);
+            boolean success = true;
+            List<Artifact> downloadedArtifacts = new ArrayList<>();
+            try {
+                downloadedArtifacts =
+                        artifactDownloadManager.downloadArtifacts(data, artifacts);
+            } catch (Exception e) {
+                success = false;
             }
-        }
 
-        if (success) {
-            success = artifactDeploymentManager.deploy(data.getDistributionID(), modelArtifacts, catalogArtifacts);
-        }
+            List<Artifact> catalogArtifacts = new ArrayList<>();
+            List<Artifact> modelArtifacts = new ArrayList<>();
+            if(downloadedArtifacts != null) {
+                for(Artifact artifact : downloadedArtifacts) {
+                    if(artifact.getType() == ArtifactType.VNF_CATALOG || artifact.getType() == ArtifactType.VNF_CATALOG_XML) {
+                        catalogArtifacts.add(artifact);
+                    } else {
+                        modelArtifacts.add(artifact);
+                    }
+                }
+            }
 
-        String statusString = success ? "SUCCESS" : "FAILURE";
-        auditLogger.info(ModelLoaderMsgs.DISTRIBUTION_EVENT,
-                "Processed distribution " + data.getDistributionID() + "  (" + statusString + ")");
+            if (success) {
+                success = artifactDeploymentManager.deploy(data.getDistributionID(), modelArtifacts, catalogArtifacts);
+            }
 
-        publishNotifications(data, "TOSCA_CSAR", artifacts, success);
+            String statusString = success ? "SUCCESS" : "FAILURE";
+            auditLogger.info(ModelLoaderMsgs.DISTRIBUTION_EVENT,
+                    "Processed distribution " + data.getDistributionID() + "  (" + statusString + ")");
 
-        MDC.clear();
+            publishNotifications(data, "TOSCA_CSAR", artifacts, success);
+            distributionSucceeded = success;
+        } finally {
+            // An unexpected exception still ends the distribution, record it as failed
+            metrics.stopDistribution(sample, distributionSucceeded);
+            // Pool threads are reused, so the distribution context must not leak into the next distribution
+            if (callerContext == null) {
+                MDC.clear();
+            } else {
+                MDC.setContextMap(callerContext);
+            }
+        }
     }
 
 
@@ -26,11 +26,14 @@ import java.nio.file.Files;
 import java.time.ZonedDateTime;
 import java.time.format.DateTimeFormatter;
 import java.util.Properties;
+import java.util.function.Supplier;
 import org.onap.aai.cl.api.Logger;
 import org.onap.aai.cl.eelf.LoggerFactory;
 import org.onap.aai.cl.mdc.MdcContext;
 import org.onap.aai.cl.mdc.MdcOverride;
 import org.onap.aai.modelloader.config.ModelLoaderConfig;
+import org.onap.aai.modelloader.service.DistributionMetrics;
+import org.onap.aai.modelloader.service.DistributionMetrics.Stage;
 import org.onap.aai.modelloader.service.ModelLoaderMsgs;
 import org.onap.sdc.api.IDistributionClient;
 import org.onap.sdc.api.notification.IArtifactInfo;
@@ -38,8 +41,11 @@ import org.onap.sdc.api.notification.INotificationData;
 import org.onap.sdc.api.results.IDistributionClientResult;
 import org.onap.sdc.utils.DistributionActionResultEnum;
 import org.onap.sdc.utils.DistributionStatusEnum;
+import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Component;
 
+import io.micrometer.core.instrument.Timer;
+
 /**
  * This class is responsible for publishing the status of actions performed working with artifacts.
  */
@@ -49,9 +55,18 @@ public class NotificationPublisher {
     private static Logger logger = LoggerFactory.getInstance().getLogger(NotificationPublisher.class);
     private static Logger metricsLogger = LoggerFactory.getInstance().getMetricsLogger(NotificationPublisher.class);
 
+    /** Artifact type of the statuses that relate to the distribution as a whole. */
+    private static final String SERVICE_ARTIFACT_TYPE = "SERVICE";
+
     private boolean publishingEnabled;
+    private final DistributionMetrics metrics;
 
-    public NotificationPublisher() {
+    /**
+     * @param metrics times every publication of a status
+     */
+    @Autowired
+    public NotificationPublisher(DistributionMetrics metrics) {
+        this.metrics = metrics == null ? DistributionMetrics.noop() : metrics;
         Properties configProperties = new Properties();
         try (InputStream configInputStream = Files.newInputStream(ModelLoaderConfig.propertiesFile())) {
             configProperties.load(configInputStream);
@@ -86,8 +101,9 @@ public class NotificationPublisher {
         if (publishingEnabled) {
             MdcOverride override = initMDCStartTime();
 
-            IDistributionClientResult sendDownloadStatus = client.sendDownloadStatus(
-                    DistributionStatusMessageBuilder.build(client, data, artifact, distributionStatusEnum));
+            IDistributionClientResult sendDownloadStatus = send(artifact.getArtifactType(), () -> client
+                    .sendDownloadStatus(DistributionStatusMessageBuilder.build(client, data, artifact,
+                            distributionStatusEnum)));
             metricsLogger.info(ModelLoaderMsgs.EVENT_PUBLISHED, null, override, "download " + result,
                     artifact.getArtifactName(), sendDownloadStatus.getDistributionActionResult().toString());
 
@@ -100,6 +116,18 @@ public class NotificationPublisher {
         }
     }
 
+    private IDistributionClientResult send(String artifactType, Supplier<IDistributionClientResult> publication) {
+        Timer.Sample sample = metrics.start();
+        IDistributionClientResult result = null;
+        try {
+            result = publication.get();
+            return result;
+        } finally {
+            metrics.stop(sample, Stage.PUBLISH, artifactType,
+                    result != null && result.getDistributionActionResult() == DistributionActionResultEnum.SUCCESS);
+        }
+    }
+
     private MdcOverride initMDCStartTime() {
         DateTimeFormatter formatter = DateTimeFormatter.ofPattern("yyyy-MM-dd'T'HH:mm:ss.SSSXXX");
         MdcOverride override = new MdcOverride();
@@ -164,8 +192,8 @@ public class NotificationPublisher {
         if (publishingEnabled) {
             MdcOverride override = initMDCStartTime();
 
-            IDistributionClientResult sendStatus = client.sendComponentDoneStatus(
-                    CompDoneStatusMessageBuilder.build(client, data, DistributionStatusEnum.COMPONENT_DONE_OK));
+            IDistributionClientResult sendStatus = send(SERVICE_ARTIFACT_TYPE, () -> client.sendComponentDoneStatus(
+                    CompDoneStatusMessageBuilder.build(client, data, DistributionStatusEnum.COMPONENT_DONE_OK)));
 
             metricsLogger.info(ModelLoaderMsgs.EVENT_PUBLISHED, null, override, "component done ok", "all",
                     sendStatus.getDistributionActionResult().toString());
@@ -183,9 +211,9 @@ public class NotificationPublisher {
         if (publishingEnabled) {
             MdcOverride override = initMDCStartTime();
 
-            IDistributionClientResult sendStatus = client.sendComponentDoneStatus(
+            IDistributionClientResult sendStatus = send(SERVICE_ARTIFACT_TYPE, () -> client.sendComponentDoneStatus(
                     CompDoneStatusMessageBuilder.build(client, data, DistributionStatusEnum.COMPONENT_DONE_ERROR),
-                    errorReason);
+                    errorReason));
 
             metricsLogger.info(ModelLoaderMsgs.EVENT_PUBLISHED, null, override, "component done error", "all",
                     sendStatus.getDistributionActionResult().toString());
@@ -204,8 +232,8 @@ public class NotificationPublisher {
         if (publishingEnabled) {
             MdcOverride override = initMDCStartTime();
 
-            IDistributionClientResult sendStatus = client.sendDeploymentStatus(
-                    DistributionStatusMessageBuilder.build(client, data, artifact, distributionStatusEnum));
+            IDistributionClientResult sendStatus = send(artifact.getArtifactType(), () -> client.sendDeploymentStatus(
+                    DistributionStatusMessageBuilder.build(client, data, artifact, distributionStatusEnum)));
             metricsLogger.info(ModelLoaderMsgs.EVENT_PUBLISHED, null, override, "deploy " + result,
                     artifact.getArtifactName(), sendStatus.getDistributionActionResult().toString());
 
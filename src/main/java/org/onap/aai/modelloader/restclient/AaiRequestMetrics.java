@@ -0,0 +1,83 @@
+/**
+ * ============LICENSE_START=======================================================
+ * org.onap.aai
+ * ================================================================================
+ * Copyright © 2025 Deutsche Telekom AG Intellectual Property. All rights reserved.
+ * ================================================================================
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * ============LICENSE_END=========================================================
+ */
+package org.onap.aai.modelloader.restclient;
+
+import java.io.IOException;
+
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpRequest;
+import org.springframework.http.client.ClientHttpRequestExecution;
+import org.springframework.http.client.ClientHttpRequestInterceptor;
+import org.springframework.http.client.ClientHttpResponse;
+import org.springframework.web.reactive.function.client.ClientRequest;
+import org.springframework.web.reactive.function.client.ClientResponse;
+import org.springframework.web.reactive.function.client.ExchangeFilterFunction;
+import org.springframework.web.reactive.function.client.ExchangeFunction;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import reactor.core.publisher.Mono;
+
+/**
+ * Counts the requests sent to A&AI ({@code modelloader.aai.requests}), tagged with the HTTP method and the status code
+ * of the response. Requests that did not get a response are counted with the status <code>IO_ERROR</code>. Used as
+ * interceptor of the A&AI RestTemplate and as filter of the A&AI WebClient.
+ */
+public class AaiRequestMetrics implements ClientHttpRequestInterceptor, ExchangeFilterFunction {
+
+    public static final String METRIC_NAME = "modelloader.aai.requests";
+    private static final String IO_ERROR = "IO_ERROR";
+
+    private final MeterRegistry meterRegistry;
+
+    public AaiRequestMetrics(MeterRegistry meterRegistry) {
+        this.meterRegistry = meterRegistry;
+    }
+
+    @Override
+    public ClientHttpResponse intercept(HttpRequest request, byte[] body, ClientHttpRequestExecution execution)
+            throws IOException {
+        ClientHttpResponse response;
+        try {
+            response = execution.execute(request, body);
+        } catch (IOException e) {
+            count(request.getMethod(), IO_ERROR);
+            throw e;
+        }
+        count(request.getMethod(), String.valueOf(response.getStatusCode().value()));
+        return response;
+    }
+
+    @Override
+    public Mono<ClientResponse> filter(ClientRequest request, ExchangeFunction next) {
+        return next.exchange(request)
+                .doOnNext(response -> count(request.method(), String.valueOf(response.statusCode().value())))
+                .doOnError(e -> count(request.method(), IO_ERROR));
+    }
+
+    private void count(HttpMethod method, String status) {
+        Counter.builder(METRIC_NAME)
+                .description("Requests sent to A&AI")
+                .tag("method", method.name())
+                .tag("status", status)
+                .register(meterRegistry)
+                .increment();
+    }
+}
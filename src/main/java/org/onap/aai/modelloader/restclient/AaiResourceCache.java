@@ -0,0 +1,171 @@
+/**
+ * ============LICENSE_START=======================================================
+ * org.onap.aai
+ * ================================================================================
+ * Copyright © 2025 Deutsche Telekom AG Intellectual Property. All rights reserved.
+ * ================================================================================
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * ============LICENSE_END=========================================================
+ */
+package org.onap.aai.modelloader.restclient;
+
+import java.time.Clock;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.regex.Pattern;
+
+import org.onap.aai.modelloader.config.AaiExistenceCacheProperties;
+import org.onap.aai.modelloader.config.AaiProperties;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+
+/**
+ * Remembers which A&AI resources (models, model-vers, named queries and vnf-image lookups) are known to be present,
+ * so that shared resources that were confirmed seconds earlier do not have to be fetched again by every distribution.
+ *
+ * Entries are added when a GET returns 200 or a PUT succeeds, and removed when a GET returns 404 or a resource is
+ * deleted (e.g. by a rollback). Entries expire after a configurable time and the least recently used entries are
+ * evicted once the maximum number of entries is reached. The A&AI schema version is not part of the key, since the
+ * same resource is addressed by every version. Lookups can be bypassed for individual distributions, see
+ * {@link #bypass(String)}.
+ */
+@Component
+public class AaiResourceCache {
+
+    private static final Pattern SCHEMA_VERSION = Pattern.compile("/aai/v[^/]+/");
+    private static final String METRIC_NAME = "modelloader.aai.existence-cache.requests";
+
+    private final boolean enabled;
+    private final long ttlMillis;
+    private final int maxEntries;
+    private final Clock clock;
+
+    private final Map<String, Long> expiryByUrl = new LinkedHashMap<>(16, 0.75f, true);
+    private final Map<String, Integer> bypassedDistributions = new ConcurrentHashMap<>();
+
+    private final Counter hits;
+    private final Counter misses;
+
+    @Autowired
+    public AaiResourceCache(AaiProperties aaiProperties, MeterRegistry meterRegistry) {
+        this(aaiProperties.getExistenceCache(), meterRegistry, Clock.systemUTC());
+    }
+
+    AaiResourceCache(AaiExistenceCacheProperties properties, MeterRegistry meterRegistry, Clock clock) {
+        this.enabled = properties.isEnabled();
+        this.ttlMillis = properties.getTtl().toMillis();
+        this.maxEntries = properties.getMaxEntries();
+        this.clock = clock;
+
+        hits = Counter.builder(METRIC_NAME).tag("result", "hit")
+                .description("A&AI existence checks answered from the cache").register(meterRegistry);
+        misses = Counter.builder(METRIC_NAME).tag("result", "miss")
+                .description("A&AI existence checks that had to be sent to A&AI").register(meterRegistry);
+    }
+
+    /**
+     * @param url the URL of the resource
+     * @param distributionId the distribution that is checking the resource
+     * @return <code>true</code> if the resource has been seen recently and the distribution does not bypass the cache
+     */
+    public boolean isKnownPresent(String url, String distributionId) {
+        if (!enabled || bypassedDistributions.containsKey(distributionId)) {
+            return false;
+        }
+
+        String key = normalize(url);
+        long now = clock.millis();
+        boolean present;
+        synchronized (expiryByUrl) {
+            Long expiry = expiryByUrl.get(key);
+            present = expiry != null && expiry > now;
+            if (expiry != null && !present) {
+                expiryByUrl.remove(key);
+            }
+        }
+
+        (present ? hits : misses).increment();
+        return present;
+    }
+
+    /**
+     * Records that the resource exists in A&AI.
+     *
+     * @param url the URL of the resource
+     */
+    public void recordPresent(String url) {
+        if (!enabled) {
+            return;
+        }
+        synchronized (expiryByUrl) {
+            expiryByUrl.put(normalize(url), clock.millis() + ttlMillis);
+            Iterator<String> leastRecentlyUsed = expiryByUrl.keySet().iterator();
+            while (expiryByUrl.size() > maxEntries && leastRecentlyUsed.hasNext()) {
+                leastRecentlyUsed.next();
+                leastRecentlyUsed.remove();
+            }
+        }
+    }
+
+    /**
+     * Forgets the resource and everything below it (e.g. the model-vers of a model). Because a query URL cannot be
+     * related to the resource it found, all cached query lookups are forgotten as well.
+     *
+     * @param url the URL of the resource that is missing or has been deleted
+     */
+    public void invalidate(String url) {
+        if (!enabled) {
+            return;
+        }
+        String key = normalize(url);
+        String childPrefix = key.endsWith("/") ? key : key + "/";
+        synchronized (expiryByUrl) {
+            expiryByUrl.keySet().removeIf(cached -> cached.equals(key) || cached.startsWith(childPrefix)
+                    || cached.indexOf('?') >= 0);
+        }
+    }
+
+    /**
+     * Makes every existence check of the distribution go to A&AI until the returned handle is closed. Resources seen
+     * by the distribution are still recorded.
+     *
+     * @param distributionId the distribution
+     * @return handle that ends the bypass when closed
+     */
+    public Bypass bypass(String distributionId) {
+        bypassedDistributions.merge(distributionId, 1, Integer::sum);
+        return () -> bypassedDistributions.computeIfPresent(distributionId, (id, count) -> count > 1 ? count - 1 : null);
+    }
+
+    /**
+     * @param url the URL of a resource
+     * @return the key of the resource, which does not depend on the A&AI schema version of the URL
+     */
+    public static String normalize(String url) {
+        return SCHEMA_VERSION.matcher(url.trim()).replaceFirst("/aai/v*/");
+    }
+
+    /**
+     * Ends the bypass of a distribution.
+     */
+    @FunctionalInterface
+    public interface Bypass extends AutoCloseable {
+        @Override
+        void close();
+    }
+}
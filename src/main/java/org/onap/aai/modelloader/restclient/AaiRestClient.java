@@ -26,13 +26,16 @@ import org.onap.aai.cl.eelf.LoggerFactory;
 import org.onap.aai.modelloader.config.AaiProperties;
 import org.onap.aai.modelloader.entity.AaiResourcesObject;
 import org.onap.aai.modelloader.service.ModelLoaderMsgs;
+import org.onap.aai.modelloader.util.PayloadLog;
 import org.springframework.http.HttpEntity;
 import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpMethod;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
+import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Component;
+import org.springframework.web.client.HttpClientErrorException;
 import org.springframework.web.client.RestTemplate;
 
 /**
@@ -45,15 +48,55 @@ public class AaiRestClient {
     private final AaiProperties aaiProperties;
 
     private static Logger logger = LoggerFactory.getInstance().getLogger(AaiRestClient.class.getName());
+    private static final PayloadLog payloadLog = PayloadLog.forClass(AaiRestClient.class, logger);
     public static final String HEADER_TRANS_ID = "X-TransactionId";
     public static final String HEADER_FROM_APP_ID = "X-FromAppId";
     public static final String ML_APP_NAME = "ModelLoader";
     private static final String RESOURCE_VERSION_PARAM = "resource-version";
     private final RestTemplate restTemplate;
+    private final AaiResourceCache resourceCache;
 
-    public AaiRestClient(AaiProperties aaiProperties, RestTemplate restTemplate) {
+    /**
+     * @param resourceCache cache of resources known to be present, may be <code>null</code>
+     */
+    @Autowired
+    public AaiRestClient(AaiProperties aaiProperties, RestTemplate restTemplate, AaiResourceCache resourceCache) {
         this.aaiProperties = aaiProperties;
         this.restTemplate = restTemplate;
+        this.resourceCache = resourceCache;
+    }
+
+    /**
+     * Tests whether the resource has recently been seen in A&AI (fetched, created or updated), without sending a
+     * request.
+     *
+     * @param url the URL of the resource
+     * @param transId transaction ID, i.e. the distribution
+     * @return <code>true</code> if the resource is known to be present, <code>false</code> if it has to be fetched
+     */
+    public boolean isKnownPresent(String url, String transId) {
+        return resourceCache != null && resourceCache.isKnownPresent(url, transId);
+    }
+
+    /**
+     * Makes every existence check of the distribution go to A&AI until the returned handle is closed.
+     *
+     * @param transId transaction ID, i.e. the distribution
+     * @return handle that ends the bypass when closed
+     */
+    public AaiResourceCache.Bypass bypassResourceCache(String transId) {
+        return resourceCache == null ? () -> {} : resourceCache.bypass(transId);
+    }
+
+    /**
+     * Records that a resource is present in A&AI, e.g. a resource found with a query URL.
+     *
+     * @param url the URL of the resource
+     */
+    public void recordPresent(String url) {
+        if (resourceCache != null) {
+            resourceCache.recordPresent(url);
+        }
     }
 
     /**
@@ -70,7 +113,21 @@ public class AaiRestClient {
         headers.setAccept(Collections.singletonList(mediaType));
         HttpEntity<String> entity = new HttpEntity<>(headers);
 
-        return restTemplate.exchange(url, HttpMethod.GET, entity, responseType);
+        ResponseEntity<T> response;
+        try {
+            response = restTemplate.exchange(url, HttpMethod.GET, entity, responseType);
+        } catch (HttpClientErrorException e) {
+            if (e.getStatusCode().equals(HttpStatus.NOT_FOUND)) {
+                invalidate(url);
+            }
+            throw e;
+        }
+        if (response != null && response.getStatusCode().equals(HttpStatus.OK)) {
+            recordPresent(url);
+        } else if (response != null && response.getStatusCode().equals(HttpStatus.NOT_FOUND)) {
+            invalidate(url);
+        }
+        return response;
     }
 
     /**
@@ -83,17 +140,25 @@ public class AaiRestClient {
      * @return operation result
      */
     public <T> ResponseEntity<T> putResource(String url, T payload, String transId, MediaType mediaType, Class<T> responseType) {
-        logger.info(ModelLoaderMsgs.AAI_REST_REQUEST_PAYLOAD, payload.toString());
+        if (logger.isInfoEnabled()) {
+            logger.info(ModelLoaderMsgs.AAI_REST_REQUEST_PAYLOAD, payloadLog.describe(payload.toString()));
+        }
         HttpHeaders headers = defaultHeaders(transId);
         headers.setAccept(Collections.singletonList(mediaType));
         headers.setContentType(mediaType);
         HttpEntity<T> entity = new HttpEntity<>(payload, headers);
 
-        return restTemplate.exchange(url, HttpMethod.PUT, entity, responseType);
+        ResponseEntity<T> response = restTemplate.exchange(url, HttpMethod.PUT, entity, responseType);
+        if (response != null && response.getStatusCode().is2xxSuccessful()) {
+            recordPresent(url);
+        }
+        return response;
     }
 
     public <T> ResponseEntity<T> postResource(String url, T payload, String transId, MediaType mediaType, Class<T> responseType) {
-        logger.info(ModelLoaderMsgs.AAI_REST_REQUEST_PAYLOAD, payload.toString());
+        if (logger.isInfoEnabled()) {
+            logger.info(ModelLoaderMsgs.AAI_REST_REQUEST_PAYLOAD, payloadLog.describe(payload.toString()));
+        }
         HttpHeaders headers = defaultHeaders(transId);
         headers.setAccept(Collections.singletonList(mediaType));
         headers.setContentType(mediaType);
@@ -114,6 +179,7 @@ public class AaiRestClient {
         HttpHeaders headers = defaultHeaders(transId);
         String uri = url + "?" + RESOURCE_VERSION_PARAM + "=" + resourceVersion;
         HttpEntity<String> entity = new HttpEntity<>(headers);
+        invalidate(url);
         return restTemplate.exchange(uri, HttpMethod.DELETE, entity, String.class);
     }
 
@@ -135,21 +201,28 @@ public class AaiRestClient {
     }
 
 
-    private boolean useBasicAuth() {
-        return aaiProperties.getAuthUser() != null && aaiProperties.getAuthPassword() != null;
+    private void invalidate(String url) {
+        if (resourceCache != null) {
+            resourceCache.invalidate(url);
+        }
+    }
+
+    private HttpHeaders defaultHeaders(String transId) {
+        return defaultHeaders(aaiProperties, transId);
     }
 
     /**
      * Create the HTTP headers required for an A&AI operation (GET/POST/PUT/DELETE)
      *
+     * @param aaiProperties the A&AI credentials
      * @param transId
      * @return map of headers
      */
-    private HttpHeaders defaultHeaders(String transId) {
+    static HttpHeaders defaultHeaders(AaiProperties aaiProperties, String transId) {
         HttpHeaders headers = new HttpHeaders();
         headers.set(AaiRestClient.HEADER_TRANS_ID, transId);
         headers.set(AaiRestClient.HEADER_FROM_APP_ID, AaiRestClient.ML_APP_NAME);
-        if (useBasicAuth()) {
+        if (aaiProperties.getAuthUser() != null && aaiProperties.getAuthPassword() != null) {
             headers.setBasicAuth(aaiProperties.getAuthUser(), aaiProperties.getAuthPassword());
         }
         return headers;
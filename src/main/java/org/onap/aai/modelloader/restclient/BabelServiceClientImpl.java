@@ -21,6 +21,10 @@
 
 package org.onap.aai.modelloader.restclient;
 
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
 import org.onap.aai.babel.service.data.BabelArtifact;
@@ -28,36 +32,69 @@ import org.onap.aai.babel.service.data.BabelRequest;
 import org.onap.aai.cl.api.Logger;
 import org.onap.aai.cl.eelf.LoggerFactory;
 import org.onap.aai.modelloader.config.BabelProperties;
+import org.onap.aai.modelloader.config.HttpClientConfig;
 import org.onap.aai.modelloader.service.ModelLoaderMsgs;
-import org.springframework.core.ParameterizedTypeReference;
+import org.onap.aai.modelloader.util.CsarPayload;
+import org.onap.aai.modelloader.util.PayloadLog;
+import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.http.HttpEntity;
 import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpMethod;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
-import org.springframework.http.ResponseEntity;
+import org.springframework.http.StreamingHttpOutputMessage;
+import org.springframework.http.client.ClientHttpRequest;
+import org.springframework.http.client.ClientHttpResponse;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
 import org.springframework.stereotype.Component;
+import org.springframework.util.StreamUtils;
+import org.springframework.web.client.RequestCallback;
 import org.springframework.web.client.RestTemplate;
 
-import lombok.RequiredArgsConstructor;
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParseException;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.core.StreamWriteFeature;
+import com.fasterxml.jackson.databind.ObjectMapper;
 
 /**
  * HTTPS Client for interfacing with Babel.
  *
  */
 @Component
-@RequiredArgsConstructor
-public class BabelServiceClientImpl implements BabelServiceClient {
+public class BabelServiceClientImpl implements StreamingBabelServiceClient {
 
     private static final Logger logger = LoggerFactory.getInstance().getLogger(BabelServiceClientImpl.class);
+    private static final PayloadLog PAYLOAD_LOG = PayloadLog.forClass(BabelServiceClientImpl.class, logger);
+    private static final ObjectMapper OBJECT_MAPPER = Jackson2ObjectMapperBuilder.json().build();
+    private static final JsonFactory JSON_FACTORY =
+            JsonFactory.builder().disable(StreamWriteFeature.AUTO_CLOSE_TARGET).build();
     private final BabelProperties babelProperties;
     private final RestTemplate restTemplate;
 
+    public BabelServiceClientImpl(BabelProperties babelProperties,
+            @Qualifier(HttpClientConfig.BABEL_REST_TEMPLATE) RestTemplate restTemplate) {
+        this.babelProperties = babelProperties;
+        this.restTemplate = restTemplate;
+    }
+
     @Override
     public List<BabelArtifact> postArtifact(BabelRequest babelRequest, String transactionId) throws BabelServiceClientException {
+        List<BabelArtifact> babelArtifacts = new ArrayList<>();
+        postArtifact(babelRequest, transactionId, babelArtifacts::add);
+        return babelArtifacts;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public <E extends Exception> void postArtifact(BabelRequest babelRequest, String transactionId,
+            ArtifactConsumer<E> consumer) throws BabelServiceClientException, E {
         if (logger.isDebugEnabled()) {
             logger.debug(ModelLoaderMsgs.BABEL_REST_REQUEST_PAYLOAD, " Artifact Name: " + babelRequest.getArtifactName()
-                    + " Artifact version: " + babelRequest.getArtifactVersion() + " Artifact payload: " + babelRequest.getCsar());
+                    + " Artifact version: " + babelRequest.getArtifactVersion()
+                    + " CSAR size: " + describeCsar(babelRequest));
         }
 
         String resourceUrl = babelProperties.getBaseUrl() + babelProperties.getGenerateArtifactsUrl();
@@ -67,19 +104,126 @@ public class BabelServiceClientImpl implements BabelServiceClient {
         headers.setAccept(Collections.singletonList(MediaType.APPLICATION_JSON));
         headers.set(AaiRestClient.HEADER_TRANS_ID, transactionId);
         headers.set(AaiRestClient.HEADER_FROM_APP_ID, AaiRestClient.ML_APP_NAME);
-        HttpEntity<BabelRequest> entity = new HttpEntity<>(babelRequest, headers);
 
-        ResponseEntity<List<BabelArtifact>> artifactResponse = restTemplate.exchange(resourceUrl, HttpMethod.POST, entity, new ParameterizedTypeReference<List<BabelArtifact>>() {});
+        RequestCallback requestCallback;
+        if (babelRequest instanceof StreamingBabelRequest streamingRequest) {
+            requestCallback = request -> writeRequest(request, headers, streamingRequest);
+        } else {
+            requestCallback = restTemplate.httpEntityCallback(new HttpEntity<>(babelRequest, headers));
+        }
+
+        try {
+            restTemplate.execute(resourceUrl, HttpMethod.POST, requestCallback,
+                    response -> readResponse(response, consumer));
+        } catch (AbortedResponseException e) {
+            if (e.getCause() instanceof BabelServiceClientException clientException) {
+                throw clientException;
+            }
+            throw (E) e.getCause();
+        }
+    }
+
+    /**
+     * Describes the size of the CSAR for the debug log, without encoding a CSAR that is not yet Base64 encoded.
+     */
+    private static String describeCsar(BabelRequest babelRequest) {
+        if (babelRequest instanceof StreamingBabelRequest streamingRequest) {
+            CsarPayload csar = streamingRequest.csarPayload();
+            return csar == null ? "none" : csar.size() + " bytes";
+        }
+        String csar = babelRequest.getCsar();
+        return csar == null ? "none" : csar.length() + " Base64 characters";
+    }
+
+    /**
+     * Reads the JSON array of artifacts one element at a time, so that the response is never held as a whole and each
+     * artifact is processed while the next one is still being received.
+     */
+    static <E extends Exception> Void readResponse(ClientHttpResponse response, ArtifactConsumer<E> consumer)
+            throws IOException {
+        if (response.getStatusCode().value() != HttpStatus.OK.value()) {
+            throw new AbortedResponseException(new BabelServiceClientException(
+                    StreamUtils.copyToString(response.getBody(), StandardCharsets.UTF_8)));
+        }
+
+        int count = 0;
+        try (JsonParser parser = OBJECT_MAPPER.createParser(response.getBody())) {
+            JsonToken token = parser.nextToken();
+            if (token != JsonToken.START_ARRAY) {
+                throw new JsonParseException(parser, "Expected an array of Babel artifacts but found " + token);
+            }
+            while ((token = parser.nextToken()) != JsonToken.END_ARRAY) {
+                if (token == null) {
+                    throw new JsonParseException(parser, "Unexpected end of the Babel response");
+                }
+                if (token == JsonToken.VALUE_NULL) {
+                    continue;
+                }
+                BabelArtifact babelArtifact = OBJECT_MAPPER.readValue(parser, BabelArtifact.class);
+                count++;
+                if (logger.isDebugEnabled()) {
+                    logger.debug(ModelLoaderMsgs.DISTRIBUTION_EVENT, "Babel artifact " + babelArtifact.getName()
+                            + " " + babelArtifact.getType() + " " + PAYLOAD_LOG.describe(babelArtifact.getPayload()));
+                }
+                accept(consumer, babelArtifact);
+            }
+        }
 
         if (logger.isDebugEnabled()) {
             logger.debug(ModelLoaderMsgs.DISTRIBUTION_EVENT,
-                    "Babel response " + artifactResponse.getStatusCode() + " " + artifactResponse.getBody().toString());
+                    "Babel response " + response.getStatusCode() + " with " + count + " artifacts");
         }
+        return null;
+    }
 
-        if (!artifactResponse.getStatusCode().equals(HttpStatus.OK)) {
-            throw new BabelServiceClientException(artifactResponse.getBody().toString());
+    private static <E extends Exception> void accept(ArtifactConsumer<E> consumer, BabelArtifact babelArtifact) {
+        try {
+            consumer.accept(babelArtifact);
+        } catch (RuntimeException e) {
+            throw e;
+        } catch (Exception e) {
+            throw new AbortedResponseException(e);
         }
+    }
 
-        return artifactResponse.getBody();
+    private static void writeRequest(ClientHttpRequest request, HttpHeaders headers,
+            StreamingBabelRequest babelRequest) throws IOException {
+        request.getHeaders().putAll(headers);
+        if (request instanceof StreamingHttpOutputMessage streamingRequest) {
+            streamingRequest.setBody(outputStream -> writeJson(outputStream, babelRequest));
+        } else {
+            writeJson(request.getBody(), babelRequest);
+        }
+    }
+
+    /**
+     * Writes the request in the JSON form of a {@link BabelRequest}. The CSAR is Base64 encoded in small chunks
+     * straight into the output stream.
+     */
+    static void writeJson(OutputStream outputStream, StreamingBabelRequest babelRequest) throws IOException {
+        try (JsonGenerator generator = JSON_FACTORY.createGenerator(outputStream)) {
+            generator.writeStartObject();
+            generator.writeStringField("artifactName", babelRequest.getArtifactName());
+            generator.writeStringField("artifactVersion", babelRequest.getArtifactVersion());
+            generator.writeFieldName("csar");
+            CsarPayload csar = babelRequest.csarPayload();
+            if (csar == null) {
+                generator.writeNull();
+            } else {
+                generator.writeBinary(csar.openStream(), csar.size());
+            }
+            generator.writeEndObject();
+        }
+    }
+
+    /**
+     * Carries an exception of the artifact consumer (or an unexpected response) out of the response extractor.
+     */
+    private static class AbortedResponseException extends RuntimeException {
+        private static final long serialVersionUID = 1L;
+
+        AbortedResponseException(Exception cause) {
+            super(cause);
+        }
     }
 }
@@ -0,0 +1,104 @@
+/**
+ * ============LICENSE_START=======================================================
+ * org.onap.aai
+ * ================================================================================
+ * Copyright © 2025 Deutsche Telekom AG Intellectual Property. All rights reserved.
+ * ================================================================================
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * ============LICENSE_END=========================================================
+ */
+package org.onap.aai.modelloader.restclient;
+
+import org.onap.aai.modelloader.config.AaiProperties;
+import org.onap.aai.modelloader.config.HttpClientConfig;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.stereotype.Component;
+import org.springframework.web.reactive.function.client.WebClient;
+
+import reactor.core.publisher.Mono;
+
+/**
+ * Non-blocking lookups of A&AI resources, used to check many resources at once without holding a thread per request
+ * (see {@link org.onap.aai.modelloader.service.ExistencePrefetch}). The models are written with {@link AaiRestClient}.
+ * The requests are sent when the returned {@link Mono} is subscribed to. Unlike the RestTemplate based client every
+ * response is emitted as {@link ResponseEntity}, whatever its status; only requests without a response end in an
+ * error. The cache of resources known to be present is maintained the same way.
+ */
+@Component
+public class ReactiveAaiRestClient {
+
+    private final AaiProperties aaiProperties;
+    private final WebClient webClient;
+    private final AaiResourceCache resourceCache;
+
+    /**
+     * @param resourceCache cache of resources known to be present, may be <code>null</code>
+     */
+    @Autowired
+    public ReactiveAaiRestClient(AaiProperties aaiProperties,
+            @Qualifier(HttpClientConfig.AAI_WEB_CLIENT) WebClient webClient, AaiResourceCache resourceCache) {
+        this.aaiProperties = aaiProperties;
+        this.webClient = webClient;
+        this.resourceCache = resourceCache;
+    }
+
+    /**
+     * Tests whether the resource has recently been seen in A&AI, without sending a request.
+     *
+     * @param url the URL of the resource
+     * @param transId transaction ID, i.e. the distribution
+     * @return <code>true</code> if the resource is known to be present, <code>false</code> if it has to be fetched
+     */
+    public boolean isKnownPresent(String url, String transId) {
+        return resourceCache != null && resourceCache.isKnownPresent(url, transId);
+    }
+
+    /**
+     * GET a resource from A&AI.
+     *
+     * @param url the URL of the resource
+     * @param transId transaction ID
+     * @param mediaType the accepted content type (XML or JSON)
+     * @param responseType type the response body is converted to
+     * @return the response, the body is empty if the resource does not exist
+     */
+    public <T> Mono<ResponseEntity<T>> getResource(String url, String transId, MediaType mediaType,
+            Class<T> responseType) {
+        return Mono.defer(() -> webClient.get().uri(url)
+                .headers(headers -> headers.addAll(AaiRestClient.defaultHeaders(aaiProperties, transId)))
+                .accept(mediaType)
+                .exchangeToMono(response -> response.toEntity(responseType))).doOnNext(response -> {
+            if (response.getStatusCode().equals(HttpStatus.OK)) {
+                recordPresent(url);
+            } else if (response.getStatusCode().equals(HttpStatus.NOT_FOUND)) {
+                invalidate(url);
+            }
+        });
+    }
+
+    private void recordPresent(String url) {
+        if (resourceCache != null) {
+            resourceCache.recordPresent(url);
+        }
+    }
+
+    private void invalidate(String url) {
+        if (resourceCache != null) {
+            resourceCache.invalidate(url);
+        }
+    }
+}
@@ -0,0 +1,68 @@
+/**
+ * ============LICENSE_START=======================================================
+ * org.onap.aai
+ * ================================================================================
+ * Copyright © 2025 Deutsche Telekom AG Intellectual Property. All rights reserved.
+ * ================================================================================
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * ============LICENSE_END=========================================================
+ */
+package org.onap.aai.modelloader.restclient;
+
+import java.util.Base64;
+
+import org.onap.aai.babel.service.data.BabelRequest;
+import org.onap.aai.modelloader.util.CsarPayload;
+
+/**
+ * Babel request that holds the CSAR as downloaded instead of Base64 encoded. The {@link BabelServiceClientImpl}
+ * encodes the CSAR while it writes the request body, so no encoded copy of the CSAR is held in memory. A CSAR that has
+ * been spilled to disk is encoded straight from its memory mapping.
+ */
+public class StreamingBabelRequest extends BabelRequest {
+
+    private CsarPayload csarPayload;
+
+    public StreamingBabelRequest(String artifactName, String artifactVersion, byte[] csarBytes) {
+        this(artifactName, artifactVersion, CsarPayload.of(csarBytes));
+    }
+
+    /**
+     * @param csarPayload the CSAR, which remains owned (and closed) by the caller
+     */
+    public StreamingBabelRequest(String artifactName, String artifactVersion, CsarPayload csarPayload) {
+        setArtifactName(artifactName);
+        setArtifactVersion(artifactVersion);
+        this.csarPayload = csarPayload;
+    }
+
+    /**
+     * The CSAR as downloaded. Not named as a getter, so that Jackson never serializes it with the request.
+     */
+    public CsarPayload csarPayload() {
+        return csarPayload;
+    }
+
+    /**
+     * Encodes the CSAR on every call, prefer {@link #csarPayload()}.
+     */
+    @Override
+    public String getCsar() {
+        return csarPayload == null ? null : Base64.getEncoder().encodeToString(csarPayload.toByteArray());
+    }
+
+    @Override
+    public void setCsar(String csar) {
+        this.csarPayload = csar == null ? null : CsarPayload.of(Base64.getDecoder().decode(csar));
+    }
+}
@@ -0,0 +1,47 @@
+/**
+ * ============LICENSE_START=======================================================
+ * org.onap.aai
+ * ================================================================================
+ * Copyright © 2025 Deutsche Telekom AG Intellectual Property. All rights reserved.
+ * ================================================================================
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * ============LICENSE_END=========================================================
+ */
+package org.onap.aai.modelloader.restclient;
+
+import org.onap.aai.babel.service.data.BabelArtifact;
+import org.onap.aai.babel.service.data.BabelRequest;
+
+/**
+ * A {@link BabelServiceClient} that hands every translated artifact to the caller as soon as it has been read from the
+ * response, so that the artifacts can be processed while the rest of the response is still being received.
+ */
+public interface StreamingBabelServiceClient extends BabelServiceClient {
+
+    /**
+     * Receives the translated artifacts in the order of the Babel response.
+     *
+     * @param <E> the exception thrown when an artifact cannot be processed
+     */
+    @FunctionalInterface
+    interface ArtifactConsumer<E extends Exception> {
+        void accept(BabelArtifact babelArtifact) throws E;
+    }
+
+    /**
+     * Posts the CSAR to Babel and passes each translated artifact to the consumer. An exception of the consumer aborts
+     * the reading of the response and is thrown unchanged.
+     */
+    <E extends Exception> void postArtifact(BabelRequest babelRequest, String transactionId,
+            ArtifactConsumer<E> consumer) throws BabelServiceClientException, E;
+}
@@ -22,11 +22,14 @@ package org.onap.aai.modelloader.service;
 
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Set;
 
 import org.onap.aai.modelloader.entity.Artifact;
 import org.onap.aai.modelloader.entity.catalog.VnfCatalogArtifactHandler;
 import org.onap.aai.modelloader.entity.model.ModelArtifactHandler;
+import org.onap.aai.modelloader.restclient.AaiResourceCache;
 import org.onap.aai.modelloader.restclient.AaiRestClient;
+import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Component;
 
 /**
@@ -38,11 +41,24 @@ public class ArtifactDeploymentManager {
     private final ModelArtifactHandler modelArtifactHandler;
     private final VnfCatalogArtifactHandler vnfCatalogArtifactHandler;
     private final AaiRestClient aaiClient;
+    private final BulkArtifactDeployer bulkArtifactDeployer;
+    private final ExistencePrefetch existencePrefetch;
 
-    public ArtifactDeploymentManager(ModelArtifactHandler modelArtifactHandler, VnfCatalogArtifactHandler vnfCatalogArtifactHandler, AaiRestClient aaiClient) {
+    /**
+     * @param bulkArtifactDeployer deploys large distributions in bulk, may be <code>null</code> to push each artifact
+     *        separately
+     * @param existencePrefetch the lookups made while the CSARs were translated, awaited before the models are
+     *        deployed; may be <code>null</code>
+     */
+    @Autowired
+    public ArtifactDeploymentManager(ModelArtifactHandler modelArtifactHandler,
+            VnfCatalogArtifactHandler vnfCatalogArtifactHandler, AaiRestClient aaiClient,
+            BulkArtifactDeployer bulkArtifactDeployer, ExistencePrefetch existencePrefetch) {
         this.modelArtifactHandler = modelArtifactHandler;
         this.vnfCatalogArtifactHandler = vnfCatalogArtifactHandler;
         this.aaiClient = aaiClient;
+        this.bulkArtifactDeployer = bulkArtifactDeployer;
+        this.existencePrefetch = existencePrefetch;
     }
 
     /**
@@ -56,23 +72,69 @@ public class ArtifactDeploymentManager {
      */
     public boolean deploy(final String distributionId, final List<Artifact> modelArtifacts,
             final List<Artifact> catalogArtifacts) {
+        return deploy(distributionId, modelArtifacts, catalogArtifacts, false);
+    }
+
+    /**
+     * Deploys model and catalog artifacts to A&AI.
+     *
+     * @param distributionId data about the notification that is being processed
+     * @param modelArtifacts collection of artifacts that represent yml files found in a TOSCA_CSAR file that have been
+     *        converted to XML and also those for model query specs
+     * @param catalogArtifacts collection of artifacts that represent vnf catalog files
+     * @param bypassResourceCache <code>true</code> to check every resource in A&AI instead of trusting the cache of
+     *        resources known to be present
+     * @return boolean <code>true</code> if all deployments were successful otherwise <code>false</code>
+     */
+    public boolean deploy(final String distributionId, final List<Artifact> modelArtifacts,
+            final List<Artifact> catalogArtifacts, boolean bypassResourceCache) {
+        if (!bypassResourceCache) {
+            Set<String> knownAbsentUrls = Set.of();
+            if (existencePrefetch != null) {
+                // The existence checks of the models are answered from the cache and the prefetch once it is done
+                knownAbsentUrls = existencePrefetch.await(distributionId);
+            }
+            return pushAndRollBackOnFailure(distributionId, modelArtifacts, catalogArtifacts, knownAbsentUrls);
+        }
+        try (AaiResourceCache.Bypass bypass = aaiClient.bypassResourceCache(distributionId)) {
+            return pushAndRollBackOnFailure(distributionId, modelArtifacts, catalogArtifacts, Set.of());
+        }
+    }
+
+    /**
+     * @param knownAbsentUrls the resources that the prefetch found missing, only trusted by the bulk deployment
+     */
+    private boolean pushAndRollBackOnFailure(String distributionId, List<Artifact> modelArtifacts,
+            List<Artifact> catalogArtifacts, Set<String> knownAbsentUrls) {
+        if (bulkArtifactDeployer != null && bulkArtifactDeployer.isEnabled()) {
+            BulkArtifactDeployer.Outcome outcome = bulkArtifactDeployer.deploy(distributionId, modelArtifacts,
+                    catalogArtifacts, aaiClient, knownAbsentUrls);
+            if (outcome != BulkArtifactDeployer.Outcome.UNSUPPORTED) {
+                return outcome == BulkArtifactDeployer.Outcome.DEPLOYED;
+            }
+        }
 
         List<Artifact> completedArtifacts = new ArrayList<>();
-        boolean deploySuccess =
-                modelArtifactHandler.pushArtifacts(modelArtifacts, distributionId, completedArtifacts, aaiClient);
+        try {
+            boolean deploySuccess =
+                    modelArtifactHandler.pushArtifacts(modelArtifacts, distributionId, completedArtifacts, aaiClient);
 
-        if (!deploySuccess) {
-            modelArtifactHandler.rollback(completedArtifacts, distributionId, aaiClient);
-        } else {
-            List<Artifact> completedImageData = new ArrayList<>();
-            deploySuccess = vnfCatalogArtifactHandler.pushArtifacts(catalogArtifacts, distributionId,
-                    completedImageData, aaiClient);
             if (!deploySuccess) {
                 modelArtifactHandler.rollback(completedArtifacts, distributionId, aaiClient);
-                vnfCatalogArtifactHandler.rollback(completedImageData, distributionId, aaiClient);
+            } else {
+                List<Artifact> completedImageData = new ArrayList<>();
+                deploySuccess = vnfCatalogArtifactHandler.pushArtifacts(catalogArtifacts, distributionId,
+                        completedImageData, aaiClient);
+                if (!deploySuccess) {
+                    modelArtifactHandler.rollback(completedArtifacts, distributionId, aaiClient);
+                    vnfCatalogArtifactHandler.rollback(completedImageData, distributionId, aaiClient);
+                }
             }
-        }
 
-        return deploySuccess;
+            return deploySuccess;
+        } finally {
+            // The models kept by this distribution can no longer be deleted by the distributions sharing them
+            modelArtifactHandler.commit(completedArtifacts, distributionId);
+        }
     }
 }
\ No newline at end of file
@@ -0,0 +1,212 @@
+/**
+ * ============LICENSE_START=======================================================
+ * org.onap.aai
+ * ================================================================================
+ * Copyright © 2025 Deutsche Telekom AG Intellectual Property. All rights reserved.
+ * ================================================================================
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * ============LICENSE_END=========================================================
+ */
+package org.onap.aai.modelloader.service;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+
+import org.json.JSONException;
+import org.onap.aai.cl.api.Logger;
+import org.onap.aai.cl.eelf.LoggerFactory;
+import org.onap.aai.modelloader.config.AaiDeploymentMode;
+import org.onap.aai.modelloader.config.AaiProperties;
+import org.onap.aai.modelloader.entity.AaiBulkTransaction;
+import org.onap.aai.modelloader.entity.AaiBulkTransaction.Operation;
+import org.onap.aai.modelloader.entity.Artifact;
+import org.onap.aai.modelloader.entity.catalog.VnfCatalogArtifact;
+import org.onap.aai.modelloader.entity.catalog.VnfCatalogArtifactHandler;
+import org.onap.aai.modelloader.entity.model.AbstractModelArtifact;
+import org.onap.aai.modelloader.entity.model.BabelArtifactParsingException;
+import org.onap.aai.modelloader.entity.model.ModelArtifactHandler;
+import org.onap.aai.modelloader.entity.model.ModelSorter;
+import org.onap.aai.modelloader.restclient.AaiRestClient;
+import org.onap.aai.modelloader.service.DistributionMetrics.Stage;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.stereotype.Component;
+import org.springframework.web.client.HttpStatusCodeException;
+import org.springframework.web.client.RestClientException;
+
+import io.micrometer.core.instrument.Timer;
+
+/**
+ * Deploys the artifacts of a distribution with the A&AI bulk single-transaction API. The existence of the resources is
+ * checked first, then the missing models, model-vers, named queries and vnf-images are written in dependency order
+ * with as few transactions as the configured chunk size allows. A&AI rolls back a failed transaction itself; the
+ * transactions that were committed before are rolled back resource by resource.
+ *
+ * <p>
+ * Resources that the existence cache knows to be present, or that the {@link ExistencePrefetch} found missing, are not
+ * looked up again. Another distribution may have created a missing resource since, so a failed deployment that relied
+ * on the prefetch is repeated once with every missing resource looked up.
+ */
+@Component
+public class BulkArtifactDeployer {
+
+    private static final Logger logger = LoggerFactory.getInstance().getLogger(BulkArtifactDeployer.class);
+
+    /** Statuses returned by A&AI versions that do not provide the single-transaction API. */
+    private static final Set<Integer> BULK_API_MISSING_STATUSES = Set.of(HttpStatus.NOT_FOUND.value(),
+            HttpStatus.METHOD_NOT_ALLOWED.value(), HttpStatus.NOT_IMPLEMENTED.value());
+    /** A transaction holds the models, named queries and vnf-images of a distribution. */
+    private static final String ALL_ARTIFACT_TYPES = "ALL";
+
+    public enum Outcome {
+        /** All resources have been written. */
+        DEPLOYED,
+        /** The deployment failed and the resources written so far have been rolled back. */
+        FAILED,
+        /** A&AI does not provide the bulk API, nothing has been written. */
+        UNSUPPORTED
+    }
+
+    private final AaiProperties aaiProperties;
+    private final ModelArtifactHandler modelArtifactHandler;
+    private final VnfCatalogArtifactHandler vnfCatalogArtifactHandler;
+    private final DistributionMetrics metrics;
+
+    @Autowired
+    public BulkArtifactDeployer(AaiProperties aaiProperties, ModelArtifactHandler modelArtifactHandler,
+            VnfCatalogArtifactHandler vnfCatalogArtifactHandler, DistributionMetrics metrics) {
+        this.aaiProperties = aaiProperties;
+        this.modelArtifactHandler = modelArtifactHandler;
+        this.vnfCatalogArtifactHandler = vnfCatalogArtifactHandler;
+        this.metrics = metrics == null ? DistributionMetrics.noop() : metrics;
+    }
+
+    /**
+     * @return <code>true</code> if the bulk deployment mode is configured (it is not used together with Gizmo)
+     */
+    public boolean isEnabled() {
+        return aaiProperties.getDeploymentMode() == AaiDeploymentMode.BULK && !aaiProperties.isUseGizmo();
+    }
+
+    /**
+     * Deploys model and catalog artifacts to A&AI in bulk transactions.
+     *
+     * @param distributionId the distribution ID
+     * @param modelArtifacts the model and named query artifacts
+     * @param catalogArtifacts the vnf catalog artifacts
+     * @param aaiClient the A&AI client
+     * @param knownAbsentUrls the resources that the prefetch found missing, see {@link ExistencePrefetch#await(String)}
+     * @return the outcome of the deployment
+     */
+    public Outcome deploy(String distributionId, List<Artifact> modelArtifacts, List<Artifact> catalogArtifacts,
+            AaiRestClient aaiClient, Set<String> knownAbsentUrls) {
+        Timer.Sample sample = metrics.start();
+        Outcome outcome = Outcome.FAILED;
+        try {
+            AaiBulkTransaction transaction = new AaiBulkTransaction(knownAbsentUrls);
+            outcome = push(distributionId, modelArtifacts, catalogArtifacts, aaiClient, transaction);
+            if (outcome == Outcome.FAILED && transaction.reliesOnKnownAbsence()) {
+                logger.info(ModelLoaderMsgs.DISTRIBUTION_EVENT, "Bulk deployment of distribution " + distributionId
+                        + " failed, looking up the resources that the prefetch found missing.");
+                outcome = push(distributionId, modelArtifacts, catalogArtifacts, aaiClient,
+                        new AaiBulkTransaction(Set.of()));
+            }
+            return outcome;
+        } finally {
+            if (outcome != Outcome.UNSUPPORTED) {
+                metrics.stop(sample, Stage.BULK_PUSH, ALL_ARTIFACT_TYPES, outcome == Outcome.DEPLOYED);
+            }
+        }
+    }
+
+    private Outcome push(String distributionId, List<Artifact> modelArtifacts, List<Artifact> catalogArtifacts,
+            AaiRestClient aaiClient, AaiBulkTransaction transaction) {
+        try {
+            for (Artifact artifact : new ModelSorter().sort(modelArtifacts)) {
+                ((AbstractModelArtifact) artifact).addBulkOperations(aaiClient, aaiProperties, distributionId,
+                        transaction);
+            }
+        } catch (BabelArtifactParsingException | RestClientException | JSONException
+                | IllegalArgumentException e) {
+            logger.error(ModelLoaderMsgs.DISTRIBUTION_EVENT_ERROR,
+                    "Unable to prepare the bulk deployment: " + e.getMessage());
+            return Outcome.FAILED;
+        }
+        if (!vnfCatalogArtifactHandler.addBulkOperations(catalogArtifacts, distributionId, aaiClient, transaction)) {
+            return Outcome.FAILED;
+        }
+
+        List<Artifact> completedModels = new ArrayList<>();
+        List<Artifact> completedImages = new ArrayList<>();
+        List<List<Operation>> chunks = transaction.chunks(aaiProperties.getBulk().getMaxOperations());
+        for (int i = 0; i < chunks.size(); i++) {
+            List<Operation> chunk = chunks.get(i);
+            Outcome outcome = commit(chunk, distributionId, aaiClient, i == 0);
+            if (outcome != Outcome.DEPLOYED) {
+                modelArtifactHandler.rollback(completedModels, distributionId, aaiClient);
+                vnfCatalogArtifactHandler.rollback(completedImages, distributionId, aaiClient);
+                return outcome;
+            }
+            for (Operation operation : chunk) {
+                aaiClient.recordPresent(operation.getUrl());
+                if (operation.getArtifact() instanceof VnfCatalogArtifact) {
+                    completedImages.add(operation.getArtifact());
+                } else {
+                    completedModels.add(operation.getArtifact());
+                }
+            }
+            logger.info(ModelLoaderMsgs.DISTRIBUTION_EVENT, "Bulk transaction " + (i + 1) + " of " + chunks.size()
+                    + " with " + chunk.size() + " operations successfully committed.");
+        }
+
+        return Outcome.DEPLOYED;
+    }
+
+    private Outcome commit(List<Operation> chunk, String distributionId, AaiRestClient aaiClient,
+            boolean firstTransaction) {
+        String url = aaiProperties.getBaseUrl().trim() + aaiProperties.getBulk().getUrl().trim();
+        try {
+            ResponseEntity<String> response = aaiClient.postResource(url, AaiBulkTransaction.toPayload(chunk),
+                    distributionId, MediaType.APPLICATION_JSON, String.class);
+            if (response != null && response.getStatusCode().is2xxSuccessful()
+                    && AaiBulkTransaction.isSuccessful(response.getBody())) {
+                return Outcome.DEPLOYED;
+            }
+            logger.error(ModelLoaderMsgs.DISTRIBUTION_EVENT_ERROR, "Bulk transaction failed: "
+                    + (response == null ? "no response" : response.getBody()) + ". Rolling back distribution.");
+        } catch (HttpStatusCodeException e) {
+            if (firstTransaction && isBulkApiMissing(e)) {
+                logger.warn(ModelLoaderMsgs.DISTRIBUTION_EVENT, "The A&AI bulk API is not available (status "
+                        + e.getStatusCode().value() + "), deploying resource by resource.");
+                return Outcome.UNSUPPORTED;
+            }
+            logger.error(ModelLoaderMsgs.DISTRIBUTION_EVENT_ERROR, "Bulk transaction failed with status "
+                    + e.getStatusCode().value() + ": " + e.getResponseBodyAsString() + ". Rolling back distribution.");
+        } catch (RestClientException e) {
+            logger.error(ModelLoaderMsgs.DISTRIBUTION_EVENT_ERROR,
+                    "Bulk transaction failed: " + e.getMessage() + ". Rolling back distribution.");
+        }
+        return Outcome.FAILED;
+    }
+
+    /**
+     * A failed transaction is answered with the responses of its operations, a missing endpoint is not.
+     */
+    private boolean isBulkApiMissing(HttpStatusCodeException e) {
+        return BULK_API_MISSING_STATUSES.contains(e.getStatusCode().value())
+                && !e.getResponseBodyAsString().contains("operation-responses");
+    }
+}
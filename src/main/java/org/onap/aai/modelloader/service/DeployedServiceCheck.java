@@ -0,0 +1,148 @@
+/**
+ * ============LICENSE_START=======================================================
+ * org.onap.aai
+ * ================================================================================
+ * Copyright © 2025 Deutsche Telekom AG Intellectual Property. All rights reserved.
+ * ================================================================================
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * ============LICENSE_END=========================================================
+ */
+package org.onap.aai.modelloader.service;
+
+import java.util.Map;
+
+import org.onap.aai.cl.api.Logger;
+import org.onap.aai.cl.eelf.LoggerFactory;
+import org.onap.aai.modelloader.config.AaiProperties;
+import org.onap.aai.modelloader.restclient.AaiRestClient;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.stereotype.Component;
+import org.springframework.web.client.HttpClientErrorException;
+import org.springframework.web.client.RestClientException;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+
+/**
+ * Detects the redelivery of a service that has already been deployed, so that its CSAR does not have to be translated
+ * and its models do not have to be checked one by one ({@code ml.aai.skip-deployed-services}).
+ *
+ * <p>
+ * The service is looked up by the invariantUUID and UUID of the service template of the CSAR. Its model-ver is
+ * written after all models it depends on, and a rollback deletes the pushed models in the reverse order of their push,
+ * so it is deleted before any of its dependents. The relationships of its model-elements can only refer to model-vers
+ * that exist, so a service model-ver in A&AI implies that its dependents are present as well. The outcome of every check is counted in {@code modelloader.distribution.redelivery-check}.
+ */
+@Component
+public class DeployedServiceCheck {
+
+    private static final Logger logger = LoggerFactory.getInstance().getLogger(DeployedServiceCheck.class);
+
+    /** Keys of the service template metadata that identify the service model-ver. */
+    public static final String INVARIANT_UUID = "invariantUUID";
+    public static final String UUID = "UUID";
+
+    static final String METRIC_NAME = "modelloader.distribution.redelivery-check";
+
+
+    /**
+     * The outcome of a check.
+     */
+    public enum Result {
+        /** The service model-ver is present, the deployment is skipped. */
+        DEPLOYED("deployed"),
+        /** The service model-ver is missing, the CSAR is deployed as usual. */
+        NOT_DEPLOYED("not-deployed"),
+        /** The CSAR has no service template metadata to look up. */
+        NO_METADATA("no-metadata"),
+        /** A&AI could not be asked, the CSAR is deployed as usual. */
+        ERROR("error");
+
+        private final String tag;
+
+        Result(String tag) {
+            this.tag = tag;
+        }
+    }
+
+    private final AaiProperties aaiProperties;
+    private final AaiRestClient aaiClient;
+    private final MeterRegistry meterRegistry;
+
+    @Autowired
+    public DeployedServiceCheck(AaiProperties aaiProperties, AaiRestClient aaiClient, MeterRegistry meterRegistry) {
+        this.aaiProperties = aaiProperties;
+        this.aaiClient = aaiClient;
+        this.meterRegistry = meterRegistry;
+    }
+
+    /**
+     * @return <code>true</code> if redelivered services are detected. The Gizmo API is not supported.
+     */
+    public boolean isEnabled() {
+        return aaiProperties.isSkipDeployedServices() && !aaiProperties.isUseGizmo();
+    }
+
+    /**
+     * Looks up the model-ver of the service in A&AI, unless it is already known to be present.
+     *
+     * @param serviceMetadata the metadata of the service template of the CSAR
+     * @param distributionId the distribution that delivered the CSAR
+     * @return the outcome of the check
+     */
+    public Result check(Map<String, String> serviceMetadata, String distributionId) {
+        Result result = lookUp(serviceMetadata, distributionId);
+        Counter.builder(METRIC_NAME)
+                .description("Outcome of the checks whether a distributed service has already been deployed")
+                .tag("result", result.tag)
+                .register(meterRegistry)
+                .increment();
+        return result;
+    }
+
+    private Result lookUp(Map<String, String> serviceMetadata, String distributionId) {
+        String invariantId = serviceMetadata.get(INVARIANT_UUID);
+        String versionId = serviceMetadata.get(UUID);
+        if (invariantId == null || invariantId.isBlank() || versionId == null || versionId.isBlank()) {
+            return Result.NO_METADATA;
+        }
+
+        String url = modelVerUrl(invariantId, versionId);
+        if (aaiClient.isKnownPresent(url, distributionId)) {
+            return Result.DEPLOYED;
+        }
+        try {
+            // The client records the model-ver as present for later checks
+            ResponseEntity<String> response =
+                    aaiClient.getResource(url, distributionId, MediaType.APPLICATION_XML, String.class);
+            return response != null && HttpStatus.OK.equals(response.getStatusCode()) ? Result.DEPLOYED
+                    : Result.NOT_DEPLOYED;
+        } catch (HttpClientErrorException e) {
+            if (HttpStatus.NOT_FOUND.equals(e.getStatusCode())) {
+                return Result.NOT_DEPLOYED;
+            }
+            logger.warn(ModelLoaderMsgs.DISTRIBUTION_EVENT, "Could not look up service " + url + ": " + e);
+            return Result.ERROR;
+        } catch (RestClientException e) {
+            logger.warn(ModelLoaderMsgs.DISTRIBUTION_EVENT, "Could not look up service " + url + ": " + e);
+            return Result.ERROR;
+        }
+    }
+
+    String modelVerUrl(String invariantId, String versionId) {
+        return LatestModelUrls.modelVer(aaiProperties, invariantId, versionId);
+    }
+}
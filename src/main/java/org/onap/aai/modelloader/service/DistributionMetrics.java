@@ -0,0 +1,135 @@
+/**
+ * ============LICENSE_START=======================================================
+ * org.onap.aai
+ * ================================================================================
+ * Copyright © 2025 Deutsche Telekom AG Intellectual Property. All rights reserved.
+ * ================================================================================
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * ============LICENSE_END=========================================================
+ */
+package org.onap.aai.modelloader.service;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.composite.CompositeMeterRegistry;
+
+/**
+ * Timers of the distribution pipeline. The overall time of a distribution is published as
+ * {@code modelloader.distribution}, the time of each stage as {@code modelloader.distribution.stage}, tagged with the
+ * stage, the artifact type and the outcome. Both are published with percentile histograms, so that latency
+ * percentiles can be aggregated across instances.
+ *
+ * <p>
+ * A stage is measured by taking a sample with {@link #start()} before the stage and handing it to
+ * {@link #stop(Timer.Sample, Stage, String, boolean)} once the outcome is known.
+ */
+@Component
+public class DistributionMetrics {
+
+    public static final String DISTRIBUTION_METRIC = "modelloader.distribution";
+    public static final String STAGE_METRIC = "modelloader.distribution.stage";
+
+    /**
+     * The stages of a distribution.
+     */
+    public enum Stage {
+        /** Download of an artifact from SDC. */
+        DOWNLOAD("download"),
+        /** Translation of a CSAR by Babel (translations served from the cache are not included). */
+        BABEL("babel"),
+        /** Parsing of a model, named query or catalog artifact. */
+        PARSE("parse"),
+        /** Dependency sort of the models. */
+        SORT("sort"),
+        /** Push of the models and named queries to A&AI. */
+        MODEL_PUSH("model-push"),
+        /** Push of the VNF catalog images to A&AI. */
+        CATALOG_PUSH("catalog-push"),
+        /** Push of all artifacts with A&AI bulk transactions. */
+        BULK_PUSH("bulk-push"),
+        /** Removal of the artifacts of a failed distribution from A&AI. */
+        ROLLBACK("rollback"),
+        /** Publication of a distribution status to SDC. */
+        PUBLISH("publish");
+
+        private final String tag;
+
+        Stage(String tag) {
+            this.tag = tag;
+        }
+
+        public String getTag() {
+            return tag;
+        }
+    }
+
+    private final MeterRegistry meterRegistry;
+
+    @Autowired
+    public DistributionMetrics(MeterRegistry meterRegistry) {
+        this.meterRegistry = meterRegistry;
+    }
+
+    /**
+     * @return metrics that are not published anywhere, for components that are created without a registry
+     */
+    public static DistributionMetrics noop() {
+        return new DistributionMetrics(new CompositeMeterRegistry());
+    }
+
+    /**
+     * @return a sample measuring from now on
+     */
+    public Timer.Sample start() {
+        return Timer.start(meterRegistry);
+    }
+
+    /**
+     * Records the time of a stage.
+     *
+     * @param sample the sample taken at the start of the stage
+     * @param stage the stage
+     * @param artifactType the type of the artifact the stage processed
+     * @param success whether the stage succeeded
+     */
+    public void stop(Timer.Sample sample, Stage stage, String artifactType, boolean success) {
+        sample.stop(Timer.builder(STAGE_METRIC)
+                .description("Time spent in a stage of a distribution")
+                .tag("stage", stage.getTag())
+                .tag("artifact.type", artifactType == null ? "unknown" : artifactType)
+                .tag("outcome", outcome(success))
+                .publishPercentileHistogram()
+                .register(meterRegistry));
+    }
+
+    /**
+     * Records the time of a complete distribution, from the notification to the final status.
+     *
+     * @param sample the sample taken when the notification was received
+     * @param success whether the distribution was deployed
+     */
+    public void stopDistribution(Timer.Sample sample, boolean success) {
+        sample.stop(Timer.builder(DISTRIBUTION_METRIC)
+                .description("Time taken to process a distribution")
+                .tag("outcome", outcome(success))
+                .publishPercentileHistogram()
+                .register(meterRegistry));
+    }
+
+    private static String outcome(boolean success) {
+        return success ? "success" : "failure";
+    }
+}
@@ -0,0 +1,205 @@
+/**
+ * ============LICENSE_START=======================================================
+ * org.onap.aai
+ * ================================================================================
+ * Copyright © 2025 Deutsche Telekom AG Intellectual Property. All rights reserved.
+ * ================================================================================
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * ============LICENSE_END=========================================================
+ */
+package org.onap.aai.modelloader.service;
+
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+import org.onap.aai.cl.api.Logger;
+import org.onap.aai.cl.eelf.LoggerFactory;
+import org.onap.aai.modelloader.config.AaiExistenceCacheProperties;
+import org.onap.aai.modelloader.config.AaiProperties;
+import org.onap.aai.modelloader.extraction.CsarScan.ModelId;
+import org.onap.aai.modelloader.restclient.AaiResourceCache;
+import org.onap.aai.modelloader.restclient.ReactiveAaiRestClient;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+/**
+ * Looks up the models of a CSAR in A&AI while Babel translates it ({@code ml.aai.existence-cache.prefetch}).
+ *
+ * <p>
+ * The IDs are taken from the TOSCA templates of the CSAR, which name the service and the resources that Babel turns
+ * into models. The requests are sent on the event loop of the {@link ReactiveAaiRestClient}, so the distribution
+ * thread carries on with the translation. Resources that are found are recorded in the existence cache, where the
+ * deployment of the models finds them instead of sending its own requests. Missing resources are only handed to the
+ * deployment of the same distribution (see {@link #await(String)}), since another distribution may create a shared
+ * model in the meantime. The outcome of every request is counted in {@code modelloader.aai.existence-prefetch}.
+ */
+@Component
+public class ExistencePrefetch {
+
+    private static final Logger logger = LoggerFactory.getInstance().getLogger(ExistencePrefetch.class);
+
+    static final String METRIC_NAME = "modelloader.aai.existence-prefetch";
+
+    private final AaiProperties aaiProperties;
+    private final ReactiveAaiRestClient aaiClient;
+    private final MeterRegistry meterRegistry;
+
+    /** The prefetches of the distributions that have not been deployed yet. */
+    private final Map<String, Prefetch> prefetches = new ConcurrentHashMap<>();
+
+    @Autowired
+    public ExistencePrefetch(AaiProperties aaiProperties, ReactiveAaiRestClient aaiClient,
+            MeterRegistry meterRegistry) {
+        this.aaiProperties = aaiProperties;
+        this.aaiClient = aaiClient;
+        this.meterRegistry = meterRegistry;
+    }
+
+    /**
+     * @return <code>true</code> if the models of a CSAR are prefetched. The prefetch needs the existence cache and
+     *         does not support the Gizmo API.
+     */
+    public boolean isEnabled() {
+        AaiExistenceCacheProperties cacheProperties = aaiProperties.getExistenceCache();
+        return cacheProperties.isEnabled() && cacheProperties.isPrefetch() && !aaiProperties.isUseGizmo();
+    }
+
+    /**
+     * Starts looking up the models and their model-vers without waiting for the responses. A model-ver is only looked
+     * up when its model is present.
+     *
+     * @param distributionId the distribution that deploys the models
+     * @param modelIds the IDs of the models found in the CSAR
+     */
+    public void start(String distributionId, Collection<ModelId> modelIds) {
+        Map<String, Set<String>> versionsByModel = new LinkedHashMap<>();
+        for (ModelId modelId : modelIds) {
+            versionsByModel.computeIfAbsent(modelId.getInvariantId(), id -> new LinkedHashSet<>())
+                    .add(modelId.getVersionId());
+        }
+        if (versionsByModel.isEmpty()) {
+            return;
+        }
+
+        // Prefetches of distributions that were never deployed are dropped once they are as old as a cache entry
+        long maxAgeNanos = aaiProperties.getExistenceCache().getTtl().toNanos();
+        prefetches.values().removeIf(prefetch -> System.nanoTime() - prefetch.startNanos > maxAgeNanos);
+
+        // A distribution with several CSARs waits for all of them
+        Prefetch prefetch = prefetches.computeIfAbsent(distributionId, id -> new Prefetch());
+        int concurrency = Math.max(1, aaiProperties.getExistenceCache().getPrefetchConcurrency());
+        prefetch.add(Flux.fromIterable(versionsByModel.entrySet())
+                .flatMap(model -> fetch(LatestModelUrls.model(aaiProperties, model.getKey()), distributionId, prefetch)
+                        .filter(Boolean::booleanValue)
+                        .flatMapMany(present -> Flux.fromIterable(model.getValue()))
+                        .concatMap(versionId -> fetch(LatestModelUrls.modelVer(aaiProperties, model.getKey(),
+                                versionId), distributionId, prefetch)),
+                        concurrency)
+                .then()
+                .toFuture());
+        logger.debug(ModelLoaderMsgs.DISTRIBUTION_EVENT,
+                "Prefetching " + versionsByModel.size() + " models of distribution " + distributionId);
+    }
+
+    /**
+     * Waits for the prefetch of the distribution, for at most {@code ml.aai.existence-cache.prefetch-wait}. Requests
+     * that are still in flight afterwards complete in the background.
+     *
+     * @param distributionId the distribution that is about to be deployed
+     * @return the URLs of the models and model-vers that were found missing, normalized with
+     *         {@link AaiResourceCache#normalize(String)}
+     */
+    public Set<String> await(String distributionId) {
+        Prefetch prefetch = prefetches.remove(distributionId);
+        if (prefetch == null) {
+            return Set.of();
+        }
+        try {
+            prefetch.requests().get(aaiProperties.getExistenceCache().getPrefetchWait().toMillis(),
+                    TimeUnit.MILLISECONDS);
+        } catch (TimeoutException e) {
+            logger.info(ModelLoaderMsgs.DISTRIBUTION_EVENT,
+                    "The prefetch of distribution " + distributionId + " is still running, deploying without it");
+        } catch (ExecutionException e) {
+            // Failed requests are counted and otherwise ignored, the deployment sends them again
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        return Set.copyOf(prefetch.absentUrls);
+    }
+
+    /**
+     * @return whether the resource is present
+     */
+    private Mono<Boolean> fetch(String url, String distributionId, Prefetch prefetch) {
+        if (aaiClient.isKnownPresent(url, distributionId)) {
+            count("cached");
+            return Mono.just(true);
+        }
+        return aaiClient.getResource(url, distributionId, MediaType.APPLICATION_XML, Void.class).map(response -> {
+            boolean present = HttpStatus.OK.equals(response.getStatusCode());
+            if (HttpStatus.NOT_FOUND.equals(response.getStatusCode())) {
+                prefetch.absentUrls.add(AaiResourceCache.normalize(url));
+                count("absent");
+            } else {
+                count(present ? "present" : "error");
+            }
+            return present;
+        }).onErrorResume(e -> {
+            logger.debug(ModelLoaderMsgs.DISTRIBUTION_EVENT, "Could not prefetch " + url + ": " + e);
+            count("error");
+            return Mono.just(false);
+        });
+    }
+
+    private void count(String result) {
+        Counter.builder(METRIC_NAME)
+                .description("Outcome of the A&AI lookups made while a CSAR is translated")
+                .tag("result", result)
+                .register(meterRegistry)
+                .increment();
+    }
+
+    /**
+     * The requests sent for the CSARs of one distribution.
+     */
+    private static class Prefetch {
+
+        private final long startNanos = System.nanoTime();
+        private final Set<String> absentUrls = ConcurrentHashMap.newKeySet();
+        private CompletableFuture<Void> requests = CompletableFuture.completedFuture(null);
+
+        synchronized void add(CompletableFuture<Void> csarRequests) {
+            requests = CompletableFuture.allOf(requests, csarRequests);
+        }
+
+        synchronized CompletableFuture<Void> requests() {
+            return requests;
+        }
+    }
+}
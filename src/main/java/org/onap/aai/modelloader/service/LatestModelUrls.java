@@ -0,0 +1,56 @@
+/**
+ * ============LICENSE_START=======================================================
+ * org.onap.aai
+ * ================================================================================
+ * Copyright © 2025 Deutsche Telekom AG Intellectual Property. All rights reserved.
+ * ================================================================================
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * ============LICENSE_END=========================================================
+ */
+package org.onap.aai.modelloader.service;
+
+import org.onap.aai.modelloader.config.AaiProperties;
+
+/**
+ * URLs of models and model-vers in the latest schema version of the resources API. The existence cache ignores the
+ * schema version, so lookups with these URLs are shared with the deployment of the models.
+ */
+final class LatestModelUrls {
+
+    /** Addresses the latest schema version of the resources API. */
+    private static final String SCHEMA_VERSION = "v*";
+    private static final String MODEL_VER_SUB_URL = "/model-vers/model-ver/";
+
+    private LatestModelUrls() {
+        // Static methods only
+    }
+
+    static String model(AaiProperties aaiProperties, String invariantId) {
+        String baseUrl = aaiProperties.getBaseUrl().trim();
+        String modelUrl = aaiProperties.getModelUrl().formatted(SCHEMA_VERSION).trim();
+        if (baseUrl.endsWith("/")) {
+            baseUrl = baseUrl.substring(0, baseUrl.length() - 1);
+        }
+        if (!modelUrl.startsWith("/")) {
+            modelUrl = "/" + modelUrl;
+        }
+        if (!modelUrl.endsWith("/")) {
+            modelUrl = modelUrl + "/";
+        }
+        return baseUrl + modelUrl + invariantId;
+    }
+
+    static String modelVer(AaiProperties aaiProperties, String invariantId, String versionId) {
+        return model(aaiProperties, invariantId) + MODEL_VER_SUB_URL + versionId;
+    }
+}
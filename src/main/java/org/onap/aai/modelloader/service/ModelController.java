@@ -120,8 +120,9 @@ public class ModelController {
 
             NotificationDataImpl notificationData = new NotificationDataImpl();
             notificationData.setDistributionID("TestDistributionID");
-            boolean success =
-                    artifactDeploymentManager.deploy(notificationData.getDistributionID(), modelArtifacts, catalogArtifacts);
+            // Test artifacts are always checked against A&AI, regardless of which resources are known to be present
+            boolean success = artifactDeploymentManager.deploy(notificationData.getDistributionID(), modelArtifacts,
+                    catalogArtifacts, true);
             logger.info(ModelLoaderMsgs.DISTRIBUTION_EVENT, "Deployment success was " + success);
             response = success ? ResponseEntity.ok().build() : ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).build();
         } catch (Exception e) {
@@ -129,7 +130,7 @@ public class ModelController {
             logger.info(ModelLoaderMsgs.DISTRIBUTION_EVENT, "Exception handled: " + responseMessage);
             if (config.getASDCConnectionDisabled()) {
                 // Make sure the NotificationPublisher logger is invoked as per the standard processing flow.
-                new NotificationPublisher().publishDeployFailure(client, new NotificationDataImpl(), artifactInfo);
+                new NotificationPublisher(null).publishDeployFailure(client, new NotificationDataImpl(), artifactInfo);
             } else {
                 responseMessage += "\nSDC publishing is enabled but has been bypassed";
             }
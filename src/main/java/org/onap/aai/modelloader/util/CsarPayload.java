@@ -0,0 +1,263 @@
+/**
+ * ============LICENSE_START=======================================================
+ * org.onap.aai
+ * ================================================================================
+ * Copyright © 2025 Deutsche Telekom AG Intellectual Property. All rights reserved.
+ * ================================================================================
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * ============LICENSE_END=========================================================
+ */
+package org.onap.aai.modelloader.util;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.ClosedChannelException;
+import java.nio.channels.FileChannel;
+import java.nio.channels.NonWritableChannelException;
+import java.nio.channels.SeekableByteChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+import org.onap.aai.cl.api.Logger;
+import org.onap.aai.cl.eelf.LoggerFactory;
+import org.onap.aai.modelloader.config.CsarPayloadProperties;
+import org.onap.aai.modelloader.service.ModelLoaderMsgs;
+
+/**
+ * A downloaded CSAR. Small CSARs are kept on the heap, CSARs above {@link CsarPayloadProperties#getSpillThreshold()}
+ * are written to a temporary file and read through a read-only memory mapping, so that the pages are held by the
+ * operating system rather than by the Java heap. The temporary file is deleted when the payload is closed.
+ *
+ * <p>
+ * The payload is read through independent views ({@link #buffer()}, {@link #openStream()} and {@link #openChannel()}),
+ * so the zip reader and the Babel request can read it at the same time.
+ */
+public final class CsarPayload implements AutoCloseable {
+
+    private static final Logger logger = LoggerFactory.getInstance().getLogger(CsarPayload.class);
+
+    private final byte[] bytes;
+    private final ByteBuffer buffer;
+    private final Path spillFile;
+
+    private CsarPayload(byte[] bytes, ByteBuffer buffer, Path spillFile) {
+        this.bytes = bytes;
+        this.buffer = buffer;
+        this.spillFile = spillFile;
+    }
+
+    /**
+     * @return a payload that keeps the CSAR on the heap, <code>null</code> if there is no CSAR
+     */
+    public static CsarPayload of(byte[] csar) {
+        if (csar == null) {
+            return null;
+        }
+        return new CsarPayload(csar, ByteBuffer.wrap(csar).asReadOnlyBuffer(), null);
+    }
+
+    /**
+     * @return a payload backed by a memory-mapped temporary file if the CSAR is larger than the spill threshold. The
+     *         CSAR stays on the heap when it cannot be written to disk. <code>null</code> if there is no CSAR.
+     */
+    public static CsarPayload of(byte[] csar, CsarPayloadProperties properties) {
+        if (csar == null || csar.length <= properties.getSpillThreshold().toBytes()) {
+            return of(csar);
+        }
+        Path spillFile = null;
+        try {
+            spillFile = properties.getSpillDirectory() == null
+                    ? Files.createTempFile("csar-", ".tmp")
+                    : Files.createTempFile(Path.of(properties.getSpillDirectory()), "csar-", ".tmp");
+            Files.write(spillFile, csar);
+            try (FileChannel channel = FileChannel.open(spillFile, StandardOpenOption.READ)) {
+                // The mapping stays valid after the channel has been closed
+                return new CsarPayload(null, channel.map(FileChannel.MapMode.READ_ONLY, 0, csar.length), spillFile);
+            }
+        } catch (IOException | UnsupportedOperationException e) {
+            logger.warn(ModelLoaderMsgs.DISTRIBUTION_EVENT,
+                    "Could not spill the CSAR of " + csar.length + " bytes to disk, keeping it in memory: " + e);
+            delete(spillFile);
+            return of(csar);
+        }
+    }
+
+    public boolean isSpilled() {
+        return spillFile != null;
+    }
+
+    public int size() {
+        return buffer.capacity();
+    }
+
+    /**
+     * @return a read-only view of the whole CSAR with its own position
+     */
+    public ByteBuffer buffer() {
+        return buffer.duplicate();
+    }
+
+    /**
+     * @return the CSAR as an array. The array of a payload held on the heap is returned as is, a spilled payload is
+     *         copied onto the heap.
+     */
+    public byte[] toByteArray() {
+        if (bytes != null) {
+            return bytes;
+        }
+        byte[] copy = new byte[size()];
+        buffer().get(copy);
+        return copy;
+    }
+
+    public InputStream openStream() {
+        return new ByteBufferInputStream(buffer());
+    }
+
+    public SeekableByteChannel openChannel() {
+        return new ByteBufferChannel(buffer());
+    }
+
+    /**
+     * Deletes the temporary file of a spilled payload. The pages of the mapping are released once the buffer has been
+     * garbage collected.
+     */
+    @Override
+    public void close() {
+        delete(spillFile);
+    }
+
+    private static void delete(Path spillFile) {
+        if (spillFile == null) {
+            return;
+        }
+        try {
+            Files.deleteIfExists(spillFile);
+        } catch (IOException e) {
+            logger.warn(ModelLoaderMsgs.DISTRIBUTION_EVENT, "Could not delete " + spillFile + ": " + e);
+        }
+    }
+
+    private static final class ByteBufferInputStream extends InputStream {
+        private final ByteBuffer buffer;
+
+        ByteBufferInputStream(ByteBuffer buffer) {
+            this.buffer = buffer;
+        }
+
+        @Override
+        public int read() {
+            return buffer.hasRemaining() ? buffer.get() & 0xFF : -1;
+        }
+
+        @Override
+        public int read(byte[] target, int offset, int length) {
+            if (length == 0) {
+                return 0;
+            }
+            if (!buffer.hasRemaining()) {
+                return -1;
+            }
+            int count = Math.min(length, buffer.remaining());
+            buffer.get(target, offset, count);
+            return count;
+        }
+
+        @Override
+        public int available() {
+            return buffer.remaining();
+        }
+
+        @Override
+        public long skip(long count) {
+            int skipped = (int) Math.max(0, Math.min(count, buffer.remaining()));
+            buffer.position(buffer.position() + skipped);
+            return skipped;
+        }
+    }
+
+    /**
+     * Read-only channel for the zip reader, which needs random access to the central directory and the entries.
+     */
+    private static final class ByteBufferChannel implements SeekableByteChannel {
+        private final ByteBuffer buffer;
+        private boolean open = true;
+
+        ByteBufferChannel(ByteBuffer buffer) {
+            this.buffer = buffer;
+        }
+
+        @Override
+        public int read(ByteBuffer target) throws IOException {
+            ensureOpen();
+            if (!buffer.hasRemaining()) {
+                return -1;
+            }
+            int count = Math.min(target.remaining(), buffer.remaining());
+            target.put(buffer.slice(buffer.position(), count));
+            buffer.position(buffer.position() + count);
+            return count;
+        }
+
+        @Override
+        public int write(ByteBuffer source) {
+            throw new NonWritableChannelException();
+        }
+
+        @Override
+        public long position() throws IOException {
+            ensureOpen();
+            return buffer.position();
+        }
+
+        @Override
+        public SeekableByteChannel position(long newPosition) throws IOException {
+            ensureOpen();
+            if (newPosition < 0) {
+                throw new IllegalArgumentException("Negative position: " + newPosition);
+            }
+            // Positions beyond the end read as end of stream
+            buffer.position((int) Math.min(newPosition, buffer.limit()));
+            return this;
+        }
+
+        @Override
+        public long size() throws IOException {
+            ensureOpen();
+            return buffer.limit();
+        }
+
+        @Override
+        public SeekableByteChannel truncate(long size) {
+            throw new NonWritableChannelException();
+        }
+
+        @Override
+        public boolean isOpen() {
+            return open;
+        }
+
+        @Override
+        public void close() {
+            open = false;
+        }
+
+        private void ensureOpen() throws ClosedChannelException {
+            if (!open) {
+                throw new ClosedChannelException();
+            }
+        }
+    }
+}
@@ -54,9 +54,13 @@ public class GizmoTranslator {
     }
 
     private static Logger logger = LoggerFactory.getInstance().getLogger(GizmoTranslator.class.getName());
+    private static final PayloadLog payloadLog = PayloadLog.forClass(GizmoTranslator.class, logger);
 
     public static String translate(String xmlPayload) throws IOException {
-        logger.info(ModelLoaderMsgs.DISTRIBUTION_EVENT, "Process XML model artifact: " + xmlPayload);
+        if (logger.isInfoEnabled()) {
+            logger.info(ModelLoaderMsgs.DISTRIBUTION_EVENT,
+                    "Process XML model artifact: " + payloadLog.describe(xmlPayload));
+        }
 
         DocumentBuilderFactory factory = DocumentBuilderFactory.newInstance();
         Document doc;
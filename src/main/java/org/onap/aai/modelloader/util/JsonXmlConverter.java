@@ -20,6 +20,8 @@
  */
 package org.onap.aai.modelloader.util;
 
+import java.util.Set;
+
 import org.json.JSONArray;
 import org.json.JSONException;
 import org.json.JSONObject;
@@ -27,6 +29,11 @@ import org.json.XML;
 
 public final class JsonXmlConverter {
 
+    /** Elements of the A&AI model and named query schema that are lists, even when they occur only once. */
+    private static final Set<String> AAI_LIST_ELEMENTS = Set.of("model-ver", "model-element", "model-constraint",
+            "constrained-element-set", "element-choice-set", "metadatum", "named-query-element", "property-constraint",
+            "related-lookup", "relationship", "relationship-data", "related-to-property");
+
     private JsonXmlConverter() {
         throw new AssertionError("Instantiating utility class.");
     }
@@ -74,4 +81,46 @@ public final class JsonXmlConverter {
         JSONObject jsonObj = XML.toJSONObject(xmlText);
         return jsonObj.toString();
     }
+
+    /**
+     * Converts the XML representation of an A&AI resource (e.g. a model) into the JSON body A&AI expects for the same
+     * resource: the root element and the namespace declarations are dropped, text values are kept as strings and the
+     * elements that A&AI defines as lists are always arrays.
+     *
+     * @param xmlText The XML resource to convert.
+     * @return the JSON string representation of the resource.
+     */
+    public static String convertXmlResourceToJson(String xmlText) {
+        JSONObject document = XML.toJSONObject(xmlText, true);
+        if (document.length() != 1) {
+            throw new JSONException("Expected a single root element but found " + document.keySet());
+        }
+        Object resource = document.get(document.keys().next());
+        return normalizeResource(resource).toString();
+    }
+
+    private static Object normalizeResource(Object value) {
+        if (value instanceof JSONObject object) {
+            JSONObject result = new JSONObject();
+            for (String key : object.keySet()) {
+                if (key.equals("xmlns") || key.startsWith("xmlns:")) {
+                    continue;
+                }
+                Object child = normalizeResource(object.get(key));
+                if (AAI_LIST_ELEMENTS.contains(key) && !(child instanceof JSONArray)) {
+                    child = new JSONArray().put(child);
+                }
+                result.put(key, child);
+            }
+            return result;
+        }
+        if (value instanceof JSONArray array) {
+            JSONArray result = new JSONArray();
+            for (Object child : array) {
+                result.put(normalizeResource(child));
+            }
+            return result;
+        }
+        return value;
+    }
 }
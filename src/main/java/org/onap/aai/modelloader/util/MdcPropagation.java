@@ -0,0 +1,63 @@
+/**
+ * ============LICENSE_START=======================================================
+ * org.onap.aai
+ * ================================================================================
+ * Copyright © 2025 Deutsche Telekom AG Intellectual Property. All rights reserved.
+ * ================================================================================
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * ============LICENSE_END=========================================================
+ */
+package org.onap.aai.modelloader.util;
+
+import java.util.Map;
+import java.util.concurrent.Callable;
+
+import org.slf4j.MDC;
+
+/**
+ * Carries the logging context (MDC) of the submitting thread over to tasks that run on a worker pool.
+ */
+public final class MdcPropagation {
+
+    private MdcPropagation() {
+        throw new AssertionError("Instantiating utility class.");
+    }
+
+    /**
+     * Wraps the task so that it runs with the MDC of the current thread. The MDC of the worker thread is restored once
+     * the task has completed.
+     *
+     * @param task the task to wrap
+     * @return a task that runs with the MDC captured at the time of this call
+     */
+    public static <T> Callable<T> wrap(Callable<T> task) {
+        Map<String, String> mdc = MDC.getCopyOfContextMap();
+        return () -> {
+            Map<String, String> previous = MDC.getCopyOfContextMap();
+            setContextMap(mdc);
+            try {
+                return task.call();
+            } finally {
+                setContextMap(previous);
+            }
+        };
+    }
+
+    private static void setContextMap(Map<String, String> contextMap) {
+        if (contextMap == null) {
+            MDC.clear();
+        } else {
+            MDC.setContextMap(contextMap);
+        }
+    }
+}
@@ -0,0 +1,116 @@
+/**
+ * ============LICENSE_START=======================================================
+ * org.onap.aai
+ * ================================================================================
+ * Copyright © 2025 Deutsche Telekom AG Intellectual Property. All rights reserved.
+ * ================================================================================
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * ============LICENSE_END=========================================================
+ */
+package org.onap.aai.modelloader.util;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Arrays;
+import java.util.Base64;
+import java.util.HexFormat;
+
+import org.onap.aai.cl.api.Logger;
+import org.onap.aai.modelloader.config.PayloadLogProperties;
+
+/**
+ * Describes a payload for the log of a class. When the logger is at DEBUG level the complete payload is logged,
+ * otherwise only its size, its SHA-256 digest and its first bytes (binary payloads Base64 encoded), as many as are
+ * configured for the class in {@link PayloadLogProperties}. Building the description hashes the whole payload, so
+ * callers check that the message is logged first, e.g. with {@code logger.isInfoEnabled()}.
+ */
+public final class PayloadLog {
+
+    private static volatile PayloadLogProperties properties = new PayloadLogProperties();
+
+    private final Logger logger;
+    private final String loggerName;
+
+    private PayloadLog(Logger logger, String loggerName) {
+        this.logger = logger;
+        this.loggerName = loggerName;
+    }
+
+    /**
+     * @param owner the class that logs the payloads
+     * @param logger the logger of the class
+     * @return the payload log of the class
+     */
+    public static PayloadLog forClass(Class<?> owner, Logger logger) {
+        return new PayloadLog(logger, owner.getName());
+    }
+
+    /**
+     * Applies the configured limits to the payload logs of all classes.
+     */
+    public static void configure(PayloadLogProperties payloadLogProperties) {
+        properties = payloadLogProperties;
+    }
+
+    /**
+     * @param payload binary payload, may be null
+     * @return the Base64 encoded payload at DEBUG level, a summary otherwise
+     */
+    public String describe(byte[] payload) {
+        if (payload == null) {
+            return "null";
+        }
+        if (logger.isDebugEnabled()) {
+            return Base64.getEncoder().encodeToString(payload);
+        }
+        int head = Math.min(payload.length, properties.getMaxBytes(loggerName));
+        return summary(payload.length + " bytes", payload,
+                Base64.getEncoder().encodeToString(Arrays.copyOf(payload, head)), head < payload.length);
+    }
+
+    /**
+     * @param payload text payload, may be null
+     * @return the payload at DEBUG level, a summary otherwise
+     */
+    public String describe(String payload) {
+        if (payload == null) {
+            return "null";
+        }
+        if (logger.isDebugEnabled()) {
+            return payload;
+        }
+        int head = Math.min(payload.length(), properties.getMaxBytes(loggerName));
+        return summary(payload.length() + " characters", payload.getBytes(StandardCharsets.UTF_8),
+                payload.substring(0, head), head < payload.length());
+    }
+
+    private static String summary(String size, byte[] content, String head, boolean truncated) {
+        StringBuilder summary = new StringBuilder(size).append(", sha-256 ").append(sha256(content));
+        if (!head.isEmpty()) {
+            summary.append(", starts with: ").append(head);
+            if (truncated) {
+                summary.append("...");
+            }
+        }
+        return summary.toString();
+    }
+
+    private static String sha256(byte[] content) {
+        try {
+            return HexFormat.of().formatHex(MessageDigest.getInstance("SHA-256").digest(content));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
@@ -0,0 +1,384 @@
+/**
+ * ============LICENSE_START=======================================================
+ * org.onap.aai
+ * ================================================================================
+ * Copyright © 2025 Deutsche Telekom AG Intellectual Property. All rights reserved.
+ * ================================================================================
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * ============LICENSE_END=========================================================
+ */
+package org.onap.aai.modelloader.util;
+
+import java.io.StringReader;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import javax.xml.XMLConstants;
+import javax.xml.stream.XMLInputFactory;
+import javax.xml.stream.XMLStreamConstants;
+import javax.xml.stream.XMLStreamException;
+import javax.xml.stream.XMLStreamReader;
+
+/**
+ * Extracts an element of an XML document as text, in the form the JDK DOM serializer writes it: empty elements as
+ * <code>&lt;name/&gt;</code>, the namespace declarations of an element before its attributes, both in alphabetical
+ * order, and the text escaped with the predefined entities.
+ *
+ * <p>
+ * Documents produced by a serializer are usually in this form already, in which case the element is sliced from the
+ * source text ({@link #slice}). Otherwise the element is written from the events of a stream reader
+ * ({@link #serialize}).
+ */
+public final class XmlFragments {
+
+    /** Makes the JDK stream reader report CDATA sections as such, other implementations do so by default. */
+    private static final String REPORT_CDATA_EVENT = "http://java.sun.com/xml/stream/properties/report-cdata-event";
+
+    private static final XMLInputFactory xmlInputFactory = createInputFactory();
+
+    private XmlFragments() {
+        throw new AssertionError("Instantiating utility class.");
+    }
+
+    /**
+     * @return a stream reader factory that does not process DTDs or external entities
+     */
+    public static XMLInputFactory createInputFactory() {
+        XMLInputFactory factory = XMLInputFactory.newInstance();
+        factory.setProperty(XMLInputFactory.SUPPORT_DTD, false);
+        factory.setProperty(XMLInputFactory.IS_SUPPORTING_EXTERNAL_ENTITIES, false);
+        if (factory.isPropertySupported(REPORT_CDATA_EVENT)) {
+            factory.setProperty(REPORT_CDATA_EVENT, true);
+        }
+        return factory;
+    }
+
+    /**
+     * Extracts an element of a well-formed document.
+     *
+     * @param xml the document
+     * @param elementOrdinal position of the element among all elements of the document in document order, the root
+     *        element being 1
+     * @return the element as text
+     * @throws XMLStreamException if the document cannot be read
+     */
+    public static String extract(String xml, int elementOrdinal) throws XMLStreamException {
+        String fragment = slice(xml, elementOrdinal);
+        return fragment != null ? fragment : serialize(xml, elementOrdinal);
+    }
+
+    /**
+     * Slices an element from a well-formed document, provided the source text of the element is already in serialized
+     * form: no attributes, no white space in tags, no character references or entities other than
+     * <code>&amp;amp;</code>, <code>&amp;lt;</code> and <code>&amp;gt;</code>, no processing instructions and no
+     * carriage returns. Empty elements written as <code>&lt;name&gt;&lt;/name&gt;</code> are shortened to
+     * <code>&lt;name/&gt;</code>.
+     *
+     * @param xml the document
+     * @param elementOrdinal position of the element among all elements of the document, the root element being 1
+     * @return the source text of the element or <code>null</code> if it is not in serialized form (or not found)
+     */
+    public static String slice(String xml, int elementOrdinal) {
+        int ordinal = 0;
+        int start = -1;
+        int depth = 0;
+        int textStart = 0;
+        boolean startTagBefore = false;
+        // Pairs of positions: the '>' of the start tag and the end of the end tag of an element without content
+        List<Integer> emptyElements = new ArrayList<>();
+        int position = xml.indexOf('<');
+        while (position >= 0) {
+            if (start >= 0 && !isSerializedText(xml, textStart, position)) {
+                return null;
+            }
+            int end;
+            if (xml.startsWith("<!--", position)) {
+                end = endOf(xml, "-->", position + 4);
+            } else if (xml.startsWith("<![CDATA[", position)) {
+                end = endOf(xml, "]]>", position + 9);
+            } else if (xml.startsWith("<?", position)) {
+                if (start >= 0) {
+                    return null;
+                }
+                end = endOf(xml, "?>", position + 2);
+            } else if (xml.startsWith("<!", position)) {
+                end = endOf(xml, ">", position + 2);
+            } else if (xml.startsWith("</", position)) {
+                end = endOf(xml, ">", position + 2);
+                if (end < 0) {
+                    return null;
+                }
+                if (start >= 0) {
+                    if (!isName(xml, position + 2, end - 1)) {
+                        // White space
+                        return null;
+                    }
+                    if (startTagBefore && textStart == position) {
+                        // An empty element is written as <name/>
+                        emptyElements.add(textStart - 1);
+                        emptyElements.add(end);
+                    }
+                    if (--depth == 0) {
+                        return sliceWithoutCarriageReturn(xml, start, end, emptyElements);
+                    }
+                }
+            } else {
+                end = endOfTag(xml, position + 1);
+                if (end < 0) {
+                    return null;
+                }
+                boolean empty = xml.charAt(end - 2) == '/';
+                boolean fragmentStart = start < 0 && ++ordinal == elementOrdinal;
+                if ((start >= 0 || fragmentStart) && !isName(xml, position + 1, empty ? end - 2 : end - 1)) {
+                    // Attributes or white space
+                    return null;
+                }
+                if (fragmentStart) {
+                    start = position;
+                    if (empty) {
+                        return sliceWithoutCarriageReturn(xml, start, end, emptyElements);
+                    }
+                }
+                if (start >= 0 && !empty) {
+                    depth++;
+                }
+            }
+            if (end < 0) {
+                return null;
+            }
+            startTagBefore = xml.charAt(position + 1) != '/' && xml.charAt(position + 1) != '!'
+                    && xml.charAt(position + 1) != '?' && xml.charAt(end - 2) != '/';
+            textStart = end;
+            position = xml.indexOf('<', end);
+        }
+        return null;
+    }
+
+    /**
+     * Writes an element of a well-formed document from the events of a stream reader.
+     *
+     * @param xml the document
+     * @param elementOrdinal position of the element among all elements of the document, the root element being 1
+     * @return the serialized element or <code>null</code> if the document has fewer elements
+     * @throws XMLStreamException if the document cannot be read
+     */
+    public static String serialize(String xml, int elementOrdinal) throws XMLStreamException {
+        XMLStreamReader reader = xmlInputFactory.createXMLStreamReader(new StringReader(xml));
+        try {
+            int ordinal = 0;
+            FragmentWriter writer = null;
+            while (reader.hasNext()) {
+                int event = reader.next();
+                if (event == XMLStreamConstants.START_ELEMENT && writer == null && ++ordinal == elementOrdinal) {
+                    writer = new FragmentWriter();
+                }
+                if (writer != null) {
+                    writer.write(reader, event);
+                    if (writer.isComplete()) {
+                        return writer.toString();
+                    }
+                }
+            }
+            return null;
+        } finally {
+            reader.close();
+        }
+    }
+
+    private static int endOf(String xml, String terminator, int from) {
+        int index = xml.indexOf(terminator, from);
+        return index < 0 ? -1 : index + terminator.length();
+    }
+
+    /**
+     * @return the position after the '&gt;' closing the tag, skipping quoted attribute values
+     */
+    private static int endOfTag(String xml, int from) {
+        char quote = 0;
+        for (int i = from; i < xml.length(); i++) {
+            char c = xml.charAt(i);
+            if (quote != 0) {
+                if (c == quote) {
+                    quote = 0;
+                }
+            } else if (c == '"' || c == '\'') {
+                quote = c;
+            } else if (c == '>') {
+                return i + 1;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * @return <code>true</code> if the range holds nothing but a name (i.e. no white space and no attributes)
+     */
+    private static boolean isName(String xml, int from, int to) {
+        if (from >= to) {
+            return false;
+        }
+        for (int i = from; i < to; i++) {
+            char c = xml.charAt(i);
+            if (Character.isWhitespace(c) || c == '=' || c == '/' || c == '>') {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static boolean isSerializedText(String xml, int from, int to) {
+        for (int i = from; i < to; i++) {
+            char c = xml.charAt(i);
+            if (c == '>') {
+                return false;
+            }
+            if (c == '&' && !(xml.startsWith("&amp;", i) || xml.startsWith("&lt;", i) || xml.startsWith("&gt;", i))) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static String sliceWithoutCarriageReturn(String xml, int start, int end, List<Integer> emptyElements) {
+        String fragment;
+        if (emptyElements.isEmpty()) {
+            fragment = xml.substring(start, end);
+        } else {
+            StringBuilder builder = new StringBuilder(end - start);
+            int from = start;
+            for (int i = 0; i < emptyElements.size(); i += 2) {
+                builder.append(xml, from, emptyElements.get(i)).append("/>");
+                from = emptyElements.get(i + 1);
+            }
+            fragment = builder.append(xml, from, end).toString();
+        }
+        return fragment.indexOf('\r') < 0 ? fragment : null;
+    }
+
+    /**
+     * Writes the events of an element and its content as text.
+     */
+    private static class FragmentWriter {
+        private final StringBuilder xml = new StringBuilder();
+        private int depth;
+        private boolean startTagOpen;
+
+        boolean isComplete() {
+            return depth == 0 && xml.length() > 0;
+        }
+
+        void write(XMLStreamReader reader, int event) {
+            switch (event) {
+                case XMLStreamConstants.START_ELEMENT:
+                    closeStartTag();
+                    depth++;
+                    writeStartTag(reader);
+                    break;
+                case XMLStreamConstants.END_ELEMENT:
+                    depth--;
+                    if (startTagOpen) {
+                        xml.append("/>");
+                        startTagOpen = false;
+                    } else {
+                        xml.append("</").append(qualifiedName(reader.getPrefix(), reader.getLocalName())).append('>');
+                    }
+                    break;
+                case XMLStreamConstants.CHARACTERS:
+                case XMLStreamConstants.SPACE:
+                    closeStartTag();
+                    escape(reader.getText(), false);
+                    break;
+                case XMLStreamConstants.CDATA:
+                    closeStartTag();
+                    xml.append("<![CDATA[").append(reader.getText()).append("]]>");
+                    break;
+                case XMLStreamConstants.COMMENT:
+                    closeStartTag();
+                    xml.append("<!--").append(reader.getText()).append("-->");
+                    break;
+                case XMLStreamConstants.PROCESSING_INSTRUCTION:
+                    closeStartTag();
+                    xml.append("<?").append(reader.getPITarget());
+                    if (reader.getPIData() != null && !reader.getPIData().isEmpty()) {
+                        xml.append(' ').append(reader.getPIData());
+                    }
+                    xml.append("?>");
+                    break;
+                default:
+                    break;
+            }
+        }
+
+        private void writeStartTag(XMLStreamReader reader) {
+            List<String[]> namespaces = new ArrayList<>();
+            for (int i = 0; i < reader.getNamespaceCount(); i++) {
+                String prefix = reader.getNamespacePrefix(i);
+                String name = prefix == null || prefix.isEmpty() ? XMLConstants.XMLNS_ATTRIBUTE
+                        : XMLConstants.XMLNS_ATTRIBUTE + ":" + prefix;
+                namespaces.add(new String[] {name, reader.getNamespaceURI(i)});
+            }
+            List<String[]> attributes = new ArrayList<>();
+            for (int i = 0; i < reader.getAttributeCount(); i++) {
+                attributes.add(new String[] {
+                        qualifiedName(reader.getAttributePrefix(i), reader.getAttributeLocalName(i)),
+                        reader.getAttributeValue(i)});
+            }
+            namespaces.sort(Comparator.comparing(attribute -> attribute[0]));
+            attributes.sort(Comparator.comparing(attribute -> attribute[0]));
+            namespaces.addAll(attributes);
+
+            xml.append('<').append(qualifiedName(reader.getPrefix(), reader.getLocalName()));
+            for (String[] attribute : namespaces) {
+                xml.append(' ').append(attribute[0]).append("=\"");
+                escape(attribute[1], true);
+                xml.append('"');
+            }
+            startTagOpen = true;
+        }
+
+        private void closeStartTag() {
+            if (startTagOpen) {
+                xml.append('>');
+                startTagOpen = false;
+            }
+        }
+
+        private void escape(String value, boolean attribute) {
+            for (int i = 0; i < value.length(); i++) {
+                char c = value.charAt(i);
+                switch (c) {
+                    case '&' -> xml.append("&amp;");
+                    case '<' -> xml.append("&lt;");
+                    case '>' -> xml.append("&gt;");
+                    case '\r' -> xml.append("&#13;");
+                    case '"' -> xml.append(attribute ? "&quot;" : "\"");
+                    case '\n' -> xml.append(attribute ? "&#10;" : "\n");
+                    case '\t' -> xml.append(attribute ? "&#9;" : "\t");
+                    default -> xml.append(c);
+                }
+            }
+        }
+
+        @Override
+        public String toString() {
+            return xml.toString();
+        }
+    }
+
+    /**
+     * @return the name of an element or attribute as written in the document
+     */
+    public static String qualifiedName(String prefix, String localName) {
+        return prefix == null || prefix.isEmpty() ? localName : prefix + ":" + localName;
+    }
+}
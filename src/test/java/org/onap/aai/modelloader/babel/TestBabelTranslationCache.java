@@ -0,0 +1,183 @@
+/**
+ * ============LICENSE_START=======================================================
+ * org.onap.aai
+ * ================================================================================
+ * Copyright © 2025 Deutsche Telekom AG Intellectual Property. All rights reserved.
+ * ================================================================================
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * ============LICENSE_END=========================================================
+ */
+package org.onap.aai.modelloader.babel;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.not;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.security.MessageDigest;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Optional;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.onap.aai.babel.service.data.BabelArtifact;
+import org.onap.aai.babel.service.data.BabelRequest;
+import org.onap.aai.modelloader.config.BabelProperties;
+import org.onap.aai.modelloader.entity.catalog.VnfCatalogArtifact;
+import org.onap.aai.modelloader.notification.BabelArtifactConverter;
+import org.onap.aai.modelloader.restclient.BabelServiceClient;
+import org.springframework.util.unit.DataSize;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+/**
+ * Tests {@link BabelTranslationCache}.
+ */
+public class TestBabelTranslationCache {
+
+    private static final List<BabelArtifact> ARTIFACTS = List.of(
+            new BabelArtifact("model", BabelArtifact.ArtifactType.MODEL, "<model/>"),
+            new BabelArtifact("catalog", BabelArtifact.ArtifactType.VNFCATALOG, "<catalog/>"));
+
+    @TempDir
+    Path cacheDirectory;
+
+    private BabelProperties babelProperties;
+    private MeterRegistry meterRegistry;
+
+    @BeforeEach
+    public void setup() {
+        babelProperties = new BabelProperties();
+        babelProperties.getCache().setEnabled(true);
+        meterRegistry = new SimpleMeterRegistry();
+    }
+
+    @Test
+    public void keyDependsOnCsarAndVersion() {
+        String key = BabelTranslationCache.key(bytes("csar"), "1.0");
+        assertThat(BabelTranslationCache.key(bytes("csar"), "1.0"), is(key));
+        assertThat(BabelTranslationCache.key(bytes("csar"), "2.0"), is(not(key)));
+        assertThat(BabelTranslationCache.key(bytes("other"), "1.0"), is(not(key)));
+    }
+
+    @Test
+    public void keyIsTheDigestOfTheRawCsar() throws Exception {
+        MessageDigest digest = MessageDigest.getInstance("SHA-256");
+        digest.update(bytes("csar"));
+        digest.update((byte) 0);
+        digest.update(bytes("1.0"));
+
+        assertThat(BabelTranslationCache.key(bytes("csar"), "1.0"), is(HexFormat.of().formatHex(digest.digest())));
+    }
+
+    @Test
+    public void disabledCacheNeverHits() {
+        babelProperties.getCache().setEnabled(false);
+        BabelTranslationCache cache = new BabelTranslationCache(babelProperties, meterRegistry);
+
+        cache.put("key", ARTIFACTS);
+
+        assertThat(cache.get("key"), is(Optional.empty()));
+    }
+
+    @Test
+    public void translationIsServedFromMemory() {
+        BabelTranslationCache cache = new BabelTranslationCache(babelProperties, meterRegistry);
+
+        assertThat(cache.get("key"), is(Optional.empty()));
+        cache.put("key", ARTIFACTS);
+
+        assertThat(cache.get("key"), is(Optional.of(ARTIFACTS)));
+        assertThat(count("miss", "none"), is(1.0));
+        assertThat(count("hit", "memory"), is(1.0));
+    }
+
+    @Test
+    public void leastRecentlyUsedTranslationIsEvicted() {
+        babelProperties.getCache().setMaxMemorySize(DataSize.ofBytes(500));
+        BabelTranslationCache cache = new BabelTranslationCache(babelProperties, meterRegistry);
+
+        cache.put("first", ARTIFACTS);
+        cache.put("second", ARTIFACTS);
+        cache.get("first");
+        cache.put("third", ARTIFACTS);
+
+        assertThat(cache.get("first").isPresent(), is(true));
+        assertThat(cache.get("second").isPresent(), is(false));
+        assertThat(cache.get("third").isPresent(), is(true));
+    }
+
+    @Test
+    public void translationIsServedFromDiskAfterRestart() {
+        babelProperties.getCache().setDiskDirectory(cacheDirectory.toString());
+        new BabelTranslationCache(babelProperties, meterRegistry).put("key", ARTIFACTS);
+
+        BabelTranslationCache restartedCache = new BabelTranslationCache(babelProperties, new SimpleMeterRegistry());
+        List<BabelArtifact> artifacts = restartedCache.get("key").orElseThrow();
+
+        assertThat(artifacts.size(), is(2));
+        assertThat(artifacts.get(0).getName(), is("model"));
+        assertThat(artifacts.get(1).getType(), is(BabelArtifact.ArtifactType.VNFCATALOG));
+        assertThat(artifacts.get(1).getPayload(), is("<catalog/>"));
+    }
+
+    @Test
+    public void diskTierIsBoundedBySize() {
+        babelProperties.getCache().setDiskDirectory(cacheDirectory.toString());
+        babelProperties.getCache().setMaxDiskSize(DataSize.ofBytes(1));
+        babelProperties.getCache().setMaxMemorySize(DataSize.ofBytes(0));
+        BabelTranslationCache cache = new BabelTranslationCache(babelProperties, meterRegistry);
+
+        cache.put("key", ARTIFACTS);
+
+        assertThat(cache.get("key"), is(Optional.empty()));
+    }
+
+    @Test
+    public void cachedTranslationSkipsBabel() throws Exception {
+        BabelServiceClient babelServiceClient = mock(BabelServiceClient.class);
+        BabelArtifactConverter converter = mock(BabelArtifactConverter.class);
+        when(babelServiceClient.postArtifact(any(), any())).thenReturn(ARTIFACTS);
+        when(converter.convertToCatalog(any())).thenReturn(new VnfCatalogArtifact(""));
+        BabelArtifactService service = new BabelArtifactService(babelServiceClient, converter,
+                new BabelTranslationCache(babelProperties, meterRegistry), null);
+
+        BabelRequest babelRequest = new BabelRequest();
+        babelRequest.setArtifactName("service.csar");
+        babelRequest.setArtifactVersion("1.0");
+        babelRequest.setCsar("Y3Nhcg==");
+        service.invokeBabelService(babelRequest, "distribution-1");
+        service.invokeBabelService(babelRequest, "distribution-2");
+
+        verify(babelServiceClient, times(1)).postArtifact(any(), any());
+        verify(converter, times(2)).convertToModel(any());
+    }
+
+    private static byte[] bytes(String text) {
+        return text.getBytes(StandardCharsets.UTF_8);
+    }
+
+    private double count(String result, String tier) {
+        return meterRegistry.get("modelloader.babel.cache.requests").tag("result", result).tag("tier", tier).counter()
+                .count();
+    }
+}
@@ -0,0 +1,52 @@
+/**
+ * ============LICENSE_START=======================================================
+ * org.onap.aai
+ * ================================================================================
+ * Copyright © 2025 Deutsche Telekom AG Intellectual Property. All rights reserved.
+ * ================================================================================
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * ============LICENSE_END=========================================================
+ */
+package org.onap.aai.modelloader.benchmark;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Loads the fixtures of src/test/resources used as benchmark inputs. Inputs at a given scale are generated with the
+ * {@link org.onap.aai.modelloader.fixture.CorpusGenerator}.
+ */
+final class BenchmarkFixtures {
+
+    private BenchmarkFixtures() {
+        throw new AssertionError("Instantiating utility class.");
+    }
+
+    static byte[] loadBytes(String resource) throws IOException {
+        try (InputStream in = BenchmarkFixtures.class.getResourceAsStream(resource)) {
+            if (in == null) {
+                throw new IOException("Resource not found: " + resource);
+            }
+            return in.readAllBytes();
+        }
+    }
+
+    static String load(String resource) throws IOException {
+        return new String(loadBytes(resource), StandardCharsets.UTF_8);
+    }
+
+    static String loadModel(String modelFile) throws IOException {
+        return load("/models/" + modelFile);
+    }
+}
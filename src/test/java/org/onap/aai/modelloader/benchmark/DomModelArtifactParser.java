@@ -0,0 +1,156 @@
+/**
+ * ============LICENSE_START=======================================================
+ * org.onap.aai
+ * ================================================================================
+ * Copyright © 2025 Deutsche Telekom AG Intellectual Property. All rights reserved.
+ * ================================================================================
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * ============LICENSE_END=========================================================
+ */
+package org.onap.aai.modelloader.benchmark;
+
+import java.io.StringReader;
+import java.io.StringWriter;
+import javax.xml.XMLConstants;
+import javax.xml.parsers.DocumentBuilder;
+import javax.xml.parsers.DocumentBuilderFactory;
+import javax.xml.transform.OutputKeys;
+import javax.xml.transform.Transformer;
+import javax.xml.transform.TransformerFactory;
+import javax.xml.transform.dom.DOMSource;
+import javax.xml.transform.stream.StreamResult;
+import org.onap.aai.modelloader.entity.model.ModelArtifact;
+import org.onap.aai.modelloader.entity.model.NamedQueryArtifact;
+import org.w3c.dom.Document;
+import org.w3c.dom.Element;
+import org.w3c.dom.Node;
+import org.w3c.dom.NodeList;
+import org.xml.sax.InputSource;
+
+/**
+ * The DOM based parsing of model and named query artifacts that was used before the StAX parser. It is kept as the
+ * reference for the results of the StAX parser and as the baseline of the parser benchmark.
+ */
+public final class DomModelArtifactParser {
+
+    private static final String RELATIONSHIP_DATA = "relationship-data";
+    private static final String RELATIONSHIP_KEY = "relationship-key";
+    private static final String RELATIONSHIP_VALUE = "relationship-value";
+
+    private DomModelArtifactParser() {
+        throw new AssertionError("Instantiating utility class.");
+    }
+
+    public static ModelArtifact parseModel(String payload) throws Exception {
+        Element root = parseDocument(payload).getDocumentElement();
+        ModelArtifact model = new ModelArtifact();
+        model.setPayload(payload);
+        model.setModelNamespace(root.getAttribute("xmlns"));
+        parseModelNode(root, model);
+        return model;
+    }
+
+    public static NamedQueryArtifact parseNamedQuery(String payload) throws Exception {
+        Element root = parseDocument(payload).getDocumentElement();
+        NamedQueryArtifact namedQuery = new NamedQueryArtifact();
+        namedQuery.setPayload(payload);
+        namedQuery.setModelNamespace(root.getAttribute("xmlns"));
+        parseNamedQueryNode(root, namedQuery);
+        return namedQuery;
+    }
+
+    static Document parseDocument(String payload) throws Exception {
+        DocumentBuilderFactory factory = DocumentBuilderFactory.newInstance();
+        factory.setFeature("http://apache.org/xml/features/disallow-doctype-decl", true);
+        DocumentBuilder builder = factory.newDocumentBuilder();
+        return builder.parse(new InputSource(new StringReader(payload)));
+    }
+
+    private static void parseModelNode(Node node, ModelArtifact model) throws Exception {
+        String name = node.getNodeName();
+        if (name.equalsIgnoreCase("model-invariant-id") || name.equalsIgnoreCase("model-version-id")) {
+            if ("model-invariant-id".equals(name)) {
+                model.setModelInvariantId(node.getTextContent().trim());
+            } else if ("model-version-id".equals(name)) {
+                model.setModelVerId(node.getTextContent().trim());
+            }
+        } else if (name.equalsIgnoreCase("relationship")) {
+            String invariantId = null;
+            String versionId = null;
+            NodeList children = node.getChildNodes();
+            for (int i = 0; i < children.getLength(); i++) {
+                if (children.item(i).getNodeName().equalsIgnoreCase(RELATIONSHIP_DATA)) {
+                    String[] pair = relationshipPair(children.item(i));
+                    if (pair[0].equalsIgnoreCase("model-ver.model-version-id")) {
+                        versionId = pair[1];
+                    } else if (pair[0].equalsIgnoreCase("model.model-invariant-id")) {
+                        invariantId = pair[1];
+                    }
+                }
+            }
+            if (invariantId != null && versionId != null) {
+                model.addDependentModelId(invariantId + "|" + versionId);
+            }
+        } else {
+            if (name.equalsIgnoreCase("model-ver")) {
+                model.setModelVer(nodeToString(node));
+            }
+            NodeList children = node.getChildNodes();
+            for (int i = 0; i < children.getLength(); i++) {
+                parseModelNode(children.item(i), model);
+            }
+        }
+    }
+
+    private static void parseNamedQueryNode(Node node, NamedQueryArtifact namedQuery) {
+        String name = node.getNodeName();
+        if (name.equalsIgnoreCase("named-query-uuid")) {
+            namedQuery.setNamedQueryUuid(node.getTextContent().trim());
+        } else if (name.equalsIgnoreCase(RELATIONSHIP_DATA)) {
+            String[] pair = relationshipPair(node);
+            if ("model.model-invariant-id".equals(pair[0]) && pair[1] != null) {
+                namedQuery.addDependentModelId(pair[1]);
+            }
+        } else {
+            NodeList children = node.getChildNodes();
+            for (int i = 0; i < children.getLength(); i++) {
+                parseNamedQueryNode(children.item(i), namedQuery);
+            }
+        }
+    }
+
+    private static String[] relationshipPair(Node relationshipData) {
+        String[] pair = new String[2];
+        NodeList children = relationshipData.getChildNodes();
+        for (int i = 0; i < children.getLength(); i++) {
+            Node child = children.item(i);
+            if (child.getNodeName().equalsIgnoreCase(RELATIONSHIP_KEY)) {
+                pair[0] = child.getTextContent().trim();
+            } else if (child.getNodeName().equalsIgnoreCase(RELATIONSHIP_VALUE)) {
+                pair[1] = child.getTextContent().trim();
+            }
+        }
+        return pair;
+    }
+
+    static String nodeToString(Node node) throws Exception {
+        StringWriter sw = new StringWriter();
+        TransformerFactory transFact = TransformerFactory.newInstance();
+        transFact.setAttribute(XMLConstants.ACCESS_EXTERNAL_DTD, "");
+        transFact.setAttribute(XMLConstants.ACCESS_EXTERNAL_STYLESHEET, "");
+        Transformer t = transFact.newTransformer();
+        t.setOutputProperty(OutputKeys.OMIT_XML_DECLARATION, "yes");
+        t.transform(new DOMSource(node), new StreamResult(sw));
+        return sw.toString();
+    }
+}
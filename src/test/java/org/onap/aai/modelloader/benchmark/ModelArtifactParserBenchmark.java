@@ -0,0 +1,95 @@
+/**
+ * ============LICENSE_START=======================================================
+ * org.onap.aai
+ * ================================================================================
+ * Copyright © 2025 Deutsche Telekom AG Intellectual Property. All rights reserved.
+ * ================================================================================
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * ============LICENSE_END=========================================================
+ */
+package org.onap.aai.modelloader.benchmark;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.onap.aai.modelloader.entity.Artifact;
+import org.onap.aai.modelloader.entity.model.ModelArtifact;
+import org.onap.aai.modelloader.entity.model.ModelArtifactParser;
+import org.onap.aai.modelloader.entity.model.NamedQueryArtifact;
+import org.onap.aai.modelloader.entity.model.NamedQueryArtifactParser;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Compares the StAX model parsers with the DOM parsing they replaced.
+ *
+ * <pre>
+ * mvn -Pbenchmark verify -Dbenchmark.include=ModelArtifactParserBenchmark
+ * </pre>
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@State(Scope.Benchmark)
+@Fork(1)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+public class ModelArtifactParserBenchmark {
+
+    private static final String NAMED_QUERY_FILE = "named-query-wan-connector.xml";
+
+    @Param({"AAI-stellService-service-1.xml", "AAI-Testvsp..vmme_small_ecomp..module-0-resource-1.xml",
+            "l3-network-widget.xml"})
+    private String modelFile;
+
+    private String modelPayload;
+    private String namedQueryPayload;
+
+    private final ModelArtifactParser modelParser = new ModelArtifactParser();
+    private final NamedQueryArtifactParser namedQueryParser = new NamedQueryArtifactParser();
+
+    @Setup
+    public void loadPayloads() throws IOException {
+        modelPayload = BenchmarkFixtures.loadModel(modelFile);
+        namedQueryPayload = BenchmarkFixtures.loadModel(NAMED_QUERY_FILE);
+    }
+
+    @Benchmark
+    public List<Artifact> parseModelStax() {
+        return modelParser.parse(modelPayload, modelFile);
+    }
+
+    @Benchmark
+    public ModelArtifact parseModelDom() throws Exception {
+        return DomModelArtifactParser.parseModel(modelPayload);
+    }
+
+    @Benchmark
+    public List<Artifact> parseNamedQueryStax() {
+        return namedQueryParser.parse(namedQueryPayload, NAMED_QUERY_FILE);
+    }
+
+    @Benchmark
+    public NamedQueryArtifact parseNamedQueryDom() throws Exception {
+        return DomModelArtifactParser.parseNamedQuery(namedQueryPayload);
+    }
+}
@@ -0,0 +1,107 @@
+/**
+ * ============LICENSE_START=======================================================
+ * org.onap.aai
+ * ================================================================================
+ * Copyright © 2025 Deutsche Telekom AG Intellectual Property. All rights reserved.
+ * ================================================================================
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * ============LICENSE_END=========================================================
+ */
+package org.onap.aai.modelloader.benchmark;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.onap.aai.modelloader.entity.Artifact;
+import org.onap.aai.modelloader.entity.model.BabelArtifactParsingException;
+import org.onap.aai.modelloader.entity.model.ModelArtifactParser;
+import org.onap.aai.modelloader.entity.model.ModelSorter;
+import org.onap.aai.modelloader.fixture.CorpusGenerator;
+import org.onap.aai.modelloader.fixture.CorpusGenerator.Corpus;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Compares the index based model sorter with the hash set based sorter it replaced, on generated models arranged in
+ * <code>dependencyDepth</code> layers, every model depending on up to {@link #MAX_DEPENDENCIES} models of the previous
+ * layer. The models are sorted in random order.
+ *
+ * <pre>
+ * mvn -Pbenchmark verify -Dbenchmark.include=ModelSorterBenchmark
+ * </pre>
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@State(Scope.Benchmark)
+@Fork(1)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+public class ModelSorterBenchmark {
+
+    private static final int MAX_DEPENDENCIES = 3;
+
+    @Param({"10000", "50000", "100000"})
+    private int modelCount;
+
+    @Param({"1", "10", "100"})
+    private int dependencyDepth;
+
+    private List<Artifact> models;
+
+    private final ModelSorter modelSorter = new ModelSorter();
+    private final HashSetModelSorter hashSetModelSorter = new HashSetModelSorter();
+
+    @Setup
+    public void createModels() {
+        Corpus corpus = new CorpusGenerator(modelCount).resourceModels(modelCount)
+                .dependencies(dependencyDepth, MAX_DEPENDENCIES).generate();
+        ModelArtifactParser parser = new ModelArtifactParser();
+        models = new ArrayList<>(modelCount + 1);
+        for (String model : corpus.getModels()) {
+            models.addAll(parser.parse(model, "model"));
+        }
+        Collections.shuffle(models, new Random(modelCount));
+    }
+
+    @Benchmark
+    public List<Artifact> sort() throws BabelArtifactParsingException {
+        return modelSorter.sort(models);
+    }
+
+    @Benchmark
+    public List<Artifact> sortHashSet() throws BabelArtifactParsingException {
+        return hashSetModelSorter.sort(models);
+    }
+
+    @Benchmark
+    public List<List<Artifact>> sortInWaves() throws BabelArtifactParsingException {
+        return modelSorter.sortInWaves(models);
+    }
+
+    @Benchmark
+    public List<List<Artifact>> sortInWavesHashSet() throws BabelArtifactParsingException {
+        return hashSetModelSorter.sortInWaves(models);
+    }
+}
@@ -0,0 +1,110 @@
+/**
+ * ============LICENSE_START=======================================================
+ * org.onap.aai
+ * ================================================================================
+ * Copyright © 2025 Deutsche Telekom AG Intellectual Property. All rights reserved.
+ * ================================================================================
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * ============LICENSE_END=========================================================
+ */
+package org.onap.aai.modelloader.benchmark;
+
+import java.io.IOException;
+import java.io.StringReader;
+import java.util.concurrent.TimeUnit;
+import javax.xml.stream.XMLStreamConstants;
+import javax.xml.stream.XMLStreamException;
+import javax.xml.stream.XMLStreamReader;
+
+import org.onap.aai.modelloader.util.XmlFragments;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.w3c.dom.Document;
+import org.w3c.dom.Node;
+
+/**
+ * Compares the ways of extracting the model-ver fragment of a model: slicing the source text, serializing it from a
+ * second stream reader pass and the DOM transformation used before.
+ *
+ * <pre>
+ * mvn -Pbenchmark verify -Dbenchmark.include=ModelVerFragmentBenchmark
+ * </pre>
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@State(Scope.Benchmark)
+@Fork(1)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+public class ModelVerFragmentBenchmark {
+
+    private static final String MODEL_VER = "model-ver";
+
+    @Param({"AAI-stellService-service-1.xml", "AAI-Testvsp..vmme_small_ecomp..module-0-resource-1.xml",
+            "l3-network-widget.xml"})
+    private String modelFile;
+
+    private String payload;
+    private int modelVerOrdinal;
+    private Node modelVerNode;
+
+    @Setup
+    public void loadPayload() throws Exception {
+        payload = BenchmarkFixtures.loadModel(modelFile);
+        modelVerOrdinal = findModelVer(payload);
+        Document document = DomModelArtifactParser.parseDocument(payload);
+        modelVerNode = document.getElementsByTagName(MODEL_VER).item(0);
+    }
+
+    private static int findModelVer(String xml) throws XMLStreamException, IOException {
+        XMLStreamReader reader = XmlFragments.createInputFactory().createXMLStreamReader(new StringReader(xml));
+        try {
+            int ordinal = 0;
+            while (reader.hasNext()) {
+                if (reader.next() == XMLStreamConstants.START_ELEMENT) {
+                    ordinal++;
+                    if (MODEL_VER.equals(reader.getLocalName())) {
+                        return ordinal;
+                    }
+                }
+            }
+            throw new IOException("No model-ver in " + xml);
+        } finally {
+            reader.close();
+        }
+    }
+
+    @Benchmark
+    public String slice() {
+        return XmlFragments.slice(payload, modelVerOrdinal);
+    }
+
+    @Benchmark
+    public String serialize() throws XMLStreamException {
+        return XmlFragments.serialize(payload, modelVerOrdinal);
+    }
+
+    @Benchmark
+    public String transform() throws Exception {
+        return DomModelArtifactParser.nodeToString(modelVerNode);
+    }
+}
@@ -0,0 +1,113 @@
+/**
+ * ============LICENSE_START=======================================================
+ * org.onap.aai
+ * ================================================================================
+ * Copyright © 2025 Deutsche Telekom AG Intellectual Property. All rights reserved.
+ * ================================================================================
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * ============LICENSE_END=========================================================
+ */
+package org.onap.aai.modelloader.benchmark;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.onap.aai.modelloader.config.AaiProperties;
+import org.onap.aai.modelloader.entity.Artifact;
+import org.onap.aai.modelloader.entity.ArtifactType;
+import org.onap.aai.modelloader.entity.catalog.VnfCatalogArtifact;
+import org.onap.aai.modelloader.entity.catalog.VnfCatalogArtifactHandler;
+import org.onap.aai.modelloader.fixture.CorpusGenerator;
+import org.onap.aai.modelloader.restclient.AaiRestClient;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures the processing of VNF catalog XML by the catalog handler: parsing the catalog and building the identity and
+ * the query URL of every vnf-image. All images are reported as present in A&amp;AI, so no request is sent.
+ *
+ * <pre>
+ * mvn -Pbenchmark verify -Dbenchmark.include=VnfCatalogArtifactHandlerBenchmark
+ * </pre>
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@State(Scope.Benchmark)
+@Fork(1)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+public class VnfCatalogArtifactHandlerBenchmark {
+
+    private static final String DISTRIBUTION_ID = "benchmark";
+
+    @Param({"1", "100", "1000"})
+    private int partNumberCount;
+
+    private List<Artifact> generatedCatalog;
+
+    private VnfCatalogArtifactHandler handler;
+    private AaiRestClient aaiClient;
+
+    @Setup
+    public void createHandler() {
+        AaiProperties aaiProperties = new AaiProperties();
+        aaiProperties.setBaseUrl("http://aai.onap:8443");
+        aaiProperties.setVnfImageUrl("/aai/v*/service-design-and-creation/vnf-images");
+        handler = new VnfCatalogArtifactHandler(aaiProperties, null);
+        aaiClient = new AaiRestClient(aaiProperties, null, null) {
+            @Override
+            public boolean isKnownPresent(String url, String transId) {
+                return true;
+            }
+        };
+        String catalog = new CorpusGenerator(1).vnfCatalogs(1, partNumberCount).generate().getVnfCatalogs().values()
+                .iterator().next();
+        generatedCatalog = List.of(new VnfCatalogArtifact(ArtifactType.VNF_CATALOG_XML, catalog));
+    }
+
+    @Benchmark
+    public boolean processGenerated() {
+        return handler.pushArtifacts(generatedCatalog, DISTRIBUTION_ID, new ArrayList<>(), aaiClient);
+    }
+
+    @Benchmark
+    public boolean processFixture(FixtureCatalog fixture) {
+        return handler.pushArtifacts(fixture.catalog, DISTRIBUTION_ID, new ArrayList<>(), aaiClient);
+    }
+
+    @State(Scope.Benchmark)
+    public static class FixtureCatalog {
+
+        @Param({"vnfcatalog-1.xml", "fortigate.xml"})
+        private String catalogFile;
+
+        private List<Artifact> catalog;
+
+        @Setup
+        public void loadCatalog() throws IOException {
+            catalog = List.of(new VnfCatalogArtifact(ArtifactType.VNF_CATALOG_XML,
+                    BenchmarkFixtures.load("/xmlFiles/" + catalogFile)));
+        }
+    }
+}
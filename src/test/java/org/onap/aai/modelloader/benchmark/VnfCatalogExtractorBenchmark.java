@@ -0,0 +1,99 @@
+/**
+ * ============LICENSE_START=======================================================
+ * org.onap.aai
+ * ================================================================================
+ * Copyright © 2025 Deutsche Telekom AG Intellectual Property. All rights reserved.
+ * ================================================================================
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * ============LICENSE_END=========================================================
+ */
+package org.onap.aai.modelloader.benchmark;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.onap.aai.modelloader.entity.Artifact;
+import org.onap.aai.modelloader.extraction.InvalidArchiveException;
+import org.onap.aai.modelloader.extraction.VnfCatalogExtractor;
+import org.onap.aai.modelloader.fixture.CorpusGenerator;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures the extraction of the VNF catalogs of CSARs: the fixture CSARs and generated CSARs holding a given number
+ * of catalogs and other artifacts of a given size.
+ *
+ * <pre>
+ * mvn -Pbenchmark verify -Dbenchmark.include=VnfCatalogExtractorBenchmark
+ * </pre>
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@State(Scope.Benchmark)
+@Fork(1)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+public class VnfCatalogExtractorBenchmark {
+
+    private static final int PART_NUMBER_COUNT = 4;
+
+    @Param({"100", "10000"})
+    private int csarPaddingKb;
+
+    @Param({"1", "10", "100"})
+    private int catalogCount;
+
+    private byte[] csar;
+
+    private final VnfCatalogExtractor extractor = new VnfCatalogExtractor();
+
+    @Setup
+    public void generateCsar() {
+        csar = new CorpusGenerator(1).vnfCatalogs(catalogCount, PART_NUMBER_COUNT).csarPadding(csarPaddingKb).generate()
+                .getCsar();
+    }
+
+    @Benchmark
+    public List<Artifact> extractGenerated() throws InvalidArchiveException {
+        return extractor.extract(csar, "generated.csar");
+    }
+
+    @Benchmark
+    public List<Artifact> extractFixture(FixtureCsar fixture) throws InvalidArchiveException {
+        return extractor.extract(fixture.csar, fixture.csarFile);
+    }
+
+    @State(Scope.Benchmark)
+    public static class FixtureCsar {
+
+        @Param({"threeVnfcFilesArchive.csar", "service-VscpaasTest-csar.csar"})
+        private String csarFile;
+
+        private byte[] csar;
+
+        @Setup
+        public void loadCsar() throws IOException {
+            csar = BenchmarkFixtures.loadBytes("/compressedArtifacts/" + csarFile);
+        }
+    }
+}
@@ -21,21 +21,45 @@ package org.onap.aai.modelloader.config;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 
+import java.time.Duration;
+
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.SpringBootTest;
 
 @SpringBootTest(properties = {
-  "ml.babel.generate-artifacts-url=/foo"
+  "ml.babel.generate-artifacts-url=/foo",
+  "ml.babel.http-client.read-timeout=2m",
+  "ml.aai.http-client.max-per-route=7",
+  "ml.payload-log.loggers[org.onap.aai.modelloader.restclient.AaiRestClient]=0"
 })
 public class PropertiesTest {
 
   @Autowired
   BabelProperties babelProperties;
 
+  @Autowired
+  AaiProperties aaiProperties;
+
+  @Autowired
+  PayloadLogProperties payloadLogProperties;
+
   @Test
   void thatBabelPropertiesBindingWorks() {
     assertEquals("/foo", babelProperties.getGenerateArtifactsUrl());
   }
 
+  @Test
+  void thatHttpClientPoolPropertiesBindingWorks() {
+    assertEquals(Duration.ofMinutes(2), babelProperties.getHttpClient().getReadTimeout());
+    assertEquals(7, aaiProperties.getHttpClient().getMaxPerRoute());
+    assertEquals(50, aaiProperties.getHttpClient().getMaxTotal());
+  }
+
+  @Test
+  void thatPayloadLogPropertiesBindingWorks() {
+    assertEquals(0, payloadLogProperties.getMaxBytes("org.onap.aai.modelloader.restclient.AaiRestClient"));
+    assertEquals(256, payloadLogProperties.getMaxBytes("org.onap.aai.modelloader.util.GizmoTranslator"));
+  }
+
 }
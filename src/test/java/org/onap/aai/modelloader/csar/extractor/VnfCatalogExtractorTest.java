@@ -21,23 +21,31 @@
 package org.onap.aai.modelloader.csar.extractor;
 
 import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.Matchers.contains;
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.junit.jupiter.api.Assertions.fail;
 
+import java.io.ByteArrayOutputStream;
 import java.io.IOException;
+import java.nio.charset.StandardCharsets;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Set;
 import java.util.stream.Collectors;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipOutputStream;
 
 import org.junit.jupiter.api.Test;
 import org.onap.aai.modelloader.entity.Artifact;
 import org.onap.aai.modelloader.entity.ArtifactType;
+import org.onap.aai.modelloader.extraction.CsarScan;
+import org.onap.aai.modelloader.extraction.CsarScan.ModelId;
 import org.onap.aai.modelloader.extraction.InvalidArchiveException;
 import org.onap.aai.modelloader.extraction.VnfCatalogExtractor;
 import org.onap.aai.modelloader.util.ArtifactTestUtils;
+import org.onap.aai.modelloader.util.CsarPayload;
 
 
 /**
@@ -102,6 +110,82 @@ public class VnfCatalogExtractorTest {
                 payloads);
     }
 
+    @Test
+    public void scanReadsTheMetadataOfTheServiceTemplate() throws IOException, InvalidArchiveException {
+        byte[] csar = new ArtifactTestUtils().loadResource("compressedArtifacts/service-VscpaasTest-csar.csar");
+
+        CsarScan scan = new VnfCatalogExtractor().scan(CsarPayload.of(csar), "service-VscpaasTest-csar.csar", true);
+        assertThat(scan.getServiceMetadata().get("invariantUUID"), is("1"));
+        assertThat(scan.getServiceMetadata().get("UUID"), is("2"));
+        assertThat(scan.getServiceMetadata().get("category"), is("Network L4+"));
+        assertThat(scan.getServiceMetadata().get("namingPolicy"), is(""));
+        assertThat(scan.getServiceMetadata().containsKey("file"), is(false));
+        assertThat(scan.getModelIds(), contains(new ModelId("1", "2")));
+    }
+
+    @Test
+    public void scanCollectsTheModelIdsOfTheTemplates() throws IOException, InvalidArchiveException {
+        ByteArrayOutputStream archive = new ByteArrayOutputStream();
+        try (ZipOutputStream zipOutputStream = new ZipOutputStream(archive)) {
+            addEntry(zipOutputStream, "Definitions/service-Test-template.yml", String.join("\n",
+                    "metadata:",
+                    "  invariantUUID: 'service-invariant'",
+                    "  UUID: \"service-version\"",
+                    "topology_template:",
+                    "  node_templates:",
+                    "    vf 0:",
+                    "      metadata:",
+                    "        UUID: vf-version",
+                    "        invariantUUID: vf-invariant",
+                    "        customizationUUID: vf-customization",
+                    "    incomplete 0:",
+                    "      metadata:",
+                    "        invariantUUID: incomplete-invariant",
+                    "    other 0:",
+                    "      properties:",
+                    "        UUID: not-a-model",
+                    "      metadata:",
+                    "        invariantUUID: other-invariant",
+                    "        UUID: other-version"));
+            addEntry(zipOutputStream, "Definitions/resource-Vf-template.yaml",
+                    "metadata:\n  invariantUUID: vf-invariant\n  UUID: vf-version\n");
+            addEntry(zipOutputStream, "Artifacts/other.yml", "metadata:\n  invariantUUID: ignored\n  UUID: ignored\n");
+        }
+
+        CsarScan scan = new VnfCatalogExtractor().scan(CsarPayload.of(archive.toByteArray()), "generated.csar", true);
+        assertThat(scan.getModelIds(), contains(new ModelId("service-invariant", "service-version"),
+                new ModelId("vf-invariant", "vf-version"), new ModelId("other-invariant", "other-version")));
+    }
+
+    @Test
+    public void templatesAreOnlyParsedOnRequest() throws IOException, InvalidArchiveException {
+        byte[] csar = new ArtifactTestUtils().loadResource("compressedArtifacts/service-VscpaasTest-csar.csar");
+
+        CsarScan scan = new VnfCatalogExtractor().scan(CsarPayload.of(csar), "service-VscpaasTest-csar.csar", false);
+        assertThat(scan.getServiceMetadata().isEmpty(), is(true));
+        assertThat(scan.getModelIds().isEmpty(), is(true));
+    }
+
+    @Test
+    public void vnfcFilesAreMatchedIgnoringCaseAndSeparator() throws IOException, InvalidArchiveException {
+        ByteArrayOutputStream archive = new ByteArrayOutputStream();
+        try (ZipOutputStream zipOutputStream = new ZipOutputStream(archive)) {
+            addEntry(zipOutputStream, "ARTIFACTS\\Deployment\\vnf_catalog\\image.XML", "<vnf>\u00fc</vnf>");
+            addEntry(zipOutputStream, "Artifacts/Deployment/VNF_CATALOG/readme.txt", "not a catalog");
+            addEntry(zipOutputStream, "Other/Artifacts/Deployment/VNF_CATALOG/image.xml", "<vnf/>");
+        }
+
+        List<Artifact> vnfcArtifacts = new VnfCatalogExtractor().extract(archive.toByteArray(), "generated.csar");
+        assertThat(vnfcArtifacts.size(), is(1));
+        assertThat(vnfcArtifacts.get(0).getPayload(), is("<vnf>\u00fc</vnf>"));
+    }
+
+    private static void addEntry(ZipOutputStream zipOutputStream, String name, String content) throws IOException {
+        zipOutputStream.putNextEntry(new ZipEntry(name));
+        zipOutputStream.write(content.getBytes(StandardCharsets.UTF_8));
+        zipOutputStream.closeEntry();
+    }
+
     public void performVnfcAsserts(List<Artifact> actualVnfcArtifacts, List<String> expectedVnfcPayloadsToLoad) {
         assertThat("An unexpected number of VNFC files have been extracted", actualVnfcArtifacts.size(),
                 is(expectedVnfcPayloadsToLoad.size()));
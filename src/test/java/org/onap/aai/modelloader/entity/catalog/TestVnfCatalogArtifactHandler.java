@@ -83,7 +83,7 @@ public class TestVnfCatalogArtifactHandler {
         mockPutOperations();
 
         // Example VNF Catalog XML
-        VnfCatalogArtifactHandler handler = new VnfCatalogArtifactHandler(aaiProperties);
+        VnfCatalogArtifactHandler handler = new VnfCatalogArtifactHandler(aaiProperties, null);
         assertTrue(handler.pushArtifacts(createVnfCatalogArtifact(), "test", new ArrayList<Artifact>(), mockRestClient));
 
         assertPutOperationsSucceeded();
@@ -107,7 +107,7 @@ public class TestVnfCatalogArtifactHandler {
         mockPutOperations();
 
         // Example VNF Catalog XML
-        VnfCatalogArtifactHandler handler = new VnfCatalogArtifactHandler(aaiProperties);
+        VnfCatalogArtifactHandler handler = new VnfCatalogArtifactHandler(aaiProperties, null);
         assertThat(
                 handler.pushArtifacts(createVnfCatalogXmlArtifact(), "test", new ArrayList<Artifact>(), mockRestClient),
                 is(true));
@@ -20,12 +20,9 @@
  */
 package org.onap.aai.modelloader.entity.model;
 
-import static org.hamcrest.CoreMatchers.equalTo;
 import static org.hamcrest.CoreMatchers.is;
-import static org.hamcrest.CoreMatchers.not;
 import static org.hamcrest.CoreMatchers.nullValue;
 import static org.hamcrest.MatcherAssert.assertThat;
-import static org.hamcrest.Matchers.isEmptyString;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 
 import java.util.ArrayList;
@@ -39,54 +36,27 @@ import org.onap.aai.modelloader.entity.Artifact;
 public class ModelSorterTest {
 
     @Test
-    public void edgeEquality() throws BabelArtifactParsingException {
-        ModelArtifact model = buildTestModel();
-        ModelSorter.Node nodeA = new ModelSorter.Node(model);
-        ModelSorter.Node nodeB = new ModelSorter.Node(model);
-
-        ModelSorter.Edge edgeA = new ModelSorter.Edge(nodeA, nodeB);
-
-        assertThat(edgeA, is(equalTo(edgeA)));
-        assertThat(edgeA, is(not(equalTo(null))));
-        assertThat(edgeA, is(not(equalTo(model))));
-
-        ModelSorter.Edge edgeB = new ModelSorter.Edge(nodeA, nodeB);
-        ModelSorter.Edge edgeC = new ModelSorter.Edge(nodeB, nodeA);
-
-        ModelSorter.Node nodeC = new ModelSorter.Node(model);
-        ModelSorter.Edge edgeD = new ModelSorter.Edge(nodeA, nodeC);
-        assertThat(edgeA, is(equalTo(edgeB)));
-        assertThat(edgeA, is(not(equalTo(edgeC))));
-        assertThat(edgeA, is(not(equalTo(edgeD))));
-    }
-
-    @Test
-    public void nodeEquality() throws BabelArtifactParsingException {
-        ModelArtifact model = buildTestModel();
-        ModelSorter.Node nodeA = new ModelSorter.Node(model);
+    public void graphNumbersModelsInOrderOfDiscovery() {
+        Artifact artA = buildTestModel("aaaa", "mvaaaa", "cccc|mvcccc");
+        Artifact artB = buildTestModel("bbbb", "mvbbbb", "aaaa|mvaaaa");
+        Artifact artC = buildTestModel("cccc", "mvcccc");
 
-        assertThat(nodeA, is(equalTo(nodeA)));
-        assertThat(nodeA, is(not(equalTo(null))));
-        assertThat(nodeA, is(not(equalTo(model))));
+        ModelSorter.Graph graph = ModelSorter.createGraph(Arrays.asList(artA, artB, artC));
 
-        ModelSorter.Node nodeB = new ModelSorter.Node(model);
-        assertThat(nodeA, is(equalTo(nodeB)));
-        assertThat(nodeA.toString(), is(equalTo(nodeB.toString())));
-        assertThat(nodeA, is(not(equalTo(new ModelSorter.Node(new ModelArtifact())))));
+        assertThat(graph.models, is(Arrays.asList(artA, artC, artB)));
+        assertThat(graph.edgeStart, is(new int[] {0, 1, 2, 2}));
+        assertThat(graph.edgeTargets, is(new int[] {2, 0}));
+        assertThat(graph.inDegree, is(new int[] {1, 0, 1}));
     }
 
     @Test
-    public void testToString() throws BabelArtifactParsingException {
-        ModelArtifact model = buildTestModel();
-
-        ModelSorter.Node nodeA = new ModelSorter.Node(model);
-        assertThat(nodeA.toString(), not(isEmptyString()));
-
-        ModelSorter.Node nodeB = new ModelSorter.Node(model);
-        nodeA.addEdge(nodeB);
-        assertThat(nodeA.toString(), not(isEmptyString()));
-        assertThat(nodeB.toString(), not(isEmptyString()));
-
+    public void modelsWithTheSameIdentifierShareANode() throws BabelArtifactParsingException {
+        Artifact artA = buildTestModel("aaaa", "1111", "cccc|1111");
+        Artifact artB = buildTestModel("aaaa", "1111", "cccc|1111");
+        Artifact artC = buildTestModel("cccc", "1111");
+        assertThat(new ModelSorter().sort(Arrays.asList(artA, artB, artC)), is(Arrays.asList(artC, artA)));
+        assertThat(new ModelSorter().sortInWaves(Arrays.asList(artA, artB, artC)),
+                is(Arrays.asList(Arrays.asList(artC), Arrays.asList(artA))));
     }
 
     @Test
@@ -140,6 +110,54 @@ public class ModelSorterTest {
         });
     }
 
+    @Test
+    public void noModelsInWaves() throws BabelArtifactParsingException {
+        assertThat(new ModelSorter().sortInWaves(null).size(), is(0));
+        assertThat(new ModelSorter().sortInWaves(Collections.emptyList()).size(), is(0));
+    }
+
+    @Test
+    public void multipleModelsInWaves() throws BabelArtifactParsingException {
+        ModelArtifact artA = buildTestModel("aaaa", "mvaaaa", "cccc|mvcccc");
+        Artifact artB = buildTestModel("bbbb", "mvbbbb", "aaaa|mvaaaa");
+        Artifact artC = buildTestModel("cccc", "mvcccc");
+        Artifact artD = buildTestModel("dddd", "mvdddd", "cccc|mvcccc");
+        Artifact artE = buildTestModel("eeee", "mveeee");
+        artA.addDependentModelId("dddd|mvdddd");
+
+        List<List<Artifact>> expected = Arrays.asList( //
+                Arrays.asList(artC, artE), //
+                Arrays.asList(artD), //
+                Arrays.asList(artA), //
+                Arrays.asList(artB));
+        assertThat(new ModelSorter().sortInWaves(Arrays.asList(artA, artB, artC, artD, artE)), is(expected));
+    }
+
+    @Test
+    public void independentModelsFormOneWaveInOriginalOrder() throws BabelArtifactParsingException {
+        Artifact artA = buildTestModel("aaaa", "1111", "cccc|2222");
+        Artifact nq1 = buildTestNamedQuery("nq1", "aaaa|1111");
+        Artifact nq2 = buildTestNamedQuery("nqw", "existing-model");
+        List<List<Artifact>> expected = Arrays.asList(Arrays.asList(nq2, artA), Arrays.asList(nq1));
+        assertThat(new ModelSorter().sortInWaves(Arrays.asList(nq1, nq2, artA)), is(expected));
+    }
+
+    @Test
+    public void selfDependency() {
+        List<Artifact> modelList =
+                Arrays.asList(buildTestModel("aaaa", "1111", "aaaa|1111"), buildTestModel("bbbb", "1111"));
+        assertThrows(BabelArtifactParsingException.class, () -> new ModelSorter().sort(modelList));
+    }
+
+    @Test
+    public void circularDependencyInWaves() {
+        List<Artifact> modelList = new ArrayList<Artifact>();
+        modelList.add(buildTestModel("aaaa", "1111", "bbbb|1111"));
+        modelList.add(buildTestModel("bbbb", "1111", "aaaa|1111"));
+        modelList.add(buildTestModel("cccc", "1111"));
+        assertThrows(BabelArtifactParsingException.class, () -> new ModelSorter().sortInWaves(modelList));
+    }
+
     private ModelArtifact buildTestModel() {
         return buildTestModel("aaa", "111", "xyz|123");
     }
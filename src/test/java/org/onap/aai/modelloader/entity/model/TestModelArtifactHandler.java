@@ -24,25 +24,38 @@ import static org.hamcrest.CoreMatchers.is;
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.endsWith;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.inOrder;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 
 import org.junit.jupiter.api.BeforeAll;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
+import org.mockito.InOrder;
 import org.mockito.Mock;
 import org.mockito.MockitoAnnotations;
 import org.onap.aai.modelloader.config.AaiProperties;
 import org.onap.aai.modelloader.config.ModelLoaderConfig;
 import org.onap.aai.modelloader.entity.Artifact;
 import org.onap.aai.modelloader.restclient.AaiRestClient;
+import org.onap.aai.modelloader.service.DistributionMetrics;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
 /**
  * Test the Model Artifact Handler using Mocks
  *
@@ -72,7 +85,7 @@ public class TestModelArtifactHandler {
 
     @Test
     public void testEmptyLists() {
-        ModelArtifactHandler handler = new ModelArtifactHandler(aaiProperties);
+        ModelArtifactHandler handler = new ModelArtifactHandler(aaiProperties, null, null, null);
         handler.pushArtifacts(Collections.emptyList(), "", Collections.emptyList(), aaiClient);
         handler.rollback(Collections.emptyList(), "", aaiClient);
         assertTrue(true);
@@ -88,7 +101,7 @@ public class TestModelArtifactHandler {
         Artifact artifact = new ModelArtifact();
         artifacts.add(artifact);
 
-        ModelArtifactHandler handler = new ModelArtifactHandler(aaiProperties);
+        ModelArtifactHandler handler = new ModelArtifactHandler(aaiProperties, null, null, null);
         boolean pushed = handler.pushArtifacts(artifacts, "", Collections.emptyList(), aaiClient);
         assertTrue(pushed);
         handler.rollback(artifacts, "", aaiClient);
@@ -112,7 +125,7 @@ public class TestModelArtifactHandler {
         artifacts.add(namedQueryArtifact);
 
         List<Artifact> completedArtifacts = new ArrayList<>();
-        ModelArtifactHandler handler = new ModelArtifactHandler(aaiProperties);
+        ModelArtifactHandler handler = new ModelArtifactHandler(aaiProperties, null, null, null);
         boolean pushed = handler.pushArtifacts(artifacts, "", completedArtifacts, aaiClient);
         assertThat(pushed, is(true));
         handler.rollback(artifacts, "", aaiClient);
@@ -140,8 +153,173 @@ public class TestModelArtifactHandler {
         checkRollback(Collections.singletonList(new ModelArtifact()));
     }
 
+    @Test
+    public void testPushWavesConcurrently() {
+        ResponseEntity getResult = mock(ResponseEntity.class);
+        when(aaiClient.getResource(any(), any(), any(), any())).thenReturn(getResult);
+        when(getResult.getStatusCode()).thenReturn(HttpStatus.NOT_FOUND);
+
+        ResponseEntity putResult = mock(ResponseEntity.class);
+        when(aaiClient.putResource(any(), any(), any(), any(), any())).thenReturn(putResult);
+        when(putResult.getStatusCode()).thenReturn(HttpStatus.CREATED);
+
+        ModelArtifact modelA = buildModel("aaaa", null);
+        ModelArtifact modelB = buildModel("bbbb", null);
+        ModelArtifact modelC = buildModel("cccc", "aaaa|1111");
+
+        ExecutorService executor = Executors.newFixedThreadPool(2);
+        try {
+            List<Artifact> completedArtifacts = new ArrayList<>();
+            ModelArtifactHandler handler = new ModelArtifactHandler(aaiProperties, executor, null, null);
+            boolean pushed = handler.pushArtifacts(Arrays.asList(modelC, modelA, modelB), "", completedArtifacts,
+                    aaiClient);
+
+            assertThat(pushed, is(true));
+            assertThat(completedArtifacts, is(Arrays.asList(modelA, modelB, modelC)));
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    public void testFailedWaveStopsLaterWaves() {
+        ResponseEntity getResult = mock(ResponseEntity.class);
+        when(aaiClient.getResource(any(), any(), any(), any())).thenReturn(getResult);
+        when(getResult.getStatusCode()).thenReturn(HttpStatus.NOT_FOUND);
+
+        ResponseEntity putResult = mock(ResponseEntity.class);
+        when(aaiClient.putResource(any(), any(), any(), any(), any())).thenReturn(putResult);
+        when(putResult.getStatusCode()).thenReturn(HttpStatus.CREATED);
+        ResponseEntity badRequest = mock(ResponseEntity.class);
+        when(aaiClient.putResource(endsWith("/aaaa"), any(), any(), any(), any())).thenReturn(badRequest);
+        when(badRequest.getStatusCode()).thenReturn(HttpStatus.BAD_REQUEST);
+
+        ModelArtifact modelA = buildModel("aaaa", null);
+        ModelArtifact modelB = buildModel("bbbb", null);
+        ModelArtifact modelC = buildModel("cccc", "aaaa|1111");
+
+        ExecutorService executor = Executors.newFixedThreadPool(2);
+        try {
+            List<Artifact> completedArtifacts = new ArrayList<>();
+            ModelArtifactHandler handler = new ModelArtifactHandler(aaiProperties, executor, null, null);
+            boolean pushed = handler.pushArtifacts(Arrays.asList(modelA, modelB, modelC), "", completedArtifacts,
+                    aaiClient);
+
+            assertThat(pushed, is(false));
+            assertThat(completedArtifacts.contains(modelA), is(false));
+            verify(aaiClient, never()).getResource(endsWith("/cccc"), any(), any(), any());
+            verify(aaiClient, never()).putResource(endsWith("/cccc"), any(), any(), any(), any());
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    public void testKnownPresentModelIsNotFetched() {
+        when(aaiClient.isKnownPresent(any(), any())).thenReturn(true);
+
+        List<Artifact> completedArtifacts = new ArrayList<>();
+        ModelArtifactHandler handler = new ModelArtifactHandler(aaiProperties, null, null, null);
+        boolean pushed = handler.pushArtifacts(List.of(buildModel("aaaa", null)), "", completedArtifacts, aaiClient);
+
+        assertThat(pushed, is(true));
+        assertThat(completedArtifacts.isEmpty(), is(true));
+        verify(aaiClient, never()).getResource(any(), any(), any(), any());
+        verify(aaiClient, never()).putResource(any(), any(), any(), any(), any());
+    }
+
+    @Test
+    public void testModelsArePushedThroughTheCoordinator() {
+        ResponseEntity getResult = mock(ResponseEntity.class);
+        when(aaiClient.getResource(any(), any(), any(), any())).thenReturn(getResult);
+        when(getResult.getStatusCode()).thenReturn(HttpStatus.NOT_FOUND);
+        ResponseEntity putResult = mock(ResponseEntity.class);
+        when(aaiClient.putResource(any(), any(), any(), any(), any())).thenReturn(putResult);
+        when(putResult.getStatusCode()).thenReturn(HttpStatus.CREATED);
+
+        // The model is being pushed by another distribution, which succeeds
+        ModelArtifact model = buildModel("aaaa", null);
+        ModelPushCoordinator pushCoordinator = mock(ModelPushCoordinator.class);
+        when(pushCoordinator.push(eq(model), eq("distribution"), any(), any())).thenReturn(true);
+        NamedQueryArtifact namedQueryArtifact = new NamedQueryArtifact();
+        namedQueryArtifact.setNamedQueryUuid("fred");
+        namedQueryArtifact.setModelNamespace("http://org.onap.aai.inventory/v13");
+
+        List<Artifact> completedArtifacts = new ArrayList<>();
+        ModelArtifactHandler handler =
+                new ModelArtifactHandler(aaiProperties, null, DistributionMetrics.noop(), pushCoordinator);
+        boolean pushed = handler.pushArtifacts(List.of(model, namedQueryArtifact), "distribution", completedArtifacts,
+                aaiClient);
+
+        assertThat(pushed, is(true));
+        assertThat(completedArtifacts, is(List.of(namedQueryArtifact)));
+        verify(aaiClient, never()).putResource(endsWith("/aaaa"), any(), any(), any(), any());
+    }
+
+    @Test
+    public void testRollbackDeletesTheServiceModelFirst() {
+        ResponseEntity getResult = mock(ResponseEntity.class);
+        when(aaiClient.getResource(any(), any(), any(), any())).thenReturn(getResult);
+        when(getResult.getStatusCode()).thenReturn(HttpStatus.NOT_FOUND);
+        ResponseEntity putResult = mock(ResponseEntity.class);
+        when(aaiClient.putResource(any(), any(), any(), any(), any())).thenReturn(putResult);
+        when(putResult.getStatusCode()).thenReturn(HttpStatus.CREATED);
+
+        ModelArtifact resource = buildModel("aaaa", null);
+        ModelArtifact service = buildModel("cccc", "aaaa|1111");
+        List<Artifact> completedArtifacts = new ArrayList<>();
+        ModelArtifactHandler handler = new ModelArtifactHandler(aaiProperties, null, null, null);
+        assertThat(handler.pushArtifacts(Arrays.asList(service, resource), "", completedArtifacts, aaiClient),
+                is(true));
+        assertThat(completedArtifacts, is(Arrays.asList(resource, service)));
+
+        handler.rollback(completedArtifacts, "", aaiClient);
+
+        InOrder deletions = inOrder(aaiClient);
+        deletions.verify(aaiClient).getAndDeleteResource(endsWith("/cccc"), any());
+        deletions.verify(aaiClient).getAndDeleteResource(endsWith("/aaaa"), any());
+    }
+
+    @Test
+    public void testLeaderRollbackKeepsAModelSharedWithAnotherDistribution() {
+        ResponseEntity getResult = mock(ResponseEntity.class);
+        when(aaiClient.getResource(any(), any(), any(), any())).thenReturn(getResult);
+        when(getResult.getStatusCode()).thenReturn(HttpStatus.NOT_FOUND);
+        ResponseEntity putResult = mock(ResponseEntity.class);
+        when(aaiClient.putResource(any(), any(), any(), any(), any())).thenReturn(putResult);
+        when(putResult.getStatusCode()).thenReturn(HttpStatus.CREATED);
+
+        ModelArtifactHandler handler = new ModelArtifactHandler(aaiProperties, null, null,
+                new ModelPushCoordinator(new SimpleMeterRegistry()));
+        List<Artifact> leaderCompleted = new ArrayList<>();
+        List<Artifact> followerCompleted = new ArrayList<>();
+        assertThat(handler.pushArtifacts(List.of(buildModel("aaaa", null)), "leader", leaderCompleted, aaiClient),
+                is(true));
+        assertThat(handler.pushArtifacts(List.of(buildModel("aaaa", null)), "follower", followerCompleted,
+                aaiClient), is(true));
+        verify(aaiClient, times(1)).putResource(endsWith("/aaaa"), any(), any(), any(), any());
+
+        // The distribution of the leader fails after the model has been shared
+        handler.rollback(leaderCompleted, "leader", aaiClient);
+        verify(aaiClient, never()).getAndDeleteResource(any(), any());
+
+        handler.rollback(followerCompleted, "follower", aaiClient);
+        verify(aaiClient).getAndDeleteResource(endsWith("/aaaa"), eq("leader"));
+    }
+
+    private ModelArtifact buildModel(String invariantId, String dependentModelId) {
+        ModelArtifact model = new ModelArtifact();
+        model.setModelInvariantId(invariantId);
+        model.setModelVerId("1111");
+        model.setModelNamespace("http://org.onap.aai.inventory/v13");
+        if (dependentModelId != null) {
+            model.addDependentModelId(dependentModelId);
+        }
+        return model;
+    }
+
     private void checkRollback(List<Artifact> artifacts) {
-        ModelArtifactHandler handler = new ModelArtifactHandler(aaiProperties);
+        ModelArtifactHandler handler = new ModelArtifactHandler(aaiProperties, null, null, null);
         boolean pushed = handler.pushArtifacts(artifacts, "", Collections.emptyList(), aaiClient);
         assertThat(pushed, is(false));
         handler.rollback(artifacts, "", aaiClient);
@@ -31,6 +31,7 @@ import java.nio.file.Path;
 import java.util.List;
 
 import org.junit.jupiter.api.Test;
+import org.onap.aai.modelloader.benchmark.DomModelArtifactParser;
 import org.onap.aai.modelloader.entity.Artifact;
 import org.springframework.util.CollectionUtils;
 
@@ -100,4 +101,29 @@ public class TestModelArtifactParser {
 
         assertThat(CollectionUtils.isEmpty(modelList), is(true));
     }
+
+    @Test
+    public void testParseModelFilesLikeDomParser() throws Exception {
+        List<String> modelFiles = List.of(MODEL_FILE, MODEL_FILE_SERVICE, "src/test/resources/models/AAI-VL-resource-1.xml",
+                "src/test/resources/models/AAI-testvsp-resource-1.xml",
+                "src/test/resources/models/AAI-Testvsp..vmme_cinder..module-1-resource-1.xml",
+                "src/test/resources/models/AAI-Testvsp..vmme_small_ecomp..module-0-resource-1.xml",
+                "src/test/resources/convertedYmls/AAI-SCP-Test-VSP-resource-1.0.xml");
+
+        ModelArtifactParser parser = new ModelArtifactParser();
+        for (String modelFile : modelFiles) {
+            String fileString = new String(Files.readAllBytes(Path.of(modelFile)));
+            ModelArtifact expected = DomModelArtifactParser.parseModel(fileString);
+
+            List<Artifact> modelList = parser.parse(fileString, modelFile);
+
+            assertThat(modelFile, modelList.size(), is(1));
+            ModelArtifact model = (ModelArtifact) modelList.get(0);
+            assertThat(modelFile, model.getModelInvariantId(), is(expected.getModelInvariantId()));
+            assertThat(modelFile, model.getModelVerId(), is(expected.getModelVerId()));
+            assertThat(modelFile, model.getModelNamespace(), is(expected.getModelNamespace()));
+            assertThat(modelFile, model.getDependentModelIds(), is(expected.getDependentModelIds()));
+            assertThat(modelFile, model.getModelVer(), is(expected.getModelVer()));
+        }
+    }
 }
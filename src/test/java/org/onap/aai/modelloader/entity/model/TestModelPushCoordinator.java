@@ -0,0 +1,297 @@
+/**
+ * ============LICENSE_START=======================================================
+ * org.onap.aai
+ * ================================================================================
+ * Copyright © 2025 Deutsche Telekom AG Intellectual Property. All rights reserved.
+ * ================================================================================
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * ============LICENSE_END=========================================================
+ */
+package org.onap.aai.modelloader.entity.model;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.BooleanSupplier;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.onap.aai.modelloader.entity.Artifact;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+/**
+ * Tests {@link ModelPushCoordinator}.
+ */
+public class TestModelPushCoordinator {
+
+    private MeterRegistry meterRegistry;
+    private ModelPushCoordinator coordinator;
+    private ExecutorService executor;
+    private List<Artifact> leaderCompleted;
+    private List<Artifact> followerCompleted;
+
+    @BeforeEach
+    public void setup() {
+        meterRegistry = new SimpleMeterRegistry();
+        coordinator = new ModelPushCoordinator(meterRegistry);
+        executor = Executors.newFixedThreadPool(2);
+        leaderCompleted = Collections.synchronizedList(new ArrayList<>());
+        followerCompleted = Collections.synchronizedList(new ArrayList<>());
+    }
+
+    @AfterEach
+    public void tearDown() {
+        executor.shutdownNow();
+    }
+
+    @Test
+    public void pushesThatDoNotOverlapAreNotCoalesced() {
+        AtomicInteger pushes = new AtomicInteger();
+
+        assertThat(coordinator.push(model("aaaa"), "first", new ArrayList<>(), () -> pushes.incrementAndGet() > 0),
+                is(true));
+        assertThat(coordinator.push(model("aaaa"), "second", new ArrayList<>(), () -> pushes.incrementAndGet() < 0),
+                is(false));
+        assertThat(pushes.get(), is(2));
+    }
+
+    @Test
+    public void successfulPushIsShared() throws Exception {
+        ModelArtifact model = model("aaaa");
+        CountDownLatch release = new CountDownLatch(1);
+        Future<Boolean> leader = lead(model, () -> await(release) && leaderCompleted.add(model));
+
+        AtomicInteger followerPushes = new AtomicInteger();
+        Future<Boolean> follower = follow(model("aaaa"), () -> followerPushes.incrementAndGet() > 0);
+        release.countDown();
+
+        assertThat(leader.get(5, TimeUnit.SECONDS), is(true));
+        assertThat(follower.get(5, TimeUnit.SECONDS), is(true));
+        assertThat(followerPushes.get(), is(0));
+        assertThat(followerCompleted.size(), is(1));
+        assertThat(count("shared"), is(1.0));
+    }
+
+    @Test
+    public void leaderRollbackKeepsTheModelSharedWithAFollower() throws Exception {
+        ModelArtifact model = model("aaaa");
+        pushShared(model);
+
+        // The distribution of the leader fails after the follower has reported the model as deployed
+        AtomicInteger deletions = new AtomicInteger();
+        coordinator.rollback(model, "leader", deletions::incrementAndGet);
+        assertThat(deletions.get(), is(0));
+
+        coordinator.commit(model, "follower");
+        assertThat(deletions.get(), is(0));
+
+        // The model is no longer held, the next push checks A&AI again
+        AtomicInteger pushes = new AtomicInteger();
+        assertThat(coordinator.push(model("aaaa"), "later", new ArrayList<>(), () -> pushes.incrementAndGet() > 0),
+                is(true));
+        assertThat(pushes.get(), is(1));
+    }
+
+    @Test
+    public void lastRollbackDeletesTheSharedModel() throws Exception {
+        ModelArtifact model = model("aaaa");
+        pushShared(model);
+
+        AtomicInteger leaderDeletions = new AtomicInteger();
+        AtomicInteger followerDeletions = new AtomicInteger();
+        coordinator.rollback(model, "leader", leaderDeletions::incrementAndGet);
+        coordinator.rollback(model, "follower", followerDeletions::incrementAndGet);
+
+        // Only the leader knows what has been written
+        assertThat(leaderDeletions.get(), is(1));
+        assertThat(followerDeletions.get(), is(0));
+    }
+
+    @Test
+    public void committedModelIsNotDeletedByTheRollbackOfAFollower() throws Exception {
+        ModelArtifact model = model("aaaa");
+        pushShared(model);
+
+        AtomicInteger deletions = new AtomicInteger();
+        coordinator.commit(model, "leader");
+        coordinator.rollback(model, "follower", deletions::incrementAndGet);
+
+        assertThat(deletions.get(), is(0));
+    }
+
+    @Test
+    public void heldModelIsSharedWithLaterPushes() {
+        ModelArtifact model = model("aaaa");
+        assertThat(coordinator.push(model, "leader", leaderCompleted, () -> leaderCompleted.add(model)), is(true));
+
+        AtomicInteger pushes = new AtomicInteger();
+        assertThat(coordinator.push(model("aaaa"), "follower", followerCompleted, () -> pushes.incrementAndGet() > 0),
+                is(true));
+
+        assertThat(pushes.get(), is(0));
+        assertThat(followerCompleted.size(), is(1));
+    }
+
+    @Test
+    public void rollbackOfAModelThatIsNotHeldIsRun() {
+        AtomicInteger deletions = new AtomicInteger();
+
+        coordinator.rollback(model("aaaa"), "distribution", deletions::incrementAndGet);
+
+        assertThat(deletions.get(), is(1));
+    }
+
+    @Test
+    public void failedPushIsRetriedByTheFollower() throws Exception {
+        CountDownLatch release = new CountDownLatch(1);
+        Future<Boolean> leader = lead(model("aaaa"), () -> !await(release));
+
+        AtomicInteger followerPushes = new AtomicInteger();
+        Future<Boolean> follower = follow(model("aaaa"), () -> followerPushes.incrementAndGet() > 0);
+        release.countDown();
+
+        assertThat(leader.get(5, TimeUnit.SECONDS), is(false));
+        assertThat(follower.get(5, TimeUnit.SECONDS), is(true));
+        assertThat(followerPushes.get(), is(1));
+        assertThat(count("retried"), is(1.0));
+    }
+
+    @Test
+    public void partiallyWrittenPushFailsTheFollower() throws Exception {
+        ModelArtifact model = model("aaaa");
+        CountDownLatch release = new CountDownLatch(1);
+        Future<Boolean> leader = lead(model, () -> {
+            // The model has been written but not its version
+            await(release);
+            leaderCompleted.add(model);
+            return false;
+        });
+
+        AtomicInteger followerPushes = new AtomicInteger();
+        Future<Boolean> follower = follow(model("aaaa"), () -> followerPushes.incrementAndGet() > 0);
+        release.countDown();
+
+        assertThat(leader.get(5, TimeUnit.SECONDS), is(false));
+        assertThat(follower.get(5, TimeUnit.SECONDS), is(false));
+        assertThat(followerPushes.get(), is(0));
+    }
+
+    @Test
+    public void exceptionOfTheLeaderIsNotShared() throws Exception {
+        CountDownLatch release = new CountDownLatch(1);
+        Future<Boolean> leader = lead(model("aaaa"), () -> {
+            await(release);
+            throw new IllegalStateException("Bad request");
+        });
+
+        Future<Boolean> follower = follow(model("aaaa"), () -> true);
+        release.countDown();
+
+        Exception e = assertThrows(Exception.class, () -> leader.get(5, TimeUnit.SECONDS));
+        assertThat(e.getCause() instanceof IllegalStateException, is(true));
+        assertThat(follower.get(5, TimeUnit.SECONDS), is(true));
+    }
+
+    @Test
+    public void otherVersionsAreNotCoalesced() throws Exception {
+        CountDownLatch release = new CountDownLatch(1);
+        Future<Boolean> leader = lead(model("aaaa"), () -> await(release));
+
+        ModelArtifact otherVersion = model("aaaa");
+        otherVersion.setModelVerId("2222");
+        AtomicInteger otherPushes = new AtomicInteger();
+        assertThat(coordinator.push(otherVersion, "second", new ArrayList<>(), () -> otherPushes.incrementAndGet() > 0),
+                is(true));
+        assertThat(otherPushes.get(), is(1));
+
+        release.countDown();
+        assertThat(leader.get(5, TimeUnit.SECONDS), is(true));
+    }
+
+    /**
+     * Pushes the model with the leader and shares it with the follower.
+     */
+    private void pushShared(ModelArtifact model) throws Exception {
+        CountDownLatch release = new CountDownLatch(1);
+        Future<Boolean> leader = lead(model, () -> await(release) && leaderCompleted.add(model));
+        Future<Boolean> follower = follow(model("aaaa"), () -> false);
+        release.countDown();
+
+        assertThat(leader.get(5, TimeUnit.SECONDS), is(true));
+        assertThat(follower.get(5, TimeUnit.SECONDS), is(true));
+        assertThat(count("shared"), is(1.0));
+    }
+
+    private Future<Boolean> lead(ModelArtifact model, BooleanSupplier push) throws InterruptedException {
+        CountDownLatch started = new CountDownLatch(1);
+        Future<Boolean> leader = executor.submit(() -> coordinator.push(model, "leader", leaderCompleted, () -> {
+            started.countDown();
+            return push.getAsBoolean();
+        }));
+        assertTrue(started.await(5, TimeUnit.SECONDS));
+        return leader;
+    }
+
+    /**
+     * Starts a push that waits for the leader.
+     */
+    private Future<Boolean> follow(ModelArtifact model, BooleanSupplier push) throws InterruptedException {
+        Thread[] followerThread = new Thread[1];
+        CountDownLatch started = new CountDownLatch(1);
+        Future<Boolean> follower = executor.submit(() -> {
+            followerThread[0] = Thread.currentThread();
+            started.countDown();
+            return coordinator.push(model, "follower", followerCompleted, push);
+        });
+        assertTrue(started.await(5, TimeUnit.SECONDS));
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (followerThread[0].getState() != Thread.State.WAITING && System.nanoTime() < deadline) {
+            Thread.sleep(1);
+        }
+        return follower;
+    }
+
+    private static boolean await(CountDownLatch latch) {
+        try {
+            return latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+
+    private static ModelArtifact model(String invariantId) {
+        ModelArtifact model = new ModelArtifact();
+        model.setModelInvariantId(invariantId);
+        model.setModelVerId("1111");
+        return model;
+    }
+
+    private double count(String result) {
+        return meterRegistry.get(ModelPushCoordinator.METRIC_NAME).tag("result", result).counter().count();
+    }
+}
@@ -32,6 +32,7 @@ import java.nio.file.Path;
 import java.util.List;
 
 import org.junit.jupiter.api.Test;
+import org.onap.aai.modelloader.benchmark.DomModelArtifactParser;
 import org.onap.aai.modelloader.entity.Artifact;
 
 public class TestNamedQueryArtifactParser {
@@ -64,4 +65,17 @@ public class TestNamedQueryArtifactParser {
         }
     }
 
+    @Test
+    public void testParseNamedQueryLikeDomParser() throws Exception {
+        String fileString = new String(Files.readAllBytes(Path.of(MODEL_FILE)));
+        NamedQueryArtifact expected = DomModelArtifactParser.parseNamedQuery(fileString);
+
+        List<Artifact> modelList = new NamedQueryArtifactParser().parse(fileString, "test-artifact");
+
+        assertEquals(1, modelList.size());
+        NamedQueryArtifact model = (NamedQueryArtifact) modelList.get(0);
+        assertEquals(expected.getNamedQueryUuid(), model.getNamedQueryUuid());
+        assertEquals(expected.getModelNamespace(), model.getModelNamespace());
+        assertEquals(expected.getDependentModelIds(), model.getDependentModelIds());
+    }
 }
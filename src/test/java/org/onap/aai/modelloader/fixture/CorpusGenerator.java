@@ -0,0 +1,394 @@
+/**
+ * ============LICENSE_START=======================================================
+ * org.onap.aai
+ * ================================================================================
+ * Copyright © 2025 Deutsche Telekom AG Intellectual Property. All rights reserved.
+ * ================================================================================
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * ============LICENSE_END=========================================================
+ */
+package org.onap.aai.modelloader.fixture;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.UUID;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipOutputStream;
+
+import org.onap.aai.babel.service.data.BabelArtifact;
+import org.onap.aai.babel.service.data.BabelArtifact.ArtifactType;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+/**
+ * Generates a synthetic service distribution at a given scale: the CSAR SDC would distribute and the artifacts Babel
+ * would translate it to.
+ *
+ * <p>
+ * The resource models are arranged in layers. Every model of a layer depends on up to <code>dependencyFanOut</code>
+ * models of the previous layer, expressed with relationship-data like Babel does, and the service model depends on
+ * every model of the last layer. Sorting the models therefore gives <code>dependencyDepth + 1</code> waves. Named
+ * queries refer to resource models by invariant id. The CSAR holds the VNF catalogs, each with
+ * <code>partNumberCount</code> part numbers, and Babel's translation of every catalog is part of the artifacts.
+ *
+ * <p>
+ * The same settings and seed always give the same corpus, byte for byte.
+ */
+public class CorpusGenerator {
+
+    public static final String MODEL_NAMESPACE = "http://org.onap.aai.inventory/v28";
+    public static final String VNF_CATALOG_PATH = "Artifacts/Deployment/VNF_CATALOG/";
+
+    private static final String MODEL_INVARIANT_ID_KEY = "model.model-invariant-id";
+    private static final String MODEL_VERSION_ID_KEY = "model-ver.model-version-id";
+    private static final long CSAR_ENTRY_TIME = 1_700_000_000_000L;
+
+    private final long seed;
+    private int resourceModelCount = 10;
+    private int dependencyDepth = 2;
+    private int dependencyFanOut = 2;
+    private int namedQueryCount;
+    private int vnfCatalogCount;
+    private int partNumberCount = 1;
+    private int csarPaddingKb;
+
+    public CorpusGenerator(long seed) {
+        this.seed = seed;
+    }
+
+    public CorpusGenerator resourceModels(int count) {
+        this.resourceModelCount = count;
+        return this;
+    }
+
+    /**
+     * @param depth number of layers of resource models, at most the number of resource models
+     * @param fanOut maximum number of models of the previous layer a resource model depends on
+     */
+    public CorpusGenerator dependencies(int depth, int fanOut) {
+        this.dependencyDepth = depth;
+        this.dependencyFanOut = fanOut;
+        return this;
+    }
+
+    public CorpusGenerator namedQueries(int count) {
+        this.namedQueryCount = count;
+        return this;
+    }
+
+    public CorpusGenerator vnfCatalogs(int count, int partNumbersPerCatalog) {
+        this.vnfCatalogCount = count;
+        this.partNumberCount = partNumbersPerCatalog;
+        return this;
+    }
+
+    /**
+     * @param paddingKb size of the other (incompressible) artifacts added to the CSAR
+     */
+    public CorpusGenerator csarPadding(int paddingKb) {
+        this.csarPaddingKb = paddingKb;
+        return this;
+    }
+
+    public Corpus generate() {
+        if (resourceModelCount < 1 || dependencyDepth < 1 || dependencyDepth > resourceModelCount
+                || dependencyFanOut < 1) {
+            throw new IllegalArgumentException("Invalid dependencies: " + resourceModelCount + " models, depth "
+                    + dependencyDepth + ", fan-out " + dependencyFanOut);
+        }
+        Random random = new Random(seed);
+        Corpus corpus = new Corpus();
+
+        List<String[]> previousLayer = new ArrayList<>();
+        List<String[]> layer = new ArrayList<>();
+        List<String[]> resources = new ArrayList<>();
+        for (int i = 0; i < resourceModelCount; i++) {
+            if (i > 0 && layerOf(i) != layerOf(i - 1)) {
+                previousLayer = layer;
+                layer = new ArrayList<>();
+            }
+            String[] ids = {uuid("model", i), uuid("model-ver", i)};
+            List<String[]> dependencies = pick(previousLayer, dependencyFanOut, random);
+            corpus.addModel("AAI-resource-" + i + "-resource-1.0.xml",
+                    modelXml(ids, "resource", "resource-" + i, dependencies));
+            layer.add(ids);
+            resources.add(ids);
+        }
+        corpus.addModel("AAI-generated-service-1.0.xml",
+                modelXml(new String[] {uuid("service", 0), uuid("service-ver", 0)}, "service", "generated", layer));
+
+        for (int i = 0; i < namedQueryCount; i++) {
+            corpus.namedQueries.put("named-query-" + i + ".xml",
+                    namedQueryXml(uuid("named-query", i), i, pick(resources, dependencyFanOut, random)));
+        }
+
+        for (int i = 0; i < vnfCatalogCount; i++) {
+            List<Map<String, String>> images = new ArrayList<>();
+            corpus.vnfCatalogs.put(VNF_CATALOG_PATH + "vnf-catalog-" + i + ".xml", vnfCatalogXml(i, images));
+            corpus.babelArtifacts.add(new BabelArtifact("vnfcatalog-" + i + ".json", ArtifactType.VNFCATALOG,
+                    toJson(images)));
+        }
+
+        corpus.csar = csar(corpus.vnfCatalogs, random);
+        return corpus;
+    }
+
+    private int layerOf(int model) {
+        return (int) ((long) model * dependencyDepth / resourceModelCount);
+    }
+
+    private String uuid(String kind, int index) {
+        return UUID.nameUUIDFromBytes((seed + "/" + kind + "/" + index).getBytes(StandardCharsets.UTF_8)).toString();
+    }
+
+    private static List<String[]> pick(List<String[]> candidates, int count, Random random) {
+        if (candidates.size() <= count) {
+            return candidates;
+        }
+        List<String[]> picked = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            // Distinct picks: consecutive models from a random start
+            picked.add(candidates.get((random.nextInt(candidates.size()) + i) % candidates.size()));
+        }
+        return picked;
+    }
+
+    private static String modelXml(String[] ids, String type, String name, List<String[]> dependencies) {
+        StringBuilder xml = new StringBuilder();
+        xml.append("<model xmlns=\"").append(MODEL_NAMESPACE).append("\">\n");
+        xml.append("    <model-invariant-id>").append(ids[0]).append("</model-invariant-id>\n");
+        xml.append("    <model-type>").append(type).append("</model-type>\n");
+        xml.append("    <model-vers>\n");
+        xml.append("        <model-ver>\n");
+        xml.append("            <model-version-id>").append(ids[1]).append("</model-version-id>\n");
+        xml.append("            <model-name>").append(name).append("</model-name>\n");
+        xml.append("            <model-version>1.0</model-version>\n");
+        xml.append("            <model-description>").append(name).append("</model-description>\n");
+        xml.append("            <model-elements>\n");
+        for (String[] dependency : dependencies) {
+            xml.append("                <model-element>\n");
+            xml.append("                    <new-data-del-flag>T</new-data-del-flag>\n");
+            xml.append("                    <cardinality>unbounded</cardinality>\n");
+            xml.append("                    <model-elements/>\n");
+            xml.append("                    <relationship-list>\n");
+            xml.append("                        <relationship>\n");
+            xml.append("                            <related-to>model-ver</related-to>\n");
+            relationshipData(xml, MODEL_VERSION_ID_KEY, dependency[1], "                            ");
+            relationshipData(xml, MODEL_INVARIANT_ID_KEY, dependency[0], "                            ");
+            xml.append("                        </relationship>\n");
+            xml.append("                    </relationship-list>\n");
+            xml.append("                </model-element>\n");
+        }
+        xml.append("            </model-elements>\n");
+        xml.append("        </model-ver>\n");
+        xml.append("    </model-vers>\n");
+        return xml.append("</model>\n").toString();
+    }
+
+    private static String namedQueryXml(String uuid, int index, List<String[]> models) {
+        StringBuilder xml = new StringBuilder();
+        xml.append("<named-query xmlns=\"").append(MODEL_NAMESPACE).append("\">\n");
+        xml.append("    <named-query-uuid>").append(uuid).append("</named-query-uuid>\n");
+        xml.append("    <named-query-name>named-query-").append(index).append("</named-query-name>\n");
+        xml.append("    <named-query-version>1.0</named-query-version>\n");
+        xml.append("    <description>Generated named query</description>\n");
+        xml.append("    <named-query-elements>\n");
+        for (String[] model : models) {
+            xml.append("        <named-query-element>\n");
+            xml.append("            <relationship-list>\n");
+            xml.append("                <relationship>\n");
+            xml.append("                    <related-to>model</related-to>\n");
+            relationshipData(xml, MODEL_INVARIANT_ID_KEY, model[0], "                    ");
+            xml.append("                </relationship>\n");
+            xml.append("            </relationship-list>\n");
+            xml.append("        </named-query-element>\n");
+        }
+        xml.append("    </named-query-elements>\n");
+        return xml.append("</named-query>\n").toString();
+    }
+
+    private static void relationshipData(StringBuilder xml, String key, String value, String indent) {
+        xml.append(indent).append("<relationship-data>\n");
+        xml.append(indent).append("    <relationship-key>").append(key).append("</relationship-key>\n");
+        xml.append(indent).append("    <relationship-value>").append(value).append("</relationship-value>\n");
+        xml.append(indent).append("</relationship-data>\n");
+    }
+
+    /**
+     * @param images receives the vnf-image data items of the catalog, as Babel would translate them
+     */
+    private String vnfCatalogXml(int catalog, List<Map<String, String>> images) {
+        StringBuilder xml = new StringBuilder("<vnf-catalog>\n");
+        for (int i = 0; i < partNumberCount; i++) {
+            String vendor = "vendor-" + catalog;
+            String model = "vendor-model-" + catalog + "-" + i;
+            String version = "1." + i;
+            xml.append("    <part-number-list>\n");
+            xml.append("        <part-number>part-number-").append(catalog).append('-').append(i)
+                    .append("</part-number>\n");
+            xml.append("        <vnf-type>vnf-type-").append(catalog).append("</vnf-type>\n");
+            xml.append("        <vendor-info>\n");
+            xml.append("            <vendor-name>").append(vendor).append("</vendor-name>\n");
+            xml.append("            <vendor-model>").append(model).append("</vendor-model>\n");
+            xml.append("        </vendor-info>\n");
+            xml.append("        <software-version-list>\n");
+            xml.append("            <software-version>").append(version).append("</software-version>\n");
+            xml.append("            <software-version-state>0</software-version-state>\n");
+            xml.append("            <software-filetype>IMAGE</software-filetype>\n");
+            xml.append("        </software-version-list>\n");
+            xml.append("    </part-number-list>\n");
+
+            Map<String, String> image = new LinkedHashMap<>();
+            image.put("application", model);
+            image.put("application-vendor", vendor);
+            image.put("application-version", version);
+            images.add(image);
+        }
+        return xml.append("</vnf-catalog>\n").toString();
+    }
+
+    private byte[] csar(Map<String, String> vnfCatalogs, Random random) {
+        ByteArrayOutputStream csar = new ByteArrayOutputStream();
+        try (ZipOutputStream zip = new ZipOutputStream(csar)) {
+            zip.putNextEntry(zipEntry("TOSCA-Metadata/TOSCA.meta"));
+            zip.write(("TOSCA-Meta-File-Version: 1.0\nCSAR-Version: 1.1\nCreated-By: CorpusGenerator\n"
+                    + "Entry-Definitions: Definitions/service-generated-template.yml\n")
+                            .getBytes(StandardCharsets.UTF_8));
+            zip.putNextEntry(zipEntry("Definitions/service-generated-template.yml"));
+            zip.write("tosca_definitions_version: tosca_simple_yaml_1_1\n".getBytes(StandardCharsets.UTF_8));
+            for (Map.Entry<String, String> catalog : vnfCatalogs.entrySet()) {
+                zip.putNextEntry(zipEntry(catalog.getKey()));
+                zip.write(catalog.getValue().getBytes(StandardCharsets.UTF_8));
+            }
+            byte[] chunk = new byte[64 * 1024];
+            for (int i = 0; i * chunk.length < csarPaddingKb * 1024; i++) {
+                random.nextBytes(chunk);
+                zip.putNextEntry(zipEntry("Artifacts/Deployment/OTHER/image-" + i + ".bin"));
+                zip.write(chunk, 0, Math.min(chunk.length, csarPaddingKb * 1024 - i * chunk.length));
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return csar.toByteArray();
+    }
+
+    private static ZipEntry zipEntry(String name) {
+        ZipEntry entry = new ZipEntry(name);
+        // A fixed time keeps the CSAR identical from one run to the next
+        entry.setTime(CSAR_ENTRY_TIME);
+        return entry;
+    }
+
+    private static String toJson(Object value) {
+        try {
+            return new ObjectMapper().writeValueAsString(value);
+        } catch (JsonProcessingException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * A generated distribution.
+     */
+    public static class Corpus {
+
+        private final List<BabelArtifact> babelArtifacts = new ArrayList<>();
+        private final Map<String, String> namedQueries = new LinkedHashMap<>();
+        private final Map<String, String> vnfCatalogs = new LinkedHashMap<>();
+        private byte[] csar;
+
+        private void addModel(String name, String xml) {
+            babelArtifacts.add(new BabelArtifact(name, ArtifactType.MODEL, xml));
+        }
+
+        /**
+         * @return the CSAR distributed by SDC
+         */
+        public byte[] getCsar() {
+            return csar;
+        }
+
+        /**
+         * @return the artifacts Babel translates the CSAR to: the resource models, the service model and the
+         *         translated VNF catalogs
+         */
+        public List<BabelArtifact> getBabelArtifacts() {
+            return Collections.unmodifiableList(babelArtifacts);
+        }
+
+        /**
+         * @return the model XML of the resource and service models
+         */
+        public List<String> getModels() {
+            List<String> models = new ArrayList<>();
+            for (BabelArtifact artifact : babelArtifacts) {
+                if (artifact.getType() == ArtifactType.MODEL) {
+                    models.add(artifact.getPayload());
+                }
+            }
+            return models;
+        }
+
+        /**
+         * @return the named query XML, distributed as MODEL_QUERY_SPEC artifacts, by file name
+         */
+        public Map<String, String> getNamedQueries() {
+            return Collections.unmodifiableMap(namedQueries);
+        }
+
+        /**
+         * @return the VNF catalog XML held by the CSAR, by path in the CSAR
+         */
+        public Map<String, String> getVnfCatalogs() {
+            return Collections.unmodifiableMap(vnfCatalogs);
+        }
+
+        /**
+         * @return the response body of the Babel generateArtifacts endpoint
+         */
+        public String getBabelResponse() {
+            return toJson(babelArtifacts);
+        }
+
+        /**
+         * Writes the corpus to a directory: the CSAR, the Babel response and every model and named query.
+         *
+         * @param directory the directory, created if it does not exist
+         * @throws IOException if a file cannot be written
+         */
+        public void writeTo(Path directory) throws IOException {
+            Files.createDirectories(directory.resolve("models"));
+            Files.write(directory.resolve("service-generated-csar.csar"), csar);
+            Files.writeString(directory.resolve("service-generated-csar-babel-response.json"), getBabelResponse());
+            for (BabelArtifact artifact : babelArtifacts) {
+                if (artifact.getType() == ArtifactType.MODEL) {
+                    Files.writeString(directory.resolve("models").resolve(artifact.getName()), artifact.getPayload());
+                }
+            }
+            for (Map.Entry<String, String> namedQuery : namedQueries.entrySet()) {
+                Files.writeString(directory.resolve("models").resolve(namedQuery.getKey()), namedQuery.getValue());
+            }
+        }
+    }
+}
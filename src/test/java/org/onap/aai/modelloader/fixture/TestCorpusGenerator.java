@@ -0,0 +1,81 @@
+/**
+ * ============LICENSE_START=======================================================
+ * org.onap.aai
+ * ================================================================================
+ * Copyright © 2025 Deutsche Telekom AG Intellectual Property. All rights reserved.
+ * ================================================================================
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * ============LICENSE_END=========================================================
+ */
+package org.onap.aai.modelloader.fixture;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.hasSize;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.Test;
+import org.onap.aai.modelloader.entity.Artifact;
+import org.onap.aai.modelloader.entity.model.ModelArtifactParser;
+import org.onap.aai.modelloader.entity.model.ModelSorter;
+import org.onap.aai.modelloader.entity.model.NamedQueryArtifactParser;
+import org.onap.aai.modelloader.extraction.VnfCatalogExtractor;
+import org.onap.aai.modelloader.fixture.CorpusGenerator.Corpus;
+
+public class TestCorpusGenerator {
+
+    @Test
+    public void testModelsSortInOneWavePerLayer() throws Exception {
+        Corpus corpus = new CorpusGenerator(1).resourceModels(50).dependencies(4, 3).generate();
+
+        List<Artifact> models = new ArrayList<>();
+        for (String model : corpus.getModels()) {
+            models.addAll(new ModelArtifactParser().parse(model, "model"));
+        }
+        assertThat(models, hasSize(51));
+
+        List<List<Artifact>> waves = new ModelSorter().sortInWaves(models);
+        assertThat(waves, hasSize(5));
+        assertThat(waves.get(0), hasSize(13));
+        assertThat(waves.get(4), hasSize(1));
+    }
+
+    @Test
+    public void testNamedQueriesAndCatalogs() throws Exception {
+        Corpus corpus = new CorpusGenerator(1).namedQueries(3).vnfCatalogs(2, 5).csarPadding(100).generate();
+
+        assertThat(corpus.getNamedQueries().size(), is(3));
+        for (Map.Entry<String, String> namedQuery : corpus.getNamedQueries().entrySet()) {
+            assertThat(new NamedQueryArtifactParser().parse(namedQuery.getValue(), namedQuery.getKey()), hasSize(1));
+        }
+
+        assertThat(new VnfCatalogExtractor().extract(corpus.getCsar(), "generated.csar"), hasSize(2));
+        assertThat(corpus.getCsar().length > 100 * 1024, is(true));
+        assertThat(corpus.getBabelArtifacts(), hasSize(11 + 2));
+    }
+
+    @Test
+    public void testSameSeedGivesSameCorpus() {
+        CorpusGenerator generator = new CorpusGenerator(7).namedQueries(2).vnfCatalogs(1, 3).csarPadding(64);
+        Corpus first = generator.generate();
+        Corpus second = generator.generate();
+
+        assertThat(second.getBabelResponse(), is(first.getBabelResponse()));
+        assertThat(second.getNamedQueries(), is(first.getNamedQueries()));
+        assertThat(second.getCsar(), is(first.getCsar()));
+        assertThat(new CorpusGenerator(8).generate().getModels().equals(first.getModels()), is(false));
+    }
+}
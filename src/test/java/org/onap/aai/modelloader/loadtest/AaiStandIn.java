@@ -0,0 +1,112 @@
+/**
+ * ============LICENSE_START=======================================================
+ * org.onap.aai
+ * ================================================================================
+ * Copyright © 2025 Deutsche Telekom AG Intellectual Property. All rights reserved.
+ * ================================================================================
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * ============LICENSE_END=========================================================
+ */
+package org.onap.aai.modelloader.loadtest;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import org.onap.aai.modelloader.loadtest.StandInServer.Response;
+
+import com.google.gson.JsonArray;
+import com.google.gson.JsonElement;
+import com.google.gson.JsonObject;
+import com.google.gson.JsonParser;
+
+/**
+ * Answers A&AI resource requests from an in-memory store, so that a resource written by one distribution exists for
+ * the next one. Resources are stored by their URI without the <code>/aai/&lt;version&gt;</code> prefix, which is how
+ * both the resources API and the operations of a bulk single-transaction address them. A child resource (such as a
+ * model-ver) that was written as part of its parent exists as well.
+ */
+class AaiStandIn implements StandInServer.Handler {
+
+    private static final Pattern AAI_PATH = Pattern.compile("/aai/[^/]+(/.*)");
+    private static final String BULK_URI = "/bulk/single-transaction";
+
+    private final Map<String, Response> resources = new ConcurrentHashMap<>();
+
+    int getResourceCount() {
+        return resources.size();
+    }
+
+    @Override
+    public Response handle(String method, String path, String query, byte[] body) {
+        Matcher matcher = AAI_PATH.matcher(path);
+        if (!matcher.matches()) {
+            return Response.status(404);
+        }
+        String uri = matcher.group(1);
+        if (BULK_URI.equals(uri) && "POST".equals(method)) {
+            return singleTransaction(body);
+        }
+        String key = query == null || "PUT".equals(method) || "DELETE".equals(method) ? uri : uri + "?" + query;
+
+        switch (method) {
+            case "GET":
+                Response resource = resources.get(key);
+                if (resource == null) {
+                    resource = writtenWithParent(uri);
+                }
+                return resource == null ? Response.status(404) : resource;
+            case "PUT":
+                resources.put(key, new Response(200, "application/xml", body));
+                return Response.status(201);
+            case "DELETE":
+                return Response.status(resources.remove(key) == null ? 404 : 204);
+            default:
+                return Response.status(405);
+        }
+    }
+
+    private Response writtenWithParent(String uri) {
+        String id = ">" + uri.substring(uri.lastIndexOf('/') + 1) + "<";
+        for (int end = uri.lastIndexOf('/'); end > 0; end = uri.lastIndexOf('/', end - 1)) {
+            Response parent = resources.get(uri.substring(0, end));
+            if (parent != null) {
+                return new String(parent.body, StandardCharsets.UTF_8).contains(id) ? parent : null;
+            }
+        }
+        return null;
+    }
+
+    private Response singleTransaction(byte[] body) {
+        JsonArray operations = JsonParser.parseString(new String(body, StandardCharsets.UTF_8)).getAsJsonObject()
+                .getAsJsonArray("operations");
+        JsonArray operationResponses = new JsonArray();
+        for (JsonElement element : operations) {
+            JsonObject operation = element.getAsJsonObject();
+            String uri = operation.get("uri").getAsString();
+            resources.put(uri, new Response(200, "application/json",
+                    operation.get("body").toString().getBytes(StandardCharsets.UTF_8)));
+
+            JsonObject operationResponse = new JsonObject();
+            operationResponse.addProperty("action", operation.get("action").getAsString());
+            operationResponse.addProperty("uri", uri);
+            operationResponse.addProperty("response-status-code", 201);
+            operationResponses.add(operationResponse);
+        }
+        JsonObject response = new JsonObject();
+        response.add("operation-responses", operationResponses);
+        return new Response(201, "application/json", response.toString().getBytes(StandardCharsets.UTF_8));
+    }
+}
@@ -0,0 +1,394 @@
+/**
+ * ============LICENSE_START=======================================================
+ * org.onap.aai
+ * ================================================================================
+ * Copyright © 2025 Deutsche Telekom AG Intellectual Property. All rights reserved.
+ * ================================================================================
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * ============LICENSE_END=========================================================
+ */
+package org.onap.aai.modelloader.loadtest;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.io.IOException;
+import java.lang.management.GarbageCollectorMXBean;
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryMXBean;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.LockSupport;
+
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.onap.aai.modelloader.fixture.CorpusGenerator;
+import org.onap.aai.modelloader.fixture.CorpusGenerator.Corpus;
+import org.onap.aai.modelloader.loadtest.StandInServer.Response;
+import org.onap.aai.modelloader.notification.EventCallback;
+import org.onap.aai.modelloader.notification.NotificationDataImpl;
+import org.onap.aai.modelloader.notification.NotificationPublisher;
+import org.onap.aai.modelloader.service.ArtifactInfoImpl;
+import org.onap.sdc.api.IDistributionClient;
+import org.onap.sdc.api.consumer.IConfiguration;
+import org.onap.sdc.api.notification.IArtifactInfo;
+import org.onap.sdc.api.notification.INotificationData;
+import org.onap.sdc.api.results.IDistributionClientDownloadResult;
+import org.onap.sdc.api.results.IDistributionClientResult;
+import org.onap.sdc.impl.DistributionClientDownloadResultImpl;
+import org.onap.sdc.utils.DistributionActionResultEnum;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.boot.test.mock.mockito.SpyBean;
+import org.springframework.test.annotation.DirtiesContext;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+
+import com.google.gson.JsonParser;
+
+/**
+ * End-to-end load test of the distribution pipeline. SDC is replaced by a stand-in distribution client, Babel and
+ * A&AI by local HTTP stand-ins, each with a configurable latency and error rate. The test drives distributions of
+ * generated services through {@link EventCallback#activateCallback} at a fixed rate, like the SDC client thread does,
+ * and reports the distribution latency, the A&AI and Babel calls per distribution and the heap usage.
+ *
+ * <p>
+ * The test only runs when requested:
+ *
+ * <pre>
+ * mvn test -Dtest=DistributionLoadTest -Dloadtest=true [-Dloadtest.rate=20] [-Dloadtest.aai.latency=50] ...
+ * </pre>
+ *
+ * The settings are read from the <code>loadtest.*</code> system properties, see {@link #setting(String, double)} for
+ * their defaults. The deployment settings of the model loader (for example <code>ml.aai.deployment-mode</code> or
+ * <code>ml.concurrency.*</code>) can be passed as system properties as well.
+ *
+ * <p>
+ * Latencies are measured from the moment a distribution was due to be sent rather than from the moment it was sent,
+ * so that a callback blocked by a saturated distribution pool counts against the distributions that had to wait.
+ */
+@DirtiesContext
+@EnabledIfSystemProperty(named = "loadtest", matches = "true")
+@SpringBootTest(properties = {"ml.aai.model-url=/aai/%s/service-design-and-creation/models/model/",
+        "ml.aai.named-query-url=/aai/%s/service-design-and-creation/named-queries/named-query/",
+        "ml.aai.vnf-image-url=/aai/v*/service-design-and-creation/vnf-images", "ml.aai.auth-user=ModelLoader",
+        "ml.aai.auth-password="})
+public class DistributionLoadTest {
+
+    private static final Logger logger = LoggerFactory.getLogger(DistributionLoadTest.class);
+
+    private static final String SERVICE_VERSION = "1.0";
+
+    private static final Map<String, Corpus> corpusByCsarName = new LinkedHashMap<>();
+    private static final Map<String, List<String>> namedQueriesByCsarName = new HashMap<>();
+    private static final Map<String, byte[]> sdcArtifacts = new HashMap<>();
+    private static StandInServer babelServer;
+    private static StandInServer aaiServer;
+    private static AaiStandIn aai;
+
+    @Autowired
+    private EventCallback eventCallback;
+
+    @MockBean
+    private IDistributionClient distributionClient;
+
+    @SpyBean
+    private NotificationPublisher notificationPublisher;
+
+    private final Map<String, Long> dueTimes = new ConcurrentHashMap<>();
+    private final Map<String, Long> latencies = new ConcurrentHashMap<>();
+    private final AtomicInteger failedDistributions = new AtomicInteger();
+    private final AtomicLong downloads = new AtomicLong();
+    private final AtomicLong injectedDownloadErrors = new AtomicLong();
+    private CountDownLatch completed;
+
+    @DynamicPropertySource
+    static void standIns(DynamicPropertyRegistry registry) throws IOException {
+        int serviceCount = (int) setting("services", 10);
+        for (int i = 0; i < serviceCount; i++) {
+            Corpus corpus = new CorpusGenerator(i).resourceModels((int) setting("resourceModels", 20))
+                    .dependencies((int) setting("dependencyDepth", 3), (int) setting("dependencyFanOut", 2))
+                    .namedQueries((int) setting("namedQueries", 2))
+                    .vnfCatalogs((int) setting("vnfCatalogs", 1), (int) setting("partNumbers", 5))
+                    .csarPadding((int) setting("csarPaddingKb", 0)).generate();
+            String csarName = "service-load-" + i + "-csar.csar";
+            corpusByCsarName.put(csarName, corpus);
+            sdcArtifacts.put(csarName, corpus.getCsar());
+
+            List<String> namedQueries = new ArrayList<>();
+            for (Map.Entry<String, String> namedQuery : corpus.getNamedQueries().entrySet()) {
+                String name = "service-load-" + i + "-" + namedQuery.getKey();
+                namedQueries.add(name);
+                sdcArtifacts.put(name, namedQuery.getValue().getBytes(StandardCharsets.UTF_8));
+            }
+            namedQueriesByCsarName.put(csarName, namedQueries);
+        }
+
+        babelServer = new StandInServer("Babel", (long) setting("babel.latency", 200),
+                setting("babel.errorRate", 0), DistributionLoadTest::generateArtifacts);
+        aai = new AaiStandIn();
+        aaiServer = new StandInServer("A&AI", (long) setting("aai.latency", 10), setting("aai.errorRate", 0), aai);
+
+        registry.add("ml.babel.base-url", babelServer::getBaseUrl);
+        registry.add("ml.aai.base-url", aaiServer::getBaseUrl);
+    }
+
+    @AfterAll
+    static void stopStandIns() {
+        babelServer.close();
+        aaiServer.close();
+    }
+
+    @BeforeEach
+    void setUp() {
+        IDistributionClientResult success = mock(IDistributionClientResult.class);
+        when(success.getDistributionActionResult()).thenReturn(DistributionActionResultEnum.SUCCESS);
+        IConfiguration configuration = mock(IConfiguration.class);
+        when(configuration.getConsumerID()).thenReturn("aai-ml-load-test");
+        when(distributionClient.getConfiguration()).thenReturn(configuration);
+        when(distributionClient.sendDownloadStatus(any())).thenReturn(success);
+        when(distributionClient.sendDeploymentStatus(any())).thenReturn(success);
+        when(distributionClient.sendComponentDoneStatus(any())).thenReturn(success);
+        when(distributionClient.sendComponentDoneStatus(any(), anyString())).thenReturn(success);
+        when(distributionClient.download(any())).thenAnswer(invocation -> download(invocation.getArgument(0)));
+
+        doAnswer(invocation -> {
+            invocation.callRealMethod();
+            completed(invocation.getArgument(1), true);
+            return null;
+        }).when(notificationPublisher).publishComponentSuccess(any(), any());
+        doAnswer(invocation -> {
+            invocation.callRealMethod();
+            completed(invocation.getArgument(1), false);
+            return null;
+        }).when(notificationPublisher).publishComponentFailure(any(), any(), any());
+    }
+
+    @Test
+    void distributionThroughput() throws Exception {
+        int distributionCount = (int) setting("distributions", 100);
+        double rate = setting("rate", 5);
+        long period = (long) (TimeUnit.SECONDS.toNanos(1) / rate);
+        List<INotificationData> distributions = new ArrayList<>();
+        List<String> csarNames = new ArrayList<>(corpusByCsarName.keySet());
+        for (int i = 0; i < distributionCount; i++) {
+            distributions.add(notification("load-" + i, csarNames.get(i % csarNames.size())));
+        }
+
+        HeapSampler heap = new HeapSampler();
+        completed = new CountDownLatch(distributionCount);
+        long start = System.nanoTime();
+        for (int i = 0; i < distributionCount; i++) {
+            long due = start + i * period;
+            LockSupport.parkNanos(due - System.nanoTime());
+            INotificationData data = distributions.get(i);
+            dueTimes.put(data.getDistributionID(), due);
+            eventCallback.activateCallback(data);
+        }
+        boolean allCompleted = completed.await((long) setting("timeout", 600), TimeUnit.SECONDS);
+        long elapsed = System.nanoTime() - start;
+        heap.stop();
+
+        report(distributions, rate, elapsed, heap);
+        assertTrue(allCompleted, "Only " + latencies.size() + " of " + distributionCount + " distributions completed");
+        if (setting("sdc.errorRate", 0) == 0 && setting("babel.errorRate", 0) == 0
+                && setting("aai.errorRate", 0) == 0) {
+            assertEquals(0, failedDistributions.get(), "Failed distributions");
+        }
+    }
+
+    /**
+     * Reads a setting of the load test from the <code>loadtest.&lt;name&gt;</code> system property.
+     */
+    private static double setting(String name, double defaultValue) {
+        String value = System.getProperty("loadtest." + name);
+        return value == null ? defaultValue : Double.parseDouble(value);
+    }
+
+    private static Response generateArtifacts(String method, String path, String query, byte[] body) {
+        String csarName = JsonParser.parseString(new String(body, StandardCharsets.UTF_8)).getAsJsonObject()
+                .get("artifactName").getAsString();
+        Corpus corpus = corpusByCsarName.get(csarName);
+        if (corpus == null) {
+            return Response.status(404);
+        }
+        return new Response(200, "application/json", corpus.getBabelResponse().getBytes(StandardCharsets.UTF_8));
+    }
+
+    private IDistributionClientDownloadResult download(IArtifactInfo artifact) {
+        downloads.incrementAndGet();
+        StandInServer.pause((long) setting("sdc.latency", 20));
+        if (ThreadLocalRandom.current().nextDouble() < setting("sdc.errorRate", 0)) {
+            injectedDownloadErrors.incrementAndGet();
+            return new DistributionClientDownloadResultImpl(DistributionActionResultEnum.FAIL, "Injected error");
+        }
+        DistributionClientDownloadResultImpl result =
+                new DistributionClientDownloadResultImpl(DistributionActionResultEnum.SUCCESS, null);
+        result.setArtifactPayload(sdcArtifacts.get(artifact.getArtifactName()));
+        return result;
+    }
+
+    private static INotificationData notification(String distributionId, String csarName) {
+        List<IArtifactInfo> artifacts = new ArrayList<>();
+        artifacts.add(artifact("TOSCA_CSAR", csarName));
+        for (String namedQuery : namedQueriesByCsarName.get(csarName)) {
+            artifacts.add(artifact("MODEL_QUERY_SPEC", namedQuery));
+        }
+
+        NotificationDataImpl data = new NotificationDataImpl();
+        data.setDistributionID(distributionId);
+        data.setServiceName(csarName);
+        data.setServiceVersion(SERVICE_VERSION);
+        data.setServiceArtifacts(artifacts);
+        return data;
+    }
+
+    private static IArtifactInfo artifact(String type, String name) {
+        ArtifactInfoImpl artifact = new ArtifactInfoImpl();
+        artifact.setArtifactType(type);
+        artifact.setArtifactName(name);
+        artifact.setArtifactVersion(SERVICE_VERSION);
+        artifact.setArtifactUUID(UUID.nameUUIDFromBytes(name.getBytes(StandardCharsets.UTF_8)).toString());
+        artifact.setArtifactURL("/sdc/v1/catalog/services/load/" + SERVICE_VERSION + "/artifacts/" + name);
+        return artifact;
+    }
+
+    private void completed(INotificationData data, boolean success) {
+        Long due = dueTimes.get(data.getDistributionID());
+        if (due != null && latencies.putIfAbsent(data.getDistributionID(), System.nanoTime() - due) == null) {
+            if (!success) {
+                failedDistributions.incrementAndGet();
+            }
+            completed.countDown();
+        }
+    }
+
+    private void report(List<INotificationData> distributions, double rate, long elapsed, HeapSampler heap) {
+        long[] latencyMillis = latencies.values().stream().mapToLong(TimeUnit.NANOSECONDS::toMillis).sorted().toArray();
+        long[] aaiCalls = distributions.stream().mapToLong(d -> aaiServer.getRequestCount(d.getDistributionID()))
+                .sorted().toArray();
+        double seconds = elapsed / 1e9;
+
+        StringBuilder report = new StringBuilder("\nDistribution load test\n");
+        report.append(String.format("  offered rate        %.1f distributions/s, %d services%n", rate,
+                corpusByCsarName.size()));
+        report.append(String.format("  completed           %d of %d in %.1f s (%.1f distributions/s), %d failed%n",
+                latencyMillis.length, distributions.size(), seconds, latencyMillis.length / seconds,
+                failedDistributions.get()));
+        report.append(String.format("  latency             p50 %d ms, p99 %d ms, max %d ms%n",
+                percentile(latencyMillis, 0.50), percentile(latencyMillis, 0.99), percentile(latencyMillis, 1)));
+        report.append(String.format("  A&AI calls          %.1f per distribution (p50 %d, max %d), %d injected errors,"
+                + " %d resources stored%n", Arrays.stream(aaiCalls).average().orElse(0), percentile(aaiCalls, 0.50),
+                percentile(aaiCalls, 1), aaiServer.getInjectedErrors(), aai.getResourceCount()));
+        report.append(String.format("  Babel calls         %.2f per distribution, %d injected errors%n",
+                (double) babelServer.getRequestCount() / distributions.size(), babelServer.getInjectedErrors()));
+        report.append(String.format("  SDC downloads       %.2f per distribution, %d injected errors%n",
+                (double) downloads.get() / distributions.size(), injectedDownloadErrors.get()));
+        report.append(String.format("  heap                peak %d MB used, %d MB committed, %d collections in %d ms%n",
+                heap.getPeakUsed() >> 20, heap.getPeakCommitted() >> 20, heap.getCollections(),
+                heap.getCollectionMillis()));
+        logger.info("{}", report);
+    }
+
+    /**
+     * Nearest-rank percentile of sorted values.
+     */
+    private static long percentile(long[] sorted, double percentile) {
+        if (sorted.length == 0) {
+            return 0;
+        }
+        return sorted[Math.max(0, (int) Math.ceil(percentile * sorted.length) - 1)];
+    }
+
+    /**
+     * Samples the heap usage while the load test runs.
+     */
+    private static class HeapSampler {
+
+        private final MemoryMXBean memory = ManagementFactory.getMemoryMXBean();
+        private final ScheduledExecutorService sampler = Executors.newSingleThreadScheduledExecutor();
+        private final long collectionsBefore = collections();
+        private final long collectionMillisBefore = collectionMillis();
+        private volatile long peakUsed;
+        private volatile long peakCommitted;
+        private long collections;
+        private long collectionMillis;
+
+        HeapSampler() {
+            sampler.scheduleAtFixedRate(this::sample, 0, 50, TimeUnit.MILLISECONDS);
+        }
+
+        private void sample() {
+            peakUsed = Math.max(peakUsed, memory.getHeapMemoryUsage().getUsed());
+            peakCommitted = Math.max(peakCommitted, memory.getHeapMemoryUsage().getCommitted());
+        }
+
+        void stop() throws InterruptedException {
+            sampler.shutdown();
+            sampler.awaitTermination(1, TimeUnit.SECONDS);
+            sample();
+            collections = collections() - collectionsBefore;
+            collectionMillis = collectionMillis() - collectionMillisBefore;
+        }
+
+        long getPeakUsed() {
+            return peakUsed;
+        }
+
+        long getPeakCommitted() {
+            return peakCommitted;
+        }
+
+        long getCollections() {
+            return collections;
+        }
+
+        long getCollectionMillis() {
+            return collectionMillis;
+        }
+
+        private static long collections() {
+            return ManagementFactory.getGarbageCollectorMXBeans().stream()
+                    .mapToLong(GarbageCollectorMXBean::getCollectionCount).sum();
+        }
+
+        private static long collectionMillis() {
+            return ManagementFactory.getGarbageCollectorMXBeans().stream()
+                    .mapToLong(GarbageCollectorMXBean::getCollectionTime).sum();
+        }
+    }
+}
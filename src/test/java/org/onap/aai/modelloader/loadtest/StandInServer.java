@@ -0,0 +1,175 @@
+/**
+ * ============LICENSE_START=======================================================
+ * org.onap.aai
+ * ================================================================================
+ * Copyright © 2025 Deutsche Telekom AG Intellectual Property. All rights reserved.
+ * ================================================================================
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * ============LICENSE_END=========================================================
+ */
+package org.onap.aai.modelloader.loadtest;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+
+/**
+ * A local HTTP server standing in for a service the model loader calls. Every request is delayed by the configured
+ * latency and answered with a 500 at the configured error rate; the other requests are answered by the handler.
+ * Requests are counted per <code>X-TransactionId</code>, which the model loader sets to the distribution id.
+ */
+class StandInServer implements AutoCloseable {
+
+    static final String TRANSACTION_ID_HEADER = "X-TransactionId";
+
+    /**
+     * Answers the requests that are neither delayed beyond the latency nor failed.
+     */
+    interface Handler {
+        Response handle(String method, String path, String query, byte[] body) throws IOException;
+    }
+
+    static class Response {
+        final int status;
+        final String contentType;
+        final byte[] body;
+
+        Response(int status, String contentType, byte[] body) {
+            this.status = status;
+            this.contentType = contentType;
+            this.body = body;
+        }
+
+        static Response status(int status) {
+            return new Response(status, null, new byte[0]);
+        }
+    }
+
+    private final String name;
+    private final long latencyMillis;
+    private final double errorRate;
+    private final Handler handler;
+    private final HttpServer server;
+    private final ExecutorService workers = Executors.newCachedThreadPool();
+    private final Map<String, LongAdder> requestsByTransaction = new ConcurrentHashMap<>();
+    private final LongAdder injectedErrors = new LongAdder();
+
+    /**
+     * @param name name of the stand-in, used in the report
+     * @param latencyMillis time every request takes
+     * @param errorRate share of the requests, between 0 and 1, that are answered with a 500
+     * @param handler answers the other requests
+     */
+    StandInServer(String name, long latencyMillis, double errorRate, Handler handler) throws IOException {
+        this.name = name;
+        this.latencyMillis = latencyMillis;
+        this.errorRate = errorRate;
+        this.handler = handler;
+        server = HttpServer.create(new InetSocketAddress(InetAddress.getLoopbackAddress(), 0), 0);
+        server.createContext("/", this::exchange);
+        server.setExecutor(workers);
+        server.start();
+    }
+
+    String getName() {
+        return name;
+    }
+
+    String getBaseUrl() {
+        return "http://localhost:" + server.getAddress().getPort();
+    }
+
+    long getRequestCount() {
+        return requestsByTransaction.values().stream().mapToLong(LongAdder::sum).sum();
+    }
+
+    long getRequestCount(String transactionId) {
+        LongAdder count = requestsByTransaction.get(transactionId);
+        return count == null ? 0 : count.sum();
+    }
+
+    long getInjectedErrors() {
+        return injectedErrors.sum();
+    }
+
+    private void exchange(HttpExchange exchange) throws IOException {
+        try (exchange) {
+            String transactionId = exchange.getRequestHeaders().getFirst(TRANSACTION_ID_HEADER);
+            requestsByTransaction.computeIfAbsent(transactionId == null ? "" : transactionId, id -> new LongAdder())
+                    .increment();
+            byte[] body;
+            try (InputStream in = exchange.getRequestBody()) {
+                body = in.readAllBytes();
+            }
+            pause(latencyMillis);
+            send(exchange, respond(exchange, body));
+        }
+    }
+
+    private Response respond(HttpExchange exchange, byte[] body) {
+        if (errorRate > 0 && ThreadLocalRandom.current().nextDouble() < errorRate) {
+            injectedErrors.increment();
+            return Response.status(500);
+        }
+        try {
+            return handler.handle(exchange.getRequestMethod(), exchange.getRequestURI().getPath(),
+                    exchange.getRequestURI().getRawQuery(), body);
+        } catch (IOException | RuntimeException e) {
+            return new Response(500, "text/plain", String.valueOf(e).getBytes(StandardCharsets.UTF_8));
+        }
+    }
+
+    private static void send(HttpExchange exchange, Response response) throws IOException {
+        if (response.contentType != null) {
+            exchange.getResponseHeaders().set("Content-Type", response.contentType);
+        }
+        if (response.body.length == 0) {
+            exchange.sendResponseHeaders(response.status, -1);
+            return;
+        }
+        exchange.sendResponseHeaders(response.status, response.body.length);
+        try (OutputStream out = exchange.getResponseBody()) {
+            out.write(response.body);
+        }
+    }
+
+    static void pause(long millis) {
+        if (millis <= 0) {
+            return;
+        }
+        try {
+            TimeUnit.MILLISECONDS.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    @Override
+    public void close() {
+        server.stop(0);
+        workers.shutdownNow();
+    }
+}
@@ -51,6 +51,7 @@ import org.onap.aai.modelloader.extraction.VnfCatalogExtractor;
 import org.onap.aai.modelloader.restclient.BabelServiceClient;
 import org.onap.aai.modelloader.restclient.BabelServiceClientException;
 import org.onap.aai.modelloader.util.ArtifactTestUtils;
+import org.onap.aai.modelloader.util.CsarPayload;
 import org.onap.sdc.api.IDistributionClient;
 import org.onap.sdc.api.notification.IArtifactInfo;
 import org.onap.sdc.api.notification.INotificationData;
@@ -78,7 +79,7 @@ public class ArtifactDownloadManagerVnfcTest {
         Properties configProperties = new Properties();
         configProperties.load(this.getClass().getClassLoader().getResourceAsStream("model-loader.properties"));
         downloadManager = new ArtifactDownloadManager(mockDistributionClient,
-                mockNotificationPublisher, mockVnfCatalogExtractor, babelArtifactService);
+                mockNotificationPublisher, mockVnfCatalogExtractor, babelArtifactService, null, null, null, null, null);
     }
 
     @Test
@@ -89,7 +90,7 @@ public class ArtifactDownloadManagerVnfcTest {
 
         setupValidDownloadCsarMocks(data, artifactInfo);
         when(mockBabelClient.postArtifact(any(), any())).thenReturn(createBabelArtifacts());
-        when(mockVnfCatalogExtractor.extract(any(), any())).thenReturn(new ArrayList<>());
+        when(mockVnfCatalogExtractor.extract(any(CsarPayload.class), any())).thenReturn(new ArrayList<>());
 
         List<Artifact> artifacts = downloadManager.downloadArtifacts(data, data.getServiceArtifacts());
         List<Artifact> catalogArtifacts = artifacts.stream()
@@ -110,7 +111,7 @@ public class ArtifactDownloadManagerVnfcTest {
 
         setupValidDownloadCsarMocks(data, artifactInfo);
         when(mockBabelClient.postArtifact(any(), any())).thenReturn(createBabelArtifactsNoVnfc());
-        when(mockVnfCatalogExtractor.extract(any(), any())).thenReturn(createXmlVnfcArtifacts());
+        when(mockVnfCatalogExtractor.extract(any(CsarPayload.class), any())).thenReturn(createXmlVnfcArtifacts());
 
         List<Artifact> artifacts = downloadManager.downloadArtifacts(data, data.getServiceArtifacts());
 
@@ -132,7 +133,7 @@ public class ArtifactDownloadManagerVnfcTest {
 
         setupValidDownloadCsarMocks(data, artifactInfo);
         when(mockBabelClient.postArtifact(any(), any())).thenReturn(createBabelArtifactsNoVnfc());
-        when(mockVnfCatalogExtractor.extract(any(), any())).thenReturn(new ArrayList<>());
+        when(mockVnfCatalogExtractor.extract(any(CsarPayload.class), any())).thenReturn(new ArrayList<>());
 
         List<Artifact> artifacts = downloadManager.downloadArtifacts(data, data.getServiceArtifacts());
         List<Artifact> catalogArtifacts = artifacts.stream()
@@ -150,7 +151,7 @@ public class ArtifactDownloadManagerVnfcTest {
 
         setupValidDownloadCsarMocks(data, artifactInfo);
         when(mockBabelClient.postArtifact(any(), any())).thenReturn(createBabelArtifacts());
-        when(mockVnfCatalogExtractor.extract(any(), any())).thenReturn(createXmlVnfcArtifacts());
+        when(mockVnfCatalogExtractor.extract(any(CsarPayload.class), any())).thenReturn(createXmlVnfcArtifacts());
         doNothing().when(mockNotificationPublisher).publishDeployFailure(mockDistributionClient, data, artifactInfo);
 
         InvalidArchiveException invalidArchiveException = assertThrows(InvalidArchiveException.class,
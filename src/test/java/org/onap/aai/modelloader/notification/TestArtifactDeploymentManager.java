@@ -35,6 +35,7 @@ import java.util.List;
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
+import org.mockito.InOrder;
 import org.mockito.Mock;
 import org.mockito.Mockito;
 import org.mockito.MockitoAnnotations;
@@ -50,6 +51,7 @@ import org.onap.aai.modelloader.extraction.InvalidArchiveException;
 import org.onap.aai.modelloader.fixture.NotificationDataFixtureBuilder;
 import org.onap.aai.modelloader.restclient.AaiRestClient;
 import org.onap.aai.modelloader.service.ArtifactDeploymentManager;
+import org.onap.aai.modelloader.service.ExistencePrefetch;
 import org.onap.aai.modelloader.util.ArtifactTestUtils;
 import org.onap.sdc.api.notification.INotificationData;
 import org.springframework.web.client.RestTemplate;
@@ -75,8 +77,9 @@ public class TestArtifactDeploymentManager {
         aaiProperties.setNamedQueryUrl("/aai/%s/service-design-and-creation/named-queries/named-query/");
         aaiProperties.setVnfImageUrl("/aai/%s/service-design-and-creation/vnf-images");
 
-        AaiRestClient aaiRestClient = new AaiRestClient(aaiProperties, new RestTemplate());
-        manager = new ArtifactDeploymentManager(modelArtifactHandlerMock, vnfCatalogArtifactHandlerMock, aaiRestClient);
+        AaiRestClient aaiRestClient = new AaiRestClient(aaiProperties, new RestTemplate(), null);
+        manager = new ArtifactDeploymentManager(modelArtifactHandlerMock, vnfCatalogArtifactHandlerMock, aaiRestClient,
+                null, null);
     }
 
     @AfterEach
@@ -229,4 +232,20 @@ public class TestArtifactDeploymentManager {
         Mockito.verify(modelArtifactHandlerMock, Mockito.never()).rollback(any(), any(), any());
         Mockito.verify(vnfCatalogArtifactHandlerMock, Mockito.never()).rollback(any(), any(), any());
     }
+
+    @Test
+    public void deployWaitsForThePrefetchOfTheDistribution() {
+        AaiRestClient aaiRestClient = Mockito.mock(AaiRestClient.class);
+        ExistencePrefetch existencePrefetch = Mockito.mock(ExistencePrefetch.class);
+        manager = new ArtifactDeploymentManager(modelArtifactHandlerMock, vnfCatalogArtifactHandlerMock, aaiRestClient,
+                null, existencePrefetch);
+        when(modelArtifactHandlerMock.pushArtifacts(any(), any(), any(), any())).thenReturn(true);
+        when(vnfCatalogArtifactHandlerMock.pushArtifacts(any(), any(), any(), any())).thenReturn(true);
+
+        assertThat(manager.deploy("distribution", new ArrayList<>(), new ArrayList<>()), is(true));
+
+        InOrder inOrder = Mockito.inOrder(existencePrefetch, modelArtifactHandlerMock);
+        inOrder.verify(existencePrefetch).await("distribution");
+        inOrder.verify(modelArtifactHandlerMock).pushArtifacts(any(), eq("distribution"), any(), any());
+    }
 }
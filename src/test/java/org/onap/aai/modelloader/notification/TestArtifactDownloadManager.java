@@ -20,11 +20,16 @@
  */
 package org.onap.aai.modelloader.notification;
 
+import static org.hamcrest.CoreMatchers.instanceOf;
 import static org.hamcrest.CoreMatchers.is;
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.hamcrest.collection.IsEmptyCollection.empty;
 import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doAnswer;
 import static org.mockito.Mockito.doNothing;
 import static org.mockito.Mockito.when;
 import static org.onap.aai.modelloader.fixture.NotificationDataFixtureBuilder.getNotificationDataWithInvalidType;
@@ -34,29 +39,42 @@ import static org.onap.aai.modelloader.fixture.NotificationDataFixtureBuilder.ge
 import static org.onap.aai.modelloader.fixture.NotificationDataFixtureBuilder.getNotificationDataWithToscaCsarFile;
 
 import java.io.IOException;
+import java.nio.file.Path;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Properties;
+import java.util.Set;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
 import java.util.stream.Collectors;
 
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.Mockito;
 import org.mockito.MockitoAnnotations;
 import org.onap.aai.babel.service.data.BabelArtifact;
 import org.onap.aai.modelloader.babel.BabelArtifactService;
+import org.onap.aai.modelloader.config.CsarPayloadProperties;
 import org.onap.aai.modelloader.entity.Artifact;
 import org.onap.aai.modelloader.entity.catalog.VnfCatalogArtifact;
 import org.onap.aai.modelloader.entity.model.BabelArtifactParsingException;
 import org.onap.aai.modelloader.entity.model.ModelArtifact;
 import org.onap.aai.modelloader.entity.model.NamedQueryArtifact;
+import org.onap.aai.modelloader.extraction.CsarScan.ModelId;
 import org.onap.aai.modelloader.extraction.InvalidArchiveException;
 import org.onap.aai.modelloader.extraction.VnfCatalogExtractor;
 import org.onap.aai.modelloader.restclient.BabelServiceClient;
 import org.onap.aai.modelloader.restclient.BabelServiceClientException;
+import org.onap.aai.modelloader.service.DeployedServiceCheck;
+import org.onap.aai.modelloader.service.DeployedServiceCheck.Result;
+import org.onap.aai.modelloader.service.DistributionMetrics;
+import org.onap.aai.modelloader.service.ExistencePrefetch;
 import org.onap.aai.modelloader.util.ArtifactTestUtils;
 import org.onap.sdc.api.IDistributionClient;
 import org.onap.sdc.api.notification.IArtifactInfo;
@@ -64,6 +82,7 @@ import org.onap.sdc.api.notification.INotificationData;
 import org.onap.sdc.api.results.IDistributionClientDownloadResult;
 import org.onap.sdc.impl.DistributionClientDownloadResultImpl;
 import org.onap.sdc.utils.DistributionActionResultEnum;
+import org.springframework.util.unit.DataSize;
 
 /**
  * Tests {@link ArtifactDownloadManager}.
@@ -86,7 +105,7 @@ public class TestArtifactDownloadManager {
         Properties configProperties = new Properties();
         configProperties.load(this.getClass().getClassLoader().getResourceAsStream("model-loader.properties"));
         downloadManager = new ArtifactDownloadManager(mockDistributionClient,
-                mockNotificationPublisher, vnfCatalogExtractor, babelArtifactService);
+                mockNotificationPublisher, vnfCatalogExtractor, babelArtifactService, null, null, null, null, null);
     }
 
     @AfterEach
@@ -194,6 +213,118 @@ public class TestArtifactDownloadManager {
         Mockito.verify(mockBabelArtifactConverter).convertToCatalog(any());
     }
 
+    @Test
+    public void downloadArtifacts_deployedServiceIsNotTranslated() throws Exception {
+        INotificationData data = getNotificationDataWithToscaCsarFile();
+        IArtifactInfo artifactInfo = data.getServiceArtifacts().get(0);
+        setupValidDownloadCsarMocks(data, artifactInfo, new ArtifactTestUtils());
+
+        DeployedServiceCheck deployedServiceCheck = Mockito.mock(DeployedServiceCheck.class);
+        when(deployedServiceCheck.isEnabled()).thenReturn(true);
+        when(deployedServiceCheck.check(any(), any())).thenReturn(Result.DEPLOYED);
+        downloadManager = new ArtifactDownloadManager(mockDistributionClient, mockNotificationPublisher,
+                vnfCatalogExtractor, babelArtifactService, Runnable::run, DistributionMetrics.noop(),
+                new CsarPayloadProperties(), deployedServiceCheck, null);
+
+        List<Artifact> artifacts = downloadManager.downloadArtifacts(data, data.getServiceArtifacts());
+
+        assertThat(artifacts, is(empty()));
+        Mockito.verify(deployedServiceCheck).check(
+                argThat(metadata -> "1".equals(metadata.get("invariantUUID")) && "2".equals(metadata.get("UUID"))),
+                eq(data.getDistributionID()));
+        Mockito.verify(mockNotificationPublisher).publishDownloadSuccess(mockDistributionClient, data, artifactInfo);
+        Mockito.verifyNoInteractions(mockBabelClient, mockBabelArtifactConverter);
+    }
+
+    @Test
+    public void downloadArtifacts_serviceThatIsNotDeployedIsTranslated() throws Exception {
+        INotificationData data = getNotificationDataWithToscaCsarFile();
+        IArtifactInfo artifactInfo = data.getServiceArtifacts().get(0);
+        setupValidDownloadCsarMocks(data, artifactInfo, new ArtifactTestUtils());
+
+        DeployedServiceCheck deployedServiceCheck = Mockito.mock(DeployedServiceCheck.class);
+        when(deployedServiceCheck.isEnabled()).thenReturn(true);
+        when(deployedServiceCheck.check(any(), any())).thenReturn(Result.NOT_DEPLOYED);
+        downloadManager = new ArtifactDownloadManager(mockDistributionClient, mockNotificationPublisher,
+                vnfCatalogExtractor, babelArtifactService, Runnable::run, DistributionMetrics.noop(),
+                new CsarPayloadProperties(), deployedServiceCheck, null);
+
+        List<Artifact> artifacts = downloadManager.downloadArtifacts(data, data.getServiceArtifacts());
+
+        assertThat(artifacts.stream().filter(ModelArtifact.class::isInstance).count(), is(1L));
+        assertThat(artifacts.stream().filter(VnfCatalogArtifact.class::isInstance).count(), is(1L));
+        Mockito.verify(mockBabelClient).postArtifact(any(), any());
+    }
+
+    @Test
+    public void downloadArtifacts_modelsOfTheCsarArePrefetched() throws Exception {
+        INotificationData data = getNotificationDataWithToscaCsarFile();
+        IArtifactInfo artifactInfo = data.getServiceArtifacts().get(0);
+        setupValidDownloadCsarMocks(data, artifactInfo, new ArtifactTestUtils());
+
+        ExistencePrefetch existencePrefetch = Mockito.mock(ExistencePrefetch.class);
+        when(existencePrefetch.isEnabled()).thenReturn(true);
+        downloadManager = new ArtifactDownloadManager(mockDistributionClient, mockNotificationPublisher,
+                vnfCatalogExtractor, babelArtifactService, Runnable::run, DistributionMetrics.noop(),
+                new CsarPayloadProperties(), null, existencePrefetch);
+
+        List<Artifact> artifacts = downloadManager.downloadArtifacts(data, data.getServiceArtifacts());
+
+        assertThat(artifacts.size(), is(2));
+        Mockito.verify(existencePrefetch).start(data.getDistributionID(), Set.of(new ModelId("1", "2")));
+        Mockito.verify(mockBabelClient).postArtifact(any(), any());
+    }
+
+    @Test
+    public void downloadArtifacts_spilledCsarIsDeletedWhenBabelFails(@TempDir Path spillDirectory) throws Exception {
+        INotificationData data = getNotificationDataWithToscaCsarFile();
+        IArtifactInfo artifactInfo = data.getServiceArtifacts().get(0);
+        setupValidDownloadCsarMocks(data, artifactInfo, new ArtifactTestUtils());
+        List<String> spilledFiles = new ArrayList<>();
+        when(mockBabelClient.postArtifact(any(), any())).thenAnswer(invocation -> {
+            spilledFiles.addAll(List.of(spillDirectory.toFile().list()));
+            throw new BabelServiceClientException("");
+        });
+        downloadManager = createSpillingDownloadManager(spillDirectory);
+
+        assertThrows(ProcessToscaArtifactsException.class,
+                () -> downloadManager.downloadArtifacts(data, data.getServiceArtifacts()));
+
+        assertThat(spilledFiles.size(), is(1));
+        assertThat(spillDirectory.toFile().list().length, is(0));
+    }
+
+    @Test
+    public void downloadArtifacts_spilledCsarIsDeletedWhenExtractionFails(@TempDir Path spillDirectory)
+            throws Exception {
+        INotificationData data = getNotificationDataWithToscaCsarFile();
+        IArtifactInfo artifactInfo = data.getServiceArtifacts().get(0);
+        when(mockDistributionClient.download(artifactInfo)).thenReturn(createDistributionClientDownloadResult(
+                DistributionActionResultEnum.SUCCESS, null, "This is not a valid Tosca CSAR File".getBytes()));
+        List<String> spilledFiles = new ArrayList<>();
+        when(mockBabelClient.postArtifact(any(), any())).thenAnswer(invocation -> {
+            spilledFiles.addAll(List.of(spillDirectory.toFile().list()));
+            return createBabelArtifacts();
+        });
+        when(mockBabelArtifactConverter.convertToModel(any(BabelArtifact.class))).thenReturn(List.of(new ModelArtifact()));
+        when(mockBabelArtifactConverter.convertToCatalog(any(BabelArtifact.class))).thenReturn(new VnfCatalogArtifact(""));
+        downloadManager = createSpillingDownloadManager(spillDirectory);
+
+        assertThrows(InvalidArchiveException.class,
+                () -> downloadManager.downloadArtifacts(data, data.getServiceArtifacts()));
+
+        assertThat(spilledFiles.size(), is(1));
+        assertThat(spillDirectory.toFile().list().length, is(0));
+    }
+
+    private ArtifactDownloadManager createSpillingDownloadManager(Path spillDirectory) {
+        CsarPayloadProperties csarPayloadProperties = new CsarPayloadProperties();
+        csarPayloadProperties.setSpillThreshold(DataSize.ofBytes(0));
+        csarPayloadProperties.setSpillDirectory(spillDirectory.toString());
+        return new ArtifactDownloadManager(mockDistributionClient, mockNotificationPublisher, vnfCatalogExtractor,
+                babelArtifactService, Runnable::run, DistributionMetrics.noop(), csarPayloadProperties, null, null);
+    }
+
     private void setupValidDownloadCsarMocks(INotificationData data, IArtifactInfo artifactInfo,
             ArtifactTestUtils artifactTestUtils) throws IOException, BabelServiceClientException, BabelArtifactParsingException {
         when(mockDistributionClient.download(artifactInfo))
@@ -279,6 +410,84 @@ public class TestArtifactDownloadManager {
         Mockito.verifyNoMoreInteractions(mockBabelClient, mockBabelArtifactConverter);
     }
 
+    @Test
+    public void downloadArtifacts_processesArtifactsConcurrentlyAndKeepsTheirOrder() throws Exception {
+        ArtifactTestUtils artifactTestUtils = new ArtifactTestUtils();
+        INotificationData data = getNotificationDataWithOneOfEach();
+        IArtifactInfo serviceArtifact = data.getServiceArtifacts().get(0);
+        IArtifactInfo modelSpecArtifact = data.getResources().get(1).getArtifacts().get(0);
+
+        setupValidDownloadCsarMocks(data, serviceArtifact, artifactTestUtils);
+        setupValidModelQuerySpecMocks(artifactTestUtils, data, modelSpecArtifact);
+
+        // The Babel call for the CSAR only returns once the second artifact has been processed
+        CountDownLatch modelSpecPublished = new CountDownLatch(1);
+        doAnswer(invocation -> {
+            modelSpecPublished.countDown();
+            return null;
+        }).when(mockNotificationPublisher).publishDownloadSuccess(mockDistributionClient, data, modelSpecArtifact);
+        when(mockBabelClient.postArtifact(any(), any())).thenAnswer(invocation -> {
+            assertTrue(modelSpecPublished.await(5, TimeUnit.SECONDS));
+            return createBabelArtifacts();
+        });
+
+        ExecutorService executor = Executors.newFixedThreadPool(2);
+        try {
+            downloadManager = new ArtifactDownloadManager(mockDistributionClient, mockNotificationPublisher,
+                    vnfCatalogExtractor, babelArtifactService, executor, null, null, null, null);
+
+            List<Artifact> artifacts = downloadManager.downloadArtifacts(data, List.of(serviceArtifact, modelSpecArtifact));
+
+            assertThat(artifacts.size(), is(3));
+            assertThat(artifacts.get(0), is(instanceOf(ModelArtifact.class)));
+            assertThat(artifacts.get(1), is(instanceOf(VnfCatalogArtifact.class)));
+            assertThat(artifacts.get(2), is(instanceOf(NamedQueryArtifact.class)));
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    public void downloadArtifacts_failureCancelsRemainingArtifacts() throws Exception {
+        INotificationData data = getNotificationDataWithOneOfEach();
+        IArtifactInfo serviceArtifact = data.getServiceArtifacts().get(0);
+        IArtifactInfo modelSpecArtifact = data.getResources().get(1).getArtifacts().get(0);
+        String errorMessage = "error msg";
+
+        CountDownLatch serviceDownloadStarted = new CountDownLatch(1);
+        CountDownLatch serviceDownloadInterrupted = new CountDownLatch(1);
+        when(mockDistributionClient.download(serviceArtifact)).thenAnswer(invocation -> {
+            serviceDownloadStarted.countDown();
+            try {
+                Thread.sleep(TimeUnit.SECONDS.toMillis(30));
+            } catch (InterruptedException e) {
+                serviceDownloadInterrupted.countDown();
+            }
+            return createDistributionClientDownloadResult(DistributionActionResultEnum.FAIL, "interrupted", null);
+        });
+        when(mockDistributionClient.download(modelSpecArtifact)).thenAnswer(invocation -> {
+            assertTrue(serviceDownloadStarted.await(5, TimeUnit.SECONDS));
+            return createDistributionClientDownloadResult(DistributionActionResultEnum.FAIL, errorMessage, null);
+        });
+
+        ExecutorService executor = Executors.newFixedThreadPool(2);
+        try {
+            downloadManager = new ArtifactDownloadManager(mockDistributionClient, mockNotificationPublisher,
+                    vnfCatalogExtractor, babelArtifactService, executor, null, null, null, null);
+
+            assertThrows(DownloadFailureException.class,
+                    () -> downloadManager.downloadArtifacts(data, List.of(serviceArtifact, modelSpecArtifact)));
+
+            assertTrue(serviceDownloadInterrupted.await(5, TimeUnit.SECONDS));
+            Mockito.verify(mockNotificationPublisher).publishDownloadFailure(mockDistributionClient, data,
+                    modelSpecArtifact, errorMessage);
+            Mockito.verifyNoMoreInteractions(mockNotificationPublisher);
+            Mockito.verifyNoInteractions(mockBabelClient, mockBabelArtifactConverter);
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
     @Test
     public void activateCallback_toscaToModelConverterHasProcessToscaArtifactsException() throws Exception {
         ArtifactTestUtils artifactTestUtils = new ArtifactTestUtils();
@@ -20,14 +20,20 @@
  */
 package org.onap.aai.modelloader.notification;
 
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.ArgumentMatchers.*;
 import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
 import static org.mockito.Mockito.when;
 import java.io.IOException;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
+import java.util.Map;
 import java.util.Properties;
+import java.util.concurrent.Executor;
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -38,8 +44,13 @@ import org.onap.aai.modelloader.entity.Artifact;
 import org.onap.aai.modelloader.entity.ArtifactType;
 import org.onap.aai.modelloader.fixture.NotificationDataFixtureBuilder;
 import org.onap.aai.modelloader.service.ArtifactDeploymentManager;
+import org.onap.aai.modelloader.service.DistributionMetrics;
 import org.onap.sdc.api.IDistributionClient;
 import org.onap.sdc.api.notification.INotificationData;
+import org.slf4j.MDC;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 
 /**
  * Tests {@link EventCallback}.
@@ -62,7 +73,7 @@ public class TestEventCallback {
         configProperties = new Properties();
         configProperties.load(this.getClass().getClassLoader().getResourceAsStream(CONFIG_FILE));
 
-        eventCallback = new EventCallback(mockDistributionClient, mockArtifactDeploymentManager, mockArtifactDownloadManager, mockNotificationPublisher);
+        eventCallback = new EventCallback(mockDistributionClient, mockArtifactDeploymentManager, mockArtifactDownloadManager, mockNotificationPublisher, null, null);
     }
 
     @AfterEach
@@ -88,6 +99,19 @@ public class TestEventCallback {
         Mockito.verifyNoInteractions(mockArtifactDeploymentManager);
     }
 
+    @Test
+    public void activateCallback_restoresTheContextOfTheCallingThread() throws Exception {
+        INotificationData data = NotificationDataFixtureBuilder.getNotificationDataWithToscaCsarFile();
+        MDC.put("sdc-client", "consumer");
+        try {
+            eventCallback.activateCallback(data);
+
+            assertThat(MDC.getCopyOfContextMap(), is(Map.of("sdc-client", "consumer")));
+        } finally {
+            MDC.clear();
+        }
+    }
+
     @SuppressWarnings("unchecked")
     @Test
     public void activateCallback() throws Exception {
@@ -121,4 +145,68 @@ public class TestEventCallback {
                 argThat(list -> list.stream().anyMatch(a -> a.getType() == ArtifactType.MODEL)),
                 anyList());
     }
+
+    @SuppressWarnings("unchecked")
+    @Test
+    public void activateCallback_isProcessedOnTheDistributionExecutor() throws Exception {
+        INotificationData data = NotificationDataFixtureBuilder.getNotificationDataWithToscaCsarFile();
+        List<Runnable> queuedDistributions = new ArrayList<>();
+        Executor queueingExecutor = queuedDistributions::add;
+        EventCallback asyncCallback = new EventCallback(mockDistributionClient, mockArtifactDeploymentManager,
+                mockArtifactDownloadManager, mockNotificationPublisher, queueingExecutor, null);
+
+        when(mockArtifactDownloadManager.downloadArtifacts(any(INotificationData.class), any(List.class)))
+                .thenReturn(Collections.emptyList());
+        when(mockArtifactDeploymentManager.deploy(any(String.class), any(List.class), any(List.class)))
+                .thenReturn(true);
+
+        asyncCallback.activateCallback(data);
+
+        verifyNoInteractions(mockArtifactDownloadManager, mockArtifactDeploymentManager);
+
+        queuedDistributions.forEach(Runnable::run);
+
+        verify(mockArtifactDownloadManager).downloadArtifacts(any(INotificationData.class), any(List.class));
+        verify(mockArtifactDeploymentManager).deploy(any(String.class), any(List.class), any(List.class));
+    }
+
+    @SuppressWarnings("unchecked")
+    @Test
+    public void activateCallback_recordsTheDistributionTime() throws Exception {
+        INotificationData data = NotificationDataFixtureBuilder.getNotificationDataWithToscaCsarFile();
+        MeterRegistry meterRegistry = new SimpleMeterRegistry();
+        EventCallback timedCallback = new EventCallback(mockDistributionClient, mockArtifactDeploymentManager,
+                mockArtifactDownloadManager, mockNotificationPublisher, Runnable::run,
+                new DistributionMetrics(meterRegistry));
+
+        when(mockArtifactDownloadManager.downloadArtifacts(any(INotificationData.class), any(List.class)))
+                .thenReturn(Collections.emptyList());
+        when(mockArtifactDeploymentManager.deploy(any(String.class), any(List.class), any(List.class)))
+                .thenReturn(false);
+
+        timedCallback.activateCallback(data);
+
+        assertThat(meterRegistry.get(DistributionMetrics.DISTRIBUTION_METRIC).tag("outcome", "failure").timer()
+                .count(), is(1L));
+    }
+
+    @SuppressWarnings("unchecked")
+    @Test
+    public void activateCallback_recordsTheDistributionTimeWhenDeployThrows() throws Exception {
+        INotificationData data = NotificationDataFixtureBuilder.getNotificationDataWithToscaCsarFile();
+        MeterRegistry meterRegistry = new SimpleMeterRegistry();
+        EventCallback timedCallback = new EventCallback(mockDistributionClient, mockArtifactDeploymentManager,
+                mockArtifactDownloadManager, mockNotificationPublisher, Runnable::run,
+                new DistributionMetrics(meterRegistry));
+
+        when(mockArtifactDownloadManager.downloadArtifacts(any(INotificationData.class), any(List.class)))
+                .thenReturn(Collections.emptyList());
+        when(mockArtifactDeploymentManager.deploy(any(String.class), any(List.class), any(List.class)))
+                .thenThrow(new IllegalStateException("A&AI client failure"));
+
+        assertThrows(IllegalStateException.class, () -> timedCallback.activateCallback(data));
+
+        assertThat(meterRegistry.get(DistributionMetrics.DISTRIBUTION_METRIC).tag("outcome", "failure").timer()
+                .count(), is(1L));
+    }
 }
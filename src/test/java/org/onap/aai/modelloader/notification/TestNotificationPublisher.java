@@ -74,7 +74,7 @@ public class TestNotificationPublisher {
 
     @Test
     public void testPublisher() {
-        NotificationPublisher publisher = new NotificationPublisher();
+        NotificationPublisher publisher = new NotificationPublisher(null);
         publisher.publishDownloadSuccess(client, data, artifact);
         publisher.publishDownloadFailure(client, data, artifact, "");
         publisher.publishComponentSuccess(client, data);
@@ -0,0 +1,104 @@
+/**
+ * ============LICENSE_START=======================================================
+ * org.onap.aai
+ * ================================================================================
+ * Copyright © 2025 Deutsche Telekom AG Intellectual Property. All rights reserved.
+ * ================================================================================
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * ============LICENSE_END=========================================================
+ */
+package org.onap.aai.modelloader.restclient;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.io.IOException;
+import java.net.URI;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpRequest;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.client.ClientHttpRequestExecution;
+import org.springframework.http.client.ClientHttpResponse;
+import org.springframework.web.reactive.function.client.ClientRequest;
+import org.springframework.web.reactive.function.client.ClientResponse;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import reactor.core.publisher.Mono;
+
+/**
+ * Tests {@link AaiRequestMetrics}.
+ */
+public class TestAaiRequestMetrics {
+
+    private MeterRegistry meterRegistry;
+    private AaiRequestMetrics requestMetrics;
+    private HttpRequest request;
+    private ClientHttpRequestExecution execution;
+
+    @BeforeEach
+    public void setup() {
+        meterRegistry = new SimpleMeterRegistry();
+        requestMetrics = new AaiRequestMetrics(meterRegistry);
+        request = mock(HttpRequest.class);
+        execution = mock(ClientHttpRequestExecution.class);
+    }
+
+    @Test
+    public void requestsAreCountedByMethodAndStatus() throws IOException {
+        ClientHttpResponse response = mock(ClientHttpResponse.class);
+        when(response.getStatusCode()).thenReturn(HttpStatus.NOT_FOUND);
+        when(execution.execute(any(), any())).thenReturn(response);
+        when(request.getMethod()).thenReturn(HttpMethod.GET);
+
+        assertThat(requestMetrics.intercept(request, new byte[0], execution), is(response));
+        requestMetrics.intercept(request, new byte[0], execution);
+
+        assertThat(count("GET", "404"), is(2.0));
+    }
+
+    @Test
+    public void requestsWithoutResponseAreCountedAsIoErrors() throws IOException {
+        when(execution.execute(any(), any())).thenThrow(new IOException("connection refused"));
+        when(request.getMethod()).thenReturn(HttpMethod.PUT);
+
+        assertThrows(IOException.class, () -> requestMetrics.intercept(request, new byte[0], execution));
+
+        assertThat(count("PUT", "IO_ERROR"), is(1.0));
+    }
+
+    @Test
+    public void webClientRequestsAreCountedByMethodAndStatus() {
+        ClientRequest clientRequest = ClientRequest.create(HttpMethod.DELETE, URI.create("http://aai/model")).build();
+        ClientResponse response = ClientResponse.create(HttpStatus.NO_CONTENT).build();
+
+        assertThat(requestMetrics.filter(clientRequest, r -> Mono.just(response)).block(), is(response));
+        assertThrows(IllegalStateException.class, () -> requestMetrics
+                .filter(clientRequest, r -> Mono.error(new IllegalStateException("connection refused"))).block());
+
+        assertThat(count("DELETE", "204"), is(1.0));
+        assertThat(count("DELETE", "IO_ERROR"), is(1.0));
+    }
+
+    private double count(String method, String status) {
+        return meterRegistry.get(AaiRequestMetrics.METRIC_NAME).tag("method", method).tag("status", status).counter()
+                .count();
+    }
+}
@@ -0,0 +1,164 @@
+/**
+ * ============LICENSE_START=======================================================
+ * org.onap.aai
+ * ================================================================================
+ * Copyright © 2025 Deutsche Telekom AG Intellectual Property. All rights reserved.
+ * ================================================================================
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * ============LICENSE_END=========================================================
+ */
+package org.onap.aai.modelloader.restclient;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.onap.aai.modelloader.config.AaiExistenceCacheProperties;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+/**
+ * Tests {@link AaiResourceCache}.
+ */
+public class TestAaiResourceCache {
+
+    private static final String MODEL_URL = "http://aai.onap:80/aai/v28/service-design-and-creation/models/model/inv";
+    private static final String MODEL_VER_URL = MODEL_URL + "/model-vers/model-ver/ver";
+    private static final String IMAGE_QUERY_URL =
+            "http://aai.onap:80/aai/v*/service-design-and-creation/vnf-images?application=vnf";
+    private static final String DISTRIBUTION_ID = "distribution";
+
+    private AaiExistenceCacheProperties properties;
+    private MeterRegistry meterRegistry;
+    private MutableClock clock;
+
+    @BeforeEach
+    public void setup() {
+        properties = new AaiExistenceCacheProperties();
+        properties.setEnabled(true);
+        properties.setTtl(Duration.ofMinutes(1));
+        meterRegistry = new SimpleMeterRegistry();
+        clock = new MutableClock();
+    }
+
+    @Test
+    public void disabledCacheKnowsNothing() {
+        properties.setEnabled(false);
+        AaiResourceCache cache = newCache();
+
+        cache.recordPresent(MODEL_URL);
+
+        assertThat(cache.isKnownPresent(MODEL_URL, DISTRIBUTION_ID), is(false));
+    }
+
+    @Test
+    public void recordedResourceIsKnownForAnySchemaVersion() {
+        AaiResourceCache cache = newCache();
+
+        assertThat(cache.isKnownPresent(MODEL_URL, DISTRIBUTION_ID), is(false));
+        cache.recordPresent(MODEL_URL);
+
+        assertThat(cache.isKnownPresent(MODEL_URL, DISTRIBUTION_ID), is(true));
+        assertThat(cache.isKnownPresent(MODEL_URL.replace("/v28/", "/v13/"), DISTRIBUTION_ID), is(true));
+        assertThat(meterRegistry.get("modelloader.aai.existence-cache.requests").tag("result", "hit").counter()
+                .count(), is(2.0));
+    }
+
+    @Test
+    public void entriesExpire() {
+        AaiResourceCache cache = newCache();
+        cache.recordPresent(MODEL_URL);
+
+        clock.advance(Duration.ofSeconds(61));
+
+        assertThat(cache.isKnownPresent(MODEL_URL, DISTRIBUTION_ID), is(false));
+    }
+
+    @Test
+    public void leastRecentlyUsedEntryIsEvicted() {
+        properties.setMaxEntries(2);
+        AaiResourceCache cache = newCache();
+
+        cache.recordPresent("http://aai/first");
+        cache.recordPresent("http://aai/second");
+        cache.isKnownPresent("http://aai/first", DISTRIBUTION_ID);
+        cache.recordPresent("http://aai/third");
+
+        assertThat(cache.isKnownPresent("http://aai/first", DISTRIBUTION_ID), is(true));
+        assertThat(cache.isKnownPresent("http://aai/second", DISTRIBUTION_ID), is(false));
+        assertThat(cache.isKnownPresent("http://aai/third", DISTRIBUTION_ID), is(true));
+    }
+
+    @Test
+    public void deletedModelInvalidatesItsVersionsAndQueries() {
+        AaiResourceCache cache = newCache();
+        cache.recordPresent(MODEL_URL);
+        cache.recordPresent(MODEL_VER_URL);
+        cache.recordPresent(IMAGE_QUERY_URL);
+        cache.recordPresent(MODEL_URL + "2");
+
+        cache.invalidate(MODEL_URL);
+
+        assertThat(cache.isKnownPresent(MODEL_URL, DISTRIBUTION_ID), is(false));
+        assertThat(cache.isKnownPresent(MODEL_VER_URL, DISTRIBUTION_ID), is(false));
+        assertThat(cache.isKnownPresent(IMAGE_QUERY_URL, DISTRIBUTION_ID), is(false));
+        assertThat(cache.isKnownPresent(MODEL_URL + "2", DISTRIBUTION_ID), is(true));
+    }
+
+    @Test
+    public void bypassedDistributionDoesNotUseTheCache() {
+        AaiResourceCache cache = newCache();
+        cache.recordPresent(MODEL_URL);
+
+        try (AaiResourceCache.Bypass bypass = cache.bypass(DISTRIBUTION_ID)) {
+            assertThat(cache.isKnownPresent(MODEL_URL, DISTRIBUTION_ID), is(false));
+            assertThat(cache.isKnownPresent(MODEL_URL, "other-distribution"), is(true));
+        }
+        assertThat(cache.isKnownPresent(MODEL_URL, DISTRIBUTION_ID), is(true));
+    }
+
+    private AaiResourceCache newCache() {
+        return new AaiResourceCache(properties, meterRegistry, clock);
+    }
+
+    private static class MutableClock extends Clock {
+        private Instant now = Instant.parse("2025-01-01T00:00:00Z");
+
+        void advance(Duration duration) {
+            now = now.plus(duration);
+        }
+
+        @Override
+        public ZoneId getZone() {
+            return ZoneOffset.UTC;
+        }
+
+        @Override
+        public Clock withZone(ZoneId zone) {
+            return this;
+        }
+
+        @Override
+        public Instant instant() {
+            return now;
+        }
+    }
+}
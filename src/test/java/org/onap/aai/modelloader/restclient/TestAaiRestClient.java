@@ -88,7 +88,7 @@ public class TestAaiRestClient {
             model.setPayload(readFile(MODEL_FILE));
             model.setModelNamespace("http://org.openecomp.aai.inventory/v9");
 
-            AaiRestClient aaiClient = new AaiRestClient(aaiProperties, new RestTemplate());
+            AaiRestClient aaiClient = new AaiRestClient(aaiProperties, new RestTemplate(), null);
 
             // GET model
             ResponseEntity opResult =
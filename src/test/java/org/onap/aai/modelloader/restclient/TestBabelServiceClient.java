@@ -20,20 +20,27 @@
  */
 package org.onap.aai.modelloader.restclient;
 
+import static org.hamcrest.CoreMatchers.containsString;
 import static org.hamcrest.CoreMatchers.equalTo;
 import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.sameInstance;
 import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 
+import java.io.ByteArrayOutputStream;
 import java.io.IOException;
 import java.net.URISyntaxException;
+import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
 import java.nio.file.Path;
+import java.util.ArrayList;
 import java.util.Base64;
 import java.util.List;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.onap.aai.babel.service.data.BabelArtifact;
+import org.onap.aai.babel.service.data.BabelArtifact.ArtifactType;
 import org.onap.aai.babel.service.data.BabelRequest;
 import org.onap.aai.modelloader.BabelClientTestConfiguration;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -41,6 +48,8 @@ import org.springframework.beans.factory.annotation.Value;
 import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.cloud.contract.wiremock.AutoConfigureWireMock;
 import org.springframework.context.annotation.Import;
+import org.springframework.http.HttpStatus;
+import org.springframework.mock.http.client.MockClientHttpResponse;
 import org.springframework.test.annotation.DirtiesContext;
 
 import com.fasterxml.jackson.core.JsonProcessingException;
@@ -100,6 +109,97 @@ public class TestBabelServiceClient {
         assertThat(result.size(), is(equalTo(3)));
     }
 
+    @Test
+    public void testRestClientStreamsCsar() throws BabelServiceClientException, IOException, URISyntaxException {
+        byte[] csar = readBytesFromFile("compressedArtifacts/service-VscpaasTest-csar.csar");
+        BabelRequest babelRequest = new StreamingBabelRequest("service-Vscpass-Test", "1.0", csar);
+
+        List<BabelArtifact> result = client.postArtifact(babelRequest, "Test-Transaction-ID-BabelClient");
+        assertThat(result.size(), is(equalTo(3)));
+        WireMock.verify(WireMock.postRequestedFor(WireMock.urlEqualTo("/services/babel-service/v1/app/generateArtifacts"))
+                .withRequestBody(WireMock.matchingJsonPath("$.csar",
+                        WireMock.equalTo(Base64.getEncoder().encodeToString(csar)))));
+    }
+
+    @Test
+    public void testStreamedRequestMatchesSerializedRequest() throws IOException, URISyntaxException {
+        byte[] csar = readBytesFromFile("compressedArtifacts/service-VscpaasTest-csar.csar");
+        ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+        BabelServiceClientImpl.writeJson(outputStream, new StreamingBabelRequest("service-Vscpass-Test", "1.0", csar));
+
+        BabelRequest expected = new BabelRequest();
+        expected.setArtifactName("service-Vscpass-Test");
+        expected.setArtifactVersion("1.0");
+        expected.setCsar(Base64.getEncoder().encodeToString(csar));
+        ObjectMapper objectMapper = new ObjectMapper();
+        assertThat(objectMapper.readTree(outputStream.toByteArray()),
+                is(objectMapper.readTree(objectMapper.writeValueAsBytes(expected))));
+    }
+
+    @Test
+    public void testRestClientStreamsArtifacts() throws Exception {
+        BabelRequest babelRequest = new StreamingBabelRequest("service-Vscpass-Test", "1.0",
+                readBytesFromFile("compressedArtifacts/service-VscpaasTest-csar.csar"));
+
+        List<String> names = new ArrayList<>();
+        ((StreamingBabelServiceClient) client).postArtifact(babelRequest, "Test-Transaction-ID-BabelClient",
+                babelArtifact -> names.add(babelArtifact.getName()));
+        assertThat(names, is(List.of("art1", "art2", "art3")));
+    }
+
+    @Test
+    public void testConsumerExceptionStopsReading() throws Exception {
+        BabelRequest babelRequest = new StreamingBabelRequest("service-Vscpass-Test", "1.0",
+                readBytesFromFile("compressedArtifacts/service-VscpaasTest-csar.csar"));
+        Exception failure = new Exception("art2 is invalid");
+
+        List<String> names = new ArrayList<>();
+        Exception thrown = assertThrows(Exception.class, () -> ((StreamingBabelServiceClient) client)
+                .postArtifact(babelRequest, "Test-Transaction-ID-BabelClient", babelArtifact -> {
+                    names.add(babelArtifact.getName());
+                    if ("art2".equals(babelArtifact.getName())) {
+                        throw failure;
+                    }
+                }));
+        assertThat(thrown, is(sameInstance(failure)));
+        assertThat(names, is(List.of("art1", "art2")));
+    }
+
+    @Test
+    public void testUnexpectedStatusIsReported() {
+        WireMock.stubFor(WireMock.post(WireMock.urlEqualTo("/services/babel-service/v1/app/generateArtifacts"))
+                .withHeader("X-TransactionId", WireMock.equalTo("Test-Transaction-ID-Accepted"))
+                .willReturn(WireMock.aResponse().withStatus(202).withBody("translation pending")));
+
+        BabelServiceClientException thrown = assertThrows(BabelServiceClientException.class, () -> client
+                .postArtifact(new StreamingBabelRequest("service", "1.0", new byte[0]), "Test-Transaction-ID-Accepted"));
+        assertThat(thrown.getMessage(), containsString("translation pending"));
+    }
+
+    @Test
+    public void testReadResponseSkipsNullArtifacts() throws IOException {
+        MockClientHttpResponse response = new MockClientHttpResponse(
+                "[null, {\"name\": \"art1\", \"type\": \"MODEL\", \"payload\": \"<model/>\"}]"
+                        .getBytes(StandardCharsets.UTF_8),
+                HttpStatus.OK);
+
+        List<BabelArtifact> artifacts = new ArrayList<>();
+        BabelServiceClientImpl.readResponse(response, artifacts::add);
+        assertThat(artifacts.size(), is(equalTo(1)));
+        assertThat(artifacts.get(0).getType(), is(ArtifactType.MODEL));
+        assertThat(artifacts.get(0).getPayload(), is("<model/>"));
+    }
+
+    @Test
+    public void testReadResponseRejectsTruncatedArray() {
+        MockClientHttpResponse response = new MockClientHttpResponse(
+                "[{\"name\": \"art1\", \"type\": \"MODEL\", \"payload\": \"\"}".getBytes(StandardCharsets.UTF_8),
+                HttpStatus.OK);
+
+        assertThrows(IOException.class, () -> BabelServiceClientImpl.readResponse(response, babelArtifact -> {
+        }));
+    }
+
     private byte[] readBytesFromFile(String resourceFile) throws IOException, URISyntaxException {
         return Files.readAllBytes(Path.of(ClassLoader.getSystemResource(resourceFile).toURI()));
     }
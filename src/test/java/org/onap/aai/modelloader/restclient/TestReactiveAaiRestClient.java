@@ -0,0 +1,84 @@
+/**
+ * ============LICENSE_START=======================================================
+ * org.onap.aai
+ * ================================================================================
+ * Copyright © 2025 Deutsche Telekom AG Intellectual Property. All rights reserved.
+ * ================================================================================
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * ============LICENSE_END=========================================================
+ */
+package org.onap.aai.modelloader.restclient;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.cloud.contract.wiremock.AutoConfigureWireMock;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.test.annotation.DirtiesContext;
+
+import com.github.tomakehurst.wiremock.client.WireMock;
+
+/**
+ * Tests {@link ReactiveAaiRestClient} against a local A&AI stub.
+ */
+@SpringBootTest
+@DirtiesContext
+@AutoConfigureWireMock(port = 0)
+public class TestReactiveAaiRestClient {
+
+    private static final String MODEL_PATH = "/aai/v28/service-design-and-creation/models/model/modelInvariantId";
+
+    @Value("${wiremock.server.port}")
+    private int wiremockPort;
+
+    @Autowired
+    private ReactiveAaiRestClient client;
+
+    @Test
+    public void testGetMissingResource() {
+        WireMock.stubFor(WireMock.get(WireMock.urlEqualTo(MODEL_PATH))
+                .withHeader("Accept", WireMock.equalTo(MediaType.APPLICATION_XML_VALUE))
+                .withHeader("X-TransactionId", WireMock.equalTo("someId"))
+                .withHeader("X-FromAppId", WireMock.equalTo("ModelLoader"))
+                .willReturn(WireMock.aResponse().withStatus(HttpStatus.NOT_FOUND.value())));
+
+        ResponseEntity<String> response =
+                client.getResource(url(), "someId", MediaType.APPLICATION_XML, String.class).block();
+
+        assertThat(response.getStatusCode(), is(HttpStatus.NOT_FOUND));
+    }
+
+    @Test
+    public void testGetPresentResource() {
+        WireMock.stubFor(WireMock.get(WireMock.urlEqualTo(MODEL_PATH))
+                .withHeader("Accept", WireMock.equalTo(MediaType.APPLICATION_XML_VALUE))
+                .willReturn(WireMock.aResponse().withHeader("Content-Type", MediaType.APPLICATION_XML_VALUE)
+                        .withBody("<model/>")));
+
+        ResponseEntity<String> response =
+                client.getResource(url(), "someId", MediaType.APPLICATION_XML, String.class).block();
+
+        assertThat(response.getStatusCode(), is(HttpStatus.OK));
+        assertThat(response.getBody(), is("<model/>"));
+    }
+
+    private String url() {
+        return "http://localhost:" + wiremockPort + MODEL_PATH;
+    }
+}
@@ -0,0 +1,220 @@
+/**
+ * ============LICENSE_START=======================================================
+ * org.onap.aai
+ * ================================================================================
+ * Copyright © 2025 Deutsche Telekom AG Intellectual Property. All rights reserved.
+ * ================================================================================
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * ============LICENSE_END=========================================================
+ */
+package org.onap.aai.modelloader.service;
+
+import static org.hamcrest.CoreMatchers.containsString;
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.not;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Set;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+import org.onap.aai.modelloader.config.AaiDeploymentMode;
+import org.onap.aai.modelloader.config.AaiProperties;
+import org.onap.aai.modelloader.entity.Artifact;
+import org.onap.aai.modelloader.entity.catalog.VnfCatalogArtifact;
+import org.onap.aai.modelloader.entity.catalog.VnfCatalogArtifactHandler;
+import org.onap.aai.modelloader.entity.model.ModelArtifact;
+import org.onap.aai.modelloader.entity.model.ModelArtifactHandler;
+import org.onap.aai.modelloader.restclient.AaiResourceCache;
+import org.onap.aai.modelloader.restclient.AaiRestClient;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.client.HttpClientErrorException;
+import org.springframework.web.client.ResourceAccessException;
+
+/**
+ * Tests for the deployment of artifacts with the A&AI bulk single-transaction API.
+ */
+public class TestBulkArtifactDeployer {
+
+    private static final String BULK_URL = "http://aai.onap:80/aai/v*/bulk/single-transaction";
+    private static final String MODEL_URL = "http://aai.onap:80/aai/v13/service-design-and-creation/models/model/aaaa";
+    private static final String CREATED_RESPONSE = "{\"operation-responses\":[{\"action\":\"put\","
+            + "\"uri\":\"/service-design-and-creation/models/model/aaaa\",\"response-status-code\":201}]}";
+
+    @Mock
+    private AaiRestClient aaiClient;
+
+    private AaiProperties aaiProperties;
+    private BulkArtifactDeployer deployer;
+
+    @BeforeEach
+    public void setup() {
+        MockitoAnnotations.openMocks(this);
+        aaiProperties = new AaiProperties();
+        aaiProperties.setBaseUrl("http://aai.onap:80");
+        aaiProperties.setModelUrl("/aai/%s/service-design-and-creation/models/model/");
+        aaiProperties.setNamedQueryUrl("/aai/%s/service-design-and-creation/named-queries/named-query/");
+        aaiProperties.setVnfImageUrl("/aai/%s/service-design-and-creation/vnf-images");
+        aaiProperties.setDeploymentMode(AaiDeploymentMode.BULK);
+
+        deployer = new BulkArtifactDeployer(aaiProperties, new ModelArtifactHandler(aaiProperties, null, null, null),
+                new VnfCatalogArtifactHandler(aaiProperties, null), null);
+
+        when(aaiClient.getResource(any(), any(), any(), any()))
+                .thenThrow(new HttpClientErrorException(HttpStatus.NOT_FOUND));
+    }
+
+    @Test
+    public void testModelsAreWrittenInDependencyOrder() {
+        when(aaiClient.postResource(eq(BULK_URL), anyString(), any(), eq(MediaType.APPLICATION_JSON), eq(String.class)))
+                .thenReturn(new ResponseEntity<>(CREATED_RESPONSE, HttpStatus.CREATED));
+
+        ModelArtifact parent = buildModel("aaaa", "bbbb|1111");
+        ModelArtifact child = buildModel("bbbb", null);
+
+        BulkArtifactDeployer.Outcome outcome =
+                deployer.deploy("distId", Arrays.asList(parent, child), Collections.emptyList(), aaiClient,
+                        Set.of());
+
+        assertThat(outcome, is(BulkArtifactDeployer.Outcome.DEPLOYED));
+        ArgumentCaptor<String> payload = ArgumentCaptor.forClass(String.class);
+        verify(aaiClient).postResource(eq(BULK_URL), payload.capture(), eq("distId"), eq(MediaType.APPLICATION_JSON),
+                eq(String.class));
+        String body = payload.getValue();
+        assertThat(body.indexOf("/models/model/bbbb") < body.indexOf("/models/model/aaaa"), is(true));
+        assertThat(body, containsString("\"model-ver\":[{"));
+        assertThat(body, not(containsString("xmlns")));
+        verify(aaiClient, never()).putResource(any(), any(), any(), any(), any());
+        verify(aaiClient).recordPresent(MODEL_URL);
+    }
+
+    @Test
+    public void testCommittedTransactionsAreRolledBackOnFailure() {
+        aaiProperties.getBulk().setMaxOperations(1);
+        byte[] failure = "{\"operation-responses\":[{\"response-status-code\":412}]}"
+                .getBytes(StandardCharsets.UTF_8);
+        when(aaiClient.postResource(eq(BULK_URL), anyString(), any(), any(), any()))
+                .thenReturn(new ResponseEntity<>(CREATED_RESPONSE, HttpStatus.CREATED))
+                .thenThrow(HttpClientErrorException.create(HttpStatus.PRECONDITION_FAILED, "", new HttpHeaders(),
+                        failure, StandardCharsets.UTF_8));
+
+        List<Artifact> models = Arrays.asList(buildModel("bbbb", "aaaa|1111"), buildModel("aaaa", null));
+        BulkArtifactDeployer.Outcome outcome =
+                deployer.deploy("distId", models, Collections.emptyList(), aaiClient, Set.of());
+
+        assertThat(outcome, is(BulkArtifactDeployer.Outcome.FAILED));
+        verify(aaiClient, times(2)).postResource(eq(BULK_URL), anyString(), any(), any(), any());
+        verify(aaiClient).getAndDeleteResource(MODEL_URL, "distId");
+        verify(aaiClient, never()).getAndDeleteResource(
+                "http://aai.onap:80/aai/v13/service-design-and-creation/models/model/bbbb", "distId");
+    }
+
+    @Test
+    public void testMissingBulkApiIsReportedAsUnsupported() {
+        when(aaiClient.postResource(eq(BULK_URL), anyString(), any(), any(), any()))
+                .thenThrow(new HttpClientErrorException(HttpStatus.NOT_FOUND));
+
+        BulkArtifactDeployer.Outcome outcome = deployer.deploy("distId", List.of(buildModel("aaaa", null)),
+                Collections.emptyList(), aaiClient, Set.of());
+
+        assertThat(outcome, is(BulkArtifactDeployer.Outcome.UNSUPPORTED));
+        verify(aaiClient, never()).getAndDeleteResource(any(), any());
+    }
+
+    @Test
+    public void testPresentModelsAreNotWritten() {
+        when(aaiClient.isKnownPresent(any(), any())).thenReturn(true);
+
+        BulkArtifactDeployer.Outcome outcome = deployer.deploy("distId", List.of(buildModel("aaaa", null)),
+                Collections.emptyList(), aaiClient, Set.of());
+
+        assertThat(outcome, is(BulkArtifactDeployer.Outcome.DEPLOYED));
+        verify(aaiClient, never()).postResource(any(), any(), any(), any(), any());
+    }
+
+    @Test
+    public void testModelsFoundMissingByThePrefetchAreNotLookedUp() {
+        when(aaiClient.postResource(eq(BULK_URL), anyString(), any(), any(), any()))
+                .thenReturn(new ResponseEntity<>(CREATED_RESPONSE, HttpStatus.CREATED));
+
+        BulkArtifactDeployer.Outcome outcome = deployer.deploy("distId", List.of(buildModel("aaaa", null)),
+                Collections.emptyList(), aaiClient, Set.of(AaiResourceCache.normalize(MODEL_URL)));
+
+        assertThat(outcome, is(BulkArtifactDeployer.Outcome.DEPLOYED));
+        verify(aaiClient, never()).getResource(any(), any(), any(), any());
+        verify(aaiClient).postResource(eq(BULK_URL), anyString(), any(), any(), any());
+    }
+
+    @Test
+    public void testFailedDeploymentIsRepeatedWithoutThePrefetch() {
+        byte[] failure = "{\"operation-responses\":[{\"response-status-code\":412}]}"
+                .getBytes(StandardCharsets.UTF_8);
+        when(aaiClient.postResource(eq(BULK_URL), anyString(), any(), any(), any()))
+                .thenThrow(HttpClientErrorException.create(HttpStatus.PRECONDITION_FAILED, "", new HttpHeaders(),
+                        failure, StandardCharsets.UTF_8))
+                .thenReturn(new ResponseEntity<>(CREATED_RESPONSE, HttpStatus.CREATED));
+
+        BulkArtifactDeployer.Outcome outcome = deployer.deploy("distId", List.of(buildModel("aaaa", null)),
+                Collections.emptyList(), aaiClient, Set.of(AaiResourceCache.normalize(MODEL_URL)));
+
+        assertThat(outcome, is(BulkArtifactDeployer.Outcome.DEPLOYED));
+        verify(aaiClient, times(2)).postResource(eq(BULK_URL), anyString(), any(), any(), any());
+        verify(aaiClient).getResource(eq(MODEL_URL), eq("distId"), any(), any());
+    }
+
+    @Test
+    public void testUnreachableVnfImageLookupFailsTheDeployment() {
+        when(aaiClient.getResource(any(), any(), any(), any()))
+                .thenThrow(new ResourceAccessException("Connection refused"));
+        Artifact catalog = new VnfCatalogArtifact("[{\"application\":\"VM00\",\"application-vendor\":\"VendorX\","
+                + "\"application-version\":\"1.0\"}]");
+
+        BulkArtifactDeployer.Outcome outcome =
+                deployer.deploy("distId", Collections.emptyList(), List.of(catalog), aaiClient, Set.of());
+
+        assertThat(outcome, is(BulkArtifactDeployer.Outcome.FAILED));
+        verify(aaiClient, never()).postResource(any(), any(), any(), any(), any());
+    }
+
+    private ModelArtifact buildModel(String invariantId, String dependentModelId) {
+        ModelArtifact model = new ModelArtifact();
+        model.setModelInvariantId(invariantId);
+        model.setModelVerId("1111");
+        model.setModelNamespace("http://org.onap.aai.inventory/v13");
+        model.setPayload("<model xmlns=\"http://org.onap.aai.inventory/v13\"><model-invariant-id>" + invariantId
+                + "</model-invariant-id><model-type>resource</model-type><model-vers><model-ver>"
+                + "<model-version-id>1111</model-version-id><model-version>1.0</model-version></model-ver>"
+                + "</model-vers></model>");
+        if (dependentModelId != null) {
+            model.addDependentModelId(dependentModelId);
+        }
+        return model;
+    }
+}
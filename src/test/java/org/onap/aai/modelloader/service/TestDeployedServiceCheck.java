@@ -0,0 +1,138 @@
+/**
+ * ============LICENSE_START=======================================================
+ * org.onap.aai
+ * ================================================================================
+ * Copyright © 2025 Deutsche Telekom AG Intellectual Property. All rights reserved.
+ * ================================================================================
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * ============LICENSE_END=========================================================
+ */
+package org.onap.aai.modelloader.service;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.util.Map;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.onap.aai.modelloader.config.AaiProperties;
+import org.onap.aai.modelloader.restclient.AaiRestClient;
+import org.onap.aai.modelloader.service.DeployedServiceCheck.Result;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.client.HttpClientErrorException;
+import org.springframework.web.client.ResourceAccessException;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+/**
+ * Tests {@link DeployedServiceCheck}.
+ */
+public class TestDeployedServiceCheck {
+
+    private static final String DISTRIBUTION_ID = "distribution";
+    private static final String MODEL_VER_URL =
+            "http://aai.onap:80/aai/v*/service-design-and-creation/models/model/invariant/model-vers/model-ver/version";
+    private static final Map<String, String> SERVICE_METADATA = Map.of("invariantUUID", "invariant", "UUID", "version");
+
+    private AaiProperties aaiProperties;
+    private AaiRestClient aaiClient;
+    private MeterRegistry meterRegistry;
+    private DeployedServiceCheck deployedServiceCheck;
+
+    @BeforeEach
+    public void setup() {
+        aaiProperties = new AaiProperties();
+        aaiProperties.setBaseUrl("http://aai.onap:80/");
+        aaiProperties.setModelUrl("/aai/%s/service-design-and-creation/models/model/");
+        aaiProperties.setSkipDeployedServices(true);
+        aaiClient = mock(AaiRestClient.class);
+        meterRegistry = new SimpleMeterRegistry();
+        deployedServiceCheck = new DeployedServiceCheck(aaiProperties, aaiClient, meterRegistry);
+    }
+
+    @Test
+    public void checkIsDisabledByDefaultAndForGizmo() {
+        assertThat(deployedServiceCheck.isEnabled(), is(true));
+
+        aaiProperties.setUseGizmo(true);
+        assertThat(deployedServiceCheck.isEnabled(), is(false));
+
+        assertThat(new AaiProperties().isSkipDeployedServices(), is(false));
+    }
+
+    @Test
+    public void modelVerUrlAddressesTheLatestSchemaVersion() {
+        assertThat(deployedServiceCheck.modelVerUrl("invariant", "version"), is(MODEL_VER_URL));
+    }
+
+    @Test
+    public void presentModelVerIsDeployed() {
+        when(aaiClient.getResource(MODEL_VER_URL, DISTRIBUTION_ID, MediaType.APPLICATION_XML, String.class))
+                .thenReturn(new ResponseEntity<>("<model-ver/>", HttpStatus.OK));
+
+        assertThat(deployedServiceCheck.check(SERVICE_METADATA, DISTRIBUTION_ID), is(Result.DEPLOYED));
+        assertThat(count("deployed"), is(1.0));
+    }
+
+    @Test
+    public void modelVerKnownToBePresentIsNotFetched() {
+        when(aaiClient.isKnownPresent(MODEL_VER_URL, DISTRIBUTION_ID)).thenReturn(true);
+
+        assertThat(deployedServiceCheck.check(SERVICE_METADATA, DISTRIBUTION_ID), is(Result.DEPLOYED));
+        verify(aaiClient, never()).getResource(anyString(), anyString(), any(), any());
+    }
+
+    @Test
+    public void missingModelVerIsNotDeployed() {
+        when(aaiClient.getResource(MODEL_VER_URL, DISTRIBUTION_ID, MediaType.APPLICATION_XML, String.class))
+                .thenThrow(new HttpClientErrorException(HttpStatus.NOT_FOUND));
+
+        assertThat(deployedServiceCheck.check(SERVICE_METADATA, DISTRIBUTION_ID), is(Result.NOT_DEPLOYED));
+        assertThat(count("not-deployed"), is(1.0));
+    }
+
+    @Test
+    public void serviceWithoutMetadataIsNotLookedUp() {
+        assertThat(deployedServiceCheck.check(Map.of("invariantUUID", "invariant"), DISTRIBUTION_ID),
+                is(Result.NO_METADATA));
+        assertThat(deployedServiceCheck.check(Map.of(), DISTRIBUTION_ID), is(Result.NO_METADATA));
+        assertThat(count("no-metadata"), is(2.0));
+        verify(aaiClient, never()).getResource(anyString(), anyString(), any(), any());
+    }
+
+    @Test
+    public void failedLookUpIsReported() {
+        when(aaiClient.getResource(eq(MODEL_VER_URL), eq(DISTRIBUTION_ID), any(), eq(String.class)))
+                .thenThrow(new ResourceAccessException("connection refused"))
+                .thenThrow(new HttpClientErrorException(HttpStatus.FORBIDDEN));
+
+        assertThat(deployedServiceCheck.check(SERVICE_METADATA, DISTRIBUTION_ID), is(Result.ERROR));
+        assertThat(deployedServiceCheck.check(SERVICE_METADATA, DISTRIBUTION_ID), is(Result.ERROR));
+        assertThat(count("error"), is(2.0));
+    }
+
+    private double count(String result) {
+        return meterRegistry.get(DeployedServiceCheck.METRIC_NAME).tag("result", result).counter().count();
+    }
+}
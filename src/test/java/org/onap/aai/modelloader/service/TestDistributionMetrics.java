@@ -0,0 +1,86 @@
+/**
+ * ============LICENSE_START=======================================================
+ * org.onap.aai
+ * ================================================================================
+ * Copyright © 2025 Deutsche Telekom AG Intellectual Property. All rights reserved.
+ * ================================================================================
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * ============LICENSE_END=========================================================
+ */
+package org.onap.aai.modelloader.service;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.nullValue;
+import static org.hamcrest.MatcherAssert.assertThat;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.onap.aai.modelloader.service.DistributionMetrics.Stage;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+/**
+ * Tests {@link DistributionMetrics}.
+ */
+public class TestDistributionMetrics {
+
+    private MeterRegistry meterRegistry;
+    private DistributionMetrics metrics;
+
+    @BeforeEach
+    public void setup() {
+        meterRegistry = new SimpleMeterRegistry();
+        metrics = new DistributionMetrics(meterRegistry);
+    }
+
+    @Test
+    public void stageIsTaggedWithArtifactTypeAndOutcome() {
+        metrics.stop(metrics.start(), Stage.DOWNLOAD, "TOSCA_CSAR", true);
+        metrics.stop(metrics.start(), Stage.DOWNLOAD, "TOSCA_CSAR", true);
+        metrics.stop(metrics.start(), Stage.DOWNLOAD, "MODEL_QUERY_SPEC", false);
+
+        assertThat(stageTimer("download", "TOSCA_CSAR", "success").count(), is(2L));
+        assertThat(stageTimer("download", "MODEL_QUERY_SPEC", "failure").count(), is(1L));
+        assertThat(meterRegistry.find(DistributionMetrics.STAGE_METRIC).tag("stage", "babel").timer(), is(nullValue()));
+    }
+
+    @Test
+    public void missingArtifactTypeIsTaggedAsUnknown() {
+        metrics.stop(metrics.start(), Stage.PUBLISH, null, true);
+
+        assertThat(stageTimer("publish", "unknown", "success").count(), is(1L));
+    }
+
+    @Test
+    public void distributionIsTaggedWithOutcome() {
+        metrics.stopDistribution(metrics.start(), false);
+
+        assertThat(meterRegistry.get(DistributionMetrics.DISTRIBUTION_METRIC).tag("outcome", "failure").timer().count(),
+                is(1L));
+    }
+
+    @Test
+    public void noopMetricsCanBeRecorded() {
+        DistributionMetrics noop = DistributionMetrics.noop();
+
+        noop.stop(noop.start(), Stage.SORT, "MODEL", true);
+        noop.stopDistribution(noop.start(), true);
+    }
+
+    private Timer stageTimer(String stage, String artifactType, String outcome) {
+        return meterRegistry.get(DistributionMetrics.STAGE_METRIC).tag("stage", stage)
+                .tag("artifact.type", artifactType).tag("outcome", outcome).timer();
+    }
+}
@@ -0,0 +1,173 @@
+/**
+ * ============LICENSE_START=======================================================
+ * org.onap.aai
+ * ================================================================================
+ * Copyright © 2025 Deutsche Telekom AG Intellectual Property. All rights reserved.
+ * ================================================================================
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * ============LICENSE_END=========================================================
+ */
+package org.onap.aai.modelloader.service;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Set;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.onap.aai.modelloader.config.AaiProperties;
+import org.onap.aai.modelloader.extraction.CsarScan.ModelId;
+import org.onap.aai.modelloader.restclient.ReactiveAaiRestClient;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.Sinks;
+
+/**
+ * Tests {@link ExistencePrefetch}.
+ */
+public class TestExistencePrefetch {
+
+    private static final String DISTRIBUTION_ID = "distribution";
+    private static final String MODEL_URL = "http://aai.onap:80/aai/v*/service-design-and-creation/models/model/";
+
+    private AaiProperties aaiProperties;
+    private ReactiveAaiRestClient aaiClient;
+    private MeterRegistry meterRegistry;
+    private ExistencePrefetch existencePrefetch;
+
+    @BeforeEach
+    public void setup() {
+        aaiProperties = new AaiProperties();
+        aaiProperties.setBaseUrl("http://aai.onap:80");
+        aaiProperties.setModelUrl("/aai/%s/service-design-and-creation/models/model/");
+        aaiProperties.getExistenceCache().setEnabled(true);
+        aaiProperties.getExistenceCache().setPrefetch(true);
+        aaiClient = mock(ReactiveAaiRestClient.class);
+        meterRegistry = new SimpleMeterRegistry();
+        existencePrefetch = new ExistencePrefetch(aaiProperties, aaiClient, meterRegistry);
+    }
+
+    @Test
+    public void prefetchNeedsTheExistenceCache() {
+        assertThat(existencePrefetch.isEnabled(), is(true));
+
+        aaiProperties.getExistenceCache().setEnabled(false);
+        assertThat(existencePrefetch.isEnabled(), is(false));
+
+        aaiProperties.getExistenceCache().setEnabled(true);
+        aaiProperties.setUseGizmo(true);
+        assertThat(existencePrefetch.isEnabled(), is(false));
+    }
+
+    @Test
+    public void modelVersAreOnlyFetchedForPresentModels() {
+        respond(MODEL_URL + "present", HttpStatus.OK);
+        respond(MODEL_URL + "present/model-vers/model-ver/v1", HttpStatus.OK);
+        respond(MODEL_URL + "present/model-vers/model-ver/v2", HttpStatus.NOT_FOUND);
+        respond(MODEL_URL + "absent", HttpStatus.NOT_FOUND);
+
+        existencePrefetch.start(DISTRIBUTION_ID, List.of(new ModelId("present", "v1"), new ModelId("present", "v2"),
+                new ModelId("absent", "v1")));
+        Set<String> absentUrls = existencePrefetch.await(DISTRIBUTION_ID);
+
+        verify(aaiClient, never()).getResource(eq(MODEL_URL + "absent/model-vers/model-ver/v1"), anyString(), any(),
+                any());
+        assertThat(absentUrls, is(Set.of(MODEL_URL + "present/model-vers/model-ver/v2", MODEL_URL + "absent")));
+        assertThat(count("present"), is(2.0));
+        assertThat(count("absent"), is(2.0));
+    }
+
+    @Test
+    public void cachedModelsAreNotFetched() {
+        when(aaiClient.isKnownPresent(MODEL_URL + "model", DISTRIBUTION_ID)).thenReturn(true);
+        respond(MODEL_URL + "model/model-vers/model-ver/version", HttpStatus.OK);
+
+        existencePrefetch.start(DISTRIBUTION_ID, List.of(new ModelId("model", "version")));
+        existencePrefetch.await(DISTRIBUTION_ID);
+
+        verify(aaiClient, never()).getResource(eq(MODEL_URL + "model"), anyString(), any(), any());
+        assertThat(count("cached"), is(1.0));
+        assertThat(count("present"), is(1.0));
+    }
+
+    @Test
+    public void failedRequestsAreCounted() {
+        when(aaiClient.getResource(MODEL_URL + "model", DISTRIBUTION_ID, MediaType.APPLICATION_XML, Void.class))
+                .thenReturn(Mono.error(new IllegalStateException("Connection refused")));
+        respond(MODEL_URL + "other", HttpStatus.INTERNAL_SERVER_ERROR);
+
+        existencePrefetch.start(DISTRIBUTION_ID, List.of(new ModelId("model", "version"), new ModelId("other", "v")));
+        existencePrefetch.await(DISTRIBUTION_ID);
+
+        assertThat(count("error"), is(2.0));
+    }
+
+    @Test
+    public void deploymentDoesNotWaitLongerThanConfigured() {
+        aaiProperties.getExistenceCache().setPrefetchWait(Duration.ofMillis(50));
+        Sinks.One<ResponseEntity<Void>> response = Sinks.one();
+        when(aaiClient.getResource(MODEL_URL + "model", DISTRIBUTION_ID, MediaType.APPLICATION_XML, Void.class))
+                .thenReturn(response.asMono());
+
+        existencePrefetch.start(DISTRIBUTION_ID, List.of(new ModelId("model", "version")));
+        long start = System.nanoTime();
+        existencePrefetch.await(DISTRIBUTION_ID);
+        assertTrue(Duration.ofNanos(System.nanoTime() - start).toMillis() < 5000);
+
+        response.tryEmitValue(new ResponseEntity<>(HttpStatus.NOT_FOUND));
+        assertThat(count("absent"), is(1.0));
+    }
+
+    @Test
+    public void missingResourcesAreOnlyHandedToTheFirstDeployment() {
+        respond(MODEL_URL + "absent", HttpStatus.NOT_FOUND);
+
+        existencePrefetch.start(DISTRIBUTION_ID, List.of(new ModelId("absent", "v1")));
+
+        assertThat(existencePrefetch.await(DISTRIBUTION_ID), is(Set.of(MODEL_URL + "absent")));
+        assertThat(existencePrefetch.await(DISTRIBUTION_ID), is(Set.of()));
+    }
+
+    @Test
+    public void awaitWithoutPrefetchReturnsImmediately() {
+        existencePrefetch.start(DISTRIBUTION_ID, List.of());
+        existencePrefetch.await(DISTRIBUTION_ID);
+
+        verify(aaiClient, never()).getResource(anyString(), anyString(), any(), any());
+    }
+
+    private void respond(String url, HttpStatus status) {
+        when(aaiClient.getResource(url, DISTRIBUTION_ID, MediaType.APPLICATION_XML, Void.class))
+                .thenReturn(Mono.just(new ResponseEntity<>(status)));
+    }
+
+    private double count(String result) {
+        return meterRegistry.get(ExistencePrefetch.METRIC_NAME).tag("result", result).counter().count();
+    }
+}
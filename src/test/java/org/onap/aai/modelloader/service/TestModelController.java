@@ -72,7 +72,7 @@ public class TestModelController {
     @BeforeEach
     public void init() throws BabelServiceClientException {
         when(babelServiceClient.postArtifact(any(), any())).thenReturn(Collections.emptyList());
-        ArtifactDownloadManager artifactDownloadManager = new ArtifactDownloadManager(iDistributionClient, notificationPublisher, vnfCatalogExtractor, babelArtifactService);
+        ArtifactDownloadManager artifactDownloadManager = new ArtifactDownloadManager(iDistributionClient, notificationPublisher, vnfCatalogExtractor, babelArtifactService, null, null, null, null, null);
         this.modelController = new ModelController(iDistributionClient, modelLoaderConfig, artifactDeploymentManager, artifactDownloadManager);
     }
 
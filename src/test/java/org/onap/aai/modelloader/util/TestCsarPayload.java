@@ -0,0 +1,135 @@
+/**
+ * ============LICENSE_START=======================================================
+ * org.onap.aai
+ * ================================================================================
+ * Copyright © 2025 Deutsche Telekom AG Intellectual Property. All rights reserved.
+ * ================================================================================
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * ============LICENSE_END=========================================================
+ */
+package org.onap.aai.modelloader.util;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.collection.IsEmptyCollection.empty;
+import static org.hamcrest.collection.IsCollectionWithSize.hasSize;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.SeekableByteChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.stream.Stream;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.onap.aai.modelloader.babel.BabelTranslationCache;
+import org.onap.aai.modelloader.config.CsarPayloadProperties;
+import org.onap.aai.modelloader.extraction.InvalidArchiveException;
+import org.onap.aai.modelloader.extraction.VnfCatalogExtractor;
+import org.springframework.util.unit.DataSize;
+
+public class TestCsarPayload {
+
+    @TempDir
+    Path spillDirectory;
+
+    private CsarPayloadProperties properties;
+    private byte[] csar;
+
+    @BeforeEach
+    public void setup() throws IOException {
+        properties = new CsarPayloadProperties();
+        properties.setSpillDirectory(spillDirectory.toString());
+        csar = new ArtifactTestUtils().loadResource("compressedArtifacts/threeVnfcFilesArchive.csar");
+    }
+
+    @Test
+    public void testSmallCsarStaysOnTheHeap() throws IOException {
+        properties.setSpillThreshold(DataSize.ofBytes(csar.length));
+
+        try (CsarPayload payload = CsarPayload.of(csar, properties)) {
+            assertThat(payload.isSpilled(), is(false));
+            assertThat(payload.toByteArray() == csar, is(true));
+        }
+        assertThat(spillFiles(), is(empty()));
+    }
+
+    @Test
+    public void testLargeCsarIsSpilledAndDeletedOnClose() throws IOException {
+        properties.setSpillThreshold(DataSize.ofBytes(csar.length - 1L));
+
+        try (CsarPayload payload = CsarPayload.of(csar, properties)) {
+            assertThat(payload.isSpilled(), is(true));
+            assertThat(spillFiles(), hasSize(1));
+            assertThat(payload.size(), is(csar.length));
+            assertThat(payload.toByteArray(), is(csar));
+            assertThat(payload.openStream().readAllBytes(), is(csar));
+        }
+        assertThat(spillFiles(), is(empty()));
+    }
+
+    @Test
+    public void testVnfCatalogFilesAreExtractedFromSpilledCsar() throws IOException, InvalidArchiveException {
+        properties.setSpillThreshold(DataSize.ofBytes(0));
+
+        try (CsarPayload payload = CsarPayload.of(csar, properties)) {
+            assertThat(payload.isSpilled(), is(true));
+            assertThat(new VnfCatalogExtractor().extract(payload, "threeVnfcFilesArchive.csar"), hasSize(3));
+        }
+    }
+
+    @Test
+    public void testCacheKeyOfSpilledCsar() {
+        properties.setSpillThreshold(DataSize.ofBytes(0));
+
+        try (CsarPayload payload = CsarPayload.of(csar, properties)) {
+            assertThat(BabelTranslationCache.key(payload, "1.0"), is(BabelTranslationCache.key(csar, "1.0")));
+        }
+    }
+
+    @Test
+    public void testCsarStaysOnTheHeapWhenItCannotBeSpilled() throws IOException {
+        properties.setSpillThreshold(DataSize.ofBytes(0));
+        properties.setSpillDirectory(spillDirectory.resolve("missing").toString());
+
+        try (CsarPayload payload = CsarPayload.of(csar, properties)) {
+            assertThat(payload.isSpilled(), is(false));
+            assertThat(payload.toByteArray(), is(csar));
+        }
+    }
+
+    @Test
+    public void testChannelSeeksWithinThePayload() throws IOException {
+        try (CsarPayload payload = CsarPayload.of(new byte[] {0, 1, 2, 3, 4, 5});
+                SeekableByteChannel channel = payload.openChannel()) {
+            ByteBuffer target = ByteBuffer.allocate(2);
+            channel.position(3);
+            assertThat(channel.read(target), is(2));
+            assertThat(target.array(), is(new byte[] {3, 4}));
+            assertThat(channel.position(), is(5L));
+
+            channel.position(10);
+            assertThat(channel.read(ByteBuffer.allocate(1)), is(-1));
+            assertThat(channel.size(), is(6L));
+        }
+    }
+
+    private List<Path> spillFiles() throws IOException {
+        try (Stream<Path> files = Files.list(spillDirectory)) {
+            return files.toList();
+        }
+    }
+}
@@ -30,6 +30,8 @@ import java.nio.file.Path;
 import javax.xml.parsers.DocumentBuilder;
 import javax.xml.parsers.DocumentBuilderFactory;
 
+import org.json.JSONArray;
+import org.json.JSONObject;
 import org.junit.jupiter.api.Test;
 import org.w3c.dom.Document;
 import org.w3c.dom.Node;
@@ -81,4 +83,19 @@ public class TestJsonXmlConverter {
         // Convert the XML form back into JSON
         JsonXmlConverter.convertXmlToJson(xmlFromJson);
     }
+
+    @Test
+    public void testResourceConversion() {
+        String xml = "<model xmlns=\"http://org.onap.aai.inventory/v13\"><model-invariant-id>aaaa</model-invariant-id>"
+                + "<model-vers><model-ver><model-version-id>1111</model-version-id><model-version>1.0</model-version>"
+                + "</model-ver></model-vers></model>";
+
+        JSONObject json = new JSONObject(JsonXmlConverter.convertXmlResourceToJson(xml));
+
+        assertThat(json.has("xmlns"), is(false));
+        assertThat(json.getString("model-invariant-id"), is("aaaa"));
+        JSONArray modelVers = json.getJSONObject("model-vers").getJSONArray("model-ver");
+        assertThat(modelVers.length(), is(1));
+        assertThat(modelVers.getJSONObject(0).getString("model-version"), is("1.0"));
+    }
 }
@@ -0,0 +1,88 @@
+/**
+ * ============LICENSE_START=======================================================
+ * org.onap.aai
+ * ================================================================================
+ * Copyright © 2025 Deutsche Telekom AG Intellectual Property. All rights reserved.
+ * ================================================================================
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * ============LICENSE_END=========================================================
+ */
+package org.onap.aai.modelloader.util;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.onap.aai.cl.api.Logger;
+import org.onap.aai.modelloader.config.PayloadLogProperties;
+
+public class TestPayloadLog {
+
+    private static final String HELLO_SHA256 = "2cf24dba5fb0a30e26e83b2ac5b9e29e1b161e5c1fa7425e73043362938b9824";
+
+    private final Logger logger = mock(Logger.class);
+
+    @AfterEach
+    public void resetConfiguration() {
+        PayloadLog.configure(new PayloadLogProperties());
+    }
+
+    @Test
+    public void testDescribeFullPayloadAtDebugLevel() {
+        when(logger.isDebugEnabled()).thenReturn(true);
+        PayloadLog payloadLog = PayloadLog.forClass(TestPayloadLog.class, logger);
+
+        assertThat(payloadLog.describe("hello"), is("hello"));
+        assertThat(payloadLog.describe("hello".getBytes(StandardCharsets.UTF_8)), is("aGVsbG8="));
+    }
+
+    @Test
+    public void testDescribeSummaryCappedToConfiguredBytes() {
+        PayloadLogProperties properties = new PayloadLogProperties();
+        properties.setMaxBytes(3);
+        PayloadLog.configure(properties);
+        PayloadLog payloadLog = PayloadLog.forClass(TestPayloadLog.class, logger);
+
+        assertThat(payloadLog.describe("hello"), is("5 characters, sha-256 " + HELLO_SHA256 + ", starts with: hel..."));
+        assertThat(payloadLog.describe("hello".getBytes(StandardCharsets.UTF_8)),
+                is("5 bytes, sha-256 " + HELLO_SHA256 + ", starts with: aGVs..."));
+        assertThat(payloadLog.describe("hi"), is("2 characters, sha-256 "
+                + "8f434346648f6b96df89dda901c5176b10a6d83961dd3c1ac88b59b2dc327aa4, starts with: hi"));
+    }
+
+    @Test
+    public void testDescribeWithLoggerOverride() {
+        PayloadLogProperties properties = new PayloadLogProperties();
+        properties.setLoggers(Map.of(TestPayloadLog.class.getName(), 0));
+        PayloadLog.configure(properties);
+
+        assertThat(PayloadLog.forClass(TestPayloadLog.class, logger).describe("hello"),
+                is("5 characters, sha-256 " + HELLO_SHA256));
+        assertThat(PayloadLog.forClass(GizmoTranslator.class, logger).describe("hello"),
+                is("5 characters, sha-256 " + HELLO_SHA256 + ", starts with: hello"));
+    }
+
+    @Test
+    public void testDescribeNullPayload() {
+        PayloadLog payloadLog = PayloadLog.forClass(TestPayloadLog.class, logger);
+
+        assertThat(payloadLog.describe((String) null), is("null"));
+        assertThat(payloadLog.describe((byte[]) null), is("null"));
+    }
+}
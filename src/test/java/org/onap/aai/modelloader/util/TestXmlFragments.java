@@ -0,0 +1,82 @@
+/**
+ * ============LICENSE_START=======================================================
+ * org.onap.aai
+ * ================================================================================
+ * Copyright © 2025 Deutsche Telekom AG Intellectual Property. All rights reserved.
+ * ================================================================================
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * ============LICENSE_END=========================================================
+ */
+package org.onap.aai.modelloader.util;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.notNullValue;
+import static org.hamcrest.CoreMatchers.nullValue;
+import static org.hamcrest.MatcherAssert.assertThat;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.Test;
+
+public class TestXmlFragments {
+
+    private static final List<String> MODEL_FILES = List.of("src/test/resources/models/l3-network-widget.xml",
+            "src/test/resources/models/AAI-Testvsp..vmme_cinder..module-1-resource-1.xml",
+            "src/test/resources/models/AAI-stellService-service-1.xml");
+
+    @Test
+    public void testSliceModelFilesLikeSerializer() throws Exception {
+        for (String file : MODEL_FILES) {
+            String xml = Files.readString(Path.of(file));
+            // The root element declares the namespace, all other elements are in serialized form
+            for (int ordinal = 2; XmlFragments.serialize(xml, ordinal) != null; ordinal++) {
+                String slice = XmlFragments.slice(xml, ordinal);
+                assertThat(file + " element " + ordinal, slice, is(notNullValue()));
+                assertThat(file + " element " + ordinal, slice, is(XmlFragments.serialize(xml, ordinal)));
+            }
+        }
+    }
+
+    @Test
+    public void testSliceNestedElement() throws Exception {
+        String xml = "<?xml version=\"1.0\"?><!-- <x> --><a xmlns=\"urn:a\"><b>1</b><c>&amp;&lt;&gt;\"'<d/><e></e>"
+                + "<!--f--><![CDATA[<&]]></c></a>";
+        assertThat(XmlFragments.slice(xml, 3), is("<c>&amp;&lt;&gt;\"'<d/><e/><!--f--><![CDATA[<&]]></c>"));
+        assertThat(XmlFragments.slice(xml, 3), is(XmlFragments.serialize(xml, 3)));
+        assertThat(XmlFragments.slice(xml, 5), is("<e/>"));
+        assertThat(XmlFragments.slice(xml, 6), is(nullValue()));
+        assertThat(XmlFragments.serialize(xml, 6), is(nullValue()));
+    }
+
+    @Test
+    public void testSerializeWhenNotInSerializedForm() throws Exception {
+        Map<String, String> expectedFragments = Map.of( //
+                "<a><b x=\"1\">t</b></a>", "<a><b x=\"1\">t</b></a>", //
+                "<a xmlns:p=\"urn:p\" b=\"1\" xmlns=\"urn:a\"/>", "<a xmlns=\"urn:a\" xmlns:p=\"urn:p\" b=\"1\"/>", //
+                "<a><b /></a>", "<a><b/></a>", //
+                "<a>t</a >", "<a>t</a>", //
+                "<a><?p d?></a>", "<a><?p d?></a>", //
+                "<a>x&#13;y</a>", "<a>x&#13;y</a>", //
+                "<a>x>y</a>", "<a>x&gt;y</a>", //
+                "<a>&quot;&#65;</a>", "<a>\"A</a>");
+        for (Map.Entry<String, String> entry : expectedFragments.entrySet()) {
+            String xml = entry.getKey();
+            assertThat(xml, XmlFragments.slice(xml, 1), is(nullValue()));
+            assertThat(xml, XmlFragments.serialize(xml, 1), is(entry.getValue()));
+            assertThat(xml, XmlFragments.extract(xml, 1), is(entry.getValue()));
+        }
+    }
+}